@@ -0,0 +1,99 @@
+// Copyright (c) 2024 WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/http;
+import ballerina/lang.runtime;
+import ballerina/test;
+
+final http:Client collapsingCacheClient = check new ("http://localhost:" + cachingTestPort4.toString(),
+    httpVersion = http:HTTP_1_1, cache = {collapseRequests: true, isShared: false});
+
+final readonly & map<string> collapsedRevalidationCacheControl = {
+    swr: "max-age=2, stale-while-revalidate=10",
+    noSwr: "max-age=2",
+    expiredSwr: "max-age=2, stale-while-revalidate=0",
+    mustRevalidate: "max-age=2, must-revalidate, stale-while-revalidate=10",
+    proxyRevalidate: "max-age=2, proxy-revalidate, stale-while-revalidate=10",
+    resNoCache: "max-age=2, no-cache, stale-while-revalidate=10",
+    reqNoCache: "max-age=2, stale-while-revalidate=10",
+    reqMaxAgeZero: "max-age=2, stale-while-revalidate=10"
+};
+
+isolated map<int> collapsedRevalidationHits = {};
+
+service /collapsedRevalidationBE on cachingBackendListener {
+
+    resource function get [string case]() returns http:Response {
+        int hits;
+        lock {
+            hits = collapsedRevalidationHits.hasKey(case) ? collapsedRevalidationHits.get(case) + 1 : 1;
+            collapsedRevalidationHits[case] = hits;
+        }
+        if hits > 1 {
+            // Keeps the revalidation in flight while the collapsed request arrives
+            runtime:sleep(2);
+        }
+        http:Response res = new;
+        res.setHeader("cache-control", collapsedRevalidationCacheControl.get(case));
+        res.setHeader(serviceHitCount, hits.toString());
+        res.setPayload({message: "Hello, World!"});
+        return res;
+    }
+}
+
+function getCollapsedRevalidationResponse(string path) returns http:Response|error {
+    return collapsingCacheClient->get(path);
+}
+
+function collapsedRevalidationDataProvider() returns [string, string?, boolean][] {
+    return [
+        ["swr", (), true],
+        ["noSwr", (), false],
+        ["expiredSwr", (), false],
+        ["mustRevalidate", (), false],
+        ["proxyRevalidate", (), false],
+        ["resNoCache", (), false],
+        ["reqNoCache", "no-cache", false],
+        ["reqMaxAgeZero", "max-age=0", false]
+    ];
+}
+
+// Tests a request for a stale response which arrives while another request revalidates it
+@test:Config {
+    dataProvider: collapsedRevalidationDataProvider
+}
+function testCollapsedStaleRevalidation(string case, string? reqCacheControl, boolean servedStale) returns error? {
+    string path = "/collapsedRevalidationBE/" + case;
+    http:Response response = check collapsingCacheClient->get(path);
+    test:assertEquals(check response.getHeader(serviceHitCount), "1");
+
+    // Wait for the cached response to become stale
+    runtime:sleep(2.5);
+    future<http:Response|error> revalidation = start getCollapsedRevalidationResponse(path);
+    runtime:sleep(0.5);
+
+    map<string> headers = reqCacheControl is string ? {"cache-control": reqCacheControl} : {};
+    response = check collapsingCacheClient->get(path, headers);
+    if servedStale {
+        test:assertEquals(check response.getHeader(serviceHitCount), "1");
+        test:assertTrue((check response.getHeader("warning")).startsWith("110"));
+    } else {
+        test:assertNotEquals(check response.getHeader(serviceHitCount), "1");
+        test:assertFalse(response.hasHeader("warning"));
+    }
+    http:Response revalidated = check wait revalidation;
+    test:assertEquals(check revalidated.getHeader(serviceHitCount), "2");
+}
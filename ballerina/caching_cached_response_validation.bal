@@ -63,7 +63,7 @@ isolated function getValidationResponse(HttpClient httpClient, Request req, Resp
     } else {
         // Forward the received response and replace the stored responses
         validationResponse.requestTime = currentT;
-        cache.put(getCacheKey(httpMethod, path), req.cacheControl, validationResponse);
+        cache.put(getCacheKey(httpMethod, path), req, validationResponse);
         log:printDebug("Received a full response. Storing it in cache and forwarding to the client");
         return validationResponse;
     }
@@ -105,19 +105,19 @@ isolated function handle304Response(Response validationResponse, Response cached
     if etag is string {
         if isAStrongValidator(etag) {
             // Assuming ETags are the only strong validators
-            Response[] matchingCachedResponses = cache.getAllByETag(getCacheKey(httpMethod, path), etag);
-
-            foreach var resp in matchingCachedResponses {
-                updateResponse(resp, validationResponse);
+            cache.updateAllByETag(getCacheKey(httpMethod, path), etag, validationResponse);
+            string|error cachedETag = cachedResponse.getHeader(ETAG);
+            if cachedETag is string && cachedETag == etag {
+                updateResponse(cachedResponse, validationResponse);
             }
             log:printDebug("304 response received, with a strong validator. Response(s) updated");
             return cachedResponse;
         } else if hasAWeakValidator(validationResponse, etag) {
             // The weak validator should be either an ETag or a last modified date. Precedence given to ETag
-            Response[] matchingCachedResponses = cache.getAllByWeakETag(getCacheKey(httpMethod, path), etag);
-
-            foreach var resp in matchingCachedResponses {
-                updateResponse(resp, validationResponse);
+            cache.updateAllByWeakETag(getCacheKey(httpMethod, path), etag, validationResponse);
+            string|error cachedETag = cachedResponse.getHeader(ETAG);
+            if cachedETag is string && weakValidatorEquals(etag, cachedETag) {
+                updateResponse(cachedResponse, validationResponse);
             }
             log:printDebug("304 response received, with a weak validator. Response(s) updated");
             return cachedResponse;
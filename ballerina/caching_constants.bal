@@ -76,6 +76,7 @@ final string WARNING_110_RESPONSE_IS_STALE = "110 " + WARNING_AGENT + " \"Respon
 final string WARNING_111_REVALIDATION_FAILED = "111 " + WARNING_AGENT + " \"Revalidation Failed\"";
 
 const string WEAK_VALIDATOR_TAG = "W/";
+const string STALE_WHILE_REVALIDATE = "stale-while-revalidate";
 const time:Seconds STALE = 0;
 
 isolated function getWarningAgent() returns string {
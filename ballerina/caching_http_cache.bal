@@ -14,34 +14,35 @@
 // specific language governing permissions and limitations
 // under the License.
 
-import ballerina/cache;
+import ballerina/jballerina.java;
 import ballerina/log;
 
 # Implements a cache for storing HTTP responses. This cache complies with the caching policy set when configuring
-# HTTP caching in the HTTP client endpoint.
+# HTTP caching in the HTTP client endpoint. The responses are stored natively in off-heap buffers, bounded by the
+# total size of the cached responses, and the buffers are freed as soon as the responses are evicted.
 #
-# + cache - The underlying cache used for storing HTTP responses
 # + policy - Gives the user some control over the caching behaviour. By default, this is set to
 #            `CACHE_CONTROL_AND_VALIDATORS`. The default behaviour is to allow caching only when the `cache-control`
 #            header and either the `etag` or `last-modified` header are present.
 # + isShared - Specifies whether the HTTP caching layer should behave as a public cache or a private cache
+# + collapseRequests - Specifies whether concurrent upstream requests for the same cache key are collapsed
+# + collapsedRequestTimeout - The maximum time in seconds to wait for an in-flight upstream request
 public isolated class HttpCache {
 
-    final cache:Cache cache;
     private final CachingPolicy policy;
     private final boolean isShared;
+    private final boolean collapseRequests;
+    private final decimal collapsedRequestTimeout;
 
     # Creates the HTTP cache.
     #
     # + cacheConfig - The configurations for the HTTP cache
     public isolated function init(CacheConfig cacheConfig) {
-        cache:CacheConfig config = {
-            capacity: cacheConfig.capacity,
-            evictionFactor: cacheConfig.evictionFactor
-        };
-        self.cache = new cache:Cache(config);
         self.policy = cacheConfig.policy;
         self.isShared = cacheConfig.isShared;
+        self.collapseRequests = cacheConfig.collapseRequests;
+        self.collapsedRequestTimeout = cacheConfig.collapsedRequestTimeout;
+        externInitHttpCache(self, cacheConfig);
     }
 
     isolated function isAllowedToCache(Response response) returns boolean {
@@ -52,8 +53,8 @@ public isolated class HttpCache {
         return true;
     }
 
-    isolated function put(string key, RequestCacheControl? requestCacheControl, Response inboundResponse) {
-        if self.isNonCacheableResponse(requestCacheControl, inboundResponse.cacheControl) {
+    isolated function put(string key, Request request, Response inboundResponse) {
+        if self.isNonCacheableResponse(request.cacheControl, inboundResponse.cacheControl) {
             return;
         }
 
@@ -63,9 +64,12 @@ public isolated class HttpCache {
             byte[]|error binaryPayload = inboundResponse.getBinaryPayload();
             if binaryPayload is error {
                 log:printDebug("Error building the payload in HTTP caching: " + binaryPayload.message());
+                return;
             }
             log:printDebug("Adding new cache entry for: " + key);
-            addEntry(self.cache, key, inboundResponse);
+            if !externPutHttpCacheEntry(self, key, request, inboundResponse, binaryPayload) {
+                log:printDebug("Failed to add cached response with the key: " + key + " to the HTTP cache.");
+            }
         }
     }
 
@@ -96,71 +100,53 @@ public isolated class HttpCache {
     }
 
     isolated function hasKey(string key) returns boolean {
-        return self.cache.hasKey(key);
+        return externHttpCacheHasKey(self, key);
     }
 
-    isolated function get(string key) returns any|error {
-        return self.cache.get(key);
+    # Gets a copy of the cached response variant which matches the `vary` headers of the given request.
+    #
+    # + key - The cache key
+    # + request - The request to be served from the cache
+    # + return - The cached response or else `()` if there is no matching response
+    isolated function get(string key, Request request) returns Response? {
+        return externGetHttpCacheEntry(self, key, request);
     }
 
-    isolated function getAll(string key) returns Response[]|() {
-        var cacheEntry = trap <Response[]> checkpanic self.cache.get(key);
-        if cacheEntry is Response[] {
-            return cacheEntry;
+    // Updates the stored responses which have the same strong validator as the 304 validation response
+    isolated function updateAllByETag(string key, string etag, Response validationResponse) {
+        if !etag.startsWith(WEAK_VALIDATOR_TAG) {
+            externUpdateHttpCacheEntries(self, key, etag, false, validationResponse);
         }
-        return ();
     }
 
-    isolated function getAllByETag(string key, string etag) returns Response[] {
-        Response[] cachedResponses = [];
-        Response[] matchingResponses = [];
-        int i = 0;
-
-        var responses = self.getAll(key);
-        if responses is Response[] {
-            cachedResponses = responses;
-        }
-
-        foreach var cachedResp in cachedResponses {
-            string|error headerValue = cachedResp.getHeader(ETAG);
-            if headerValue is string && headerValue == etag && !etag.startsWith(WEAK_VALIDATOR_TAG) {
-                matchingResponses[i] = cachedResp;
-                i = i + 1;
-            }
-        }
-
-        return matchingResponses;
+    // Updates the stored responses which weakly match the validator of the 304 validation response
+    isolated function updateAllByWeakETag(string key, string etag, Response validationResponse) {
+        externUpdateHttpCacheEntries(self, key, etag, true, validationResponse);
     }
 
-    isolated function getAllByWeakETag(string key, string etag) returns Response[] {
-        Response[] cachedResponses = [];
-        Response[] matchingResponses = [];
-        int i = 0;
+    isolated function remove(string key) {
+        externRemoveHttpCacheEntry(self, key);
+    }
 
-        var responses = self.getAll(key);
-        if responses is Response[] {
-            cachedResponses = responses;
-        }
+    isolated function isCollapsingRequests() returns boolean {
+        return self.collapseRequests;
+    }
 
-        foreach var cachedResp in cachedResponses {
-            string|error etagHeader = cachedResp.getHeader(ETAG);
-            if etagHeader is string {
-                if weakValidatorEquals(etag, etagHeader) {
-                    matchingResponses[i] = cachedResp;
-                    i = i + 1;
-                }
+    // Returns `true` if the caller is to send the upstream request for the key. When requests are collapsed, only one
+    // caller per key gets to send it and that caller must call `releaseUpstreamRequest` once the response is cached.
+    isolated function tryAcquireUpstreamRequest(string key) returns boolean {
+        return !self.collapseRequests || externTryAcquireInFlightRequest(self, key);
+    }
 
-            }
+    isolated function releaseUpstreamRequest(string key) {
+        if self.collapseRequests {
+            externReleaseInFlightRequest(self, key);
         }
-
-        return matchingResponses;
     }
 
-    isolated function remove(string key) {
-        cache:Error? result = self.cache.invalidate(key);
-        if result is cache:Error {
-            log:printDebug("Failed to remove the key: " + key + " from the HTTP cache.");
-        }
+    // Waits until the in-flight upstream request of the key completes or the collapsed request timeout elapses
+    isolated function awaitUpstreamRequest(string key) {
+        externAwaitInFlightRequest(self, key, self.collapsedRequestTimeout);
     }
 }
 
@@ -173,19 +159,6 @@ isolated function isCacheableStatusCode(int statusCode) returns boolean {
            statusCode == STATUS_NOT_IMPLEMENTED;
 }
 
-isolated function addEntry(cache:Cache cache, string key, Response inboundResponse) {
-    if cache.hasKey(key) {
-        Response[] existingResponses = <Response[]> checkpanic cache.get(key);
-        existingResponses.push(inboundResponse);
-    } else {
-        Response[] cachedResponses = [inboundResponse];
-        cache:Error? result = cache.put(key, cachedResponses);
-        if result is cache:Error {
-            log:printDebug("Failed to add cached response with the key: " + key + " to the HTTP cache.");
-        }
-    }
-}
-
 isolated function weakValidatorEquals(string etag1, string etag2) returns boolean {
     string validatorPortion1 = etag1.startsWith(WEAK_VALIDATOR_TAG) ? etag1.substring(2, etag1.length()) : etag1;
     string validatorPortion2 = etag2.startsWith(WEAK_VALIDATOR_TAG) ? etag2.substring(2, etag2.length()) : etag2;
@@ -196,3 +169,51 @@ isolated function weakValidatorEquals(string etag1, string etag2) returns boolea
 isolated function getCacheKey(string httpMethod, string url) returns string {
     return string `${httpMethod.toUpperAscii()} ${url}`;
 }
+
+isolated function externInitHttpCache(HttpCache httpCache, CacheConfig cacheConfig) = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternHttpCache",
+    name: "init"
+} external;
+
+isolated function externPutHttpCacheEntry(HttpCache httpCache, string key, Request request, Response response,
+                                          byte[] payload) returns boolean = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternHttpCache",
+    name: "put"
+} external;
+
+isolated function externGetHttpCacheEntry(HttpCache httpCache, string key, Request request) returns Response? =
+@java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternHttpCache",
+    name: "get"
+} external;
+
+isolated function externHttpCacheHasKey(HttpCache httpCache, string key) returns boolean = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternHttpCache",
+    name: "hasKey"
+} external;
+
+isolated function externRemoveHttpCacheEntry(HttpCache httpCache, string key) = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternHttpCache",
+    name: "remove"
+} external;
+
+isolated function externUpdateHttpCacheEntries(HttpCache httpCache, string key, string etag, boolean weak,
+                                               Response validationResponse) = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternHttpCache",
+    name: "update"
+} external;
+
+isolated function externTryAcquireInFlightRequest(HttpCache httpCache, string key) returns boolean = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternHttpCache",
+    name: "tryAcquireInFlightRequest"
+} external;
+
+isolated function externReleaseInFlightRequest(HttpCache httpCache, string key) = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternHttpCache",
+    name: "releaseInFlightRequest"
+} external;
+
+isolated function externAwaitInFlightRequest(HttpCache httpCache, string key, decimal timeout) = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternHttpCache",
+    name: "awaitInFlightRequest"
+} external;
@@ -14,7 +14,6 @@
 // specific language governing permissions and limitations
 // under the License.
 
-import ballerina/cache;
 import ballerina/log;
 import ballerina/time;
 
@@ -269,11 +268,20 @@ isolated function getCachedResponse(HttpCache cache, HttpClient httpClient, Requ
     time:Utc currentT = time:utcNow();
     req.parseCacheControlHeader();
 
-    any|error cacheEntry = cache.get(getCacheKey(httpMethod, path));
-    if cacheEntry !is error {
-        Response[] cachedValue = <Response[]> cacheEntry;
-        Response cachedResponse = cachedValue[cachedValue.length() - 1];
+    string cacheKey = getCacheKey(httpMethod, path);
+    Response? cachedResponse = cache.get(cacheKey, req);
+    boolean upstreamRequestAcquired = false;
+    if cachedResponse is () {
+        upstreamRequestAcquired = cache.tryAcquireUpstreamRequest(cacheKey);
+        if !upstreamRequestAcquired {
+            // A request for the same key is already in flight. Wait for it and serve its response from the cache.
+            log:printDebug("Waiting for the in-flight request of: '" + httpMethod + " " + path + "'");
+            cache.awaitUpstreamRequest(cacheKey);
+            cachedResponse = cache.get(cacheKey, req);
+        }
+    }
 
+    if cachedResponse is Response {
         log:printDebug("Cached response found for: '" + httpMethod + " " + path + "'");
 
         // Based on https://tools.ietf.org/html/rfc7234#section-4
@@ -312,10 +320,42 @@ isolated function getCachedResponse(HttpCache cache, HttpClient httpClient, Requ
             return cachedResponse;
         }
 
+        // With request collapsing, only one request revalidates a stale response. The others are served the stale
+        // response if `stale-while-revalidate` allows it, or else wait for the revalidation to complete.
+        boolean revalidationAcquired = false;
+        Response staleResponse = cachedResponse;
+        if cache.isCollapsingRequests() {
+            revalidationAcquired = cache.tryAcquireUpstreamRequest(cacheKey);
+            if !revalidationAcquired {
+                if isAllowedToBeServedWhileRevalidating(reqCache, cachedResponse, isShared) && !req.hasHeader(PRAGMA) {
+                    log:printDebug("Serving cached stale response while it is being revalidated with the origin server");
+                    cachedResponse.setHeader(WARNING, WARNING_110_RESPONSE_IS_STALE);
+                    return cachedResponse;
+                }
+                log:printDebug("Waiting for the in-flight revalidation of: '" + httpMethod + " " + path + "'");
+                cache.awaitUpstreamRequest(cacheKey);
+                Response? revalidatedResponse = cache.get(cacheKey, req);
+                if revalidatedResponse is Response {
+                    time:Utc revalidatedT = time:utcNow();
+                    updateResponseTimestamps(revalidatedResponse, revalidatedT, revalidatedT);
+                    setAgeHeader(revalidatedResponse);
+                    if isFreshResponse(revalidatedResponse, isShared)
+                            && !isNoCacheSet(reqCache, revalidatedResponse.cacheControl) && !req.hasHeader(PRAGMA) {
+                        log:printDebug("Serving the cached response revalidated by the in-flight request");
+                        return revalidatedResponse;
+                    }
+                    staleResponse = revalidatedResponse;
+                }
+            }
+        }
+
         log:printDebug("Validating a stale response for '" + path + "' with the origin server.");
 
-        var validatedResponse = getValidationResponse(httpClient, req, cachedResponse, cache, currentT, path,
+        var validatedResponse = getValidationResponse(httpClient, req, staleResponse, cache, currentT, path,
                                                             httpMethod, false);
+        if revalidationAcquired {
+            cache.releaseUpstreamRequest(cacheKey);
+        }
         if validatedResponse is Response {
             updateResponseTimestamps(validatedResponse, currentT, time:utcNow());
             setAgeHeader(validatedResponse);
@@ -331,12 +371,13 @@ isolated function getCachedResponse(HttpCache cache, HttpClient httpClient, Requ
         if cache.isAllowedToCache(response) {
             response.requestTime = currentT;
             response.receivedTime = time:utcNow();
-            cache.put(getCacheKey(httpMethod, path), req.cacheControl, response);
+            cache.put(cacheKey, req, response);
         }
-        return response;
-    } else {
-        return response;
     }
+    if upstreamRequestAcquired {
+        cache.releaseUpstreamRequest(cacheKey);
+    }
+    return response;
 }
 
 // Based on https://tools.ietf.org/html/rfc7234#section-4.4
@@ -345,19 +386,13 @@ isolated function invalidateResponses(HttpCache httpCache, Response inboundRespo
     if isCacheableStatusCode(inboundResponse.statusCode) &&
                     inboundResponse.statusCode >= 200 && inboundResponse.statusCode < 400 {
         string getMethodCacheKey = getCacheKey(HTTP_GET, path);
-        if httpCache.cache.hasKey(getMethodCacheKey) {
-            cache:Error? result = httpCache.cache.invalidate(getMethodCacheKey);
-            if result is cache:Error {
-                log:printDebug("Failed to remove the key: " + getMethodCacheKey + " from the cache.");
-            }
+        if httpCache.hasKey(getMethodCacheKey) {
+            httpCache.remove(getMethodCacheKey);
         }
 
         string headMethodCacheKey = getCacheKey(HTTP_HEAD, path);
-        if httpCache.cache.hasKey(headMethodCacheKey) {
-            cache:Error? result = httpCache.cache.invalidate(headMethodCacheKey);
-            if result is cache:Error {
-                log:printDebug("Failed to remove the key: " + headMethodCacheKey + " from the cache.");
-            }
+        if httpCache.hasKey(headMethodCacheKey) {
+            httpCache.remove(headMethodCacheKey);
         }
     }
 }
@@ -62,3 +62,39 @@ isolated function isStaleResponseAccepted(RequestCacheControl? requestCacheContr
     }
     return false;
 }
+
+// Based on https://tools.ietf.org/html/rfc5861#section-3
+// Checks whether a stale response can be served while another request is revalidating it with the origin server.
+isolated function isAllowedToBeServedWhileRevalidating(RequestCacheControl? requestCacheControl,
+                                                       Response cachedResponse, boolean isSharedCache) returns boolean {
+    if isServingStaleProhibitedInRequestCC(requestCacheControl) {
+        return false;
+    }
+    if isServingStaleProhibitedInResponseCC(cachedResponse.cacheControl) {
+        return false;
+    }
+    decimal age = getResponseAge(cachedResponse);
+    if requestCacheControl is RequestCacheControl && requestCacheControl.maxAge >= 0d
+                                                            && age > requestCacheControl.maxAge {
+        return false;
+    }
+    decimal staleWhileRevalidate = getStaleWhileRevalidate(cachedResponse);
+    return staleWhileRevalidate >= 0d
+                    && staleWhileRevalidate >= (age - getFreshnessLifetime(cachedResponse, isSharedCache));
+}
+
+isolated function getStaleWhileRevalidate(Response cachedResponse) returns decimal {
+    string[]|HeaderNotFoundError cacheControlHeaders = cachedResponse.getHeaders(CACHE_CONTROL);
+    if cacheControlHeaders is HeaderNotFoundError {
+        return -1;
+    }
+    foreach string cacheControl in cacheControlHeaders {
+        foreach string dir in re`,`.split(cacheControl) {
+            string directive = dir.trim();
+            if directive.toLowerAscii().startsWith(STALE_WHILE_REVALIDATE) {
+                return getDirectiveValue(directive);
+            }
+        }
+    }
+    return -1;
+}
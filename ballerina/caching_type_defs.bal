@@ -30,8 +30,16 @@ public const RFC_7234 = "RFC_7234";
 # + enabled - Specifies whether HTTP caching is enabled. Caching is enabled by default.
 # + isShared - Specifies whether the HTTP caching layer should behave as a public cache or a private cache
 # + capacity - The capacity of the cache
+# + maxSize - The maximum total size of the cached responses in bytes. The least recently used responses are evicted
+#             once this is exceeded. A non-positive value removes the limit
 # + evictionFactor - The fraction of entries to be removed when the cache is full. The value should be
 #                    between 0 (exclusive) and 1 (inclusive).
+# + collapseRequests - Enables request collapsing. Concurrent requests which miss the cache for the same key wait for
+#                      a single upstream request and are served its cached response. Requests which arrive while a
+#                      stale response is being revalidated are served the stale response if its
+#                      `stale-while-revalidate` directive allows it, or else wait for the revalidation
+# + collapsedRequestTimeout - The maximum time in seconds a collapsed request waits for the in-flight upstream request
+#                             before sending its own request
 # + policy - Gives the user some control over the caching behaviour. By default, this is set to
 #            `CACHE_CONTROL_AND_VALIDATORS`. The default behaviour is to allow caching only when the `cache-control`
 #            header and either the `etag` or `last-modified` header are present.
@@ -39,6 +47,9 @@ public type CacheConfig record {|
     boolean enabled = true;
     boolean isShared = false;
     int capacity = 16;
+    int maxSize = 67108864;
     float evictionFactor = 0.2;
+    boolean collapseRequests = false;
+    decimal collapsedRequestTimeout = 5;
     CachingPolicy policy = CACHE_CONTROL_AND_VALIDATORS;
 |};
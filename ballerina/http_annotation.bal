@@ -70,6 +70,7 @@ public annotation HttpServiceConfig ServiceConfig on service, type;
 # + transactionInfectable - Allow to participate in the distributed transactions if value is true
 # + auth - Resource auth configurations
 # + linkedTo - The array of linked resources
+# + bulkhead - Caps the concurrent executions of the resource and the number of requests waiting for them
 public type HttpResourceConfig record {|
     string name?;
     string[] consumes = [];
@@ -78,6 +79,22 @@ public type HttpResourceConfig record {|
     boolean transactionInfectable = true;
     ListenerAuthConfig[]|Scopes auth?;
     LinkedTo[] linkedTo?;
+    BulkheadConfig bulkhead?;
+|};
+
+# Configuration of a resource bulkhead. Requests which arrive when all the executions are in progress wait in a
+# bounded queue and are rejected once the queue is full.
+#
+# + group - The name of the bulkhead shared by all the resources of the service which have the same group. If not
+#           set, the resource gets a bulkhead of its own
+# + maxConcurrent - The maximum number of concurrent executions
+# + maxQueueSize - The maximum number of requests waiting for an execution to complete
+# + rejectionStatusCode - The status code of the response sent when the bulkhead is full
+public type BulkheadConfig record {|
+    string group?;
+    int maxConcurrent;
+    int maxQueueSize = 0;
+    int rejectionStatusCode = 503;
 |};
 
 # The annotation which is used to configure an HTTP resource.
@@ -66,6 +66,7 @@ public type ResponseLimitConfigs record {|
 public type ClientHttp2Settings record {|
     boolean http2PriorKnowledge = false;
     int http2InitialWindowSize = 65535;
+    *Http2ProtocolSettings;
 |};
 
 # Provides configurations for controlling the retrying behavior in failure scenarios.
@@ -75,12 +76,85 @@ public type ClientHttp2Settings record {|
 # + backOffFactor - Multiplier, which increases the retry interval exponentially.
 # + maxWaitInterval - Maximum time of the retry interval in seconds
 # + statusCodes - HTTP response status codes which are considered as failures
+# + budget - Limits the retries of the client as a ratio of its successful requests
+# + jitter - Ratio by which each retry interval is randomly shortened, so that the requests which failed together do
+#            not retry together
 public type RetryConfig record {|
     int count = 0;
     decimal interval = 0;
     float backOffFactor = 0.0;
     decimal maxWaitInterval = 0;
     int[] statusCodes = [];
+    RetryBudgetConfig? budget = ();
+    float jitter = 0.0;
+|};
+
+# Provides configurations for limiting the retries of a client, so that a failing backend is not overloaded when every
+# in-flight request retries. Retries which exceed the budget are not sent.
+#
+# + ratio - Number of retries earned by each successful request
+# + minRetriesPerSecond - Number of retries allowed per second regardless of the successful requests
+public type RetryBudgetConfig record {|
+    float ratio = 0.2;
+    int minRetriesPerSecond = 10;
+|};
+
+# Provides configurations for the passive outlier detection of the targets of the failover and load balance clients.
+# A target which keeps failing is ejected for a while, so that it is skipped without waiting for its failures. A request
+# is considered as failed when it fails without a response or is answered with a `5xx` status code.
+#
+# + consecutiveFailures - Number of consecutive failures after which a target is ejected. `0` disables this check
+# + failureRateThreshold - Ratio of failed requests within the `window` after which a target is ejected
+# + minimumRequests - Minimum number of requests within the `window` for the failure rate to be considered
+# + window - Time window in seconds over which the failure rate is calculated
+# + baseEjectionTime - Time in seconds a target is ejected the first time, which is doubled on each subsequent ejection
+# + maxEjectionTime - Maximum time in seconds a target is ejected
+# + maxEjectionRatio - Maximum ratio of the targets which are ejected at once. At least one target is never ejected
+public type OutlierDetectionConfig record {|
+    int consecutiveFailures = 5;
+    float failureRateThreshold = 0.5;
+    int minimumRequests = 20;
+    decimal window = 10;
+    decimal baseEjectionTime = 30;
+    decimal maxEjectionTime = 300;
+    float maxEjectionRatio = 0.5;
+|};
+
+# Provides configurations for hedging idempotent requests. A second attempt of a request is sent to the same target
+# when no response is received within the hedging delay and the response which arrives first is used, while the other
+# attempt is cancelled.
+#
+# + delay - Time in seconds to wait for a response before the hedged attempt is sent
+# + latencyPercentile - Percentile of the recently observed response times, which is used as the delay once enough
+#                       responses are observed. The fixed `delay` is always used when this is `0`
+# + budgetRatio - Maximum ratio of the requests, which are hedged
+# + methods - HTTP methods of the requests, which are hedged. Requests with a payload are never hedged
+public type HedgingConfig record {|
+    decimal delay = 0.1;
+    float latencyPercentile = 0;
+    float budgetRatio = 0.1;
+    string[] methods = [HTTP_GET, HTTP_HEAD, HTTP_OPTIONS];
+|};
+
+# Provides configurations for resolving the host names of a client without blocking. The resolved addresses of a host
+# are cached and new connections are spread across all of them, while the host is re-resolved in the background.
+#
+# + minTtl - Minimum time in seconds the resolved addresses are cached, regardless of the TTL of the DNS records
+# + maxTtl - Maximum time in seconds the resolved addresses are cached, regardless of the TTL of the DNS records
+# + negativeTtl - Time in seconds a failed resolution is cached. A host whose re-resolution keeps failing for this
+#                 long is dropped from the cache
+# + refreshInterval - Time in seconds after which the addresses of a host are re-resolved in the background. The
+#                     host is re-resolved at least once per `maxTtl`
+# + queryTimeout - Timeout in seconds of a DNS query
+# + nameServers - IP addresses of the DNS servers with an optional port, e.g. `10.0.0.2:53`. The DNS servers of the
+#                 system are used when empty
+public type DnsConfig record {|
+    decimal minTtl = 0;
+    decimal maxTtl = 300;
+    decimal negativeTtl = 0;
+    decimal refreshInterval = 30;
+    decimal queryTimeout = 5;
+    string[] nameServers = [];
 |};
 
 # Provides configurations for facilitating secure communication with a remote HTTP endpoint.
@@ -580,7 +580,10 @@ isolated function createRetryClient(string url, ClientConfiguration configuratio
             interval: retryConfig.interval,
             backOffFactor: retryConfig.backOffFactor,
             maxWaitInterval: retryConfig.maxWaitInterval,
-            statusCodes: retryConfig.statusCodes
+            statusCodes: retryConfig.statusCodes,
+            budget: retryConfig.budget,
+            jitter: retryConfig.jitter,
+            maxReplaySize: configuration.maxReplaySize
         };
         var httpCookieClient = createCookieClient(url, configuration, cookieStore);
         if httpCookieClient is HttpClient {
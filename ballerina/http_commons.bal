@@ -315,6 +315,23 @@ isolated function createFailoverRequest(Request request, mime:Entity requestEnti
     }
 }
 
+// Prepares the payload of a request which may be sent more than once. A passthrough payload is retained natively and
+// replayed on each attempt, while a payload set by the program is kept as the message data source. Returns false if
+// the passthrough payload, or a payload set as a byte channel, is larger than `maxReplaySize`, in which case the
+// request can only be sent once. An error
+// is returned if the passthrough payload is not received in time, as the request cannot be sent with its full payload.
+isolated function prepareReplayablePayload(Request request, int maxReplaySize) returns boolean|ClientError {
+    if request.hasMsgDataSource() {
+        return true;
+    }
+    return externRetainReplayablePayload(request, maxReplaySize);
+}
+
+// Releases the passthrough payload retained by `prepareReplayablePayload()`.
+isolated function releaseReplayablePayload(Request request) {
+    externReleaseReplayablePayload(request);
+}
+
 isolated function getInvalidTypeError() returns ClientError {
     return error GenericClientError("Invalid return type found for the HTTP operation");
 }
@@ -114,6 +114,24 @@ public const COMPRESSION_ALWAYS = "ALWAYS";
 # Never set accept-encoding/content-encoding header in outbound request/response.
 public const COMPRESSION_NEVER = "NEVER";
 
+# Algorithms used by the load balance client to choose the target of a request.
+#
+# `ROUND_ROBIN`: Chooses the targets in turn
+# `LEAST_REQUEST`: Chooses the one with fewer in-flight requests out of two random targets
+# `PEAK_EWMA`: Chooses the one with the lower peak EWMA of the response time, weighted by the in-flight requests, out
+#              of two random targets
+public type LoadBalancingAlgorithm LB_ROUND_ROBIN|LB_LEAST_REQUEST|LB_PEAK_EWMA;
+
+# Chooses the targets in turn.
+public const LB_ROUND_ROBIN = "ROUND_ROBIN";
+
+# Chooses the one with fewer in-flight requests out of two random targets.
+public const LB_LEAST_REQUEST = "LEAST_REQUEST";
+
+# Chooses the one with the lower peak EWMA of the response time, weighted by the in-flight requests, out of two random
+# targets.
+public const LB_PEAK_EWMA = "PEAK_EWMA";
+
 # Constant for telemetry tag http.url
 const HTTP_URL = "http.url";
 
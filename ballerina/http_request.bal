@@ -709,6 +709,18 @@ isolated function externHasMsgDataSource(Request request) returns boolean =
     name: "hasMsgDataSource"
 } external;
 
+isolated function externRetainReplayablePayload(Request request, int maxReplaySize) returns boolean|ClientError =
+@java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternRequest",
+    name: "retainReplayablePayload"
+} external;
+
+isolated function externReleaseReplayablePayload(Request request) =
+@java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternRequest",
+    name: "releaseReplayablePayload"
+} external;
+
 # A record for providing mutual SSL handshake results.
 #
 # + status - Status of the handshake.
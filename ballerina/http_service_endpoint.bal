@@ -153,6 +153,14 @@ public type Local record {|
 #                             the connection will be closed after all in-flight streams are completed
 # + timeBetweenStaleEviction - Time between the connection stale eviction runs in seconds. This only applies for HTTP/2.
 #                              Default value is 30 seconds
+# + compressionSettings - Content codings, compression level and thresholds used when compressing response payloads
+# + http2Settings - HTTP/2 SETTINGS advertised to the clients and the flow-control behaviour of the connections
+# + metricsPath - Path on which the transport metrics of the listener are served in the Prometheus text format. The
+#                 metrics are not served when the path is not set
+# + concurrencyLimit - Adaptive limit of the requests served concurrently by the listener. Requests are not limited
+#                      when this is not set
+# + requestSpill - Spills the unread part of large request payloads to temporary files instead of holding it in
+#                  memory. Payloads are held in memory when this is not set
 public type ListenerConfiguration record {|
     string host = "0.0.0.0";
     ListenerHttp1Settings http1Settings = {};
@@ -166,6 +174,11 @@ public type ListenerConfiguration record {|
     int http2InitialWindowSize = 65535;
     decimal minIdleTimeInStaleState = 300;
     decimal timeBetweenStaleEviction = 30;
+    ListenerCompressionSettings compressionSettings = {};
+    Http2ProtocolSettings http2Settings = {};
+    string? metricsPath = ();
+    ConcurrencyLimitConfig? concurrencyLimit = ();
+    RequestSpillConfig? requestSpill = ();
 |};
 
 # Provides a set of cloneable configurations for HTTP listener.
@@ -65,6 +65,82 @@ public type CompressionConfig record {|
     string[] contentTypes = [];
 |};
 
+# Represents the content codings which can be used to compress HTTP message payloads.
+public enum ContentCoding {
+    GZIP = "gzip",
+    DEFLATE = "deflate",
+    BROTLI = "br",
+    ZSTD = "zstd"
+}
+
+# Provides settings related to the compression of the response payloads sent by the listener.
+public type ListenerCompressionSettings record {|
+    # Content codings in the order of preference. `BROTLI` and `ZSTD` are only used on the platforms supported by
+    # the bundled native codecs
+    ContentCoding[] algorithms = [GZIP, DEFLATE];
+    # Compression level from 0 to 9 applied by the `GZIP`, `DEFLATE` and `ZSTD` encoders
+    int level = 6;
+    # Minimum payload size in bytes for a response to be compressed. Payloads with an unknown length are always
+    # considered for compression
+    int minContentLength = 0;
+    # Media types which are eligible for compression. An empty array allows all media types
+    string[] contentTypes = [];
+|};
+
+# Provides settings related to the content codings accepted by the client.
+public type ClientCompressionSettings record {|
+    # Content codings advertised in the `accept-encoding` header in the order of preference. `BROTLI` and `ZSTD` are
+    # only advertised on the platforms supported by the bundled native codecs
+    ContentCoding[] algorithms = [DEFLATE, GZIP];
+|};
+
+# Provides the HTTP/2 SETTINGS advertised on a connection and the flow-control behaviour of it.
+public type Http2ProtocolSettings record {|
+    # SETTINGS_MAX_CONCURRENT_STREAMS value. The number of concurrent streams is not limited when this is not set
+    int maxConcurrentStreams?;
+    # SETTINGS_MAX_FRAME_SIZE value in bytes, which should be between 16384 and 16777215
+    int maxFrameSize?;
+    # SETTINGS_HEADER_TABLE_SIZE value in bytes
+    int headerTableSize?;
+    # SETTINGS_MAX_HEADER_LIST_SIZE value in bytes. A listener advertises `requestLimits.maxHeaderSize` when this is
+    # not set
+    int maxHeaderListSize?;
+    # Initial size of the connection-level receive window in bytes
+    int connectionWindowSize = 65535;
+    # Grow the connection and stream receive windows from the bandwidth-delay product measured using PING frames
+    boolean windowAutoTuning = false;
+    # Upper bound of the receive windows in bytes when `windowAutoTuning` is enabled
+    int maxWindowSize = 16777216;
+|};
+
+# Provides the settings of the adaptive concurrency limit of a listener. The limit is adjusted from the observed
+# request latency and requests which exceed it are rejected with a `503 - Service Unavailable` response.
+public type ConcurrencyLimitConfig record {|
+    # Number of concurrent requests allowed before any latency is observed
+    int initialLimit = 20;
+    # Lower bound of the limit
+    int minLimit = 1;
+    # Upper bound of the limit
+    int maxLimit = 1000;
+    # Ratio by which the recent latency may exceed the long-term latency before the limit is reduced
+    decimal latencyTolerance = 1.5;
+    # Value of the `retry-after` header of the rejection responses in seconds
+    int retryAfter = 1;
+|};
+
+# Provides the settings for spilling inbound request payloads to disk. Once the part of a request payload which is
+# received but not yet read by the service exceeds the threshold, or the memory budget of the listener is used up, the
+# rest of the payload is written to a temporary file and read back from it as the service consumes the payload.
+public type RequestSpillConfig record {|
+    # Number of unread payload bytes of a request kept in memory before the payload is spilled to disk
+    int threshold = 1048576;
+    # Number of unread payload bytes kept in memory across all the in-flight requests of the listener
+    int memoryBudget = 67108864;
+    # Directory in which the temporary files are created. The default temporary-file directory is used when this is
+    # not set
+    string directory?;
+|};
+
 type HTTPError record {
     string message = "";
 };
@@ -89,12 +165,18 @@ public type CommonClientConfiguration record {|
     CacheConfig cache = {};
     # Specifies the way of handling compression (`accept-encoding`) header
     Compression compression = COMPRESSION_AUTO;
+    # Content codings which are advertised and decompressed by the client
+    ClientCompressionSettings compressionSettings = {};
     # Configurations related to client authentication
     ClientAuthConfig? auth = ();
     # Configurations associated with the behaviour of the Circuit Breaker
     CircuitBreakerConfig? circuitBreaker = ();
     # Configurations associated with retrying
     RetryConfig? retryConfig = ();
+    # Configurations associated with hedging idempotent requests
+    HedgingConfig? hedging = ();
+    # Configurations for resolving the host names without blocking and spreading the connections across the addresses
+    DnsConfig? dns = ();
     # Configurations associated with cookies
     CookieConfig? cookieConfig = ();
     # Configurations associated with inbound response size limits
@@ -105,6 +187,9 @@ public type CommonClientConfiguration record {|
     boolean validation = true;
     # Provides settings related to client socket configuration
     ClientSocketConfig socketConfig = {};
+    # Maximum size in bytes of a passthrough request payload, which is retained to be replayed by the retry, failover
+    # and load balance clients. Requests with larger payloads are sent only once
+    int maxReplaySize = 1048576;
 |};
 
 # Represents a server-provided hyperlink
@@ -17,7 +17,6 @@
 import ballerina/jballerina.java;
 import ballerina/lang.runtime as runtime;
 import ballerina/mime;
-import ballerina/log;
 
 # Represents the inferred failover configurations passed into the failover client.
 type FailoverInferredConfig record {|
@@ -25,6 +24,8 @@ type FailoverInferredConfig record {|
     int[] failoverCodes = [];
     # Failover delay interval in seconds
     decimal failoverInterval = 0;
+    # Maximum size of a passthrough request payload retained to be replayed on each endpoint
+    int maxReplaySize = 1048576;
 |};
 
 # An HTTP client endpoint which provides failover support over multiple HTTP clients.
@@ -60,10 +61,12 @@ public client isolated class FailoverClient {
         }
         FailoverInferredConfig failoverInferredConfig = {
             failoverCodes:failoverClientConfig.failoverCodes,
-            failoverInterval:failoverClientConfig.interval
+            failoverInterval:failoverClientConfig.interval,
+            maxReplaySize:failoverClientConfig.maxReplaySize
         };
         self.failoverInferredConfig = failoverInferredConfig.cloneReadOnly();
         self.requireValidation = failoverClientConfig.validation;
+        externInitOutlierDetector(self, failoverClientConfig.targets.length(), failoverClientConfig.outlierDetection);
         return;
     }
 
@@ -497,6 +500,23 @@ public client isolated class FailoverClient {
     // Handles all the actions exposed through the Failover connector.
     isolated function performFailoverAction (string path, Request request, HttpOperation requestAction,
             string verb = "") returns HttpResponse|ClientError {
+        // When performing passthrough scenarios using Failover connector, the payload is retained and replayed on each
+        // endpoint. A payload larger than `maxReplaySize` is not retained, hence such a request is sent only to the
+        // endpoint which gave the last successful response.
+        if isMultipartRequest(request) {
+            return self.performFailoverAttempts(path, request, requestAction, verb);
+        }
+        if !check prepareReplayablePayload(request, self.failoverInferredConfig.maxReplaySize) {
+            Client foClient = self.getLastSuceededClientEP();
+            return invokeEndpoint(path, request, requestAction, foClient.httpClient, verb = verb);
+        }
+        HttpResponse|ClientError response = self.performFailoverAttempts(path, request, requestAction, verb);
+        releaseReplayablePayload(request);
+        return response;
+    }
+
+    isolated function performFailoverAttempts(string path, Request request, HttpOperation requestAction,
+            string verb) returns HttpResponse|ClientError {
 
         Client foClient = self.getLastSuceededClientEP();
         FailoverInferredConfig failoverInferredConfig = self.failoverInferredConfig;
@@ -518,23 +538,25 @@ public client isolated class FailoverClient {
         ClientError?[] failoverActionErrData = [];
         mime:Entity requestEntity = new;
 
+        // A retained passthrough payload is replayed by sending the same request to each endpoint.
+        boolean passthrough = !isMultipartRequest(failoverRequest) && !failoverRequest.hasMsgDataSource();
         if isMultipartRequest(failoverRequest) {
             failoverRequest = check populateMultipartRequest(failoverRequest);
-        } else {
-            // When performing passthrough scenarios using Failover connector, message needs to be built before trying
-            // out the failover endpoints to keep the request message to failover the messages.
-            if !failoverRequest.hasMsgDataSource() {
-                byte[]|error binaryPayload = failoverRequest.getBinaryPayload();
-                if binaryPayload is error {
-                    log:printDebug("Error building payload for request failover: " + binaryPayload.message());
-                }
-            }
+        } else if !passthrough {
             requestEntity = check failoverRequest.getEntity();
         }
         while (startIndex != currentIndex) {
             startIndex = initialIndex;
+            int targetIndex = currentIndex;
             currentIndex = currentIndex + 1;
-            var endpointResponse = invokeEndpoint(path, failoverRequest, requestAction, foClient.httpClient, verb = verb);
+            // A target ejected by the outlier detection is skipped as if it failed, without sending the request to it.
+            boolean ejected = externIsTargetEjected(self, targetIndex);
+            HttpResponse|ClientError endpointResponse = ejected
+                ? error FailoverActionFailedError("Endpoint " + targetIndex.toString() + " is ejected")
+                : invokeEndpoint(path, failoverRequest, requestAction, foClient.httpClient, verb = verb);
+            if !ejected && endpointResponse !is HttpFuture {
+                externRecordTargetOutcome(self, targetIndex, isFailedTargetResponse(endpointResponse));
+            }
             if endpointResponse is Response {
                 inResponse = endpointResponse;
                 int httpStatusCode = endpointResponse.statusCode;
@@ -556,6 +578,7 @@ public client isolated class FailoverClient {
                 // Response came from the `submit()` method.
                 inFuture = endpointResponse;
                 var futureResponse = foClient->getResponse(endpointResponse);
+                externRecordTargetOutcome(self, targetIndex, isFailedTargetResponse(futureResponse));
                 if futureResponse is Response {
                     inResponse = futureResponse;
                     int httpStatusCode = futureResponse.statusCode;
@@ -593,8 +616,12 @@ public client isolated class FailoverClient {
             } else {
                 panic error ClientError("invalid response type received");
             }
-            failoverRequest = check createFailoverRequest(failoverRequest, requestEntity);
-            runtime:sleep(failoverInterval);
+            if !ejected {
+                if !passthrough {
+                    failoverRequest = check createFailoverRequest(failoverRequest, requestEntity);
+                }
+                runtime:sleep(failoverInterval);
+            }
 
             Client? tmpClnt;
             lock {
@@ -671,6 +698,8 @@ public type FailoverClientConfiguration record {|
     int[] failoverCodes = [501, 502, 503, 504];
     # Failover delay interval in seconds
     decimal interval = 0;
+    # Configurations for ejecting failing targets, which are skipped until they are re-admitted
+    OutlierDetectionConfig? outlierDetection = ();
 |};
 
 isolated function createClientEPConfigFromFailoverEPConfig(FailoverClientConfiguration foConfig,
@@ -684,15 +713,19 @@ isolated function createClientEPConfigFromFailoverEPConfig(FailoverClientConfigu
         forwarded:foConfig.forwarded,
         followRedirects:foConfig.followRedirects,
         retryConfig:foConfig.retryConfig,
+        hedging:foConfig.hedging,
+        dns:foConfig.dns,
         poolConfig:foConfig.poolConfig,
         secureSocket:target.secureSocket,
         cache:foConfig.cache,
         compression:foConfig.compression,
+        compressionSettings:foConfig.compressionSettings,
         auth:foConfig.auth,
         cookieConfig:foConfig.cookieConfig,
         responseLimits:foConfig.responseLimits,
         validation:foConfig.validation,
-        socketConfig:foConfig.socketConfig
+        socketConfig:foConfig.socketConfig,
+        maxReplaySize:foConfig.maxReplaySize
     };
     return clientEPConfig;
 }
@@ -14,8 +14,8 @@
 // specific language governing permissions and limitations
 // under the License.
 
+import ballerina/jballerina.java;
 import ballerina/lang.runtime as runtime;
-import ballerina/log;
 
 # Derived set of configurations from the `RetryConfig`.
 #
@@ -24,12 +24,18 @@ import ballerina/log;
 # + backOffFactor - Multiplier of the retry interval to exponentially increase retry interval
 # + maxWaitInterval - Maximum time of the retry interval in seconds
 # + statusCodes - HTTP response status codes which are considered as failures
+# + budget - Limits the retries of the client as a ratio of its successful requests
+# + jitter - Ratio by which each retry interval is randomly shortened
+# + maxReplaySize - Maximum size of a passthrough request payload retained to be replayed on each attempt
 type RetryInferredConfig record {|
     int count = 0;
     decimal interval = 0;
     float backOffFactor = 0.0;
     decimal maxWaitInterval = 0;
     int[] statusCodes = [];
+    RetryBudgetConfig? budget = ();
+    float jitter = 0.0;
+    int maxReplaySize = 1048576;
 |};
 
 # Provides the HTTP remote functions for interacting with an HTTP endpoint. This is created by wrapping the HTTP client
@@ -55,6 +61,7 @@ client isolated class RetryClient {
                                         HttpClient httpClient) returns ClientError? {
         self.retryInferredConfig = retryInferredConfig.cloneReadOnly();
         self.httpClient = httpClient;
+        externInitRetryBudget(self, url, retryInferredConfig.budget, retryInferredConfig.jitter);
         return;
     }
 
@@ -287,9 +294,20 @@ isolated function performRetryClientExecuteAction(string path, Request request,
 // Handles all the actions exposed through the retry client.
 isolated function performRetryAction(string path, Request request, HttpOperation requestAction,
                             RetryClient retryClient, string verb = "") returns HttpResponse|ClientError {
+    // When performing passthrough scenarios using retry client, the payload is retained and replayed on each attempt.
+    // A payload larger than `maxReplaySize` is not retained, hence such a request is not retried.
+    boolean replayable = check prepareReplayablePayload(request, retryClient.retryInferredConfig.maxReplaySize);
+    HttpResponse|ClientError response = performRetryAttempts(path, request, requestAction, retryClient, replayable,
+                                                             verb);
+    releaseReplayablePayload(request);
+    return response;
+}
+
+isolated function performRetryAttempts(string path, Request request, HttpOperation requestAction,
+                            RetryClient retryClient, boolean replayable, string verb) returns HttpResponse|ClientError {
     HttpClient httpClient = retryClient.httpClient;
     int currentRetryCount = 0;
-    int retryCount = retryClient.retryInferredConfig.count;
+    int retryCount = replayable ? retryClient.retryInferredConfig.count : 0;
     decimal interval = retryClient.retryInferredConfig.interval;
     int[] statusCodes = retryClient.retryInferredConfig.statusCodes;
     //initializeBackOffFactorAndMaxWaitInterval(retryClient);
@@ -301,16 +319,8 @@ isolated function performRetryAction(string path, Request request, HttpOperation
 
     AllRetryAttemptsFailed retryFailedError = error AllRetryAttemptsFailed("All the retry attempts failed.");
     ClientError httpConnectorErr = retryFailedError;
+    HttpResponse|ClientError failedResult = retryFailedError;
     Request inRequest = request;
-    // When performing passthrough scenarios using retry client, message needs to be built before sending out the
-    // to keep the request message to retry.
-    if !inRequest.hasMsgDataSource() {
-        byte[]|error binaryPayload = inRequest.getBinaryPayload();
-        if binaryPayload is error {
-            log:printDebug("Error building payload for request retry: " + binaryPayload.message());
-        }
-    }
-
     while (currentRetryCount < (retryCount + 1)) {
         inRequest = check populateMultipartRequest(inRequest);
         var backendResponse = invokeEndpoint(path, inRequest, requestAction, httpClient, verb = verb);
@@ -320,7 +330,9 @@ isolated function performRetryAction(string path, Request request, HttpOperation
                 [interval, currentRetryCount] =
                                 calculateEffectiveIntervalAndRetryCount(retryClient, currentRetryCount, interval,
                                 backOffFactor, maxWaitInterval);
+                failedResult = backendResponse;
             } else {
+                depositToRetryBudget(retryClient, statusCodes, responseStatusCode);
                 return backendResponse;
             }
         } else if backendResponse is HttpFuture {
@@ -331,7 +343,9 @@ isolated function performRetryAction(string path, Request request, HttpOperation
                     [interval, currentRetryCount] =
                                     calculateEffectiveIntervalAndRetryCount(retryClient, currentRetryCount, interval,
                                     backOffFactor, maxWaitInterval);
+                    failedResult = backendResponse;
                 } else {
+                    depositToRetryBudget(retryClient, statusCodes, responseStatusCode);
                     // We return the HttpFuture object as this is called by submit method.
                     return backendResponse;
                 }
@@ -340,20 +354,35 @@ isolated function performRetryAction(string path, Request request, HttpOperation
                                 calculateEffectiveIntervalAndRetryCount(retryClient, currentRetryCount, interval,
                                 backOffFactor, maxWaitInterval);
                 httpConnectorErr = response;
+                failedResult = response;
             }
         } else if backendResponse is ClientError {
             [interval, currentRetryCount] =
                             calculateEffectiveIntervalAndRetryCount(retryClient, currentRetryCount, interval,
                             backOffFactor, maxWaitInterval);
             httpConnectorErr = backendResponse;
+            failedResult = backendResponse;
         } else {
             panic error ClientError("invalid response type received");
         }
-        runtime:sleep(interval);
+        if currentRetryCount > retryCount {
+            break;
+        }
+        if !externTryAcquireRetry(retryClient) {
+            // The retry budget of the client is exhausted, hence the result of the failed attempt is returned.
+            return failedResult;
+        }
+        runtime:sleep(externGetJitteredRetryInterval(retryClient, interval));
     }
     return httpConnectorErr;
 }
 
+isolated function depositToRetryBudget(RetryClient retryClient, int[] statusCodes, int statusCode) {
+    if statusCodes.indexOf(statusCode) is () {
+        externDepositRetryBudget(retryClient);
+    }
+}
+
 isolated function calculateEffectiveIntervalAndRetryCount(RetryClient retryClient, int currentRetryCount,
         decimal currentDelay, float backOffFactor, decimal maxWaitInterval) returns [decimal, int] {
     decimal interval = currentDelay;
@@ -369,3 +398,25 @@ isolated function getWaitTime(float backOffFactor, decimal maxWaitTime, decimal
     decimal waitTime = interval * <decimal> backOffFactor;
     return (waitTime > maxWaitTime) ? maxWaitTime : waitTime;
 }
+
+isolated function externInitRetryBudget(RetryClient retryClient, string url, RetryBudgetConfig? budget,
+                                        float jitter) = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternRetryBudget",
+    name: "init"
+} external;
+
+isolated function externDepositRetryBudget(RetryClient retryClient) = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternRetryBudget",
+    name: "deposit"
+} external;
+
+isolated function externTryAcquireRetry(RetryClient retryClient) returns boolean = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternRetryBudget",
+    name: "tryAcquire"
+} external;
+
+isolated function externGetJitteredRetryInterval(RetryClient retryClient, decimal interval) returns decimal =
+@java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternRetryBudget",
+    name: "getJitteredInterval"
+} external;
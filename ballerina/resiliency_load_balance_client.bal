@@ -16,21 +16,23 @@
 
 import ballerina/jballerina.java;
 import ballerina/mime;
-import ballerina/log;
+import ballerina/time;
 
 # LoadBalanceClient endpoint provides load balancing functionality over multiple HTTP clients.
 #
 # + loadBalanceClientsArray - Array of HTTP clients for load balancing
-# + lbRule - Load balancing rule
+# + lbRule - Load balancing rule, or `()` when the target is chosen by a native load balancing algorithm
 # + failover - Whether to fail over in case of a failure
 # + requireValidation - Enables the inbound payload validation functionalty which provided by the constraint package
 public client isolated class LoadBalanceClient {
     *ClientObject;
 
     private final Client?[] loadBalanceClientsArray;
-    private LoadBalancerRule lbRule;
+    private final LoadBalancerRule? lbRule;
     private final boolean failover;
     private final boolean requireValidation;
+    private final int maxReplaySize;
+    private final int targetCount;
 
     # Load Balancer adds an additional layer to the HTTP client to make network interactions more resilient.
     #
@@ -39,6 +41,8 @@ public client isolated class LoadBalanceClient {
     public isolated function init(*LoadBalanceClientConfiguration loadBalanceClientConfig) returns ClientError? {
         self.failover = loadBalanceClientConfig.failover;
         self.loadBalanceClientsArray = [];
+        self.targetCount = loadBalanceClientConfig.targets.length();
+        Client[] targetClients = [];
         Client clientEp;
         int i = 0;
         foreach var target in loadBalanceClientConfig.targets {
@@ -47,16 +51,20 @@ public client isolated class LoadBalanceClient {
             lock {
                 self.loadBalanceClientsArray[i] = clientEp;
             }
+            targetClients.push(clientEp);
             i += 1;
         }
         var lbRule = loadBalanceClientConfig.lbRule;
-        if lbRule is LoadBalancerRule {
-            self.lbRule = lbRule;
-        } else {
-            LoadBalancerRoundRobinRule loadBalancerRoundRobinRule = new;
-            self.lbRule = loadBalancerRoundRobinRule;
-        }
+        self.lbRule = lbRule;
         self.requireValidation = loadBalanceClientConfig.validation;
+        self.maxReplaySize = loadBalanceClientConfig.maxReplaySize;
+        if lbRule is () {
+            externInitOutlierDetector(self, loadBalanceClientConfig.targets.length(),
+                                      loadBalanceClientConfig.outlierDetection);
+            string[] targetUrls = from TargetService target in loadBalanceClientConfig.targets select target.url;
+            // The native load balancer holds the clients, so that choosing one does not take the lock of the array
+            externInitLoadBalancer(self, targetUrls, targetClients, loadBalanceClientConfig.lbAlgorithm);
+        }
         return;
     }
 
@@ -410,48 +418,71 @@ public client isolated class LoadBalanceClient {
     // Handles all the actions exposed through the Load Balance connector.
     isolated function performLoadBalanceAction(string path, Request request, HttpOperation requestAction)
              returns Response|ClientError {
+        if !self.failover || isMultipartRequest(request) {
+            return self.performLoadBalanceAttempts(path, request, requestAction, self.failover);
+        }
+        // When performing passthrough scenarios using Load Balance connector, the payload is retained and replayed on
+        // each endpoint tried in case of failure. A payload larger than `maxReplaySize` is not retained, hence such a
+        // request is not failed over.
+        boolean replayable = check prepareReplayablePayload(request, self.maxReplaySize);
+        Response|ClientError response = self.performLoadBalanceAttempts(path, request, requestAction, replayable);
+        releaseReplayablePayload(request);
+        return response;
+    }
+
+    isolated function performLoadBalanceAttempts(string path, Request request, HttpOperation requestAction,
+            boolean failover) returns Response|ClientError {
         int loadBalanceTermination = 0; // Tracks at which point failover within the load balancing should be terminated.
         //TODO: workaround to initialize a type inside a function. Change this once fix is available.
         LoadBalanceActionErrorData loadBalanceActionErrorData = {httpActionErr:[]};
         int lbErrorIndex = 0;
         Request loadBalancerInRequest = request;
         mime:Entity requestEntity = new;
+        // A retained passthrough payload is replayed by sending the same request to each endpoint.
+        boolean passthrough = !isMultipartRequest(loadBalancerInRequest) && !loadBalancerInRequest.hasMsgDataSource();
 
-        if self.failover {
+        if failover {
             if isMultipartRequest(loadBalancerInRequest) {
                 loadBalancerInRequest = check populateMultipartRequest(loadBalancerInRequest);
-            } else {
-                // When performing passthrough scenarios using Load Balance connector,
-                // message needs to be built before trying out the load balance endpoints to keep the request message
-                // to load balance the messages in case of failure.
-                if !loadBalancerInRequest.hasMsgDataSource() {
-                    byte[]|error binaryPayload = loadBalancerInRequest.getBinaryPayload();
-                    if binaryPayload is error {
-                        log:printDebug("Error building payload for request load balance: " + binaryPayload.message());
-                    }
-                }
+            } else if !passthrough {
                 requestEntity = check loadBalancerInRequest.getEntity();
             }
         }
 
-        int arrLength;
-        lock {
-            arrLength = self.loadBalanceClientsArray.length();
-        }
+        int arrLength = self.targetCount;
+        LoadBalancerRule? lbRule = self.lbRule;
+        int targetIndex = -1;
+        int[] triedTargets = [];
         while (loadBalanceTermination < arrLength) {
             Client|ClientError loadBalanceClient;
-            lock {
-                loadBalanceClient = self.lbRule.getNextClient(self.loadBalanceClientsArray);
+            if lbRule is LoadBalancerRule {
+                lock {
+                    loadBalanceClient = lbRule.getNextClient(self.loadBalanceClientsArray);
+                }
+            } else {
+                // The targets which were already tried are excluded so that failing over does not pick them again.
+                targetIndex = externSelectTarget(self, triedTargets);
+                triedTargets.push(targetIndex);
+                loadBalanceClient = externGetTarget(self, targetIndex);
             }
             if loadBalanceClient is Client {
-                var serviceResponse = invokeEndpoint(path, request, requestAction, loadBalanceClient.httpClient);
+                decimal startTime = time:monotonicNow();
+                var serviceResponse = invokeEndpoint(path, loadBalancerInRequest, requestAction,
+                                                     loadBalanceClient.httpClient);
+                if lbRule is () {
+                    externCompleteTargetRequest(self, targetIndex, time:monotonicNow() - startTime,
+                                                serviceResponse is ClientError);
+                    externRecordTargetOutcome(self, targetIndex, isFailedTargetResponse(serviceResponse));
+                }
                 if serviceResponse is Response {
                     return serviceResponse;
                 } else if serviceResponse is HttpFuture {
                     return getInvalidTypeError();
                 } else if serviceResponse is ClientError {
-                    if self.failover {
-                        loadBalancerInRequest = check createFailoverRequest(loadBalancerInRequest, requestEntity);
+                    if failover {
+                        if !passthrough {
+                            loadBalancerInRequest = check createFailoverRequest(loadBalancerInRequest, requestEntity);
+                        }
                         loadBalanceActionErrorData.httpActionErr[lbErrorIndex] = serviceResponse;
                         lbErrorIndex += 1;
                         loadBalanceTermination = loadBalanceTermination + 1;
@@ -489,13 +520,17 @@ isolated function populateGenericLoadBalanceActionError(LoadBalanceActionErrorDa
 # configuration records in addition to the load balancing client specific configs.
 #
 # + targets - The upstream HTTP endpoints among which the incoming HTTP traffic load should be distributed
-# + lbRule - The `LoadBalancing` rule
+# + lbRule - The `LoadBalancing` rule, which takes precedence over the `lbAlgorithm`
+# + lbAlgorithm - The native algorithm used to choose a target when no `lbRule` is given
 # + failover - Configuration for the load balancer whether to fail over a failure
+# + outlierDetection - Configurations for ejecting failing targets, which are skipped by the `lbAlgorithm`
 public type LoadBalanceClientConfiguration record {|
     *CommonClientConfiguration;
     TargetService[] targets = [];
     LoadBalancerRule? lbRule = ();
+    LoadBalancingAlgorithm lbAlgorithm = LB_ROUND_ROBIN;
     boolean failover = true;
+    OutlierDetectionConfig? outlierDetection = ();
 |};
 
 isolated function createClientEPConfigFromLoalBalanceEPConfig(LoadBalanceClientConfiguration lbConfig,
@@ -509,15 +544,42 @@ isolated function createClientEPConfigFromLoalBalanceEPConfig(LoadBalanceClientC
         forwarded:lbConfig.forwarded,
         followRedirects:lbConfig.followRedirects,
         retryConfig:lbConfig.retryConfig,
+        hedging:lbConfig.hedging,
+        dns:lbConfig.dns,
         poolConfig:lbConfig.poolConfig,
         secureSocket:target.secureSocket,
         cache:lbConfig.cache,
         compression:lbConfig.compression,
+        compressionSettings:lbConfig.compressionSettings,
         auth:lbConfig.auth,
         cookieConfig:lbConfig.cookieConfig,
         responseLimits:lbConfig.responseLimits,
         validation:lbConfig.validation,
-        socketConfig:lbConfig.socketConfig
+        socketConfig:lbConfig.socketConfig,
+        maxReplaySize:lbConfig.maxReplaySize
     };
     return clientEPConfig;
 }
+
+isolated function externInitLoadBalancer(LoadBalanceClient loadBalanceClient, string[] targets, Client[] clients,
+                                         LoadBalancingAlgorithm algorithm) = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternLoadBalancer",
+    name: "init"
+} external;
+
+isolated function externSelectTarget(LoadBalanceClient loadBalanceClient, int[] triedTargets) returns int =
+@java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternLoadBalancer",
+    name: "selectTarget"
+} external;
+
+isolated function externGetTarget(LoadBalanceClient loadBalanceClient, int index) returns Client = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternLoadBalancer",
+    name: "getTarget"
+} external;
+
+isolated function externCompleteTargetRequest(LoadBalanceClient loadBalanceClient, int index, decimal latency,
+                                              boolean failed) = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternLoadBalancer",
+    name: "completeRequest"
+} external;
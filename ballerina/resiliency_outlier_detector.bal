@@ -0,0 +1,44 @@
+// Copyright (c) 2024 WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+// Checks whether a target failed a request as far as the outlier detection is concerned, i.e. whether the request
+// failed without a response or was answered with a server error.
+isolated function isFailedTargetResponse(HttpResponse|ClientError response) returns boolean {
+    if response is ClientError {
+        return true;
+    }
+    return response is Response && response.statusCode >= 500;
+}
+
+isolated function externInitOutlierDetector(LoadBalanceClient|FailoverClient httpClient, int targetCount,
+                                            OutlierDetectionConfig? outlierDetection) = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternOutlierDetector",
+    name: "init"
+} external;
+
+isolated function externIsTargetEjected(LoadBalanceClient|FailoverClient httpClient, int index) returns boolean =
+@java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternOutlierDetector",
+    name: "isEjected"
+} external;
+
+isolated function externRecordTargetOutcome(LoadBalanceClient|FailoverClient httpClient, int index,
+                                            boolean failed) = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternOutlierDetector",
+    name: "record"
+} external;
@@ -30,8 +30,18 @@ import io.ballerina.runtime.observability.ObservabilityConstants;
 import io.ballerina.runtime.observability.ObserveUtils;
 import io.ballerina.runtime.observability.ObserverContext;
 import io.ballerina.stdlib.http.api.nativeimpl.ModuleUtils;
+import io.ballerina.stdlib.http.api.nativeimpl.pipelining.PipeliningHandler;
+import io.ballerina.stdlib.http.transport.contract.Constants;
 import io.ballerina.stdlib.http.transport.contract.HttpConnectorListener;
+import io.ballerina.stdlib.http.transport.contractimpl.common.Util;
+import io.ballerina.stdlib.http.transport.contractimpl.common.jfr.TransportEvents;
+import io.ballerina.stdlib.http.transport.contractimpl.common.metrics.RequestMetrics;
+import io.ballerina.stdlib.http.transport.contractimpl.listener.ConcurrencyLimiter;
+import io.ballerina.stdlib.http.transport.internal.RequestPhase;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -55,6 +65,8 @@ public class BallerinaHTTPConnectorListener implements HttpConnectorListener {
 
     private static final Logger log = LoggerFactory.getLogger(BallerinaHTTPConnectorListener.class);
     protected static final String HTTP_RESOURCE = "httpResource";
+    private static final String OVERLOADED_MESSAGE = "The service is overloaded. Please retry later";
+    private static final String BULKHEAD_FULL_MESSAGE = "The resource is at its concurrency limit. Please retry later";
 
     protected final HTTPServicesRegistry httpServicesRegistry;
     protected final List<HTTPInterceptorServicesRegistry> httpInterceptorServicesRegistries;
@@ -73,6 +85,11 @@ public class BallerinaHTTPConnectorListener implements HttpConnectorListener {
 
     @Override
     public void onMessage(HttpCarbonMessage inboundMessage) {
+        Util.recordRequestPhase(inboundMessage, RequestPhase.DISPATCHED);
+        if (!ConcurrencyLimiter.admit(inboundMessage)) {
+            rejectOverloadedRequest(inboundMessage);
+            return;
+        }
         if (Objects.isNull(inboundMessage.getProperty(INTERCEPTOR_SERVICES_REGISTRIES))) {
             setTargetServiceToInboundMsg(inboundMessage);
         }
@@ -106,6 +123,14 @@ public class BallerinaHTTPConnectorListener implements HttpConnectorListener {
         }
     }
 
+    private static void rejectOverloadedRequest(HttpCarbonMessage inboundMessage) {
+        HttpCarbonMessage response = HttpUtil.createErrorMessage(OVERLOADED_MESSAGE,
+                                                                 HttpResponseStatus.SERVICE_UNAVAILABLE.code());
+        response.setHeader(HttpHeaderNames.RETRY_AFTER.toString(),
+                           String.valueOf(inboundMessage.getConcurrencyLimiter().getRetryAfter()));
+        PipeliningHandler.sendPipelinedResponse(inboundMessage, response);
+    }
+
     private boolean executeInterceptorServices(List<HTTPInterceptorServicesRegistry> interceptorServicesRegistries,
                                                HttpCarbonMessage inboundMessage) {
         int interceptorServiceIndex = inboundMessage.getProperty(HttpConstants.REQUEST_INTERCEPTOR_INDEX)
@@ -160,9 +185,41 @@ public class BallerinaHTTPConnectorListener implements HttpConnectorListener {
         log.warn("Error in HTTP server connector: {}", throwable.getMessage());
     }
 
-    @SuppressWarnings("unchecked")
     protected void extractPropertiesAndStartResourceExecution(HttpCarbonMessage inboundMessage,
                                                               HttpResource httpResource) {
+        ResourceBulkhead bulkhead = httpResource.getBulkhead();
+        if (bulkhead == null) {
+            startResourceExecution(inboundMessage, httpResource);
+            return;
+        }
+        ChannelHandlerContext context = (ChannelHandlerContext) inboundMessage.getProperty(Constants.CHNL_HNDLR_CTX);
+        if (!bulkhead.tryExecute(context,
+                                 () -> startGuardedResourceExecution(inboundMessage, httpResource, bulkhead))) {
+            HttpCarbonMessage response = HttpUtil.createErrorMessage(BULKHEAD_FULL_MESSAGE,
+                                                                     bulkhead.getRejectionStatusCode());
+            PipeliningHandler.sendPipelinedResponse(inboundMessage, response);
+        }
+    }
+
+    private void startGuardedResourceExecution(HttpCarbonMessage inboundMessage, HttpResource httpResource,
+                                               ResourceBulkhead bulkhead) {
+        // The execution may have been queued, in which case there is no caller left to handle its failures
+        try {
+            startResourceExecution(inboundMessage, httpResource);
+        } catch (Exception ex) {
+            // The callback releases the permit once the error response is dispatched
+            HttpCallableUnitCallback callback = new HttpCallableUnitCallback(inboundMessage,
+                    httpServicesRegistry.getRuntime(), bulkhead);
+            callback.invokeErrorInterceptors(HttpUtil.createError(ex), true);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void startResourceExecution(HttpCarbonMessage inboundMessage, HttpResource httpResource) {
+        Util.recordRequestPhase(inboundMessage, RequestPhase.RESOURCE_INVOKED);
+        TransportEvents.resourceMatched(inboundMessage, httpResource.getAbsoluteResourcePath());
+        RequestMetrics.resourceInvoked(inboundMessage, httpResource.getMetrics(
+                (String) inboundMessage.getProperty(HttpConstants.LISTENER_INTERFACE_ID)));
         boolean isTransactionInfectable = httpResource.isTransactionInfectable();
         Map<String, Object> properties = collectRequestProperties(inboundMessage, isTransactionInfectable);
 
@@ -30,6 +30,7 @@ import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 
 import java.util.Locale;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static io.ballerina.stdlib.http.api.HttpConstants.OBSERVABILITY_CONTEXT_PROPERTY;
 import static java.lang.System.err;
@@ -49,6 +50,8 @@ public class HttpCallableUnitCallback implements Callback {
     private final HttpCarbonMessage requestMessage;
     private final BMap links;
     private final boolean isLastService;
+    private final ResourceBulkhead bulkhead;
+    private final AtomicBoolean bulkheadReleased = new AtomicBoolean();
 
     HttpCallableUnitCallback(HttpCarbonMessage requestMessage, Runtime runtime, HttpResource resource,
                              boolean isLastService) {
@@ -60,9 +63,14 @@ public class HttpCallableUnitCallback implements Callback {
         String resourceAccessor = resource.getBalResource().getAccessor().toUpperCase(Locale.getDefault());
         this.caller = getCaller(requestMessage, resourceAccessor);
         this.isLastService = isLastService;
+        this.bulkhead = resource.getBulkhead();
     }
 
     HttpCallableUnitCallback(HttpCarbonMessage requestMessage, Runtime runtime) {
+        this(requestMessage, runtime, null);
+    }
+
+    HttpCallableUnitCallback(HttpCarbonMessage requestMessage, Runtime runtime, ResourceBulkhead bulkhead) {
         this.requestMessage = requestMessage;
         this.runtime = runtime;
         this.returnMediaType = null;
@@ -70,6 +78,7 @@ public class HttpCallableUnitCallback implements Callback {
         this.links = null;
         this.caller = getCaller(requestMessage, null);
         this.isLastService = false;
+        this.bulkhead = bulkhead;
     }
 
     public Runtime getRuntime() {
@@ -89,6 +98,7 @@ public class HttpCallableUnitCallback implements Callback {
     public void notifySuccess(Object result) {
         if (alreadyResponded(result)) {
             stopObserverContext();
+            releaseBulkhead();
             return;
         }
         if (result instanceof BError) {
@@ -130,11 +140,13 @@ public class HttpCallableUnitCallback implements Callback {
             @Override
             public void notifySuccess(Object result) {
                 stopObserverContext();
+                releaseBulkhead();
             }
 
             @Override
             public void notifyFailure(BError result) {
                 sendFailureResponse(result);
+                releaseBulkhead();
             }
         };
         runtime.invokeMethodAsyncSequentially(
@@ -162,6 +174,7 @@ public class HttpCallableUnitCallback implements Callback {
         }
         cleanupRequestMessage();
         sendFailureResponse(error);
+        releaseBulkhead();
         System.exit(1);
     }
 
@@ -180,6 +193,13 @@ public class HttpCallableUnitCallback implements Callback {
         HttpUtil.handleFailure(requestMessage, error);
     }
 
+    // The permit is held until the response is dispatched, so that a waiting request does not delay it
+    private void releaseBulkhead() {
+        if (bulkhead != null && bulkheadReleased.compareAndSet(false, true)) {
+            bulkhead.release();
+        }
+    }
+
     public void cleanupRequestMessage() {
         requestMessage.waitAndReleaseAllEntities();
     }
@@ -291,6 +291,29 @@ public final class HttpConstants {
     public static final BString RESOLVED_REQUESTED_URI_FIELD = StringUtils.fromString("resolvedRequestedURI");
     public static final BString RESPONSE_CACHE_CONTROL_FIELD = StringUtils.fromString("cacheControl");
     public static final String IN_RESPONSE_RECEIVED_TIME_FIELD = "receivedTime";
+    public static final BString RESPONSE_RECEIVED_TIME_FIELD = StringUtils.fromString("receivedTime");
+    public static final BString RESPONSE_REQUEST_TIME_FIELD = StringUtils.fromString("requestTime");
+
+    //CacheConfig record field names
+    public static final BString CACHE_CONFIG_CAPACITY = StringUtils.fromString("capacity");
+    public static final BString CACHE_CONFIG_EVICTION_FACTOR = StringUtils.fromString("evictionFactor");
+    public static final BString CACHE_CONFIG_MAX_SIZE = StringUtils.fromString("maxSize");
+    public static final String HTTP_RESPONSE_CACHE = "http_response_cache";
+    public static final String HTTP_IN_FLIGHT_REQUESTS = "http_in_flight_requests";
+    public static final BString RETRY_BUDGET_RATIO = StringUtils.fromString("ratio");
+    public static final BString RETRY_BUDGET_MIN_RETRIES_PER_SECOND = StringUtils.fromString("minRetriesPerSecond");
+    public static final String HTTP_RETRY_BUDGET = "http_retry_budget";
+    public static final String HTTP_LOAD_BALANCER = "http_load_balancer";
+    public static final String HTTP_LOAD_BALANCER_CLIENTS = "http_load_balancer_clients";
+    public static final BString OUTLIER_DETECTION_CONSECUTIVE_FAILURES = StringUtils.fromString("consecutiveFailures");
+    public static final BString OUTLIER_DETECTION_FAILURE_RATE_THRESHOLD = StringUtils.fromString(
+            "failureRateThreshold");
+    public static final BString OUTLIER_DETECTION_MINIMUM_REQUESTS = StringUtils.fromString("minimumRequests");
+    public static final BString OUTLIER_DETECTION_WINDOW = StringUtils.fromString("window");
+    public static final BString OUTLIER_DETECTION_BASE_EJECTION_TIME = StringUtils.fromString("baseEjectionTime");
+    public static final BString OUTLIER_DETECTION_MAX_EJECTION_TIME = StringUtils.fromString("maxEjectionTime");
+    public static final BString OUTLIER_DETECTION_MAX_EJECTION_RATIO = StringUtils.fromString("maxEjectionRatio");
+    public static final String HTTP_OUTLIER_DETECTOR = "http_outlier_detector";
 
     //StatusCodeResponse struct field names
     public static final String STATUS_CODE_RESPONSE_BODY_FIELD = "body";
@@ -446,6 +469,29 @@ public final class HttpConstants {
             "minIdleTimeInStaleState");
     public static final BString ENDPOINT_CONFIG_TIME_BETWEEN_STALE_CHECK_RUNS = StringUtils.fromString(
             "timeBetweenStaleEviction");
+    public static final BString ENDPOINT_CONFIG_COMPRESSION_SETTINGS = StringUtils.fromString("compressionSettings");
+    public static final BString COMPRESSION_ALGORITHMS = StringUtils.fromString("algorithms");
+    public static final BString COMPRESSION_LEVEL = StringUtils.fromString("level");
+    public static final BString COMPRESSION_MIN_CONTENT_LENGTH = StringUtils.fromString("minContentLength");
+    public static final BString CLIENT_EP_HEDGING = StringUtils.fromString("hedging");
+    public static final BString HEDGING_DELAY = StringUtils.fromString("delay");
+    public static final BString HEDGING_LATENCY_PERCENTILE = StringUtils.fromString("latencyPercentile");
+    public static final BString HEDGING_BUDGET_RATIO = StringUtils.fromString("budgetRatio");
+    public static final BString HEDGING_METHODS = StringUtils.fromString("methods");
+    public static final BString CLIENT_EP_DNS = StringUtils.fromString("dns");
+    public static final BString DNS_MIN_TTL = StringUtils.fromString("minTtl");
+    public static final BString DNS_MAX_TTL = StringUtils.fromString("maxTtl");
+    public static final BString DNS_NEGATIVE_TTL = StringUtils.fromString("negativeTtl");
+    public static final BString DNS_REFRESH_INTERVAL = StringUtils.fromString("refreshInterval");
+    public static final BString DNS_QUERY_TIMEOUT = StringUtils.fromString("queryTimeout");
+    public static final BString DNS_NAME_SERVERS = StringUtils.fromString("nameServers");
+    public static final BString HTTP2_MAX_CONCURRENT_STREAMS = StringUtils.fromString("maxConcurrentStreams");
+    public static final BString HTTP2_MAX_FRAME_SIZE = StringUtils.fromString("maxFrameSize");
+    public static final BString HTTP2_HEADER_TABLE_SIZE = StringUtils.fromString("headerTableSize");
+    public static final BString HTTP2_MAX_HEADER_LIST_SIZE = StringUtils.fromString("maxHeaderListSize");
+    public static final BString HTTP2_CONNECTION_WINDOW_SIZE = StringUtils.fromString("connectionWindowSize");
+    public static final BString HTTP2_WINDOW_AUTO_TUNING = StringUtils.fromString("windowAutoTuning");
+    public static final BString HTTP2_MAX_WINDOW_SIZE = StringUtils.fromString("maxWindowSize");
 
     public static final BString MAX_URI_LENGTH = StringUtils.fromString("maxUriLength");
     public static final BString MAX_STATUS_LINE_LENGTH = StringUtils.fromString("maxStatusLineLength");
@@ -499,6 +545,8 @@ public final class HttpConstants {
     //Client Endpoint (CallerActions)
     public static final String CLIENT_ENDPOINT_SERVICE_URI = "url";
     public static final String CLIENT_ENDPOINT_CONFIG = "config";
+    public static final String CLIENT_COMPRESSION_STATE = "compressionState";
+    public static final String CLIENT_ACCEPT_ENCODING = "acceptEncoding";
     public static final int CLIENT_ENDPOINT_CONFIG_INDEX = 0;
     public static final int CLIENT_ENDPOINT_URL_INDEX = 0;
     public static final int CLIENT_GLOBAL_POOL_INDEX = 1;
@@ -515,6 +563,17 @@ public final class HttpConstants {
     public static final BString HTTP2_PRIOR_KNOWLEDGE = StringUtils.fromString("http2PriorKnowledge");
     public static final BString HTTP1_SETTINGS = StringUtils.fromString("http1Settings");
     public static final BString HTTP2_SETTINGS = StringUtils.fromString("http2Settings");
+    public static final BString ENDPOINT_CONFIG_METRICS_PATH = StringUtils.fromString("metricsPath");
+    public static final BString ENDPOINT_CONFIG_CONCURRENCY_LIMIT = StringUtils.fromString("concurrencyLimit");
+    public static final BString CONCURRENCY_INITIAL_LIMIT = StringUtils.fromString("initialLimit");
+    public static final BString CONCURRENCY_MIN_LIMIT = StringUtils.fromString("minLimit");
+    public static final BString CONCURRENCY_MAX_LIMIT = StringUtils.fromString("maxLimit");
+    public static final BString CONCURRENCY_LATENCY_TOLERANCE = StringUtils.fromString("latencyTolerance");
+    public static final BString CONCURRENCY_RETRY_AFTER = StringUtils.fromString("retryAfter");
+    public static final BString ENDPOINT_CONFIG_REQUEST_SPILL = StringUtils.fromString("requestSpill");
+    public static final BString REQUEST_SPILL_THRESHOLD = StringUtils.fromString("threshold");
+    public static final BString REQUEST_SPILL_MEMORY_BUDGET = StringUtils.fromString("memoryBudget");
+    public static final BString REQUEST_SPILL_DIRECTORY = StringUtils.fromString("directory");
     public static final BString REQUEST_LIMITS = StringUtils.fromString("requestLimits");
     public static final BString RESPONSE_LIMITS = StringUtils.fromString("responseLimits");
     public static final BString CLIENT_EP_HTTP2_INITIAL_WINDOW_SIZE = StringUtils
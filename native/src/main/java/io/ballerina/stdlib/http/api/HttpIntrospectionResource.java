@@ -34,6 +34,7 @@ public class HttpIntrospectionResource extends HttpOASResource {
     public HttpIntrospectionResource(HttpService httpService, byte[] payload) {
         super(httpService, REL_PARAM, RESOURCE_NAME);
         this.payload = payload;
+        initRepresentations(this.payload);
     }
 
     @Override
@@ -18,10 +18,25 @@
 
 package io.ballerina.stdlib.http.api;
 
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.http.transport.contractimpl.common.CompressionUtil;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
 
 import static io.ballerina.stdlib.http.api.HttpConstants.SINGLE_SLASH;
+import static io.ballerina.stdlib.http.transport.contract.Constants.ENCODING_BROTLI;
+import static io.ballerina.stdlib.http.transport.contract.Constants.ENCODING_GZIP;
 
 /**
  * {@code HttpOASResource} is the super class for the service introspection resources.
@@ -30,8 +45,15 @@ import static io.ballerina.stdlib.http.api.HttpConstants.SINGLE_SLASH;
  */
 public abstract class HttpOASResource extends HttpResource {
     protected static final String RESOURCE_METHOD = "$get$";
+    private static final List<String> PRE_COMPRESSED_ENCODINGS = List.of(ENCODING_BROTLI, ENCODING_GZIP);
+
+    private final BMap<BString, Object> compressionConfig;
+    private Representation identityRepresentation;
+    private final Map<String, Representation> encodedRepresentations = new HashMap<>();
+    private final List<String> encodings = new ArrayList<>();
 
     protected HttpOASResource(HttpService httpService, String rel, String resourcePath) {
+        this.compressionConfig = httpService.getCompressionConfig();
         String path = (httpService.getBasePath() + SINGLE_SLASH + resourcePath).replaceAll("/+", SINGLE_SLASH);
         httpService.addOasResourceLink("<" + path + ">;" + rel);
     }
@@ -61,9 +83,125 @@ public abstract class HttpOASResource extends HttpResource {
         return Collections.emptyList();
     }
 
+    /**
+     * Precomputes the identity and compressed representations of the payload along with their strong entity tags,
+     * so that each request is served from a shared read-only buffer without copying or compressing the payload again.
+     * The compressed representations are skipped when the service compression configuration does not allow them.
+     *
+     * @param payload the resource payload
+     */
+    protected void initRepresentations(byte[] payload) {
+        String digest = getDigest(payload);
+        identityRepresentation = new Representation(payload, null, "\"" + digest + "\"");
+        if (!HttpUtil.isCompressionAllowed(compressionConfig, getContentType())) {
+            return;
+        }
+        for (String encoding : PRE_COMPRESSED_ENCODINGS) {
+            byte[] encodedPayload = CompressionUtil.encode(payload, encoding);
+            if (encodedPayload == null || encodedPayload.length >= payload.length) {
+                continue;
+            }
+            Representation representation = new Representation(encodedPayload, encoding,
+                                                                "\"" + digest + "-" + encoding + "\"");
+            encodedRepresentations.put(encoding, representation);
+            encodings.add(encoding);
+        }
+    }
+
+    /**
+     * Selects the representation of the payload which suits the request's `accept-encoding` header.
+     *
+     * @param acceptEncoding `accept-encoding` header value
+     * @return the selected representation
+     */
+    public Representation getRepresentation(String acceptEncoding) {
+        String encoding = CompressionUtil.determineEncoding(acceptEncoding, encodings);
+        return encoding == null ? identityRepresentation : encodedRepresentations.get(encoding);
+    }
+
+    /**
+     * Checks whether the selected representation depends on the request's `accept-encoding` header.
+     *
+     * @return true if a compressed representation is available
+     */
+    public boolean isEncodingNegotiated() {
+        return !encodings.isEmpty();
+    }
+
+    private static String getDigest(byte[] payload) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(payload));
+        } catch (NoSuchAlgorithmException e) {
+            throw new BallerinaConnectorException("error while computing the entity tag: " + e.getMessage(), e);
+        }
+    }
+
     protected abstract String getResourceName();
 
     public abstract byte[] getPayload();
 
     public abstract String getContentType();
+
+    /**
+     * A precomputed representation of the resource payload.
+     */
+    public static class Representation {
+
+        private final ByteBuf content;
+        private final String contentEncoding;
+        private final String entityTag;
+
+        Representation(byte[] payload, String contentEncoding, String entityTag) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(payload.length);
+            buffer.put(payload).flip();
+            this.content = Unpooled.unreleasableBuffer(Unpooled.wrappedBuffer(buffer).asReadOnly());
+            this.contentEncoding = contentEncoding;
+            this.entityTag = entityTag;
+        }
+
+        /**
+         * Returns a view of the shared payload buffer with its own reader index.
+         */
+        public ByteBuf getContent() {
+            return content.duplicate();
+        }
+
+        public int getContentLength() {
+            return content.readableBytes();
+        }
+
+        public String getContentEncoding() {
+            return contentEncoding;
+        }
+
+        public String getEntityTag() {
+            return entityTag;
+        }
+
+        /**
+         * Checks the request's `if-none-match` header against the entity tag of this representation using the weak
+         * comparison function. The tags of the other representations do not match, as they identify different bytes.
+         *
+         * @param ifNoneMatch `if-none-match` header value
+         * @return true if the client already holds this representation
+         */
+        public boolean isNotModified(String ifNoneMatch) {
+            if (ifNoneMatch == null) {
+                return false;
+            }
+            for (String value : ifNoneMatch.split(",")) {
+                String tag = value.trim();
+                if ("*".equals(tag)) {
+                    return true;
+                }
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (entityTag.equals(tag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
 }
@@ -37,6 +37,8 @@ import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.http.api.nativeimpl.ModuleUtils;
 import io.ballerina.stdlib.http.api.service.signature.ParamHandler;
+import io.ballerina.stdlib.http.transport.contractimpl.common.metrics.HttpMetrics;
+import io.ballerina.stdlib.http.transport.contractimpl.common.metrics.HttpMetricsRegistry;
 import io.ballerina.stdlib.http.uri.DispatcherUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -50,6 +52,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -62,6 +65,7 @@ import static io.ballerina.stdlib.http.api.HttpConstants.LINK;
 import static io.ballerina.stdlib.http.api.HttpConstants.SINGLE_SLASH;
 import static io.ballerina.stdlib.http.api.HttpConstants.STATUS_CODE_RESPONSE_BODY_FIELD;
 import static io.ballerina.stdlib.http.api.HttpConstants.TEXT_PLAIN;
+import static io.ballerina.stdlib.http.api.HttpErrorType.GENERIC_LISTENER_ERROR;
 import static io.ballerina.stdlib.http.api.HttpUtil.checkConfigAnnotationAvailability;
 import static io.ballerina.stdlib.http.api.HttpUtil.getParameterTypes;
 import static io.ballerina.stdlib.http.api.HttpUtil.isHttpStatusCodeResponseTypeWithBody;
@@ -83,6 +87,11 @@ public class HttpResource implements Resource {
     private static final BString PRODUCES_FIELD = StringUtils.fromString("produces");
     private static final BString CORS_FIELD = StringUtils.fromString("cors");
     private static final BString TRANSACTION_INFECTABLE_FIELD = StringUtils.fromString("transactionInfectable");
+    private static final BString BULKHEAD_FIELD = StringUtils.fromString("bulkhead");
+    private static final BString BULKHEAD_GROUP = StringUtils.fromString("group");
+    private static final BString BULKHEAD_MAX_CONCURRENT = StringUtils.fromString("maxConcurrent");
+    private static final BString BULKHEAD_MAX_QUEUE_SIZE = StringUtils.fromString("maxQueueSize");
+    private static final BString BULKHEAD_REJECTION_STATUS_CODE = StringUtils.fromString("rejectionStatusCode");
     private static final BString HTTP_RESOURCE_CONFIG =
             StringUtils.fromString(ModuleUtils.getHttpPackageIdentifier() + ":" + ANN_NAME_RESOURCE_CONFIG);
     private static final String RETURN_ANNOT_PREFIX = "$returns$";
@@ -111,6 +120,8 @@ public class HttpResource implements Resource {
     private BMap cacheConfig;
     private boolean treatNilableAsOptional;
     private boolean constraintValidation;
+    private final Map<String, HttpMetrics> metrics = new ConcurrentHashMap<>();
+    private ResourceBulkhead bulkhead;
 
     protected HttpResource(MethodType resource, HttpService parentService) {
         this.balResource = resource;
@@ -307,6 +318,9 @@ public class HttpResource implements Resource {
             httpResource.setCorsHeaders(CorsHeaders.buildCorsHeaders(resourceConfigAnnotation.getMapValue(CORS_FIELD)));
             httpResource
                     .setTransactionInfectable(resourceConfigAnnotation.getBooleanValue(TRANSACTION_INFECTABLE_FIELD));
+            if (Objects.nonNull(resourceConfigAnnotation.getMapValue(BULKHEAD_FIELD))) {
+                httpResource.setBulkhead(resourceConfigAnnotation.getMapValue(BULKHEAD_FIELD), httpService);
+            }
         }
         processResourceCors(httpResource, httpService);
         httpResource.setConstraintValidation(httpService.getConstraintValidation());
@@ -323,6 +337,39 @@ public class HttpResource implements Resource {
         return httpResource;
     }
 
+    private void setBulkhead(BMap bulkheadConfig, HttpService httpService) {
+        long maxConcurrent = bulkheadConfig.getIntValue(BULKHEAD_MAX_CONCURRENT);
+        long maxQueueSize = bulkheadConfig.getIntValue(BULKHEAD_MAX_QUEUE_SIZE);
+        long rejectionStatusCode = bulkheadConfig.getIntValue(BULKHEAD_REJECTION_STATUS_CODE);
+        if (maxConcurrent < 1 || maxConcurrent > Integer.MAX_VALUE) {
+            throw HttpUtil.createHttpError("bulkhead configuration failed: maxConcurrent must be a positive integer",
+                                           GENERIC_LISTENER_ERROR);
+        }
+        if (maxQueueSize < 0 || maxQueueSize > Integer.MAX_VALUE) {
+            throw HttpUtil.createHttpError("bulkhead configuration failed: maxQueueSize must not be negative",
+                                           GENERIC_LISTENER_ERROR);
+        }
+        if (rejectionStatusCode < 400 || rejectionStatusCode > 599) {
+            throw HttpUtil.createHttpError("bulkhead configuration failed: rejectionStatusCode must be a client or " +
+                                                   "server error status code", GENERIC_LISTENER_ERROR);
+        }
+        // Resources of a group share a single bulkhead of the service, the others get a bulkhead of their own
+        String name = bulkheadConfig.containsKey(BULKHEAD_GROUP)
+                ? httpService.getBasePath() + " " + bulkheadConfig.getStringValue(BULKHEAD_GROUP).getValue()
+                : getMethodsAndPath();
+        this.bulkhead = httpService.getBulkhead(name, (int) maxConcurrent, (int) maxQueueSize,
+                                                (int) rejectionStatusCode);
+    }
+
+    /**
+     * Gets the bulkhead which caps the concurrent executions of this resource.
+     *
+     * @return the bulkhead or null if the resource is not guarded by one
+     */
+    public ResourceBulkhead getBulkhead() {
+        return bulkhead;
+    }
+
     private void setConstraintValidation(boolean constraintValidation) {
         this.constraintValidation = constraintValidation;
     }
@@ -484,6 +531,25 @@ public class HttpResource implements Resource {
         return (parentService.getBasePath() + getPath()).replaceAll("/+", SINGLE_SLASH);
     }
 
+    /**
+     * Gets the transport metrics of this resource for the given listener, registering them on first use. A service
+     * attached to several listeners keeps separate metrics for each of them.
+     *
+     * @param listenerId the interface id of the listener which the resource is served from
+     * @return the resource metrics or null if the listener is not known
+     */
+    public HttpMetrics getMetrics(String listenerId) {
+        if (listenerId == null) {
+            return null;
+        }
+        return metrics.computeIfAbsent(listenerId, id -> HttpMetricsRegistry.getInstance()
+                .getResourceMetrics(id, getMethodsAndPath()));
+    }
+
+    private String getMethodsAndPath() {
+        return (methods == null ? "*" : String.join(",", methods)) + " " + getAbsoluteResourcePath();
+    }
+
     public String getResourcePathSignature() {
         return this.getName().replaceFirst("\\$[^$]*", "");
     }
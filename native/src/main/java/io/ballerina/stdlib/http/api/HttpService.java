@@ -49,7 +49,9 @@ import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -98,6 +100,7 @@ public class HttpService implements Service {
     private BArray balInterceptorServicesArray;
     private byte[] introspectionPayload = new byte[0];
     private Boolean constraintValidation = true;
+    private final Map<String, ResourceBulkhead> bulkheads = new HashMap<>();
 
     protected HttpService(BObject service, String basePath) {
         this.balService = service;
@@ -590,4 +593,27 @@ public class HttpService implements Service {
     protected void setConstraintValidation(boolean constraintValidation) {
         this.constraintValidation = constraintValidation;
     }
+
+    /**
+     * Gets the bulkhead of the given name, creating it on first use. Resources which share a bulkhead must configure
+     * the same limits.
+     *
+     * @param name                the name of the bulkhead
+     * @param maxConcurrent       the maximum number of concurrent executions
+     * @param maxQueueSize        the maximum number of requests waiting for an execution permit
+     * @param rejectionStatusCode the status code of the response sent when the bulkhead is full
+     * @return the bulkhead
+     */
+    ResourceBulkhead getBulkhead(String name, int maxConcurrent, int maxQueueSize, int rejectionStatusCode) {
+        ResourceBulkhead bulkhead = bulkheads.get(name);
+        if (bulkhead == null) {
+            bulkhead = new ResourceBulkhead(name, maxConcurrent, maxQueueSize, rejectionStatusCode);
+            bulkheads.put(name, bulkhead);
+        } else if (bulkhead.getMaxConcurrent() != maxConcurrent || bulkhead.getMaxQueueSize() != maxQueueSize
+                || bulkhead.getRejectionStatusCode() != rejectionStatusCode) {
+            throw HttpUtil.createHttpError("bulkhead configuration failed: resources of the bulkhead '" + name +
+                                                   "' have conflicting configurations", GENERIC_LISTENER_ERROR);
+        }
+        return bulkhead;
+    }
 }
@@ -62,6 +62,7 @@ public class HttpSwaggerUiResource extends HttpOASResource {
         String oasSpec = new String(payload.clone(), CharsetUtil.UTF_8);
         String content = STATIC_HTML_PAGE.replace(OAS_PLACEHOLDER, oasSpec);
         this.payload = content.getBytes(CharsetUtil.UTF_8);
+        initRepresentations(this.payload);
     }
 
     @Override
@@ -59,12 +59,18 @@ import io.ballerina.stdlib.http.transport.contract.Constants;
 import io.ballerina.stdlib.http.transport.contract.HttpResponseFuture;
 import io.ballerina.stdlib.http.transport.contract.HttpWsConnectorFactory;
 import io.ballerina.stdlib.http.transport.contract.config.ChunkConfig;
+import io.ballerina.stdlib.http.transport.contract.config.CompressionConfig;
+import io.ballerina.stdlib.http.transport.contract.config.ConcurrencyLimitConfig;
+import io.ballerina.stdlib.http.transport.contract.config.DnsResolverConfig;
 import io.ballerina.stdlib.http.transport.contract.config.ForwardedExtensionConfig;
+import io.ballerina.stdlib.http.transport.contract.config.HedgingConfig;
+import io.ballerina.stdlib.http.transport.contract.config.Http2SettingsConfig;
 import io.ballerina.stdlib.http.transport.contract.config.InboundMsgSizeValidationConfig;
 import io.ballerina.stdlib.http.transport.contract.config.KeepAliveConfig;
 import io.ballerina.stdlib.http.transport.contract.config.ListenerConfiguration;
 import io.ballerina.stdlib.http.transport.contract.config.Parameter;
 import io.ballerina.stdlib.http.transport.contract.config.ProxyServerConfiguration;
+import io.ballerina.stdlib.http.transport.contract.config.RequestSpillConfig;
 import io.ballerina.stdlib.http.transport.contract.config.SenderConfiguration;
 import io.ballerina.stdlib.http.transport.contract.config.SslConfiguration;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ClientConnectorException;
@@ -99,19 +105,26 @@ import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http2.Http2CodecUtil;
 import io.netty.util.CharsetUtil;
+import io.netty.util.NetUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.net.URLEncoder;
 import java.net.UnknownHostException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -209,6 +222,7 @@ public class HttpUtil {
     private static final String JAVA_CONFIG_TLS_NAMED_GROUPS = "jdk.tls.namedGroups";
     private static final String[] DEFAULT_NAMED_GROUPS = { "X25519Kyber768Draft00", "x25519", "secp256r1",
             "secp384r1", "secp521r1" };
+    private static final int DNS_PORT = 53;
 
     /**
      * Set new entity to in/out request/response struct.
@@ -1040,6 +1054,28 @@ public class HttpUtil {
         }
     }
 
+    /**
+     * Checks whether the service compression configuration allows a payload of the given content type to be sent
+     * with a content coding.
+     *
+     * @param compressionConfig the service compression configuration
+     * @param contentType       the content type of the payload
+     * @return false if compression is disabled or the content type is not listed for compression
+     */
+    public static boolean isCompressionAllowed(BMap<BString, Object> compressionConfig, String contentType) {
+        if (!checkConfigAnnotationAvailability(compressionConfig)) {
+            return true;
+        }
+        CompressionConfigState compressionState = getCompressionState(
+                compressionConfig.getStringValue(HttpConstants.ANN_CONFIG_ATTR_COMPRESSION_ENABLE).getValue());
+        if (compressionState == CompressionConfigState.NEVER) {
+            return false;
+        }
+        List<String> contentTypes = getAsStringList(
+                compressionConfig.getArrayValue(ANN_CONFIG_ATTR_COMPRESSION_CONTENT_TYPES).getStringArray());
+        return contentTypes.isEmpty() || isContentTypeMatched(contentTypes, contentType);
+    }
+
     public static CompressionConfigState getCompressionState(String compressionState) {
         switch (compressionState) {
             case HttpConstants.AUTO:
@@ -1058,6 +1094,234 @@ public class HttpUtil {
                 contentType.toLowerCase(Locale.getDefault())::contains);
     }
 
+    /**
+     * Creates the transport compression configuration from the listener or client compression settings record.
+     *
+     * @param compressionSettings the compression settings record
+     * @return the compression configuration
+     */
+    public static CompressionConfig getCompressionConfig(BMap<BString, Object> compressionSettings) {
+        CompressionConfig compressionConfig = new CompressionConfig();
+        compressionConfig.setAlgorithms(getAsStringList(
+                compressionSettings.getArrayValue(HttpConstants.COMPRESSION_ALGORITHMS).getStringArray()));
+        if (compressionSettings.containsKey(HttpConstants.COMPRESSION_LEVEL)) {
+            long level = compressionSettings.getIntValue(HttpConstants.COMPRESSION_LEVEL);
+            if (level < 0 || level > 9) {
+                throw new BallerinaConnectorException("Invalid configuration found for compression level : " + level);
+            }
+            compressionConfig.setLevel((int) level);
+        }
+        if (compressionSettings.containsKey(HttpConstants.COMPRESSION_MIN_CONTENT_LENGTH)) {
+            long minContentLength = compressionSettings.getIntValue(HttpConstants.COMPRESSION_MIN_CONTENT_LENGTH);
+            if (minContentLength < 0) {
+                throw new BallerinaConnectorException(
+                        "Invalid configuration found for minContentLength : " + minContentLength);
+            }
+            compressionConfig.setMinContentLength(Math.toIntExact(minContentLength));
+        }
+        if (compressionSettings.containsKey(ANN_CONFIG_ATTR_COMPRESSION_CONTENT_TYPES)) {
+            compressionConfig.setContentTypes(getAsStringList(
+                    compressionSettings.getArrayValue(ANN_CONFIG_ATTR_COMPRESSION_CONTENT_TYPES).getStringArray()));
+        }
+        return compressionConfig;
+    }
+
+    /**
+     * Creates the transport hedging configuration from the client hedging record.
+     *
+     * @param hedging the hedging record
+     * @return the hedging configuration
+     */
+    public static HedgingConfig getHedgingConfig(BMap<BString, Object> hedging) {
+        HedgingConfig hedgingConfig = new HedgingConfig();
+        double delay = ((BDecimal) hedging.get(HttpConstants.HEDGING_DELAY)).floatValue();
+        if (delay <= 0) {
+            throw new BallerinaConnectorException("Invalid configuration found for hedging delay : " + delay);
+        }
+        hedgingConfig.setDelay((long) (delay * 1000));
+        double latencyPercentile = hedging.getFloatValue(HttpConstants.HEDGING_LATENCY_PERCENTILE);
+        if (latencyPercentile < 0 || latencyPercentile >= 100) {
+            throw new BallerinaConnectorException(
+                    "Invalid configuration found for hedging latencyPercentile : " + latencyPercentile);
+        }
+        hedgingConfig.setLatencyPercentile(latencyPercentile);
+        double budgetRatio = hedging.getFloatValue(HttpConstants.HEDGING_BUDGET_RATIO);
+        if (budgetRatio < 0 || budgetRatio > 1) {
+            throw new BallerinaConnectorException(
+                    "Invalid configuration found for hedging budgetRatio : " + budgetRatio);
+        }
+        hedgingConfig.setBudgetRatio(budgetRatio);
+        Set<String> methods = new HashSet<>();
+        for (String method : hedging.getArrayValue(HttpConstants.HEDGING_METHODS).getStringArray()) {
+            methods.add(method.trim().toUpperCase(Locale.ROOT));
+        }
+        hedgingConfig.setMethods(methods);
+        return hedgingConfig;
+    }
+
+    /**
+     * Creates the transport DNS resolver configuration from the client DNS configuration record.
+     *
+     * @param dns the DNS configuration record
+     * @return the DNS resolver configuration
+     */
+    public static DnsResolverConfig getDnsResolverConfig(BMap<BString, Object> dns) {
+        DnsResolverConfig dnsResolverConfig = new DnsResolverConfig();
+        double minTtl = ((BDecimal) dns.get(HttpConstants.DNS_MIN_TTL)).floatValue();
+        double maxTtl = ((BDecimal) dns.get(HttpConstants.DNS_MAX_TTL)).floatValue();
+        if (minTtl < 0 || maxTtl < minTtl) {
+            throw new BallerinaConnectorException(
+                    "Invalid configuration found for DNS minTtl and maxTtl : " + minTtl + ", " + maxTtl);
+        }
+        dnsResolverConfig.setMinTtl((int) minTtl);
+        dnsResolverConfig.setMaxTtl((int) maxTtl);
+        double negativeTtl = ((BDecimal) dns.get(HttpConstants.DNS_NEGATIVE_TTL)).floatValue();
+        if (negativeTtl < 0) {
+            throw new BallerinaConnectorException("Invalid configuration found for DNS negativeTtl : " + negativeTtl);
+        }
+        dnsResolverConfig.setNegativeTtl((int) negativeTtl);
+        double refreshInterval = ((BDecimal) dns.get(HttpConstants.DNS_REFRESH_INTERVAL)).floatValue();
+        if (refreshInterval < 0) {
+            throw new BallerinaConnectorException(
+                    "Invalid configuration found for DNS refreshInterval : " + refreshInterval);
+        }
+        dnsResolverConfig.setRefreshInterval((long) (refreshInterval * 1000));
+        double queryTimeout = ((BDecimal) dns.get(HttpConstants.DNS_QUERY_TIMEOUT)).floatValue();
+        if (queryTimeout <= 0) {
+            throw new BallerinaConnectorException("Invalid configuration found for DNS queryTimeout : " + queryTimeout);
+        }
+        dnsResolverConfig.setQueryTimeout((long) (queryTimeout * 1000));
+        List<InetSocketAddress> nameServers = new ArrayList<>();
+        for (String nameServer : dns.getArrayValue(HttpConstants.DNS_NAME_SERVERS).getStringArray()) {
+            nameServers.add(getNameServerAddress(nameServer));
+        }
+        dnsResolverConfig.setNameServers(nameServers);
+        return dnsResolverConfig;
+    }
+
+    // Parses a DNS server address given as an IP address with an optional port, e.g. `10.0.0.2:53` or `[::1]:53`
+    private static InetSocketAddress getNameServerAddress(String nameServer) {
+        String host = nameServer.trim();
+        String port = null;
+        int portSeparator = host.lastIndexOf(':');
+        if (host.startsWith("[")) {
+            int end = host.indexOf(']');
+            if (end > 0 && portSeparator > end) {
+                port = host.substring(portSeparator + 1);
+            }
+            host = end > 0 ? host.substring(1, end) : host;
+        } else if (portSeparator > 0 && host.indexOf(':') == portSeparator) {
+            port = host.substring(portSeparator + 1);
+            host = host.substring(0, portSeparator);
+        }
+        InetAddress address = NetUtil.createInetAddressFromIpAddressString(host);
+        try {
+            int portNumber = port == null ? DNS_PORT : Integer.parseInt(port);
+            if (address != null && portNumber > 0 && portNumber <= 65535) {
+                return new InetSocketAddress(address, portNumber);
+            }
+        } catch (NumberFormatException e) {
+            // The error is reported below
+        }
+        throw new BallerinaConnectorException("Invalid configuration found for DNS nameServers : " + nameServer);
+    }
+
+    /**
+     * Creates the transport HTTP/2 settings configuration from the listener or client HTTP/2 settings record.
+     *
+     * @param http2Settings the HTTP/2 settings record
+     * @return the HTTP/2 settings configuration
+     */
+    public static Http2SettingsConfig getHttp2SettingsConfig(BMap<BString, Object> http2Settings) {
+        Http2SettingsConfig http2SettingsConfig = new Http2SettingsConfig();
+        if (http2Settings.containsKey(HttpConstants.HTTP2_HEADER_TABLE_SIZE)) {
+            http2SettingsConfig.setHeaderTableSize(getHttp2SettingValue(
+                    http2Settings, HttpConstants.HTTP2_HEADER_TABLE_SIZE, 0, Http2CodecUtil.MAX_HEADER_TABLE_SIZE));
+        }
+        if (http2Settings.containsKey(HttpConstants.HTTP2_MAX_CONCURRENT_STREAMS)) {
+            http2SettingsConfig.setMaxConcurrentStreams(getHttp2SettingValue(
+                    http2Settings, HttpConstants.HTTP2_MAX_CONCURRENT_STREAMS, 0,
+                    Http2CodecUtil.MAX_CONCURRENT_STREAMS));
+        }
+        if (http2Settings.containsKey(HttpConstants.HTTP2_MAX_FRAME_SIZE)) {
+            http2SettingsConfig.setMaxFrameSize((int) getHttp2SettingValue(
+                    http2Settings, HttpConstants.HTTP2_MAX_FRAME_SIZE, Http2CodecUtil.MAX_FRAME_SIZE_LOWER_BOUND,
+                    Http2CodecUtil.MAX_FRAME_SIZE_UPPER_BOUND));
+        }
+        if (http2Settings.containsKey(HttpConstants.HTTP2_MAX_HEADER_LIST_SIZE)) {
+            http2SettingsConfig.setMaxHeaderListSize(getHttp2SettingValue(
+                    http2Settings, HttpConstants.HTTP2_MAX_HEADER_LIST_SIZE, 0, Http2CodecUtil.MAX_HEADER_LIST_SIZE));
+        }
+        if (http2Settings.containsKey(HttpConstants.HTTP2_CONNECTION_WINDOW_SIZE)) {
+            http2SettingsConfig.setConnectionWindowSize((int) getHttp2SettingValue(
+                    http2Settings, HttpConstants.HTTP2_CONNECTION_WINDOW_SIZE,
+                    Http2CodecUtil.DEFAULT_WINDOW_SIZE, Http2CodecUtil.MAX_INITIAL_WINDOW_SIZE));
+        }
+        if (http2Settings.containsKey(HttpConstants.HTTP2_MAX_WINDOW_SIZE)) {
+            http2SettingsConfig.setMaxWindowSize((int) getHttp2SettingValue(
+                    http2Settings, HttpConstants.HTTP2_MAX_WINDOW_SIZE,
+                    Http2CodecUtil.DEFAULT_WINDOW_SIZE, Http2CodecUtil.MAX_INITIAL_WINDOW_SIZE));
+        }
+        if (http2Settings.containsKey(HttpConstants.HTTP2_WINDOW_AUTO_TUNING)) {
+            http2SettingsConfig.setWindowAutoTuning(
+                    http2Settings.getBooleanValue(HttpConstants.HTTP2_WINDOW_AUTO_TUNING));
+        }
+        return http2SettingsConfig;
+    }
+
+    private static long getHttp2SettingValue(BMap<BString, Object> http2Settings, BString key, long min, long max) {
+        long value = http2Settings.getIntValue(key);
+        if (value < min || value > max) {
+            throw new BallerinaConnectorException("Invalid configuration found for " + key + " : " + value);
+        }
+        return value;
+    }
+
+    private static ConcurrencyLimitConfig getConcurrencyLimitConfig(BMap<BString, Object> concurrencyLimit) {
+        ConcurrencyLimitConfig concurrencyLimitConfig = new ConcurrencyLimitConfig();
+        int minLimit = Math.toIntExact(concurrencyLimit.getIntValue(HttpConstants.CONCURRENCY_MIN_LIMIT));
+        int maxLimit = Math.toIntExact(concurrencyLimit.getIntValue(HttpConstants.CONCURRENCY_MAX_LIMIT));
+        int initialLimit = Math.toIntExact(concurrencyLimit.getIntValue(HttpConstants.CONCURRENCY_INITIAL_LIMIT));
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new BallerinaConnectorException("Invalid concurrency limits found. The limits should satisfy " +
+                                                          "1 <= minLimit <= initialLimit <= maxLimit");
+        }
+        double latencyTolerance =
+                ((BDecimal) concurrencyLimit.get(HttpConstants.CONCURRENCY_LATENCY_TOLERANCE)).floatValue();
+        if (latencyTolerance < 1) {
+            throw new BallerinaConnectorException("Concurrency limit latency tolerance should be at least 1");
+        }
+        long retryAfter = concurrencyLimit.getIntValue(HttpConstants.CONCURRENCY_RETRY_AFTER);
+        if (retryAfter < 0) {
+            throw new BallerinaConnectorException("Concurrency limit retry after cannot be negative");
+        }
+        concurrencyLimitConfig.setMinLimit(minLimit);
+        concurrencyLimitConfig.setMaxLimit(maxLimit);
+        concurrencyLimitConfig.setInitialLimit(initialLimit);
+        concurrencyLimitConfig.setLatencyTolerance(latencyTolerance);
+        concurrencyLimitConfig.setRetryAfter(Math.toIntExact(retryAfter));
+        return concurrencyLimitConfig;
+    }
+
+    private static RequestSpillConfig getRequestSpillConfig(BMap<BString, Object> requestSpill) {
+        RequestSpillConfig requestSpillConfig = new RequestSpillConfig();
+        long threshold = requestSpill.getIntValue(HttpConstants.REQUEST_SPILL_THRESHOLD);
+        long memoryBudget = requestSpill.getIntValue(HttpConstants.REQUEST_SPILL_MEMORY_BUDGET);
+        if (threshold < 0 || memoryBudget < 0) {
+            throw new BallerinaConnectorException("Request spill threshold and memory budget cannot be negative");
+        }
+        requestSpillConfig.setThreshold(threshold);
+        requestSpillConfig.setMemoryBudget(memoryBudget);
+        BString directory = requestSpill.getStringValue(HttpConstants.REQUEST_SPILL_DIRECTORY);
+        if (directory != null) {
+            if (!Files.isDirectory(Paths.get(directory.getValue()))) {
+                throw new BallerinaConnectorException("Request spill directory does not exist: " + directory);
+            }
+            requestSpillConfig.setDirectory(directory.getValue());
+        }
+        return requestSpillConfig;
+    }
+
     private static List<String> getAsStringList(Object[] values) {
         List<String> valuesList = new ArrayList<>();
         if (values == null) {
@@ -1579,6 +1843,36 @@ public class HttpUtil {
         BString serverName = endpointConfig.getStringValue(HttpConstants.SERVER_NAME);
         listenerConfiguration.setServerHeader(serverName != null ? serverName.getValue() : getServerName());
 
+        BMap<BString, Object> compressionSettings =
+                endpointConfig.getMapValue(HttpConstants.ENDPOINT_CONFIG_COMPRESSION_SETTINGS);
+        if (compressionSettings != null) {
+            listenerConfiguration.setCompressionConfig(getCompressionConfig(compressionSettings));
+        }
+
+        BMap<BString, Object> http2Settings = endpointConfig.getMapValue(HttpConstants.HTTP2_SETTINGS);
+        if (http2Settings != null) {
+            listenerConfiguration.setHttp2SettingsConfig(getHttp2SettingsConfig(http2Settings));
+        }
+
+        BString metricsPath = endpointConfig.getStringValue(HttpConstants.ENDPOINT_CONFIG_METRICS_PATH);
+        if (metricsPath != null) {
+            if (!metricsPath.getValue().startsWith(SINGLE_SLASH)) {
+                throw new BallerinaConnectorException("Metrics path should start with '/'");
+            }
+            listenerConfiguration.setMetricsPath(metricsPath.getValue());
+        }
+
+        BMap<BString, Object> concurrencyLimit =
+                endpointConfig.getMapValue(HttpConstants.ENDPOINT_CONFIG_CONCURRENCY_LIMIT);
+        if (concurrencyLimit != null) {
+            listenerConfiguration.setConcurrencyLimitConfig(getConcurrencyLimitConfig(concurrencyLimit));
+        }
+
+        BMap<BString, Object> requestSpill = endpointConfig.getMapValue(HttpConstants.ENDPOINT_CONFIG_REQUEST_SPILL);
+        if (requestSpill != null) {
+            listenerConfiguration.setRequestSpillConfig(getRequestSpillConfig(requestSpill));
+        }
+
         BMap<BString, Object> serverSocketConfig = endpointConfig.getMapValue(HttpConstants.SOCKET_CONFIG);
         if (serverSocketConfig != null) {
             setServerSocketConfig(serverSocketConfig, listenerConfiguration);
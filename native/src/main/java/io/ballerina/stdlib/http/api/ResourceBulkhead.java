@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api;
+
+import io.ballerina.stdlib.http.transport.contractimpl.common.metrics.BulkheadMetrics;
+import io.ballerina.stdlib.http.transport.contractimpl.common.metrics.HttpMetricsRegistry;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Caps the concurrent executions of a resource, or of a group of resources, and the number of requests which may
+ * wait for them. Waiting requests do not block a thread; they are started on the event loop of their own connection
+ * once an execution hands over its permit, and they leave the queue if that connection is closed in the meantime.
+ *
+ * @since 2.12.1
+ */
+public class ResourceBulkhead {
+
+    private static final Logger log = LoggerFactory.getLogger(ResourceBulkhead.class);
+
+    private final String name;
+    private final int maxConcurrent;
+    private final int maxQueueSize;
+    private final int rejectionStatusCode;
+    private final ArrayDeque<QueuedExecution> queue = new ArrayDeque<>();
+    private final BulkheadMetrics metrics;
+    private int active;
+
+    ResourceBulkhead(String name, int maxConcurrent, int maxQueueSize, int rejectionStatusCode) {
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueueSize = maxQueueSize;
+        this.rejectionStatusCode = rejectionStatusCode;
+        this.metrics = HttpMetricsRegistry.getInstance().getBulkheadMetrics(name, maxConcurrent, maxQueueSize);
+    }
+
+    /**
+     * Admits an execution. It is run on the calling thread if a permit is free and queued if the wait queue has
+     * room. A queued execution is later run on the event loop of the given channel context, and it must release
+     * its own permit once it completes, even if it fails.
+     *
+     * @param context   the channel handler context of the connection which received the request
+     * @param execution the resource execution
+     * @return false if the bulkhead is full and the execution is rejected
+     */
+    public boolean tryExecute(ChannelHandlerContext context, Runnable execution) {
+        QueuedExecution queued;
+        synchronized (this) {
+            if (active < maxConcurrent) {
+                active++;
+                queued = null;
+            } else if (queue.size() >= maxQueueSize) {
+                metrics.requestRejected();
+                return false;
+            } else {
+                queued = new QueuedExecution(context, execution, System.nanoTime());
+                queue.add(queued);
+                metrics.requestQueued();
+            }
+        }
+        if (queued == null) {
+            metrics.executionStarted();
+            execution.run();
+            return true;
+        }
+        // Notified right away if the connection is already closed
+        context.channel().closeFuture().addListener(queued);
+        return true;
+    }
+
+    /**
+     * Releases the permit of a completed execution, handing it over to the oldest waiting request if any. The
+     * waiting request is started on its own event loop, never on the releasing thread.
+     */
+    public void release() {
+        QueuedExecution next;
+        synchronized (this) {
+            next = queue.poll();
+            if (next == null) {
+                active--;
+            }
+        }
+        if (next == null) {
+            metrics.executionCompleted();
+            return;
+        }
+        metrics.requestDequeued(System.nanoTime() - next.queuedAt);
+        next.start();
+    }
+
+    private void abandon(QueuedExecution queued) {
+        boolean removed;
+        synchronized (this) {
+            removed = queue.remove(queued);
+        }
+        if (removed) {
+            metrics.requestAbandoned();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+
+    public int getRejectionStatusCode() {
+        return rejectionStatusCode;
+    }
+
+    public synchronized int getActiveExecutions() {
+        return active;
+    }
+
+    public synchronized int getQueuedRequests() {
+        return queue.size();
+    }
+
+    private class QueuedExecution implements ChannelFutureListener {
+
+        private final ChannelHandlerContext context;
+        private final Runnable execution;
+        private final long queuedAt;
+
+        QueuedExecution(ChannelHandlerContext context, Runnable execution, long queuedAt) {
+            this.context = context;
+            this.execution = execution;
+            this.queuedAt = queuedAt;
+        }
+
+        @Override
+        public void operationComplete(ChannelFuture future) {
+            abandon(this);
+        }
+
+        void start() {
+            context.channel().closeFuture().removeListener(this);
+            try {
+                context.executor().execute(() -> {
+                    // The connection may have been closed after the permit was handed over
+                    if (!context.channel().isActive()) {
+                        release();
+                        return;
+                    }
+                    execution.run();
+                });
+            } catch (RejectedExecutionException e) {
+                log.debug("Dropping a request waiting for bulkhead {} as its event loop is shut down", name);
+                release();
+            }
+        }
+    }
+}
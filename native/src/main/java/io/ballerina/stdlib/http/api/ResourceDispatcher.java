@@ -22,12 +22,13 @@ import io.ballerina.stdlib.http.api.nativeimpl.pipelining.PipeliningHandler;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 import io.ballerina.stdlib.http.uri.DispatcherUtil;
 import io.ballerina.stdlib.http.uri.URITemplateException;
-import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.DefaultLastHttpContent;
 import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
 
 import static io.ballerina.stdlib.http.api.HttpErrorType.INTERNAL_RESOURCE_DISPATCHING_SERVER_ERROR;
 import static io.ballerina.stdlib.http.api.HttpErrorType.INTERNAL_RESOURCE_NOT_FOUND_ERROR;
+import static io.ballerina.stdlib.http.transport.contract.Constants.HTTP_PRE_ENCODED_CONTENT;
 
 /**
  * Resource level dispatchers handler for HTTP protocol.
@@ -107,9 +108,28 @@ public class ResourceDispatcher {
     private static void handleOasResourceRequest(HttpCarbonMessage cMsg, HttpOASResource resource) {
         HttpCarbonMessage response = HttpUtil.createHttpCarbonMessage(false);
         response.waitAndReleaseAllEntities();
-        response.addHttpContent(new DefaultLastHttpContent(Unpooled.wrappedBuffer(resource.getPayload())));
-        response.setHeader(HttpHeaderNames.CONTENT_TYPE.toString(), resource.getContentType());
-        response.setHttpStatusCode(200);
+        HttpOASResource.Representation representation =
+                resource.getRepresentation(cMsg.getHeader(HttpHeaderNames.ACCEPT_ENCODING.toString()));
+        response.setHeader(HttpHeaderNames.ETAG.toString(), representation.getEntityTag());
+        if (resource.isEncodingNegotiated()) {
+            response.setHeader(HttpHeaderNames.VARY.toString(), HttpHeaderNames.ACCEPT_ENCODING.toString());
+        }
+        if (representation.isNotModified(cMsg.getHeader(HttpHeaderNames.IF_NONE_MATCH.toString()))) {
+            response.addHttpContent(new DefaultLastHttpContent());
+            response.setHttpStatusCode(HttpResponseStatus.NOT_MODIFIED.code());
+        } else {
+            response.addHttpContent(new DefaultLastHttpContent(representation.getContent()));
+            response.setHeader(HttpHeaderNames.CONTENT_TYPE.toString(), resource.getContentType());
+            response.setHeader(HttpHeaderNames.CONTENT_LENGTH.toString(),
+                               String.valueOf(representation.getContentLength()));
+            if (representation.getContentEncoding() != null) {
+                response.setHeader(HttpHeaderNames.CONTENT_ENCODING.toString(), representation.getContentEncoding());
+            }
+            // The entity tag identifies the precomputed bytes, hence the identity representation is not compressed
+            // by the listener either
+            response.setHeader(HTTP_PRE_ENCODED_CONTENT, Boolean.TRUE.toString());
+            response.setHttpStatusCode(HttpResponseStatus.OK.code());
+        }
         PipeliningHandler.sendPipelinedResponse(cMsg, response);
         cMsg.waitAndReleaseAllEntities();
     }
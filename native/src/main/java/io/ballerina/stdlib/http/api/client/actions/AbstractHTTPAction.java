@@ -46,7 +46,9 @@ import io.ballerina.stdlib.http.transport.contract.Constants;
 import io.ballerina.stdlib.http.transport.contract.HttpClientConnector;
 import io.ballerina.stdlib.http.transport.contract.HttpClientConnectorListener;
 import io.ballerina.stdlib.http.transport.contract.HttpResponseFuture;
+import io.ballerina.stdlib.http.transport.contract.config.CompressionConfig;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ClientConnectorException;
+import io.ballerina.stdlib.http.transport.contractimpl.common.CompressionUtil;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 import io.ballerina.stdlib.http.transport.message.HttpMessageDataStreamer;
 import io.ballerina.stdlib.http.transport.message.PooledDataStreamerFactory;
@@ -90,26 +92,44 @@ public abstract class AbstractHTTPAction {
         CACHE_BALLERINA_VERSION = System.getProperty(BALLERINA_VERSION);
     }
 
-    protected static HttpCarbonMessage createOutboundRequestMsg(String serviceUri, BMap config, String path,
+    protected static HttpCarbonMessage createOutboundRequestMsg(String serviceUri, BObject httpClient, String path,
                                                                 BObject request) {
         HttpCarbonMessage requestMsg = HttpUtil.getCarbonMsg(request, HttpUtil.createHttpCarbonMessage(true));
         HttpUtil.checkEntityAvailability(request);
         HttpUtil.enrichOutboundMessage(requestMsg, request);
         prepareOutboundRequest(serviceUri, path, requestMsg, isNoEntityBodyRequest(request), isHostHeaderSet(request));
-        handleAcceptEncodingHeader(requestMsg, getCompressionConfigFromEndpointConfig(config));
+        handleAcceptEncodingHeader(requestMsg, httpClient);
         return requestMsg;
     }
 
-    static String getCompressionConfigFromEndpointConfig(BMap clientEndpointConfig) {
-        return clientEndpointConfig.get(ANN_CONFIG_ATTR_COMPRESSION).toString();
+    /**
+     * Resolves the compression state and the `accept-encoding` value of the client once, so that the requests do not
+     * read the client configuration again.
+     *
+     * @param httpClient           the client object
+     * @param clientEndpointConfig the client configuration
+     * @param compressionConfig    the compression configuration of the client connector
+     */
+    public static void initAcceptEncoding(BObject httpClient, BMap<BString, Object> clientEndpointConfig,
+                                          CompressionConfig compressionConfig) {
+        httpClient.addNativeData(HttpConstants.CLIENT_COMPRESSION_STATE,
+                                 getCompressionState(clientEndpointConfig.get(ANN_CONFIG_ATTR_COMPRESSION).toString()));
+        String acceptEncoding = clientEndpointConfig.getMapValue(HttpConstants.ENDPOINT_CONFIG_COMPRESSION_SETTINGS)
+                == null ? ENCODING_DEFLATE + ", " + ENCODING_GZIP :
+                CompressionUtil.getAcceptEncodingValue(compressionConfig.getAlgorithms());
+        httpClient.addNativeData(HttpConstants.CLIENT_ACCEPT_ENCODING, acceptEncoding);
     }
 
-    static void handleAcceptEncodingHeader(HttpCarbonMessage outboundRequest, String compressionConfigValue) {
-        CompressionConfigState compressionState = getCompressionState(compressionConfigValue);
+    static void handleAcceptEncodingHeader(HttpCarbonMessage outboundRequest, BObject httpClient) {
+        CompressionConfigState compressionState =
+                (CompressionConfigState) httpClient.getNativeData(HttpConstants.CLIENT_COMPRESSION_STATE);
 
         if (compressionState == CompressionConfigState.ALWAYS && (outboundRequest.getHeader(
                 ACCEPT_ENCODING.toString()) == null)) {
-            outboundRequest.setHeader(ACCEPT_ENCODING.toString(), ENCODING_DEFLATE + ", " + ENCODING_GZIP);
+            String acceptEncoding = (String) httpClient.getNativeData(HttpConstants.CLIENT_ACCEPT_ENCODING);
+            if (!acceptEncoding.isEmpty()) {
+                outboundRequest.setHeader(ACCEPT_ENCODING.toString(), acceptEncoding);
+            }
         } else if (compressionState == CompressionConfigState.NEVER && (outboundRequest.getHeader(
                 ACCEPT_ENCODING.toString()) != null)) {
             outboundRequest.removeHeader(ACCEPT_ENCODING.toString());
@@ -299,6 +319,14 @@ public abstract class AbstractHTTPAction {
         BObject requestObj = dataContext.getRequestObj();
         String contentType = HttpUtil.getContentTypeFromTransportMessage(outboundRequestMsg);
         outboundRequestMsg.setIoException(null);
+        if (outboundRequestMsg.hasReplayableContent()) {
+            // The retained entity body is sent afresh on each attempt
+            outboundRequestMsg.replayHttpContent();
+            if (requestObj != null) {
+                requestObj.set(HttpConstants.REQUEST_REUSE_STATUS_FIELD, HttpConstants.DIRTY_REQUEST);
+            }
+            return;
+        }
         if (requestObj != null) {
             if (dirty(requestObj)) {
                 cleanOutboundReq(outboundRequestMsg, requestObj, contentType);
@@ -389,6 +417,8 @@ public abstract class AbstractHTTPAction {
             }
         }
 
+        // A response fetched later through a handle belongs to a single attempt, hence such a request is not hedged
+        outboundRequestMsg.setProperty(Constants.RESPONSE_HANDLE_REQUESTED, async);
         HttpResponseFuture future = clientConnector.send(outboundRequestMsg);
         if (async) {
             future.setResponseHandleListener(httpClientConnectorLister);
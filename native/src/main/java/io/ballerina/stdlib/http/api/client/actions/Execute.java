@@ -17,7 +17,6 @@
 package io.ballerina.stdlib.http.api.client.actions;
 
 import io.ballerina.runtime.api.Environment;
-import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.http.api.DataContext;
@@ -29,26 +28,23 @@ import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 
 import java.util.Locale;
 
-import static io.ballerina.stdlib.http.api.HttpConstants.CLIENT_ENDPOINT_CONFIG;
 import static io.ballerina.stdlib.http.api.HttpConstants.CLIENT_ENDPOINT_SERVICE_URI;
 
 /**
  * {@code Execute} action can be used to invoke execute a http call with any httpVerb.
  */
 public class Execute extends AbstractHTTPAction {
-    @SuppressWarnings("unchecked")
     public static Object execute(Environment env, BObject httpClient, BString verb, BString path, BObject requestObj) {
         String url = (String) httpClient.getNativeData(CLIENT_ENDPOINT_SERVICE_URI);
-        BMap<BString, Object> config = (BMap<BString, Object>) httpClient.getNativeData(CLIENT_ENDPOINT_CONFIG);
         HttpClientConnector clientConnector = (HttpClientConnector) httpClient.getNativeData(HttpConstants.CLIENT);
-        HttpCarbonMessage outboundRequestMsg = createOutboundRequestMsg(config, url, verb.getValue(), path.getValue(),
-                                                                        requestObj);
+        HttpCarbonMessage outboundRequestMsg = createOutboundRequestMsg(httpClient, url, verb.getValue(),
+                                                                        path.getValue(), requestObj);
         DataContext dataContext = new DataContext(env, clientConnector, requestObj, outboundRequestMsg);
         executeNonBlockingAction(dataContext, false);
         return null;
     }
 
-    protected static HttpCarbonMessage createOutboundRequestMsg(BMap<BString, Object> config, String serviceUri,
+    protected static HttpCarbonMessage createOutboundRequestMsg(BObject httpClient, String serviceUri,
                                                                 String httpVerb, String path, BObject requestObj) {
         HttpCarbonMessage outboundRequestMsg = HttpUtil
                 .getCarbonMsg(requestObj, HttpUtil.createHttpCarbonMessage(true));
@@ -67,7 +63,7 @@ public class Execute extends AbstractHTTPAction {
             throw HttpUtil.createHttpError("HTTP Verb cannot be empty", HttpErrorType.GENERIC_CLIENT_ERROR);
         }
         outboundRequestMsg.setHttpMethod(verb.trim().toUpperCase(Locale.getDefault()));
-        handleAcceptEncodingHeader(outboundRequestMsg, getCompressionConfigFromEndpointConfig(config));
+        handleAcceptEncodingHeader(outboundRequestMsg, httpClient);
         return outboundRequestMsg;
     }
 }
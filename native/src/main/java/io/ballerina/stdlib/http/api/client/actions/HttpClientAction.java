@@ -47,7 +47,6 @@ import java.util.Objects;
 
 import static io.ballerina.runtime.observability.ObservabilityConstants.KEY_OBSERVER_CONTEXT;
 import static io.ballerina.stdlib.http.api.HttpConstants.AND_SIGN;
-import static io.ballerina.stdlib.http.api.HttpConstants.CLIENT_ENDPOINT_CONFIG;
 import static io.ballerina.stdlib.http.api.HttpConstants.CLIENT_ENDPOINT_SERVICE_URI;
 import static io.ballerina.stdlib.http.api.HttpConstants.CURRENT_TRANSACTION_CONTEXT_PROPERTY;
 import static io.ballerina.stdlib.http.api.HttpConstants.EMPTY;
@@ -72,9 +71,8 @@ public class HttpClientAction extends AbstractHTTPAction {
     public static Object executeClientAction(Environment env, BObject httpClient, BString path,
                                              BObject requestObj, BString httpMethod) {
         String url = (String) httpClient.getNativeData(CLIENT_ENDPOINT_SERVICE_URI);
-        BMap<BString, Object> config = (BMap<BString, Object>) httpClient.getNativeData(CLIENT_ENDPOINT_CONFIG);
         HttpClientConnector clientConnector = (HttpClientConnector) httpClient.getNativeData(HttpConstants.CLIENT);
-        HttpCarbonMessage outboundRequestMsg = createOutboundRequestMsg(url, config, path.getValue().
+        HttpCarbonMessage outboundRequestMsg = createOutboundRequestMsg(url, httpClient, path.getValue().
                 replaceAll(HttpConstants.REGEX, HttpConstants.SINGLE_SLASH), requestObj);
         outboundRequestMsg.setHttpMethod(httpMethod.getValue());
         DataContext dataContext = new DataContext(env, clientConnector, requestObj, outboundRequestMsg);
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.api.client.caching;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BDecimal;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An immutable, parsed representation of a Cache-Control header value. Parsed values are interned by the raw header
+ * value, so the handful of distinct headers seen in practice are parsed only once and shared across messages.
+ *
+ * @since 2.12.1
+ */
+public final class CacheControl {
+
+    /**
+     * The value of a delta-seconds directive which is not present in the header. A directive which is present but
+     * does not carry a valid value is reported as 0 so that it will be treated as stale.
+     */
+    public static final long ABSENT = -1;
+
+    private static final int MAX_INTERNED_VALUES = 256;
+    private static final Map<String, CacheControl> INTERNED_VALUES = new ConcurrentHashMap<>();
+
+    private final boolean mustRevalidate;
+    private final boolean noCache;
+    private final boolean noStore;
+    private final boolean noTransform;
+    private final boolean isPrivate;
+    private final boolean isPublic;
+    private final boolean proxyRevalidate;
+    private final boolean onlyIfCached;
+    private final String[] noCacheFields;
+    private final String[] privateFields;
+    private final long maxAge;
+    private final long sMaxAge;
+    private final long maxStale;
+    private final long minFresh;
+    private final BDecimal maxAgeValue;
+    private final BDecimal sMaxAgeValue;
+    private final BDecimal maxStaleValue;
+    private final BDecimal minFreshValue;
+
+    private CacheControl(Map<CacheControlDirective, String> directives) {
+        mustRevalidate = directives.containsKey(CacheControlDirective.MUST_REVALIDATE);
+        noCache = directives.containsKey(CacheControlDirective.NO_CACHE);
+        noStore = directives.containsKey(CacheControlDirective.NO_STORE);
+        noTransform = directives.containsKey(CacheControlDirective.NO_TRANSFORM);
+        isPrivate = directives.containsKey(CacheControlDirective.PRIVATE);
+        isPublic = directives.containsKey(CacheControlDirective.PUBLIC);
+        proxyRevalidate = directives.containsKey(CacheControlDirective.PROXY_REVALIDATE);
+        onlyIfCached = directives.containsKey(CacheControlDirective.ONLY_IF_CACHED);
+        noCacheFields = getFields(directives.get(CacheControlDirective.NO_CACHE));
+        privateFields = getFields(directives.get(CacheControlDirective.PRIVATE));
+        maxAge = getDeltaSeconds(directives, CacheControlDirective.MAX_AGE);
+        sMaxAge = getDeltaSeconds(directives, CacheControlDirective.S_MAXAGE);
+        maxStale = getDeltaSeconds(directives, CacheControlDirective.MAX_STALE);
+        minFresh = getDeltaSeconds(directives, CacheControlDirective.MIN_FRESH);
+        maxAgeValue = toDecimal(maxAge);
+        sMaxAgeValue = toDecimal(sMaxAge);
+        maxStaleValue = toDecimal(maxStale);
+        minFreshValue = toDecimal(minFresh);
+    }
+
+    /**
+     * Parses a Cache-Control header value, reusing the interned result for a header value which was seen before.
+     *
+     * @param cacheControlHeader the Cache-Control header value
+     * @return the parsed value
+     */
+    public static CacheControl parse(String cacheControlHeader) {
+        CacheControl cacheControl = INTERNED_VALUES.get(cacheControlHeader);
+        if (cacheControl != null) {
+            return cacheControl;
+        }
+        cacheControl = new CacheControl(CacheControlParser.parse(cacheControlHeader));
+        // Once the bound is reached, unseen header values are parsed on every use instead of being interned
+        if (INTERNED_VALUES.size() < MAX_INTERNED_VALUES) {
+            INTERNED_VALUES.putIfAbsent(cacheControlHeader, cacheControl);
+        }
+        return cacheControl;
+    }
+
+    public boolean isMustRevalidate() {
+        return mustRevalidate;
+    }
+
+    public boolean isNoCache() {
+        return noCache;
+    }
+
+    public boolean isNoStore() {
+        return noStore;
+    }
+
+    public boolean isNoTransform() {
+        return noTransform;
+    }
+
+    public boolean isPrivate() {
+        return isPrivate;
+    }
+
+    public boolean isPublic() {
+        return isPublic;
+    }
+
+    public boolean isProxyRevalidate() {
+        return proxyRevalidate;
+    }
+
+    public boolean isOnlyIfCached() {
+        return onlyIfCached;
+    }
+
+    /**
+     * The field names of the no-cache directive, or null if there are none.
+     */
+    public String[] getNoCacheFields() {
+        return noCacheFields == null ? null : noCacheFields.clone();
+    }
+
+    /**
+     * The field names of the private directive, or null if there are none.
+     */
+    public String[] getPrivateFields() {
+        return privateFields == null ? null : privateFields.clone();
+    }
+
+    public long getMaxAge() {
+        return maxAge;
+    }
+
+    public long getSMaxAge() {
+        return sMaxAge;
+    }
+
+    public long getMaxStale() {
+        return maxStale;
+    }
+
+    public long getMinFresh() {
+        return minFresh;
+    }
+
+    BDecimal getMaxAgeValue() {
+        return maxAgeValue;
+    }
+
+    BDecimal getSMaxAgeValue() {
+        return sMaxAgeValue;
+    }
+
+    BDecimal getMaxStaleValue() {
+        return maxStaleValue;
+    }
+
+    BDecimal getMinFreshValue() {
+        return minFreshValue;
+    }
+
+    private static String[] getFields(String value) {
+        return value == null ? null : value.replace("\"", "").split(",");
+    }
+
+    private static long getDeltaSeconds(Map<CacheControlDirective, String> directives,
+                                        CacheControlDirective directive) {
+        if (!directives.containsKey(directive)) {
+            return ABSENT;
+        }
+        try {
+            return Long.parseLong(directives.get(directive));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static BDecimal toDecimal(long deltaSeconds) {
+        return ValueCreator.createDecimalValue(BigDecimal.valueOf(deltaSeconds));
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.api.client.caching;
+
+import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.util.IllegalReferenceCountException;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A serialized HTTP response held by the {@link HttpResponseCache}. The body is kept in an off-heap buffer which is
+ * shared by every replay of the response. The cache holds one reference to the buffer and each replay holds another,
+ * so that the memory is freed as soon as the response is evicted and the last replay is consumed.
+ *
+ * @since 2.12.1
+ */
+public class CachedResponse {
+
+    private static final String WEAK_VALIDATOR_TAG = "W/";
+    private static final String[] RETAINED_WARN_CODES = {"214", "299"};
+
+    private final int statusCode;
+    private final String reasonPhrase;
+    private final HttpHeaders headers;
+    private final ByteBuf body;
+    private final Object requestTime;
+    private final Object receivedTime;
+    private final List<String> varyHeaderNames;
+    private final String varyKey;
+    private long size;
+
+    /**
+     * Serializes a response to be stored in the cache.
+     *
+     * @param statusCode     the status code
+     * @param reasonPhrase   the reason phrase
+     * @param headers        the response headers
+     * @param payload        the response body
+     * @param requestTime    the time at which the request was sent
+     * @param receivedTime   the time at which the response was received
+     * @param requestHeaders the headers of the request which produced the response
+     */
+    public CachedResponse(int statusCode, String reasonPhrase, HttpHeaders headers, byte[] payload,
+                          Object requestTime, Object receivedTime, HttpHeaders requestHeaders) {
+        this.statusCode = statusCode;
+        this.reasonPhrase = reasonPhrase;
+        this.headers = new DefaultHttpHeaders().set(headers);
+        this.body = Unpooled.directBuffer(payload.length).writeBytes(payload).asReadOnly();
+        this.requestTime = requestTime;
+        this.receivedTime = receivedTime;
+        this.varyHeaderNames = HttpResponseCache.getVaryHeaderNames(headers);
+        this.varyKey = varyHeaderNames == null ? null :
+                HttpResponseCache.getVaryKey(varyHeaderNames, requestHeaders);
+        this.size = calculateSize();
+    }
+
+    /**
+     * Creates a new inbound response message from the cached response. The body is not copied, the message reads
+     * from a view of the shared buffer which holds its own reference and is released once the content is consumed.
+     *
+     * @return the inbound response message or null if the response is evicted in the meantime
+     */
+    public HttpCarbonMessage toCarbonMessage() {
+        if (!tryRetain()) {
+            return null;
+        }
+        DefaultHttpResponse httpResponse = new DefaultHttpResponse(HttpVersion.HTTP_1_1,
+                                                                   new HttpResponseStatus(statusCode, reasonPhrase));
+        HttpCarbonMessage responseMsg = new HttpCarbonMessage(httpResponse);
+        responseMsg.setHttpStatusCode(statusCode);
+        synchronized (headers) {
+            httpResponse.headers().set(headers);
+        }
+        if (httpResponse.headers().contains(HttpHeaderNames.TRANSFER_ENCODING)) {
+            httpResponse.headers().remove(HttpHeaderNames.TRANSFER_ENCODING);
+            httpResponse.headers().set(HttpHeaderNames.CONTENT_LENGTH, body.readableBytes());
+        }
+        responseMsg.addHttpContent(new DefaultLastHttpContent(body.duplicate()));
+        return responseMsg;
+    }
+
+    /**
+     * Updates the headers with the ones received in a validation response as per
+     * https://tools.ietf.org/html/rfc7234#section-4.3.4. Warnings other than 214 and 299 are dropped.
+     *
+     * @param validationHeaders the headers of the validation response
+     */
+    void update(HttpHeaders validationHeaders) {
+        synchronized (headers) {
+            List<String> warnings = headers.getAll(HttpHeaderNames.WARNING);
+            headers.remove(HttpHeaderNames.WARNING);
+            for (String warning : warnings) {
+                for (String warnCode : RETAINED_WARN_CODES) {
+                    if (warning.contains(warnCode)) {
+                        headers.add(HttpHeaderNames.WARNING, warning);
+                        break;
+                    }
+                }
+            }
+            for (String name : validationHeaders.names()) {
+                headers.set(name, new ArrayList<>(validationHeaders.getAll(name)));
+            }
+            size = calculateSize();
+        }
+    }
+
+    /**
+     * Releases the reference held by the cache. Called once the response is evicted, removed or replaced.
+     */
+    void release() {
+        body.release();
+    }
+
+    private boolean tryRetain() {
+        try {
+            body.retain();
+            return true;
+        } catch (IllegalReferenceCountException e) {
+            // The body is already freed, and retaining it does not bring it back
+            return false;
+        }
+    }
+
+    String getEntityTag() {
+        return headers.get(HttpHeaderNames.ETAG);
+    }
+
+    boolean isWeakEntityTag() {
+        String entityTag = getEntityTag();
+        return entityTag != null && entityTag.startsWith(WEAK_VALIDATOR_TAG);
+    }
+
+    static String getOpaqueTag(String entityTag) {
+        return entityTag.startsWith(WEAK_VALIDATOR_TAG) ? entityTag.substring(WEAK_VALIDATOR_TAG.length()) :
+                entityTag;
+    }
+
+    /**
+     * The lower-cased names of the request headers nominated by the `vary` header, or null if the response varies on
+     * `*` and therefore never matches a subsequent request.
+     */
+    List<String> getVaryHeaderNames() {
+        return varyHeaderNames;
+    }
+
+    String getVaryKey() {
+        return varyKey;
+    }
+
+    long getSize() {
+        return size;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public Object getRequestTime() {
+        return requestTime;
+    }
+
+    public Object getReceivedTime() {
+        return receivedTime;
+    }
+
+    private long calculateSize() {
+        long headerSize = 0;
+        for (Map.Entry<String, String> header : headers) {
+            headerSize += header.getKey().length() + header.getValue().length();
+        }
+        return body.readableBytes() + headerSize;
+    }
+}
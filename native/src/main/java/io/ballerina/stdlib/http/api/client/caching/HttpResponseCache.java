@@ -0,0 +1,328 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.api.client.caching;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * An LRU cache of serialized HTTP responses bounded by the total size of the cached responses in bytes. Each cache
+ * key holds the variants of a response indexed by the request headers nominated by the `vary` header and by their
+ * entity tags.
+ * <p>
+ * The keys are held in a concurrent map and each key is locked on its own, hence lookups of different keys do not
+ * contend. The recency of a key is a stamp taken from a shared counter on each access, and eviction is done by a
+ * single thread at a time which removes the keys with the oldest stamps.
+ *
+ * @since 2.12.1
+ */
+public class HttpResponseCache {
+
+    private static final String VARY_ANY = "*";
+
+    private final long maxSize;
+    private final int capacity;
+    private final int evictionCount;
+    private final ConcurrentHashMap<String, CacheEntry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong size = new AtomicLong();
+    private final AtomicLong clock = new AtomicLong();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    /**
+     * Creates the response cache.
+     *
+     * @param maxSize        maximum total size of the cached responses in bytes, a non-positive value disables the
+     *                       limit
+     * @param capacity       maximum number of cache keys
+     * @param evictionFactor fraction of the keys evicted when the capacity is exceeded
+     */
+    public HttpResponseCache(long maxSize, int capacity, double evictionFactor) {
+        this.maxSize = maxSize > 0 ? maxSize : Long.MAX_VALUE;
+        this.capacity = capacity;
+        this.evictionCount = Math.max(1, (int) Math.ceil(capacity * evictionFactor));
+    }
+
+    /**
+     * Stores a response variant, replacing any earlier variant selected by the same request header values. The cache
+     * takes over the reference to the body of the response, which is released if the response cannot be stored.
+     *
+     * @param key      the cache key
+     * @param response the response to be stored
+     * @return false if the response cannot be stored
+     */
+    public boolean put(String key, CachedResponse response) {
+        if (response.getVaryHeaderNames() == null || response.getSize() > maxSize) {
+            response.release();
+            return false;
+        }
+        while (true) {
+            CacheEntry entry = entries.computeIfAbsent(key, k -> new CacheEntry());
+            synchronized (entry) {
+                if (entry.removed) {
+                    // Evicted between the lookup and the lock, hence the response goes to a new entry
+                    continue;
+                }
+                size.addAndGet(entry.add(response));
+                entry.lastAccess = clock.incrementAndGet();
+            }
+            break;
+        }
+        evict();
+        return true;
+    }
+
+    /**
+     * Gets the response variant matching the given request.
+     *
+     * @param key            the cache key
+     * @param requestHeaders headers of the request
+     * @return the matching response or null if there is none
+     */
+    public CachedResponse get(String key, HttpHeaders requestHeaders) {
+        CacheEntry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        synchronized (entry) {
+            if (entry.removed) {
+                return null;
+            }
+            entry.lastAccess = clock.incrementAndGet();
+            return entry.get(requestHeaders);
+        }
+    }
+
+    public boolean hasKey(String key) {
+        return entries.containsKey(key);
+    }
+
+    public void remove(String key) {
+        CacheEntry entry = entries.remove(key);
+        if (entry != null) {
+            release(entry);
+        }
+    }
+
+    /**
+     * Updates the headers of the variants whose entity tag matches the validator of a 304 response.
+     *
+     * @param key               the cache key
+     * @param entityTag         the entity tag of the validation response
+     * @param weak              whether the weak comparison function is used
+     * @param validationHeaders the headers of the validation response
+     */
+    public void update(String key, String entityTag, boolean weak, HttpHeaders validationHeaders) {
+        CacheEntry entry = entries.get(key);
+        if (entry == null) {
+            return;
+        }
+        synchronized (entry) {
+            if (entry.removed) {
+                return;
+            }
+            List<CachedResponse> responses = entry.entityTagIndex.get(CachedResponse.getOpaqueTag(entityTag));
+            if (responses == null) {
+                return;
+            }
+            for (CachedResponse response : responses) {
+                if (weak || !response.isWeakEntityTag()) {
+                    long previousSize = response.getSize();
+                    response.update(validationHeaders);
+                    entry.size += response.getSize() - previousSize;
+                    size.addAndGet(response.getSize() - previousSize);
+                }
+            }
+        }
+        evict();
+    }
+
+    public long getSize() {
+        return size.get();
+    }
+
+    private void evict() {
+        if (entries.size() <= capacity && size.get() <= maxSize) {
+            return;
+        }
+        // A thread which finds the eviction in progress leaves it to that thread
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            // The stamps are copied, as they keep changing while the candidates are sorted
+            List<EvictionCandidate> eldestFirst = new ArrayList<>(entries.size());
+            entries.forEach((key, entry) -> eldestFirst.add(new EvictionCandidate(key, entry, entry.lastAccess)));
+            eldestFirst.sort(Comparator.comparingLong(candidate -> candidate.lastAccess));
+            int evicted = 0;
+            int count = entries.size() > capacity ? evictionCount : 0;
+            for (EvictionCandidate eldest : eldestFirst) {
+                if (evicted >= count && size.get() <= maxSize) {
+                    break;
+                }
+                if (entries.remove(eldest.key, eldest.entry)) {
+                    release(eldest.entry);
+                    evicted++;
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void release(CacheEntry entry) {
+        synchronized (entry) {
+            entry.removed = true;
+            size.addAndGet(-entry.size);
+            entry.release();
+        }
+    }
+
+    static List<String> getVaryHeaderNames(HttpHeaders responseHeaders) {
+        List<String> varyValues = responseHeaders.getAll(HttpHeaderNames.VARY);
+        if (varyValues.isEmpty()) {
+            return Collections.emptyList();
+        }
+        TreeSet<String> names = new TreeSet<>();
+        for (String varyValue : varyValues) {
+            for (String name : varyValue.split(",")) {
+                String headerName = name.trim().toLowerCase(Locale.ROOT);
+                if (VARY_ANY.equals(headerName)) {
+                    // A vary header with '*' never matches a subsequent request
+                    return null;
+                }
+                if (!headerName.isEmpty()) {
+                    names.add(headerName);
+                }
+            }
+        }
+        return new ArrayList<>(names);
+    }
+
+    static String getVaryKey(List<String> varyHeaderNames, HttpHeaders requestHeaders) {
+        if (varyHeaderNames.isEmpty()) {
+            return "";
+        }
+        StringBuilder varyKey = new StringBuilder();
+        for (String headerName : varyHeaderNames) {
+            varyKey.append(headerName).append(':');
+            if (requestHeaders != null) {
+                varyKey.append(String.join(",", requestHeaders.getAll(headerName)).trim());
+            }
+            varyKey.append('\n');
+        }
+        return varyKey.toString();
+    }
+
+    /**
+     * A cache key along with the access stamp it had when the eviction started.
+     */
+    private static class EvictionCandidate {
+
+        private final String key;
+        private final CacheEntry entry;
+        private final long lastAccess;
+
+        EvictionCandidate(String key, CacheEntry entry, long lastAccess) {
+            this.key = key;
+            this.entry = entry;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+    /**
+     * The response variants of a cache key.
+     */
+    private static class CacheEntry {
+
+        private final List<List<String>> varyHeaderNameSets = new ArrayList<>(1);
+        private final Map<String, CachedResponse> varyIndex = new HashMap<>();
+        private final Map<String, List<CachedResponse>> entityTagIndex = new HashMap<>();
+        private long size;
+        private volatile long lastAccess;
+        private boolean removed;
+
+        long add(CachedResponse response) {
+            List<String> varyHeaderNames = response.getVaryHeaderNames();
+            long delta = response.getSize();
+            CachedResponse previous = varyIndex.put(response.getVaryKey(), response);
+            if (previous != null) {
+                delta -= previous.getSize();
+                removeFromEntityTagIndex(previous);
+                previous.release();
+            }
+            if (!varyHeaderNameSets.contains(varyHeaderNames)) {
+                varyHeaderNameSets.add(varyHeaderNames);
+            }
+            String entityTag = response.getEntityTag();
+            if (entityTag != null) {
+                entityTagIndex.computeIfAbsent(CachedResponse.getOpaqueTag(entityTag),
+                                               k -> new ArrayList<>(1)).add(response);
+            }
+            size += delta;
+            return delta;
+        }
+
+        CachedResponse get(HttpHeaders requestHeaders) {
+            // Usually every variant of a resource nominates the same vary headers, hence this is a single lookup
+            for (int i = varyHeaderNameSets.size() - 1; i >= 0; i--) {
+                CachedResponse response = varyIndex.get(getVaryKey(varyHeaderNameSets.get(i), requestHeaders));
+                if (response != null) {
+                    return response;
+                }
+            }
+            return null;
+        }
+
+        void release() {
+            for (CachedResponse response : varyIndex.values()) {
+                response.release();
+            }
+            varyIndex.clear();
+            entityTagIndex.clear();
+        }
+
+        private void removeFromEntityTagIndex(CachedResponse response) {
+            String entityTag = response.getEntityTag();
+            if (entityTag == null) {
+                return;
+            }
+            String opaqueTag = CachedResponse.getOpaqueTag(entityTag);
+            List<CachedResponse> responses = entityTagIndex.get(opaqueTag);
+            if (responses != null) {
+                responses.remove(response);
+                if (responses.isEmpty()) {
+                    entityTagIndex.remove(opaqueTag);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.api.client.caching;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks the upstream requests in flight per cache key, so that concurrent cache misses for the same key can be
+ * collapsed into a single upstream request.
+ *
+ * @since 2.12.1
+ */
+public class InFlightRequests {
+
+    private final ConcurrentHashMap<String, CompletableFuture<Void>> requests = new ConcurrentHashMap<>();
+
+    /**
+     * Registers an upstream request for the key if there is none in flight.
+     *
+     * @param key the cache key
+     * @return true if the caller is responsible for sending the upstream request and releasing the key
+     */
+    public boolean tryAcquire(String key) {
+        return requests.putIfAbsent(key, new CompletableFuture<>()) == null;
+    }
+
+    /**
+     * Marks the upstream request of the key as completed and wakes up the waiting callers.
+     *
+     * @param key the cache key
+     */
+    public void release(String key) {
+        CompletableFuture<Void> request = requests.remove(key);
+        if (request != null) {
+            request.complete(null);
+        }
+    }
+
+    /**
+     * Returns a future which completes once the upstream request of the key completes or the timeout elapses,
+     * whichever happens first. Timing out does not affect the other callers waiting on the same request.
+     *
+     * @param key           the cache key
+     * @param timeoutMillis the maximum time to wait in milliseconds
+     * @return the future to wait on
+     */
+    public CompletableFuture<Void> await(String key, long timeoutMillis) {
+        CompletableFuture<Void> request = requests.get(key);
+        if (request == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return request.copy().completeOnTimeout(null, timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    boolean isInFlight(String key) {
+        return requests.containsKey(key);
+    }
+}
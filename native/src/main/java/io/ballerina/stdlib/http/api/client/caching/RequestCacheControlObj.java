@@ -22,7 +22,6 @@ import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.values.BObject;
 
 import java.math.BigDecimal;
-import java.util.Map;
 
 import static io.ballerina.stdlib.http.api.HttpConstants.REQ_CACHE_CONTROL_MAX_AGE_FIELD;
 import static io.ballerina.stdlib.http.api.HttpConstants.REQ_CACHE_CONTROL_MAX_STALE_FIELD;
@@ -61,55 +60,29 @@ public class RequestCacheControlObj {
     }
 
     public void populateStruct(String cacheControlHeaderVal) {
-        Map<CacheControlDirective, String> controlDirectives = CacheControlParser.parse(cacheControlHeaderVal);
+        CacheControl cacheControl = CacheControl.parse(cacheControlHeaderVal);
 
-        controlDirectives.forEach((directive, value) -> {
-            switch (directive) {
-                case NO_CACHE:
-                    requestCacheControl.set(REQ_CACHE_CONTROL_NO_CACHE_FIELD, TRUE);
-                    break;
-                case NO_STORE:
-                    requestCacheControl.set(REQ_CACHE_CONTROL_NO_STORE_FIELD, TRUE);
-                    break;
-                case NO_TRANSFORM:
-                    requestCacheControl.set(REQ_CACHE_CONTROL_NO_TRANSFORM_FIELD, TRUE);
-                    break;
-                case ONLY_IF_CACHED:
-                    requestCacheControl.set(REQ_CACHE_CONTROL_ONLY_IF_CACHED_FIELD, TRUE);
-                    break;
-                case MAX_AGE:
-                    try {
-                        requestCacheControl.set(REQ_CACHE_CONTROL_MAX_AGE_FIELD, ValueCreator.createDecimalValue(
-                                BigDecimal.valueOf(Long.parseLong(value))));
-                    } catch (NumberFormatException e) {
-                        // Ignore the exception and set max-age to 0.
-                        requestCacheControl.set(REQ_CACHE_CONTROL_MAX_AGE_FIELD, ValueCreator.createDecimalValue(
-                                BigDecimal.valueOf(0)));
-                    }
-                    break;
-                case MAX_STALE:
-                    try {
-                        requestCacheControl.set(REQ_CACHE_CONTROL_MAX_STALE_FIELD, ValueCreator.createDecimalValue(
-                                BigDecimal.valueOf(Long.parseLong(value))));
-                    } catch (NumberFormatException e) {
-                        // Ignore the exception and set max-stale to 0.
-                        requestCacheControl.set(REQ_CACHE_CONTROL_MAX_STALE_FIELD, ValueCreator.createDecimalValue(
-                                BigDecimal.valueOf(0)));
-                    }
-                    break;
-                case MIN_FRESH:
-                    try {
-                        requestCacheControl.set(REQ_CACHE_CONTROL_MIN_FRESH_FIELD, ValueCreator.createDecimalValue(
-                                BigDecimal.valueOf(Long.parseLong(value))));
-                    } catch (NumberFormatException e) {
-                        // Ignore the exception and set min-fresh to 0.
-                        requestCacheControl.set(REQ_CACHE_CONTROL_MIN_FRESH_FIELD, ValueCreator.createDecimalValue(
-                                BigDecimal.valueOf(0)));
-                    }
-                    break;
-                default:
-                    break;
-            }
-        });
+        if (cacheControl.isNoCache()) {
+            requestCacheControl.set(REQ_CACHE_CONTROL_NO_CACHE_FIELD, TRUE);
+        }
+        if (cacheControl.isNoStore()) {
+            requestCacheControl.set(REQ_CACHE_CONTROL_NO_STORE_FIELD, TRUE);
+        }
+        if (cacheControl.isNoTransform()) {
+            requestCacheControl.set(REQ_CACHE_CONTROL_NO_TRANSFORM_FIELD, TRUE);
+        }
+        if (cacheControl.isOnlyIfCached()) {
+            requestCacheControl.set(REQ_CACHE_CONTROL_ONLY_IF_CACHED_FIELD, TRUE);
+        }
+        // Invalid delta-seconds values are reported as 0
+        if (cacheControl.getMaxAge() != CacheControl.ABSENT) {
+            requestCacheControl.set(REQ_CACHE_CONTROL_MAX_AGE_FIELD, cacheControl.getMaxAgeValue());
+        }
+        if (cacheControl.getMaxStale() != CacheControl.ABSENT) {
+            requestCacheControl.set(REQ_CACHE_CONTROL_MAX_STALE_FIELD, cacheControl.getMaxStaleValue());
+        }
+        if (cacheControl.getMinFresh() != CacheControl.ABSENT) {
+            requestCacheControl.set(REQ_CACHE_CONTROL_MIN_FRESH_FIELD, cacheControl.getMinFreshValue());
+        }
     }
 }
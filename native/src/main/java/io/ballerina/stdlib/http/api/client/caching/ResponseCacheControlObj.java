@@ -22,12 +22,15 @@ import io.ballerina.runtime.api.Module;
 import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 
 import java.math.BigDecimal;
 import java.util.Map;
+import java.util.Objects;
 import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static io.ballerina.stdlib.http.api.HttpConstants.RES_CACHE_CONTROL_IS_PRIVATE_FIELD;
 import static io.ballerina.stdlib.http.api.HttpConstants.RES_CACHE_CONTROL_MAX_AGE_FIELD;
@@ -50,6 +53,15 @@ import static io.ballerina.stdlib.http.api.HttpUtil.TRUE;
  */
 public class ResponseCacheControlObj {
 
+    private static final int MUST_REVALIDATE = 1;
+    private static final int NO_CACHE = 1 << 1;
+    private static final int NO_STORE = 1 << 2;
+    private static final int NO_TRANSFORM = 1 << 3;
+    private static final int PRIVATE = 1 << 4;
+    private static final int PROXY_REVALIDATE = 1 << 5;
+    private static final int MAX_BUILT_DIRECTIVES = 256;
+    private static final Map<DirectivesKey, String> BUILT_DIRECTIVES = new ConcurrentHashMap<>();
+
     private BObject responseCacheControl;
 
     public ResponseCacheControlObj(Module bPackage, String objectTypeName) {
@@ -79,97 +91,95 @@ public class ResponseCacheControlObj {
     }
 
     public void populateStruct(String cacheControlHeaderVal) {
-        Map<CacheControlDirective, String> controlDirectives = CacheControlParser.parse(cacheControlHeaderVal);
-
-        controlDirectives.forEach((directive, value) -> {
-            switch (directive) {
-                case MUST_REVALIDATE:
-                    responseCacheControl.set(RES_CACHE_CONTROL_MUST_REVALIDATE_FIELD, TRUE);
-                    break;
-                case NO_CACHE:
-                    responseCacheControl.set(RES_CACHE_CONTROL_NO_CACHE_FIELD, TRUE);
-                    if (value != null) {
-                        value = value.replace("\"", "");
-                        responseCacheControl.set(RES_CACHE_CONTROL_NO_CACHE_FIELDS_FIELD,
-                                                 StringUtils.fromStringArray(value.split(",")));
-                    }
-                    break;
-                case NO_STORE:
-                    responseCacheControl.set(RES_CACHE_CONTROL_NO_STORE_FIELD, TRUE);
-                    break;
-                case NO_TRANSFORM:
-                    responseCacheControl.set(RES_CACHE_CONTROL_NO_TRANSFORM_FIELD, TRUE);
-                    break;
-                case PRIVATE:
-                    responseCacheControl.set(RES_CACHE_CONTROL_IS_PRIVATE_FIELD, TRUE);
-                    if (value != null) {
-                        value = value.replace("\"", "");
-                        responseCacheControl.set(RES_CACHE_CONTROL_PRIVATE_FIELDS_FIELD,
-                                                 StringUtils.fromStringArray(value.split(",")));
-                    }
-                    break;
-                case PUBLIC:
-                    responseCacheControl.set(RES_CACHE_CONTROL_IS_PRIVATE_FIELD, FALSE);
-                    break;
-                case PROXY_REVALIDATE:
-                    responseCacheControl.set(RES_CACHE_CONTROL_PROXY_REVALIDATE_FIELD, TRUE);
-                    break;
-                case MAX_AGE:
-                    try {
-                        responseCacheControl.set(RES_CACHE_CONTROL_MAX_AGE_FIELD,
-                                                 ValueCreator.createDecimalValue(
-                                                         BigDecimal.valueOf(Long.parseLong(value))));
-                    } catch (NumberFormatException e) {
-                        // Ignore the exception and set 0 as the max-age so that it will be treated as a stale response.
-                        // Note that this won't change the value of the actual cache-control header
-                        responseCacheControl.set(RES_CACHE_CONTROL_MAX_AGE_FIELD, ValueCreator.createDecimalValue(
-                                BigDecimal.valueOf(0)));
-                    }
-                    break;
-                case S_MAXAGE:
-                    try {
-                        responseCacheControl.set(RES_CACHE_CONTROL_S_MAXAGE_FIELD, ValueCreator.createDecimalValue(
-                                BigDecimal.valueOf(Long.parseLong(value))));
-                    } catch (NumberFormatException e) {
-                        // Ignore the exception and set 0 as the s-maxage.
-                        responseCacheControl.set(RES_CACHE_CONTROL_S_MAXAGE_FIELD, ValueCreator.createDecimalValue(
-                                BigDecimal.valueOf(0)));
-                    }
-                    break;
-                default:
-                    break;
+        CacheControl cacheControl = CacheControl.parse(cacheControlHeaderVal);
+
+        if (cacheControl.isMustRevalidate()) {
+            responseCacheControl.set(RES_CACHE_CONTROL_MUST_REVALIDATE_FIELD, TRUE);
+        }
+        if (cacheControl.isNoCache()) {
+            responseCacheControl.set(RES_CACHE_CONTROL_NO_CACHE_FIELD, TRUE);
+            String[] noCacheFields = cacheControl.getNoCacheFields();
+            if (noCacheFields != null) {
+                responseCacheControl.set(RES_CACHE_CONTROL_NO_CACHE_FIELDS_FIELD,
+                                         StringUtils.fromStringArray(noCacheFields));
+            }
+        }
+        if (cacheControl.isNoStore()) {
+            responseCacheControl.set(RES_CACHE_CONTROL_NO_STORE_FIELD, TRUE);
+        }
+        if (cacheControl.isNoTransform()) {
+            responseCacheControl.set(RES_CACHE_CONTROL_NO_TRANSFORM_FIELD, TRUE);
+        }
+        // The public directive takes precedence when both public and private are present
+        if (cacheControl.isPublic()) {
+            responseCacheControl.set(RES_CACHE_CONTROL_IS_PRIVATE_FIELD, FALSE);
+        } else if (cacheControl.isPrivate()) {
+            responseCacheControl.set(RES_CACHE_CONTROL_IS_PRIVATE_FIELD, TRUE);
+            String[] privateFields = cacheControl.getPrivateFields();
+            if (privateFields != null) {
+                responseCacheControl.set(RES_CACHE_CONTROL_PRIVATE_FIELDS_FIELD,
+                                         StringUtils.fromStringArray(privateFields));
             }
-        });
+        }
+        if (cacheControl.isProxyRevalidate()) {
+            responseCacheControl.set(RES_CACHE_CONTROL_PROXY_REVALIDATE_FIELD, TRUE);
+        }
+        // An invalid max-age or s-maxage is reported as 0 so that the response will be treated as stale. Note that
+        // this won't change the value of the actual cache-control header
+        if (cacheControl.getMaxAge() != CacheControl.ABSENT) {
+            responseCacheControl.set(RES_CACHE_CONTROL_MAX_AGE_FIELD, cacheControl.getMaxAgeValue());
+        }
+        if (cacheControl.getSMaxAge() != CacheControl.ABSENT) {
+            responseCacheControl.set(RES_CACHE_CONTROL_S_MAXAGE_FIELD, cacheControl.getSMaxAgeValue());
+        }
     }
 
     public String buildCacheControlDirectives() {
+        BArray noCacheFields = (BArray) responseCacheControl.get(RES_CACHE_CONTROL_NO_CACHE_FIELDS_FIELD);
+        BArray privateFields = (BArray) responseCacheControl.get(RES_CACHE_CONTROL_PRIVATE_FIELDS_FIELD);
+        if (noCacheFields.size() > 0 || privateFields.size() > 0) {
+            return buildCacheControlDirectives(getFlags(), noCacheFields, privateFields);
+        }
+        // Responses of a resource share the same directives, hence the header value is built once per combination
+        DirectivesKey key = new DirectivesKey(getFlags(),
+                                              getDecimalValue(responseCacheControl, RES_CACHE_CONTROL_MAX_AGE_FIELD),
+                                              getDecimalValue(responseCacheControl, RES_CACHE_CONTROL_S_MAXAGE_FIELD));
+        String directives = BUILT_DIRECTIVES.get(key);
+        if (directives == null) {
+            directives = buildCacheControlDirectives(key.flags, noCacheFields, privateFields);
+            if (BUILT_DIRECTIVES.size() < MAX_BUILT_DIRECTIVES) {
+                BUILT_DIRECTIVES.putIfAbsent(key, directives);
+            }
+        }
+        return directives;
+    }
+
+    private String buildCacheControlDirectives(int flags, BArray noCacheFields, BArray privateFields) {
         StringJoiner directivesBuilder = new StringJoiner(",");
 
-        if (getBooleanValue(responseCacheControl, RES_CACHE_CONTROL_MUST_REVALIDATE_FIELD) == TRUE) {
+        if ((flags & MUST_REVALIDATE) != 0) {
             directivesBuilder.add("must-revalidate");
         }
 
-        if (getBooleanValue(responseCacheControl, RES_CACHE_CONTROL_NO_CACHE_FIELD) == TRUE) {
-            directivesBuilder.add("no-cache" + appendFields(
-                    (BArray) responseCacheControl.get(RES_CACHE_CONTROL_NO_CACHE_FIELDS_FIELD)));
+        if ((flags & NO_CACHE) != 0) {
+            directivesBuilder.add("no-cache" + appendFields(noCacheFields));
         }
 
-        if (getBooleanValue(responseCacheControl, RES_CACHE_CONTROL_NO_STORE_FIELD) == TRUE) {
+        if ((flags & NO_STORE) != 0) {
             directivesBuilder.add("no-store");
         }
 
-        if (getBooleanValue(responseCacheControl, RES_CACHE_CONTROL_NO_TRANSFORM_FIELD) == TRUE) {
+        if ((flags & NO_TRANSFORM) != 0) {
             directivesBuilder.add("no-transform");
         }
 
-        if (getBooleanValue(responseCacheControl, RES_CACHE_CONTROL_IS_PRIVATE_FIELD) == TRUE) {
-            directivesBuilder.add("private" + appendFields(
-                    (BArray) responseCacheControl.get(RES_CACHE_CONTROL_PRIVATE_FIELDS_FIELD)));
+        if ((flags & PRIVATE) != 0) {
+            directivesBuilder.add("private" + appendFields(privateFields));
         } else {
             directivesBuilder.add("public");
         }
 
-        if (getBooleanValue(responseCacheControl, RES_CACHE_CONTROL_PROXY_REVALIDATE_FIELD) == TRUE) {
+        if ((flags & PROXY_REVALIDATE) != 0) {
             directivesBuilder.add("proxy-revalidate");
         }
 
@@ -184,6 +194,29 @@ public class ResponseCacheControlObj {
         return directivesBuilder.toString();
     }
 
+    private int getFlags() {
+        int flags = 0;
+        if (getBooleanValue(responseCacheControl, RES_CACHE_CONTROL_MUST_REVALIDATE_FIELD)) {
+            flags |= MUST_REVALIDATE;
+        }
+        if (getBooleanValue(responseCacheControl, RES_CACHE_CONTROL_NO_CACHE_FIELD)) {
+            flags |= NO_CACHE;
+        }
+        if (getBooleanValue(responseCacheControl, RES_CACHE_CONTROL_NO_STORE_FIELD)) {
+            flags |= NO_STORE;
+        }
+        if (getBooleanValue(responseCacheControl, RES_CACHE_CONTROL_NO_TRANSFORM_FIELD)) {
+            flags |= NO_TRANSFORM;
+        }
+        if (getBooleanValue(responseCacheControl, RES_CACHE_CONTROL_IS_PRIVATE_FIELD)) {
+            flags |= PRIVATE;
+        }
+        if (getBooleanValue(responseCacheControl, RES_CACHE_CONTROL_PROXY_REVALIDATE_FIELD)) {
+            flags |= PROXY_REVALIDATE;
+        }
+        return flags;
+    }
+
     private String appendFields(BArray values) {
         if (values.size() > 0) {
             StringJoiner joiner = new StringJoiner(",");
@@ -202,6 +235,10 @@ public class ResponseCacheControlObj {
         return (Boolean) responseCacheControl.get(fieldName);
     }
 
+    private BigDecimal getDecimalValue(BObject responseCacheControl, BString fieldName) {
+        return ((BDecimal) responseCacheControl.get(fieldName)).decimalValue();
+    }
+
     private long getIntValue(BObject responseCacheControl, BString fieldName) {
         try {
             String value = responseCacheControl.get(fieldName).toString();
@@ -212,4 +249,38 @@ public class ResponseCacheControlObj {
             return 0;
         }
     }
+
+    /**
+     * Identifies the Cache-Control header value built for a response without no-cache or private field names.
+     */
+    private static final class DirectivesKey {
+
+        private final int flags;
+        private final BigDecimal maxAge;
+        private final BigDecimal sMaxAge;
+
+        private DirectivesKey(int flags, BigDecimal maxAge, BigDecimal sMaxAge) {
+            this.flags = flags;
+            this.maxAge = maxAge;
+            this.sMaxAge = sMaxAge;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof DirectivesKey)) {
+                return false;
+            }
+            DirectivesKey that = (DirectivesKey) o;
+            // BigDecimal equality also compares the scale, which is reflected in the header value
+            return flags == that.flags && maxAge.equals(that.maxAge) && sMaxAge.equals(that.sMaxAge);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(flags, maxAge, sMaxAge);
+        }
+    }
 }
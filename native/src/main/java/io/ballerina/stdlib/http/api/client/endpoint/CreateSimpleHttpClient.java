@@ -27,6 +27,7 @@ import io.ballerina.stdlib.http.api.HttpConnectionManager;
 import io.ballerina.stdlib.http.api.HttpConstants;
 import io.ballerina.stdlib.http.api.HttpErrorType;
 import io.ballerina.stdlib.http.api.HttpUtil;
+import io.ballerina.stdlib.http.api.client.actions.AbstractHTTPAction;
 import io.ballerina.stdlib.http.transport.contract.HttpClientConnector;
 import io.ballerina.stdlib.http.transport.contract.config.SenderConfiguration;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool.ConnectionManager;
@@ -113,6 +114,7 @@ public class CreateSimpleHttpClient {
                 }
                 senderConfiguration.setHttp2InitialWindowSize(http2Settings
                         .getIntValue(CLIENT_EP_HTTP2_INITIAL_WINDOW_SIZE).intValue());
+                senderConfiguration.setHttp2SettingsConfig(HttpUtil.getHttp2SettingsConfig(http2Settings));
             } else {
                 BMap<BString, Object> http1Settings = (BMap<BString, Object>) clientEndpointConfig.get(
                         HttpConstants.HTTP1_SETTINGS);
@@ -129,7 +131,20 @@ public class CreateSimpleHttpClient {
                                                        responseLimits.getIntValue(HttpConstants.MAX_HEADER_SIZE),
                                                        responseLimits.getIntValue(HttpConstants.MAX_ENTITY_BODY_SIZE),
                                                        senderConfiguration.getMsgSizeValidationConfig());
+            BMap<BString, Object> compressionSettings =
+                    clientEndpointConfig.getMapValue(HttpConstants.ENDPOINT_CONFIG_COMPRESSION_SETTINGS);
+            if (compressionSettings != null) {
+                senderConfiguration.setCompressionConfig(HttpUtil.getCompressionConfig(compressionSettings));
+            }
+            BMap<BString, Object> hedging = clientEndpointConfig.getMapValue(HttpConstants.CLIENT_EP_HEDGING);
+            BMap<BString, Object> dns = clientEndpointConfig.getMapValue(HttpConstants.CLIENT_EP_DNS);
             try {
+                if (hedging != null) {
+                    senderConfiguration.setHedgingConfig(HttpUtil.getHedgingConfig(hedging));
+                }
+                if (dns != null) {
+                    senderConfiguration.setDnsResolverConfig(HttpUtil.getDnsResolverConfig(dns));
+                }
                 populateSenderConfigurations(senderConfiguration, clientEndpointConfig, scheme);
             } catch (RuntimeException e) {
                 return HttpUtil.createHttpError(e.getMessage(), HttpErrorType.GENERIC_CLIENT_ERROR);
@@ -155,6 +170,8 @@ public class CreateSimpleHttpClient {
             httpClient.addNativeData(HttpConstants.CLIENT, httpClientConnector);
             httpClient.addNativeData(HttpConstants.CLIENT_ENDPOINT_SERVICE_URI, urlString);
             httpClient.addNativeData(HttpConstants.CLIENT_ENDPOINT_CONFIG, clientEndpointConfig);
+            AbstractHTTPAction.initAcceptEncoding(httpClient, clientEndpointConfig,
+                                                  senderConfiguration.getCompressionConfig());
             return null;
         } catch (Exception ex) {
             return ex instanceof BError ? ex :
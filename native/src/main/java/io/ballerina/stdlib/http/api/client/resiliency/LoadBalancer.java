@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.api.client.resiliency;
+
+import io.ballerina.stdlib.http.transport.contractimpl.common.metrics.HttpMetricsRegistry;
+import io.ballerina.stdlib.http.transport.contractimpl.common.metrics.LoadBalancerTargetMetrics;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Chooses the target of each request of a load balance client. Apart from round robin, the targets are chosen by the
+ * power of two choices, i.e. the less loaded of two random targets is picked, where the load is either the number of
+ * in-flight requests or the peak EWMA of the response time weighted by them. Targets ejected by the outlier detector
+ * are skipped. All the state is kept in atomics, hence choosing a target never blocks the concurrent requests.
+ *
+ * @since 2.12.1
+ */
+public class LoadBalancer {
+
+    /**
+     * The algorithms used to choose a target.
+     */
+    public enum Algorithm {
+        ROUND_ROBIN,
+        LEAST_REQUEST,
+        PEAK_EWMA
+    }
+
+    // The time it takes for the latency of a target to decay to 1/e of its weight
+    private static final double DECAY_NANOS = 10_000_000_000.0;
+    // The cost of a target which has not responded yet but has requests in flight
+    private static final double PENALTY = Double.MAX_VALUE / 2;
+    private static final int CANDIDATE_LEVELS = 3;
+
+    private final Algorithm algorithm;
+    private final Target[] targets;
+    private final OutlierDetector outlierDetector;
+    private final AtomicInteger nextIndex = new AtomicInteger();
+
+    /**
+     * Creates a load balancer.
+     *
+     * @param targets         the URLs of the targets
+     * @param algorithm       the algorithm used to choose a target
+     * @param outlierDetector the outlier detector of the targets, or null
+     */
+    public LoadBalancer(String[] targets, Algorithm algorithm, OutlierDetector outlierDetector) {
+        this.algorithm = algorithm;
+        this.outlierDetector = outlierDetector;
+        this.targets = new Target[targets.length];
+        for (int i = 0; i < targets.length; i++) {
+            this.targets[i] = new Target(HttpMetricsRegistry.getInstance().getLoadBalancerTargetMetrics(targets[i]));
+        }
+    }
+
+    /**
+     * Chooses the target of a request and counts the request as in flight to it until it is completed.
+     *
+     * @param excluded the targets which must not be chosen, e.g. the ones already tried by a failover, or null
+     * @return the index of the chosen target
+     */
+    public int select(boolean[] excluded) {
+        int index = algorithm == Algorithm.ROUND_ROBIN ? nextRoundRobin(excluded) : choose(excluded);
+        targets[index].started();
+        return index;
+    }
+
+    /**
+     * Completes a request sent to a target.
+     *
+     * @param index        the index of the target
+     * @param latencyNanos the time taken to receive the response or the failure
+     * @param failed       whether the request failed without a response
+     */
+    public void complete(int index, long latencyNanos, boolean failed) {
+        targets[index].completed(latencyNanos, failed);
+    }
+
+    int getInFlightRequests(int index) {
+        return targets[index].inFlight.get();
+    }
+
+    double getCost(int index) {
+        return cost(targets[index]);
+    }
+
+    private int nextRoundRobin(boolean[] excluded) {
+        int start = Math.floorMod(nextIndex.getAndIncrement(), targets.length);
+        int level = getCandidateLevel(excluded);
+        for (int i = 0; i < targets.length; i++) {
+            int index = (start + i) % targets.length;
+            if (isCandidate(index, excluded, level)) {
+                return index;
+            }
+        }
+        return start;
+    }
+
+    private int choose(boolean[] excluded) {
+        int level = getCandidateLevel(excluded);
+        int candidates = countCandidates(excluded, level);
+        if (candidates <= 1) {
+            return candidateIndex(0, excluded, level);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates);
+        int second = random.nextInt(candidates - 1);
+        if (second >= first) {
+            second++;
+        }
+        first = candidateIndex(first, excluded, level);
+        second = candidateIndex(second, excluded, level);
+        return cost(targets[second]) < cost(targets[first]) ? second : first;
+    }
+
+    // Targets which are neither excluded nor ejected are preferred. Failing that, an ejected target which was not
+    // tried yet is chosen before an excluded one is retried.
+    private int getCandidateLevel(boolean[] excluded) {
+        for (int level = 0; level < CANDIDATE_LEVELS; level++) {
+            if (countCandidates(excluded, level) > 0) {
+                return level;
+            }
+        }
+        return CANDIDATE_LEVELS - 1;
+    }
+
+    private int countCandidates(boolean[] excluded, int level) {
+        int candidates = 0;
+        for (int i = 0; i < targets.length; i++) {
+            if (isCandidate(i, excluded, level)) {
+                candidates++;
+            }
+        }
+        return candidates;
+    }
+
+    // Gets the index of the nth target which can be chosen
+    private int candidateIndex(int candidate, boolean[] excluded, int level) {
+        for (int i = 0; i < targets.length; i++) {
+            if (isCandidate(i, excluded, level) && candidate-- == 0) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    private boolean isCandidate(int index, boolean[] excluded, int level) {
+        boolean isExcluded = excluded != null && index < excluded.length && excluded[index];
+        switch (level) {
+            case 0:
+                return !isExcluded && !isEjected(index);
+            case 1:
+                return !isExcluded;
+            default:
+                return !isEjected(index);
+        }
+    }
+
+    private boolean isEjected(int index) {
+        return outlierDetector != null && outlierDetector.isEjected(index);
+    }
+
+    private double cost(Target target) {
+        int inFlight = target.inFlight.get();
+        if (algorithm == Algorithm.LEAST_REQUEST) {
+            return inFlight;
+        }
+        Ewma ewma = target.latency.get();
+        if (ewma == null) {
+            // Until a target responds its latency is unknown, hence it is only chosen when it is idle
+            return inFlight == 0 ? 0 : PENALTY;
+        }
+        return ewma.value * (inFlight + 1);
+    }
+
+    private static class Target {
+
+        private final LoadBalancerTargetMetrics metrics;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicReference<Ewma> latency = new AtomicReference<>();
+
+        private Target(LoadBalancerTargetMetrics metrics) {
+            this.metrics = metrics;
+        }
+
+        private void started() {
+            inFlight.incrementAndGet();
+            metrics.requestStarted();
+        }
+
+        private void completed(long latencyNanos, boolean failed) {
+            inFlight.decrementAndGet();
+            metrics.requestCompleted(latencyNanos, failed);
+            long now = System.nanoTime();
+            Ewma current;
+            do {
+                current = latency.get();
+            } while (!latency.compareAndSet(current, Ewma.observe(current, latencyNanos, failed, now)));
+        }
+    }
+
+    /**
+     * An immutable peak EWMA of the latency of a target. A latency higher than the average replaces it at once, so
+     * that a target which slows down is avoided immediately, while lower latencies are averaged in with a weight
+     * which grows with the time passed since the last update. A failure never lowers the average, so that a target
+     * which fails fast does not attract more requests.
+     */
+    private static final class Ewma {
+
+        private final double value;
+        private final long timestamp;
+
+        private Ewma(double value, long timestamp) {
+            this.value = value;
+            this.timestamp = timestamp;
+        }
+
+        private static Ewma observe(Ewma current, long latencyNanos, boolean failed, long now) {
+            if (current == null || latencyNanos > current.value) {
+                return new Ewma(latencyNanos, now);
+            }
+            if (failed) {
+                return new Ewma(current.value, now);
+            }
+            double weight = Math.exp(-Math.max(now - current.timestamp, 0) / DECAY_NANOS);
+            return new Ewma(current.value * weight + latencyNanos * (1 - weight), now);
+        }
+    }
+}
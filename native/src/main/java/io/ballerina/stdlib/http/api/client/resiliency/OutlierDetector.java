@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.api.client.resiliency;
+
+/**
+ * Passively tracks the health of the targets of a failover or load balance client from the outcome of the requests
+ * sent to them. A target which fails a number of consecutive requests, or whose failure rate within a time window
+ * exceeds the threshold, is ejected so that it is skipped without paying its timeout. The ejection time is doubled on
+ * each subsequent ejection of a target up to a maximum, and is reset once the target stays healthy for that maximum.
+ * At least one target is never ejected, so that a client always has a target to send its requests to.
+ *
+ * @since 2.12.1
+ */
+public class OutlierDetector {
+
+    private final int consecutiveFailures;
+    private final double failureRateThreshold;
+    private final long minimumRequests;
+    private final long windowNanos;
+    private final long baseEjectionNanos;
+    private final long maxEjectionNanos;
+    private final int maxEjectedTargets;
+    private final Target[] targets;
+
+    /**
+     * Creates an outlier detector.
+     *
+     * @param targetCount          the number of targets of the client
+     * @param consecutiveFailures  the number of consecutive failures after which a target is ejected
+     * @param failureRateThreshold the ratio of failed requests within the window after which a target is ejected
+     * @param minimumRequests      the number of requests within the window required to consider the failure rate
+     * @param windowNanos          the time window over which the failure rate is calculated
+     * @param baseEjectionNanos    the time a target is ejected the first time
+     * @param maxEjectionNanos     the maximum time a target is ejected
+     * @param maxEjectionRatio     the maximum ratio of the targets which are ejected at once
+     */
+    public OutlierDetector(int targetCount, int consecutiveFailures, double failureRateThreshold,
+                           long minimumRequests, long windowNanos, long baseEjectionNanos, long maxEjectionNanos,
+                           double maxEjectionRatio) {
+        this.consecutiveFailures = consecutiveFailures;
+        this.failureRateThreshold = failureRateThreshold;
+        this.minimumRequests = Math.max(minimumRequests, 1);
+        this.windowNanos = windowNanos;
+        this.baseEjectionNanos = baseEjectionNanos;
+        this.maxEjectionNanos = Math.max(maxEjectionNanos, baseEjectionNanos);
+        this.maxEjectedTargets = Math.min(Math.max((int) (targetCount * maxEjectionRatio), 1), targetCount - 1);
+        this.targets = new Target[targetCount];
+        long now = System.nanoTime();
+        for (int i = 0; i < targetCount; i++) {
+            this.targets[i] = new Target(now);
+        }
+    }
+
+    /**
+     * Checks whether a target is ejected. A target is re-admitted as soon as its ejection time elapses.
+     *
+     * @param index the index of the target
+     * @return true if the target must be skipped
+     */
+    public boolean isEjected(int index) {
+        return isEjected(index, System.nanoTime());
+    }
+
+    /**
+     * Records the outcome of a request sent to a target.
+     *
+     * @param index  the index of the target
+     * @param failed whether the request failed or was answered with a server error
+     */
+    public void record(int index, boolean failed) {
+        record(index, failed, System.nanoTime());
+    }
+
+    boolean isEjected(int index, long now) {
+        return targets[index].ejectedUntil - now > 0;
+    }
+
+    void record(int index, boolean failed, long now) {
+        Target target = targets[index];
+        synchronized (target) {
+            if (isEjected(index, now)) {
+                // Requests which were in flight when the target got ejected do not extend the ejection
+                return;
+            }
+            if (now - target.windowStart >= windowNanos) {
+                target.resetWindow(now);
+            }
+            target.requests++;
+            if (failed) {
+                target.failures++;
+                target.consecutiveFailures++;
+            } else {
+                target.consecutiveFailures = 0;
+            }
+            boolean outlier = (consecutiveFailures > 0 && target.consecutiveFailures >= consecutiveFailures)
+                    || (target.requests >= minimumRequests
+                    && target.failures >= failureRateThreshold * target.requests);
+            if (outlier) {
+                ejectIfBelowLimit(target, now);
+            }
+        }
+    }
+
+    // Targets are recorded under their own locks, so counting and ejecting must be atomic across the targets for
+    // concurrent failures of different targets not to exceed the limit
+    private synchronized void ejectIfBelowLimit(Target target, long now) {
+        if (countEjected(now) < maxEjectedTargets) {
+            eject(target, now);
+        }
+    }
+
+    private void eject(Target target, long now) {
+        if (target.ejections > 0 && now - target.ejectedUntil >= maxEjectionNanos) {
+            // The target stayed healthy long enough since its last ejection
+            target.ejections = 0;
+        }
+        long ejectionNanos = baseEjectionNanos;
+        for (int i = 0; i < target.ejections && ejectionNanos < maxEjectionNanos; i++) {
+            ejectionNanos <<= 1;
+        }
+        target.ejections++;
+        target.ejectedUntil = now + Math.min(ejectionNanos, maxEjectionNanos);
+        target.consecutiveFailures = 0;
+        target.resetWindow(target.ejectedUntil);
+    }
+
+    private int countEjected(long now) {
+        int ejected = 0;
+        for (int i = 0; i < targets.length; i++) {
+            if (isEjected(i, now)) {
+                ejected++;
+            }
+        }
+        return ejected;
+    }
+
+    private static class Target {
+
+        private volatile long ejectedUntil;
+        private long windowStart;
+        private long requests;
+        private long failures;
+        private int consecutiveFailures;
+        private int ejections;
+
+        private Target(long now) {
+            this.ejectedUntil = now;
+            this.windowStart = now;
+        }
+
+        private void resetWindow(long now) {
+            windowStart = now;
+            requests = 0;
+            failures = 0;
+        }
+    }
+}
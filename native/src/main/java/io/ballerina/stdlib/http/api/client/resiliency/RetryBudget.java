@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.api.client.resiliency;
+
+import io.ballerina.stdlib.http.transport.contractimpl.common.metrics.RetryMetrics;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits the retries of a client, so that a failing backend is not overloaded by every in-flight request retrying.
+ * The budget is a token bucket, which earns the configured ratio of a retry for each successful request and is
+ * refilled at the minimum retry rate, while each retry spends a whole retry. The bucket is updated without locks.
+ *
+ * @since 2.12.1
+ */
+public class RetryBudget {
+
+    // Retries are accounted in thousandths so that fractional ratios are not rounded away
+    private static final long TOKEN = 1000;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    // The bucket holds the minimum retries of this many seconds or the earnings of this many requests
+    private static final long CAPACITY_SECONDS = 10;
+    private static final long CAPACITY_REQUESTS = 100;
+
+    private final boolean limited;
+    private final long deposit;
+    private final long refillPerSecond;
+    private final long capacity;
+    private final double jitter;
+    private final RetryMetrics metrics;
+    private final AtomicLong balance;
+    private final AtomicLong lastRefillTime;
+
+    /**
+     * Creates a retry budget.
+     *
+     * @param ratio               the retries earned per successful request, or a negative value for no budget
+     * @param minRetriesPerSecond the retries allowed per second regardless of the successful requests
+     * @param jitter              the ratio by which the retry intervals are randomly shortened
+     * @param metrics             the retry metrics of the client
+     */
+    public RetryBudget(double ratio, long minRetriesPerSecond, double jitter, RetryMetrics metrics) {
+        this.limited = ratio >= 0;
+        this.deposit = Math.round(Math.max(ratio, 0) * TOKEN);
+        this.refillPerSecond = minRetriesPerSecond * TOKEN;
+        this.capacity = Math.max(Math.max(refillPerSecond * CAPACITY_SECONDS, deposit * CAPACITY_REQUESTS), TOKEN);
+        this.jitter = jitter;
+        this.metrics = metrics;
+        this.balance = new AtomicLong(Math.min(refillPerSecond, capacity));
+        this.lastRefillTime = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Records a successful request, which earns the configured ratio of a retry.
+     */
+    public void deposit() {
+        if (limited && deposit > 0) {
+            add(deposit);
+        }
+    }
+
+    /**
+     * Spends a retry from the budget.
+     *
+     * @return false if the budget is exhausted and the retry must not be sent
+     */
+    public boolean tryAcquire() {
+        if (limited) {
+            refill();
+            long current;
+            do {
+                current = balance.get();
+                if (current < TOKEN) {
+                    metrics.retrySuppressed();
+                    return false;
+                }
+            } while (!balance.compareAndSet(current, current - TOKEN));
+        }
+        metrics.retryAttempted();
+        return true;
+    }
+
+    /**
+     * Randomly shortens a retry interval by up to the jitter ratio, so that the requests which failed together do
+     * not retry together.
+     *
+     * @param interval the retry interval
+     * @return the jittered retry interval
+     */
+    public double getJitteredInterval(double interval) {
+        if (jitter <= 0) {
+            return interval;
+        }
+        return interval * (1 - jitter * ThreadLocalRandom.current().nextDouble());
+    }
+
+    long getBalance() {
+        return balance.get();
+    }
+
+    private void refill() {
+        if (refillPerSecond == 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        long last = lastRefillTime.get();
+        long elapsed = Math.min(now - last, CAPACITY_SECONDS * NANOS_PER_SECOND);
+        long tokens = refillPerSecond * elapsed / NANOS_PER_SECOND;
+        // Only the caller which advances the refill time adds the tokens of the elapsed time
+        if (tokens > 0 && lastRefillTime.compareAndSet(last, now)) {
+            add(tokens);
+        }
+    }
+
+    private void add(long tokens) {
+        balance.getAndUpdate(current -> Math.min(current + tokens, capacity));
+    }
+}
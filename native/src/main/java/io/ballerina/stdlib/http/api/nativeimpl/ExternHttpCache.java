@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.api.nativeimpl;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.Future;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.http.api.HttpUtil;
+import io.ballerina.stdlib.http.api.client.caching.CachedResponse;
+import io.ballerina.stdlib.http.api.client.caching.HttpResponseCache;
+import io.ballerina.stdlib.http.api.client.caching.InFlightRequests;
+import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpHeaders;
+
+import static io.ballerina.stdlib.http.api.HttpConstants.CACHE_CONFIG_CAPACITY;
+import static io.ballerina.stdlib.http.api.HttpConstants.CACHE_CONFIG_EVICTION_FACTOR;
+import static io.ballerina.stdlib.http.api.HttpConstants.CACHE_CONFIG_MAX_SIZE;
+import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_HEADERS;
+import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_IN_FLIGHT_REQUESTS;
+import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_RESPONSE_CACHE;
+import static io.ballerina.stdlib.http.api.HttpConstants.RESPONSE_REASON_PHRASE_FIELD;
+import static io.ballerina.stdlib.http.api.HttpConstants.RESPONSE_RECEIVED_TIME_FIELD;
+import static io.ballerina.stdlib.http.api.HttpConstants.RESPONSE_REQUEST_TIME_FIELD;
+import static io.ballerina.stdlib.http.api.HttpConstants.RESPONSE_STATUS_CODE_FIELD;
+
+/**
+ * Utilities related to the HTTP response cache of the caching client.
+ *
+ * @since 2.12.1
+ */
+public class ExternHttpCache {
+
+    public static void init(BObject httpCache, BMap<BString, Object> cacheConfig) {
+        long maxSize = cacheConfig.getIntValue(CACHE_CONFIG_MAX_SIZE);
+        int capacity = cacheConfig.getIntValue(CACHE_CONFIG_CAPACITY).intValue();
+        double evictionFactor = cacheConfig.getFloatValue(CACHE_CONFIG_EVICTION_FACTOR);
+        HttpResponseCache responseCache = new HttpResponseCache(maxSize, capacity, evictionFactor);
+        httpCache.addNativeData(HTTP_RESPONSE_CACHE, responseCache);
+        httpCache.addNativeData(HTTP_IN_FLIGHT_REQUESTS, new InFlightRequests());
+    }
+
+    public static boolean put(BObject httpCache, BString key, BObject request, BObject response, BArray payload) {
+        BString reasonPhrase = (BString) response.get(RESPONSE_REASON_PHRASE_FIELD);
+        CachedResponse cachedResponse = new CachedResponse(
+                (int) response.getIntValue(RESPONSE_STATUS_CODE_FIELD),
+                reasonPhrase != null ? reasonPhrase.getValue() : "", getHeaders(response), payload.getBytes(),
+                response.get(RESPONSE_REQUEST_TIME_FIELD), response.get(RESPONSE_RECEIVED_TIME_FIELD),
+                getHeaders(request));
+        return getResponseCache(httpCache).put(key.getValue(), cachedResponse);
+    }
+
+    public static Object get(BObject httpCache, BString key, BObject request) {
+        CachedResponse cachedResponse = getResponseCache(httpCache).get(key.getValue(), getHeaders(request));
+        if (cachedResponse == null) {
+            return null;
+        }
+        HttpCarbonMessage responseMsg = cachedResponse.toCarbonMessage();
+        if (responseMsg == null) {
+            return null;
+        }
+        BObject response = HttpUtil.createResponseStruct(responseMsg);
+        response.set(RESPONSE_REQUEST_TIME_FIELD, cachedResponse.getRequestTime());
+        response.set(RESPONSE_RECEIVED_TIME_FIELD, cachedResponse.getReceivedTime());
+        return response;
+    }
+
+    public static boolean hasKey(BObject httpCache, BString key) {
+        return getResponseCache(httpCache).hasKey(key.getValue());
+    }
+
+    public static void remove(BObject httpCache, BString key) {
+        getResponseCache(httpCache).remove(key.getValue());
+    }
+
+    public static void update(BObject httpCache, BString key, BString entityTag, boolean weak,
+                              BObject validationResponse) {
+        getResponseCache(httpCache).update(key.getValue(), entityTag.getValue(), weak,
+                                           getHeaders(validationResponse));
+    }
+
+    public static boolean tryAcquireInFlightRequest(BObject httpCache, BString key) {
+        return getInFlightRequests(httpCache).tryAcquire(key.getValue());
+    }
+
+    public static void releaseInFlightRequest(BObject httpCache, BString key) {
+        getInFlightRequests(httpCache).release(key.getValue());
+    }
+
+    public static Object awaitInFlightRequest(Environment env, BObject httpCache, BString key, BDecimal timeout) {
+        Future balFuture = env.markAsync();
+        long timeoutMillis = (long) (timeout.floatValue() * 1000);
+        getInFlightRequests(httpCache).await(key.getValue(), timeoutMillis)
+                .whenComplete((result, throwable) -> balFuture.complete(null));
+        return null;
+    }
+
+    private static InFlightRequests getInFlightRequests(BObject httpCache) {
+        return (InFlightRequests) httpCache.getNativeData(HTTP_IN_FLIGHT_REQUESTS);
+    }
+
+    private static HttpResponseCache getResponseCache(BObject httpCache) {
+        return (HttpResponseCache) httpCache.getNativeData(HTTP_RESPONSE_CACHE);
+    }
+
+    private static HttpHeaders getHeaders(BObject httpMessage) {
+        HttpHeaders headers = (HttpHeaders) httpMessage.getNativeData(HTTP_HEADERS);
+        return headers != null ? headers : new DefaultHttpHeaders();
+    }
+
+    private ExternHttpCache() {}
+}
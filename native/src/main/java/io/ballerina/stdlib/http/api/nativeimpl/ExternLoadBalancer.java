@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.api.nativeimpl;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.http.api.client.resiliency.LoadBalancer;
+import io.ballerina.stdlib.http.api.client.resiliency.OutlierDetector;
+
+import java.math.BigDecimal;
+
+import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_LOAD_BALANCER;
+import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_LOAD_BALANCER_CLIENTS;
+import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_OUTLIER_DETECTOR;
+
+/**
+ * Utilities related to the native load balancing algorithms of the load balance client.
+ *
+ * @since 2.12.1
+ */
+public class ExternLoadBalancer {
+
+    private static final BigDecimal NANOS_PER_SECOND = BigDecimal.valueOf(1_000_000_000L);
+
+    public static void init(BObject loadBalanceClient, BArray targets, BArray clients, BString algorithm) {
+        OutlierDetector outlierDetector = (OutlierDetector) loadBalanceClient.getNativeData(HTTP_OUTLIER_DETECTOR);
+        loadBalanceClient.addNativeData(HTTP_LOAD_BALANCER, new LoadBalancer(
+                targets.getStringArray(), LoadBalancer.Algorithm.valueOf(algorithm.getValue()), outlierDetector));
+        // The clients never change once created, hence they are read without the lock of the load balance client
+        BObject[] targetClients = new BObject[clients.size()];
+        for (int i = 0; i < targetClients.length; i++) {
+            targetClients[i] = (BObject) clients.getRefValue(i);
+        }
+        loadBalanceClient.addNativeData(HTTP_LOAD_BALANCER_CLIENTS, targetClients);
+    }
+
+    public static long selectTarget(BObject loadBalanceClient, BArray triedTargets) {
+        boolean[] excluded = new boolean[getTargets(loadBalanceClient).length];
+        for (long index : triedTargets.getIntArray()) {
+            excluded[(int) index] = true;
+        }
+        return getLoadBalancer(loadBalanceClient).select(excluded);
+    }
+
+    public static BObject getTarget(BObject loadBalanceClient, long index) {
+        return getTargets(loadBalanceClient)[(int) index];
+    }
+
+    public static void completeRequest(BObject loadBalanceClient, long index, BDecimal latency, boolean failed) {
+        long latencyNanos = latency.decimalValue().multiply(NANOS_PER_SECOND).longValue();
+        getLoadBalancer(loadBalanceClient).complete((int) index, latencyNanos, failed);
+    }
+
+    private static BObject[] getTargets(BObject loadBalanceClient) {
+        return (BObject[]) loadBalanceClient.getNativeData(HTTP_LOAD_BALANCER_CLIENTS);
+    }
+
+    private static LoadBalancer getLoadBalancer(BObject loadBalanceClient) {
+        return (LoadBalancer) loadBalanceClient.getNativeData(HTTP_LOAD_BALANCER);
+    }
+
+    private ExternLoadBalancer() {}
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.api.nativeimpl;
+
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.http.api.client.resiliency.OutlierDetector;
+
+import java.math.BigDecimal;
+
+import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_OUTLIER_DETECTOR;
+import static io.ballerina.stdlib.http.api.HttpConstants.OUTLIER_DETECTION_BASE_EJECTION_TIME;
+import static io.ballerina.stdlib.http.api.HttpConstants.OUTLIER_DETECTION_CONSECUTIVE_FAILURES;
+import static io.ballerina.stdlib.http.api.HttpConstants.OUTLIER_DETECTION_FAILURE_RATE_THRESHOLD;
+import static io.ballerina.stdlib.http.api.HttpConstants.OUTLIER_DETECTION_MAX_EJECTION_RATIO;
+import static io.ballerina.stdlib.http.api.HttpConstants.OUTLIER_DETECTION_MAX_EJECTION_TIME;
+import static io.ballerina.stdlib.http.api.HttpConstants.OUTLIER_DETECTION_MINIMUM_REQUESTS;
+import static io.ballerina.stdlib.http.api.HttpConstants.OUTLIER_DETECTION_WINDOW;
+
+/**
+ * Utilities related to the outlier detection of the targets of the failover and load balance clients.
+ *
+ * @since 2.12.1
+ */
+public class ExternOutlierDetector {
+
+    private static final BigDecimal NANOS_PER_SECOND = BigDecimal.valueOf(1_000_000_000L);
+
+    @SuppressWarnings("unchecked")
+    public static void init(BObject client, long targetCount, Object outlierDetectionConfig) {
+        if (outlierDetectionConfig == null) {
+            return;
+        }
+        BMap<BString, Object> config = (BMap<BString, Object>) outlierDetectionConfig;
+        client.addNativeData(HTTP_OUTLIER_DETECTOR, new OutlierDetector(
+                (int) targetCount,
+                (int) Math.max(config.getIntValue(OUTLIER_DETECTION_CONSECUTIVE_FAILURES), 0),
+                config.getFloatValue(OUTLIER_DETECTION_FAILURE_RATE_THRESHOLD),
+                config.getIntValue(OUTLIER_DETECTION_MINIMUM_REQUESTS),
+                toNanos(config.get(OUTLIER_DETECTION_WINDOW)),
+                toNanos(config.get(OUTLIER_DETECTION_BASE_EJECTION_TIME)),
+                toNanos(config.get(OUTLIER_DETECTION_MAX_EJECTION_TIME)),
+                config.getFloatValue(OUTLIER_DETECTION_MAX_EJECTION_RATIO)));
+    }
+
+    public static boolean isEjected(BObject client, long index) {
+        OutlierDetector outlierDetector = getOutlierDetector(client);
+        return outlierDetector != null && outlierDetector.isEjected((int) index);
+    }
+
+    public static void record(BObject client, long index, boolean failed) {
+        OutlierDetector outlierDetector = getOutlierDetector(client);
+        if (outlierDetector != null) {
+            outlierDetector.record((int) index, failed);
+        }
+    }
+
+    private static OutlierDetector getOutlierDetector(BObject client) {
+        return (OutlierDetector) client.getNativeData(HTTP_OUTLIER_DETECTOR);
+    }
+
+    private static long toNanos(Object seconds) {
+        return ((BDecimal) seconds).decimalValue().multiply(NANOS_PER_SECOND).longValue();
+    }
+
+    private ExternOutlierDetector() {}
+}
@@ -30,13 +30,21 @@ import io.ballerina.stdlib.http.api.HttpErrorType;
 import io.ballerina.stdlib.http.api.HttpUtil;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 import io.ballerina.stdlib.http.uri.URIUtil;
+import io.ballerina.stdlib.mime.util.EntityBodyChannel;
 import io.ballerina.stdlib.mime.util.EntityBodyHandler;
+import io.ballerina.stdlib.mime.util.EntityWrapper;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
 import java.util.Objects;
 
 import static io.ballerina.stdlib.http.api.HttpConstants.QUERY_PARAM_MAP;
 import static io.ballerina.stdlib.http.api.HttpConstants.TRANSPORT_MESSAGE;
 import static io.ballerina.stdlib.http.api.HttpUtil.checkRequestBodySizeHeadersAvailability;
+import static io.ballerina.stdlib.mime.util.MimeConstants.ENTITY_BYTE_CHANNEL;
 import static io.ballerina.stdlib.mime.util.MimeConstants.REQUEST_ENTITY_FIELD;
 
 /**
@@ -46,6 +54,7 @@ import static io.ballerina.stdlib.mime.util.MimeConstants.REQUEST_ENTITY_FIELD;
  */
 public class ExternRequest {
 
+    private static final int READ_BUFFER_SIZE = 8192;
     private static final MapType mapType = TypeCreator.createMapType(
             TypeCreator.createArrayType(PredefinedTypes.TYPE_STRING));
 
@@ -110,6 +119,67 @@ public class ExternRequest {
         return Objects.nonNull(EntityBodyHandler.getMessageDataSource(entityObj));
     }
 
+    /**
+     * Prepares the payload of a request to be sent more than once. A payload which is not yet built is retained as
+     * it is received and replayed on each attempt, while a payload set as a byte channel is built into a blob.
+     *
+     * @param requestObj    the request
+     * @param maxReplaySize maximum number of bytes of a payload which is not yet built, or of a byte channel, to be
+     *                      retained
+     * @return true if the payload can be sent more than once, false if it is too large to be retained, or an error
+     */
+    public static Object retainReplayablePayload(BObject requestObj, long maxReplaySize) {
+        try {
+            BObject entityObj = HttpUtil.extractEntity(requestObj);
+            if (entityObj != null) {
+                if (EntityBodyHandler.getMessageDataSource(entityObj) == null &&
+                        EntityBodyHandler.getByteChannel(entityObj) != null) {
+                    return retainByteChannel(entityObj, maxReplaySize);
+                }
+                return true;
+            }
+            Object outboundMsg = requestObj.getNativeData(TRANSPORT_MESSAGE);
+            if (outboundMsg == null || !checkRequestBodySizeHeadersAvailability((HttpCarbonMessage) outboundMsg)) {
+                return true;
+            }
+            return ((HttpCarbonMessage) outboundMsg).retainReplayableContent(maxReplaySize);
+        } catch (IOException | IllegalStateException e) {
+            return HttpUtil.createHttpError("failed to retain the request payload for replay: " + e.getMessage(),
+                                            HttpErrorType.GENERIC_CLIENT_ERROR);
+        }
+    }
+
+    public static void releaseReplayablePayload(BObject requestObj) {
+        Object outboundMsg = requestObj.getNativeData(TRANSPORT_MESSAGE);
+        if (outboundMsg != null) {
+            ((HttpCarbonMessage) outboundMsg).releaseReplayableContent();
+        }
+    }
+
+    /**
+     * Builds the byte channel of an entity into a blob, reading at most one byte more than `maxReplaySize`. A larger
+     * payload is left in a byte channel which yields the bytes already read followed by the rest of the original
+     * channel, so that the request can still be sent once.
+     */
+    private static boolean retainByteChannel(BObject entityObj, long maxReplaySize) throws IOException {
+        InputStream inputStream = EntityBodyHandler.getByteChannel(entityObj).getInputStream();
+        int limit = (int) Math.min(Math.max(maxReplaySize, 0), Integer.MAX_VALUE - 9) + 1;
+        byte[] buffer = new byte[Math.min(limit, READ_BUFFER_SIZE)];
+        ByteArrayOutputStream payload = new ByteArrayOutputStream(buffer.length);
+        int read;
+        while (payload.size() < limit &&
+                (read = inputStream.read(buffer, 0, Math.min(buffer.length, limit - payload.size()))) != -1) {
+            payload.write(buffer, 0, read);
+        }
+        if (payload.size() < limit) {
+            EntityBodyHandler.addMessageDataSource(entityObj, ValueCreator.createArrayValue(payload.toByteArray()));
+            return true;
+        }
+        InputStream remaining = new SequenceInputStream(new ByteArrayInputStream(payload.toByteArray()), inputStream);
+        entityObj.addNativeData(ENTITY_BYTE_CHANNEL, new EntityWrapper(new EntityBodyChannel(remaining)));
+        return false;
+    }
+
     private static boolean lengthHeaderCheck(BObject requestObj) {
         Object outboundMsg = requestObj.getNativeData(TRANSPORT_MESSAGE);
         if (outboundMsg == null) {
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.api.nativeimpl;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.http.api.client.resiliency.RetryBudget;
+import io.ballerina.stdlib.http.transport.contractimpl.common.metrics.HttpMetricsRegistry;
+
+import java.math.BigDecimal;
+
+import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_RETRY_BUDGET;
+import static io.ballerina.stdlib.http.api.HttpConstants.RETRY_BUDGET_MIN_RETRIES_PER_SECOND;
+import static io.ballerina.stdlib.http.api.HttpConstants.RETRY_BUDGET_RATIO;
+
+/**
+ * Utilities related to the retry budget of the retry client.
+ *
+ * @since 2.12.1
+ */
+public class ExternRetryBudget {
+
+    @SuppressWarnings("unchecked")
+    public static void init(BObject retryClient, BString url, Object budgetConfig, double jitter) {
+        double ratio = -1;
+        long minRetriesPerSecond = 0;
+        if (budgetConfig != null) {
+            BMap<BString, Object> budget = (BMap<BString, Object>) budgetConfig;
+            ratio = Math.max(budget.getFloatValue(RETRY_BUDGET_RATIO), 0);
+            minRetriesPerSecond = Math.max(budget.getIntValue(RETRY_BUDGET_MIN_RETRIES_PER_SECOND), 0);
+        }
+        retryClient.addNativeData(HTTP_RETRY_BUDGET, new RetryBudget(
+                ratio, minRetriesPerSecond, Math.min(Math.max(jitter, 0), 1),
+                HttpMetricsRegistry.getInstance().getRetryMetrics(url.getValue())));
+    }
+
+    public static void deposit(BObject retryClient) {
+        getRetryBudget(retryClient).deposit();
+    }
+
+    public static boolean tryAcquire(BObject retryClient) {
+        return getRetryBudget(retryClient).tryAcquire();
+    }
+
+    public static BDecimal getJitteredInterval(BObject retryClient, BDecimal interval) {
+        double jitteredInterval = getRetryBudget(retryClient).getJitteredInterval(interval.floatValue());
+        return ValueCreator.createDecimalValue(BigDecimal.valueOf(jitteredInterval));
+    }
+
+    private static RetryBudget getRetryBudget(BObject retryClient) {
+        return (RetryBudget) retryClient.getNativeData(HTTP_RETRY_BUDGET);
+    }
+
+    private ExternRetryBudget() {}
+}
@@ -0,0 +1,350 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.api.nativeimpl.connection;
+
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.http.api.HttpConstants;
+import io.ballerina.stdlib.http.transport.contract.Constants;
+import io.ballerina.stdlib.http.transport.message.FileContent;
+import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.ballerina.stdlib.io.channels.base.Channel;
+import io.ballerina.stdlib.mime.util.EntityBodyHandler;
+import io.ballerina.stdlib.mime.util.MimeUtil;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.ByteChannel;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+import static io.ballerina.stdlib.http.transport.contract.Constants.HTTP_GET_METHOD;
+import static io.ballerina.stdlib.http.transport.contract.Constants.HTTP_HEAD_METHOD;
+
+/**
+ * Writes a response whose entity body is backed by a file. Conditional GET requests are answered with
+ * `304 - Not Modified` and byte range requests with the requested slices of the file, either as a single part or as
+ * a `multipart/byteranges` payload. The file is handed over to the transport when it can be written to the
+ * connection directly, which is the case for single part HTTP/1.x responses.
+ *
+ * @since 2.12.1
+ */
+final class FileResponse {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FileResponse.class);
+
+    private static final String BYTES_UNIT = "bytes";
+    private static final String CRLF = "\r\n";
+    private static final String WEAK_ETAG_PREFIX = "W/";
+    private static final String MULTIPART_BYTE_RANGES = "multipart/byteranges; boundary=";
+    private static final int MAX_RANGES = 16;
+
+    private final FileChannel fileChannel;
+    private final long position;
+    private final long length;
+    private final boolean directWrite;
+    private List<long[]> ranges;
+    private boolean bodyless;
+    private String boundary;
+    private String contentType;
+
+    private FileResponse(FileChannel fileChannel, long position, long length, boolean directWrite) {
+        this.fileChannel = fileChannel;
+        this.position = position;
+        this.length = length;
+        this.directWrite = directWrite;
+    }
+
+    /**
+     * Prepares the response if its entity body is a byte channel backed by a file. The status code and the headers
+     * of the response are updated according to the conditional and range headers of the request.
+     *
+     * @param requestMessage  Represents the request that corresponds to the response
+     * @param responseMessage Represents native response message
+     * @param entity          Represents the entity that holds the actual body
+     * @return the file response, or null if the entity body is not backed by a file
+     */
+    static FileResponse prepare(HttpCarbonMessage requestMessage, HttpCarbonMessage responseMessage, BObject entity) {
+        if (EntityBodyHandler.getMessageDataSource(entity) != null || EntityBodyHandler.getEventStream(entity) != null
+                || EntityBodyHandler.getByteStream(entity) != null) {
+            return null;
+        }
+        Channel byteChannel = EntityBodyHandler.getByteChannel(entity);
+        if (byteChannel == null) {
+            return null;
+        }
+        ByteChannel channel = byteChannel.getByteChannel();
+        if (!(channel instanceof FileChannel)) {
+            return null;
+        }
+        FileChannel fileChannel = (FileChannel) channel;
+        FileResponse fileResponse;
+        try {
+            long position = fileChannel.position();
+            fileResponse = new FileResponse(fileChannel, position, fileChannel.size() - position,
+                                            !Constants.HTTP_2_0.equals(requestMessage.getHttpVersion()));
+        } catch (IOException e) {
+            LOG.debug("Unable to determine the size of the file of the response", e);
+            return null;
+        }
+        Integer statusCode = responseMessage.getHttpStatusCode();
+        if (statusCode == null || statusCode == HttpResponseStatus.OK.code()) {
+            fileResponse.evaluatePreconditions(requestMessage, responseMessage);
+        }
+        return fileResponse;
+    }
+
+    private void evaluatePreconditions(HttpCarbonMessage requestMessage, HttpCarbonMessage responseMessage) {
+        HttpHeaders requestHeaders = requestMessage.getHeaders();
+        HttpHeaders responseHeaders = responseMessage.getHeaders();
+        responseHeaders.set(HttpHeaderNames.ACCEPT_RANGES, BYTES_UNIT);
+        String method = requestMessage.getHttpMethod();
+        if (!HTTP_GET_METHOD.equalsIgnoreCase(method) && !HTTP_HEAD_METHOD.equalsIgnoreCase(method)) {
+            return;
+        }
+        if (isNotModified(requestHeaders, responseHeaders)) {
+            setStatus(responseMessage, HttpResponseStatus.NOT_MODIFIED);
+            responseHeaders.remove(HttpHeaderNames.CONTENT_TYPE);
+            responseHeaders.remove(HttpHeaderNames.CONTENT_LENGTH);
+            bodyless = true;
+            return;
+        }
+        String range = requestHeaders.get(HttpHeaderNames.RANGE);
+        if (range == null || !HTTP_GET_METHOD.equalsIgnoreCase(method)
+                || !isIfRangeSatisfied(requestHeaders.get(HttpHeaderNames.IF_RANGE), responseHeaders)) {
+            return;
+        }
+        List<long[]> requestedRanges = parseRanges(range, length);
+        if (requestedRanges == null || requestedRanges.size() > MAX_RANGES) {
+            // Range headers which are invalid or have too many ranges are ignored, and the full file is sent
+            return;
+        }
+        responseHeaders.remove(HttpHeaderNames.CONTENT_LENGTH);
+        if (requestedRanges.isEmpty()) {
+            setStatus(responseMessage, HttpResponseStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+            responseHeaders.set(HttpHeaderNames.CONTENT_RANGE, BYTES_UNIT + " */" + length);
+            responseHeaders.remove(HttpHeaderNames.CONTENT_TYPE);
+            bodyless = true;
+            return;
+        }
+        setStatus(responseMessage, HttpResponseStatus.PARTIAL_CONTENT);
+        // Content codings are applied on the whole representation, hence the slices are sent as they are
+        responseHeaders.set(Constants.HTTP_PRE_ENCODED_CONTENT, Boolean.TRUE.toString());
+        ranges = requestedRanges;
+        if (ranges.size() == 1) {
+            responseHeaders.set(HttpHeaderNames.CONTENT_RANGE, getContentRange(ranges.get(0)));
+        } else {
+            contentType = responseHeaders.get(HttpHeaderNames.CONTENT_TYPE);
+            boundary = MimeUtil.getNewMultipartDelimiter();
+            responseHeaders.set(HttpHeaderNames.CONTENT_TYPE, MULTIPART_BYTE_RANGES + boundary);
+        }
+    }
+
+    /**
+     * Writes the entity body of the response and closes the file.
+     *
+     * @param responseMessage     Represents native response message
+     * @param messageOutputStream Represents the output stream
+     * @throws IOException In case an error occurs while reading the file or writing to the output stream
+     */
+    void write(HttpCarbonMessage responseMessage, OutputStream messageOutputStream) throws IOException {
+        boolean fileHandedOver = false;
+        try {
+            if (bodyless) {
+                return;
+            }
+            if (ranges == null || ranges.size() == 1) {
+                long start = ranges == null ? 0 : ranges.get(0)[0];
+                long count = ranges == null ? length : ranges.get(0)[1] - start + 1;
+                if (directWrite) {
+                    responseMessage.setFileContent(new FileContent(fileChannel, position + start, count));
+                    fileHandedOver = true;
+                } else {
+                    transferTo(start, count, messageOutputStream);
+                }
+                return;
+            }
+            for (long[] range : ranges) {
+                StringBuilder partHeaders = new StringBuilder(CRLF).append("--").append(boundary).append(CRLF);
+                if (contentType != null) {
+                    partHeaders.append(HttpHeaderNames.CONTENT_TYPE).append(": ").append(contentType).append(CRLF);
+                }
+                partHeaders.append(HttpHeaderNames.CONTENT_RANGE).append(": ").append(getContentRange(range))
+                        .append(CRLF).append(CRLF);
+                messageOutputStream.write(partHeaders.toString().getBytes(StandardCharsets.US_ASCII));
+                transferTo(range[0], range[1] - range[0] + 1, messageOutputStream);
+            }
+            messageOutputStream.write((CRLF + "--" + boundary + "--" + CRLF).getBytes(StandardCharsets.US_ASCII));
+        } finally {
+            if (!fileHandedOver) {
+                fileChannel.close();
+            }
+        }
+    }
+
+    private void transferTo(long start, long count, OutputStream messageOutputStream) throws IOException {
+        WritableByteChannel target = Channels.newChannel(messageOutputStream);
+        long transferred = 0;
+        while (transferred < count) {
+            long written = fileChannel.transferTo(position + start + transferred, count - transferred, target);
+            if (written <= 0) {
+                throw new IOException("Unexpected end of the file of the response");
+            }
+            transferred += written;
+        }
+    }
+
+    private String getContentRange(long[] range) {
+        return BYTES_UNIT + " " + range[0] + "-" + range[1] + "/" + length;
+    }
+
+    private static void setStatus(HttpCarbonMessage responseMessage, HttpResponseStatus status) {
+        responseMessage.setHttpStatusCode(status.code());
+        responseMessage.removeProperty(HttpConstants.HTTP_REASON_PHRASE);
+    }
+
+    /**
+     * Evaluates `if-none-match` and, in its absence, `if-modified-since` against the validators of the response.
+     */
+    static boolean isNotModified(HttpHeaders requestHeaders, HttpHeaders responseHeaders) {
+        String ifNoneMatch = requestHeaders.get(HttpHeaderNames.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            String etag = responseHeaders.get(HttpHeaderNames.ETAG);
+            if (etag == null) {
+                return false;
+            }
+            for (String tag : ifNoneMatch.split(",")) {
+                tag = tag.trim();
+                if ("*".equals(tag) || stripWeakPrefix(tag).equals(stripWeakPrefix(etag))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        ZonedDateTime ifModifiedSince = parseDate(requestHeaders.get(HttpHeaderNames.IF_MODIFIED_SINCE));
+        ZonedDateTime lastModified = parseDate(responseHeaders.get(HttpHeaderNames.LAST_MODIFIED));
+        return ifModifiedSince != null && lastModified != null && !lastModified.isAfter(ifModifiedSince);
+    }
+
+    /**
+     * Evaluates `if-range`, which only matches a strong entity tag or the exact last modified date of the response.
+     */
+    static boolean isIfRangeSatisfied(String ifRange, HttpHeaders responseHeaders) {
+        if (ifRange == null) {
+            return true;
+        }
+        ifRange = ifRange.trim();
+        if (ifRange.startsWith("\"") || ifRange.startsWith(WEAK_ETAG_PREFIX)) {
+            String etag = responseHeaders.get(HttpHeaderNames.ETAG);
+            return etag != null && !etag.startsWith(WEAK_ETAG_PREFIX) && !ifRange.startsWith(WEAK_ETAG_PREFIX)
+                    && etag.equals(ifRange);
+        }
+        ZonedDateTime date = parseDate(ifRange);
+        ZonedDateTime lastModified = parseDate(responseHeaders.get(HttpHeaderNames.LAST_MODIFIED));
+        return date != null && lastModified != null && date.isEqual(lastModified);
+    }
+
+    /**
+     * Parses a `range` header into the satisfiable ranges of a representation of the given length. Overlapping and
+     * adjacent ranges are coalesced.
+     *
+     * @param range  the `range` header value
+     * @param length the length of the representation
+     * @return the first and last byte positions of the ranges in ascending order, an empty list if none of the ranges
+     * is satisfiable, or null if the header is invalid
+     */
+    static List<long[]> parseRanges(String range, long length) {
+        int equalsPos = range.indexOf('=');
+        if (equalsPos == -1 || !BYTES_UNIT.equals(range.substring(0, equalsPos).trim().toLowerCase(Locale.ROOT))) {
+            return null;
+        }
+        List<long[]> ranges = new ArrayList<>();
+        try {
+            for (String rangeSpec : range.substring(equalsPos + 1).split(",")) {
+                rangeSpec = rangeSpec.trim();
+                int dashPos = rangeSpec.indexOf('-');
+                if (dashPos == -1) {
+                    return null;
+                }
+                String first = rangeSpec.substring(0, dashPos).trim();
+                String last = rangeSpec.substring(dashPos + 1).trim();
+                if (first.isEmpty()) {
+                    long suffixLength = Long.parseLong(last);
+                    if (suffixLength < 0) {
+                        return null;
+                    }
+                    if (suffixLength > 0 && length > 0) {
+                        ranges.add(new long[]{Math.max(0, length - suffixLength), length - 1});
+                    }
+                    continue;
+                }
+                long firstPos = Long.parseLong(first);
+                long lastPos = last.isEmpty() ? Long.MAX_VALUE : Long.parseLong(last);
+                if (firstPos < 0 || lastPos < firstPos) {
+                    return null;
+                }
+                if (firstPos < length) {
+                    ranges.add(new long[]{firstPos, Math.min(lastPos, length - 1)});
+                }
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        ranges.sort(Comparator.comparingLong(r -> r[0]));
+        List<long[]> coalesced = new ArrayList<>(ranges.size());
+        for (long[] current : ranges) {
+            long[] previous = coalesced.isEmpty() ? null : coalesced.get(coalesced.size() - 1);
+            if (previous != null && current[0] <= previous[1] + 1) {
+                previous[1] = Math.max(previous[1], current[1]);
+            } else {
+                coalesced.add(current);
+            }
+        }
+        return coalesced;
+    }
+
+    private static String stripWeakPrefix(String etag) {
+        return etag.startsWith(WEAK_ETAG_PREFIX) ? etag.substring(WEAK_ETAG_PREFIX.length()) : etag;
+    }
+
+    private static ZonedDateTime parseDate(String date) {
+        if (date == null) {
+            return null;
+        }
+        try {
+            return ZonedDateTime.parse(date.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
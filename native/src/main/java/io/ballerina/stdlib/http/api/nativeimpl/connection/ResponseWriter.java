@@ -74,6 +74,8 @@ public class ResponseWriter {
         if (entityObj == null) {
             responseMessage.setPassthrough(true);
         }
+        FileResponse fileResponse = entityObj != null && boundaryString == null ?
+                FileResponse.prepare(requestMessage, responseMessage, entityObj) : null;
         HttpResponseFuture outboundRespStatusFuture = HttpUtil.sendOutboundResponse(requestMessage, responseMessage);
         HttpConnectorListener outboundResStatusConnectorListener =
                 new ResponseWriter.HttpResponseConnectorListener(dataContext, outboundMsgDataStreamer);
@@ -82,6 +84,8 @@ public class ResponseWriter {
         if (entityObj != null) {
             if (boundaryString != null) {
                 serializeMultiparts(dataContext.getEnvironment(), boundaryString, entityObj, messageOutputStream);
+            } else if (fileResponse != null) {
+                serializeFileResponse(fileResponse, responseMessage, messageOutputStream);
             } else {
                 Object outboundMessageSource = EntityBodyHandler.getMessageDataSource(entityObj);
                 serializeDataSource(dataContext.getEnvironment(), outboundMessageSource, entityObj,
@@ -112,6 +116,25 @@ public class ResponseWriter {
         }
     }
 
+    /**
+     * Serialize an entity body which is backed by a file.
+     *
+     * @param fileResponse        Represents the file response prepared for the request
+     * @param responseMessage     Represents native response message
+     * @param messageOutputStream Represents the output stream
+     */
+    private static void serializeFileResponse(FileResponse fileResponse, HttpCarbonMessage responseMessage,
+                                              OutputStream messageOutputStream) {
+        try {
+            fileResponse.write(responseMessage, messageOutputStream);
+        } catch (IOException ex) {
+            throw ErrorCreator.createError(StringUtils.fromString(SERIALIZATION_ERROR), StringUtils.fromString(
+                    "error occurred while serializing message data source : " + ex.getMessage()));
+        } finally {
+            HttpUtil.closeMessageOutputStream(messageOutputStream);
+        }
+    }
+
     /**
      * Serialize message datasource.
      *
@@ -17,6 +17,7 @@ package io.ballerina.stdlib.http.transport.contract;
 
 import io.ballerina.stdlib.http.transport.contractimpl.DefaultHttpClientConnector;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.TargetChannel;
+import io.ballerina.stdlib.http.transport.internal.RequestTimeline;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 import io.netty.util.AttributeKey;
 import io.netty.util.concurrent.EventExecutorGroup;
@@ -119,7 +120,11 @@ public final class Constants {
 
     public static final String ENCODING_GZIP = "gzip";
     public static final String ENCODING_DEFLATE = "deflate";
+    public static final String ENCODING_BROTLI = "br";
+    public static final String ENCODING_ZSTD = "zstd";
     public static final String HTTP_TRANSFER_ENCODING_IDENTITY = "identity";
+    // Internal marker header for payloads which already carry their content-encoding. Stripped before writing.
+    public static final String HTTP_PRE_ENCODED_CONTENT = "x-ballerina-pre-encoded";
 
     // TODO: Move string constants for HTTP headers and header values to their own class
     public static final String HTTP_X_FORWARDED_FOR = "x-forwarded-for";
@@ -166,9 +171,11 @@ public final class Constants {
     public static final String DEFAULT_VERSION_HTTP_1_1 = "HTTP/1.1";
     public static final float HTTP_1_1 = 1.1f;
     public static final float HTTP_1_0 = 1.0f;
+    public static final float HTTP_2 = 2.0f;
     public static final String HTTP_2_0 = "2.0";
     public static final String HTTP_VERSION_PREFIX = "HTTP/";
     public static final String HTTP_1_1_VERSION = "1.1";
+    public static final String HTTP_1_0_VERSION = "1.0";
     public static final String HTTP_2_0_VERSION = "2.0";
     public static final String HTTP1_CLEARTEXT_PROTOCOL = "h1c";
     public static final String HTTP1_TLS_PROTOCOL = "h1";
@@ -218,6 +225,9 @@ public final class Constants {
     // Proxy related parameters
     public static final String IS_PROXY_ENABLED = "IS_PROXY_ENABLED";
 
+    // Hedging related parameters
+    public static final String RESPONSE_HANDLE_REQUESTED = "RESPONSE_HANDLE_REQUESTED";
+
     // HTTP2 Related Parameters
     public static final String UPGRADE_RESPONSE_HEADER = "http-to-http2-upgrade";
     public static final String HTTP_VERSION_2_0 = "HTTP/2.0";
@@ -260,6 +270,7 @@ public final class Constants {
     public static final String URI_HEADER_LENGTH_VALIDATION_HANDLER = "uriAndHeaderLengthValidator";
     public static final String STATUS_LINE_HEADER_LENGTH_VALIDATION_HANDLER = "statusLineAndHeaderLengthValidator";
     public static final String MAX_ENTITY_BODY_VALIDATION_HANDLER = "maxEntityBodyValidator";
+    public static final String METRICS_ENDPOINT_HANDLER = "metricsEndpointHandler";
 
     public static final AttributeKey<Integer> REDIRECT_COUNT = AttributeKey.valueOf("REDIRECT_COUNT");
     public static final AttributeKey<String> RESOLVED_REQUESTED_URI_ATTR = AttributeKey
@@ -273,6 +284,8 @@ public final class Constants {
             .valueOf("ORIGINAL_CHANNEL_TIMEOUT");
     public static final AttributeKey<TargetChannel> TARGET_CHANNEL_REFERENCE = AttributeKey
             .valueOf("TARGET_CHANNEL_REFERENCE");
+    public static final AttributeKey<RequestTimeline> CONNECTION_TIMELINE = AttributeKey
+            .valueOf("CONNECTION_TIMELINE");
     public static final AttributeKey<DefaultHttpClientConnector> CLIENT_CONNECTOR = AttributeKey
             .valueOf("CLIENT_CONNECTOR");
     public static final int REDIRECT_SEE_OTHER_303 = 303;
@@ -360,6 +373,10 @@ public final class Constants {
     public static final String IDLE_TIMEOUT_TRIGGERED_WHILE_READING_PUSH_RESPONSE_BODY
             = "Idle timeout triggered while reading push response entity body";
 
+    // Entity body size limit error scenarios
+    public static final String INBOUND_REQUEST_ENTITY_BODY_TOO_LARGE
+            = "Inbound request entity body exceeds the maximum allowed size";
+
     // Client connection closure error scenarios
     public static final String REMOTE_CLIENT_CLOSED_BEFORE_INITIATING_INBOUND_REQUEST
             = "Remote client closed the connection before initiating inbound request";
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contract.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.ballerina.stdlib.http.transport.contract.Constants.ENCODING_DEFLATE;
+import static io.ballerina.stdlib.http.transport.contract.Constants.ENCODING_GZIP;
+
+/**
+ * Configuration for the content codings used when compressing and decompressing HTTP message bodies.
+ */
+public class CompressionConfig {
+
+    public static final int DEFAULT_COMPRESSION_LEVEL = 6;
+
+    private List<String> algorithms = new ArrayList<>(List.of(ENCODING_GZIP, ENCODING_DEFLATE));
+    private int level = DEFAULT_COMPRESSION_LEVEL;
+    private int minContentLength = 0;
+    private List<String> contentTypes = new ArrayList<>();
+
+    /**
+     * The content codings in the order of preference. Codings whose native codec is not available at runtime are
+     * ignored.
+     */
+    public List<String> getAlgorithms() {
+        return algorithms;
+    }
+
+    public void setAlgorithms(List<String> algorithms) {
+        this.algorithms = algorithms;
+    }
+
+    /**
+     * The compression level applied to the gzip, deflate and zstd encoders.
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    public void setLevel(int level) {
+        this.level = level;
+    }
+
+    /**
+     * The minimum size of a payload in bytes for it to be compressed. Payloads with an unknown length are always
+     * considered for compression.
+     */
+    public int getMinContentLength() {
+        return minContentLength;
+    }
+
+    public void setMinContentLength(int minContentLength) {
+        this.minContentLength = minContentLength;
+    }
+
+    /**
+     * The media types which are eligible for compression. An empty list allows every media type.
+     */
+    public List<String> getContentTypes() {
+        return contentTypes;
+    }
+
+    public void setContentTypes(List<String> contentTypes) {
+        this.contentTypes = contentTypes;
+    }
+}
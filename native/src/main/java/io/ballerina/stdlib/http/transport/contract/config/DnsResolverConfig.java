@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contract.config;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Configuration for resolving the host names of a client asynchronously. Clients with equal configurations share the
+ * resolver and its cache.
+ *
+ * @since 2.12.1
+ */
+public class DnsResolverConfig {
+
+    private int minTtl = 0;
+    private int maxTtl = 300;
+    private int negativeTtl = 0;
+    private long refreshInterval = 30000;
+    private long queryTimeout = 5000;
+    private List<InetSocketAddress> nameServers = new ArrayList<>();
+
+    /**
+     * The minimum time in seconds the resolved addresses are cached, regardless of the TTL of the DNS records.
+     */
+    public int getMinTtl() {
+        return minTtl;
+    }
+
+    public void setMinTtl(int minTtl) {
+        this.minTtl = minTtl;
+    }
+
+    /**
+     * The maximum time in seconds the resolved addresses are cached, regardless of the TTL of the DNS records.
+     */
+    public int getMaxTtl() {
+        return maxTtl;
+    }
+
+    public void setMaxTtl(int maxTtl) {
+        this.maxTtl = maxTtl;
+    }
+
+    /**
+     * The time in seconds a failed resolution is cached.
+     */
+    public int getNegativeTtl() {
+        return negativeTtl;
+    }
+
+    public void setNegativeTtl(int negativeTtl) {
+        this.negativeTtl = negativeTtl;
+    }
+
+    /**
+     * The time in milliseconds after which the addresses of a host are re-resolved in the background.
+     */
+    public long getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    public void setRefreshInterval(long refreshInterval) {
+        this.refreshInterval = refreshInterval;
+    }
+
+    /**
+     * The timeout in milliseconds of a DNS query.
+     */
+    public long getQueryTimeout() {
+        return queryTimeout;
+    }
+
+    public void setQueryTimeout(long queryTimeout) {
+        this.queryTimeout = queryTimeout;
+    }
+
+    /**
+     * The DNS servers which are queried, or an empty list to query the servers of the system.
+     */
+    public List<InetSocketAddress> getNameServers() {
+        return nameServers;
+    }
+
+    public void setNameServers(List<InetSocketAddress> nameServers) {
+        this.nameServers = nameServers;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        DnsResolverConfig that = (DnsResolverConfig) o;
+        return minTtl == that.minTtl && maxTtl == that.maxTtl && negativeTtl == that.negativeTtl
+                && refreshInterval == that.refreshInterval && queryTimeout == that.queryTimeout
+                && nameServers.equals(that.nameServers);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(minTtl, maxTtl, negativeTtl, refreshInterval, queryTimeout, nameServers);
+    }
+}
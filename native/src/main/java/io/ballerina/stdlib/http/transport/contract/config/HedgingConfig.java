@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contract.config;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Configuration for hedging idempotent client requests.
+ *
+ * @since 2.12.1
+ */
+public class HedgingConfig {
+
+    private long delay = 100;
+    private double latencyPercentile = 0;
+    private double budgetRatio = 0.1;
+    private Set<String> methods = new HashSet<>(List.of("GET", "HEAD", "OPTIONS"));
+
+    /**
+     * The time in milliseconds to wait for a response before the hedged attempt is sent.
+     */
+    public long getDelay() {
+        return delay;
+    }
+
+    public void setDelay(long delay) {
+        this.delay = delay;
+    }
+
+    /**
+     * The percentile of the recently observed response times which is used as the delay once enough responses are
+     * observed. The fixed delay is always used when this is 0.
+     */
+    public double getLatencyPercentile() {
+        return latencyPercentile;
+    }
+
+    public void setLatencyPercentile(double latencyPercentile) {
+        this.latencyPercentile = latencyPercentile;
+    }
+
+    /**
+     * The maximum ratio of the requests which are hedged.
+     */
+    public double getBudgetRatio() {
+        return budgetRatio;
+    }
+
+    public void setBudgetRatio(double budgetRatio) {
+        this.budgetRatio = budgetRatio;
+    }
+
+    /**
+     * The methods of the requests which are hedged, in upper case.
+     */
+    public Set<String> getMethods() {
+        return methods;
+    }
+
+    public void setMethods(Set<String> methods) {
+        this.methods = methods;
+    }
+}
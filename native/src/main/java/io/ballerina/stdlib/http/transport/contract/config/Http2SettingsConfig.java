@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contract.config;
+
+/**
+ * Configuration for the HTTP/2 SETTINGS advertised on a connection and for the flow-control windows of it.
+ *
+ * @since 2.12.1
+ */
+public class Http2SettingsConfig {
+
+    public static final int UNSET = -1;
+    public static final int DEFAULT_WINDOW_SIZE = 65535;
+    public static final int DEFAULT_MAX_WINDOW_SIZE = 16 * 1024 * 1024;
+
+    private long headerTableSize = UNSET;
+    private long maxConcurrentStreams = UNSET;
+    private int maxFrameSize = UNSET;
+    private long maxHeaderListSize = UNSET;
+    private int connectionWindowSize = DEFAULT_WINDOW_SIZE;
+    private boolean windowAutoTuning = false;
+    private int maxWindowSize = DEFAULT_MAX_WINDOW_SIZE;
+
+    /**
+     * The SETTINGS_HEADER_TABLE_SIZE value. The protocol default is used when this is unset.
+     */
+    public long getHeaderTableSize() {
+        return headerTableSize;
+    }
+
+    public void setHeaderTableSize(long headerTableSize) {
+        this.headerTableSize = headerTableSize;
+    }
+
+    /**
+     * The SETTINGS_MAX_CONCURRENT_STREAMS value. The number of streams is not limited when this is unset.
+     */
+    public long getMaxConcurrentStreams() {
+        return maxConcurrentStreams;
+    }
+
+    public void setMaxConcurrentStreams(long maxConcurrentStreams) {
+        this.maxConcurrentStreams = maxConcurrentStreams;
+    }
+
+    /**
+     * The SETTINGS_MAX_FRAME_SIZE value. The protocol default is used when this is unset.
+     */
+    public int getMaxFrameSize() {
+        return maxFrameSize;
+    }
+
+    public void setMaxFrameSize(int maxFrameSize) {
+        this.maxFrameSize = maxFrameSize;
+    }
+
+    /**
+     * The SETTINGS_MAX_HEADER_LIST_SIZE value. When this is unset the listener advertises its maximum header size
+     * and the client uses the netty default.
+     */
+    public long getMaxHeaderListSize() {
+        return maxHeaderListSize;
+    }
+
+    public void setMaxHeaderListSize(long maxHeaderListSize) {
+        this.maxHeaderListSize = maxHeaderListSize;
+    }
+
+    /**
+     * The initial size of the connection-level receive window. Unlike the stream window this cannot be set through
+     * SETTINGS, hence a WINDOW_UPDATE frame is sent once the connection is established if it is larger than the
+     * protocol default.
+     */
+    public int getConnectionWindowSize() {
+        return connectionWindowSize;
+    }
+
+    public void setConnectionWindowSize(int connectionWindowSize) {
+        this.connectionWindowSize = connectionWindowSize;
+    }
+
+    /**
+     * Whether the receive windows are grown from the bandwidth-delay product measured with PING frames.
+     */
+    public boolean isWindowAutoTuning() {
+        return windowAutoTuning;
+    }
+
+    public void setWindowAutoTuning(boolean windowAutoTuning) {
+        this.windowAutoTuning = windowAutoTuning;
+    }
+
+    /**
+     * The upper bound of the receive windows when auto-tuning is enabled.
+     */
+    public int getMaxWindowSize() {
+        return maxWindowSize;
+    }
+
+    public void setMaxWindowSize(int maxWindowSize) {
+        this.maxWindowSize = maxWindowSize;
+    }
+}
@@ -66,6 +66,11 @@ public class ListenerConfiguration extends SslConfiguration {
     private int http2InitialWindowSize = 65535;
     private long minIdleTimeInStaleState = 3000000;
     private long timeBetweenStaleEviction = 30000;
+    private CompressionConfig compressionConfig = new CompressionConfig();
+    private Http2SettingsConfig http2SettingsConfig = new Http2SettingsConfig();
+    private String metricsPath;
+    private ConcurrencyLimitConfig concurrencyLimitConfig;
+    private RequestSpillConfig requestSpillConfig;
 
     public ListenerConfiguration() {
     }
@@ -300,4 +305,44 @@ public class ListenerConfiguration extends SslConfiguration {
     public long getTimeBetweenStaleEviction() {
         return timeBetweenStaleEviction;
     }
+
+    public CompressionConfig getCompressionConfig() {
+        return compressionConfig;
+    }
+
+    public void setCompressionConfig(CompressionConfig compressionConfig) {
+        this.compressionConfig = compressionConfig;
+    }
+
+    public Http2SettingsConfig getHttp2SettingsConfig() {
+        return http2SettingsConfig;
+    }
+
+    public void setHttp2SettingsConfig(Http2SettingsConfig http2SettingsConfig) {
+        this.http2SettingsConfig = http2SettingsConfig;
+    }
+
+    public String getMetricsPath() {
+        return metricsPath;
+    }
+
+    public void setMetricsPath(String metricsPath) {
+        this.metricsPath = metricsPath;
+    }
+
+    public ConcurrencyLimitConfig getConcurrencyLimitConfig() {
+        return concurrencyLimitConfig;
+    }
+
+    public void setConcurrencyLimitConfig(ConcurrencyLimitConfig concurrencyLimitConfig) {
+        this.concurrencyLimitConfig = concurrencyLimitConfig;
+    }
+
+    public RequestSpillConfig getRequestSpillConfig() {
+        return requestSpillConfig;
+    }
+
+    public void setRequestSpillConfig(RequestSpillConfig requestSpillConfig) {
+        this.requestSpillConfig = requestSpillConfig;
+    }
 }
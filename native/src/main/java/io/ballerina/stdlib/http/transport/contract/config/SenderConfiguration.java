@@ -57,6 +57,10 @@ public class SenderConfiguration extends SslConfiguration {
     private boolean socketReuse = false;
     private boolean socketKeepAlive = true;
     private int http2InitialWindowSize = 65535;
+    private CompressionConfig compressionConfig = new CompressionConfig();
+    private Http2SettingsConfig http2SettingsConfig = new Http2SettingsConfig();
+    private HedgingConfig hedgingConfig;
+    private DnsResolverConfig dnsResolverConfig;
 
     public SenderConfiguration() {
         this.poolConfiguration = new PoolConfiguration();
@@ -223,4 +227,36 @@ public class SenderConfiguration extends SslConfiguration {
     public void setHttp2InitialWindowSize(int http2InitialWindowSize) {
         this.http2InitialWindowSize = http2InitialWindowSize;
     }
+
+    public CompressionConfig getCompressionConfig() {
+        return compressionConfig;
+    }
+
+    public void setCompressionConfig(CompressionConfig compressionConfig) {
+        this.compressionConfig = compressionConfig;
+    }
+
+    public Http2SettingsConfig getHttp2SettingsConfig() {
+        return http2SettingsConfig;
+    }
+
+    public void setHttp2SettingsConfig(Http2SettingsConfig http2SettingsConfig) {
+        this.http2SettingsConfig = http2SettingsConfig;
+    }
+
+    public HedgingConfig getHedgingConfig() {
+        return hedgingConfig;
+    }
+
+    public void setHedgingConfig(HedgingConfig hedgingConfig) {
+        this.hedgingConfig = hedgingConfig;
+    }
+
+    public DnsResolverConfig getDnsResolverConfig() {
+        return dnsResolverConfig;
+    }
+
+    public void setDnsResolverConfig(DnsResolverConfig dnsResolverConfig) {
+        this.dnsResolverConfig = dnsResolverConfig;
+    }
 }
@@ -34,6 +34,7 @@ import io.ballerina.stdlib.http.transport.contractimpl.common.states.SenderReqRe
 import io.ballerina.stdlib.http.transport.contractimpl.listener.SourceHandler;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.http2.Http2SourceHandler;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.ConnectionAvailabilityListener;
+import io.ballerina.stdlib.http.transport.contractimpl.sender.RequestHedger;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.BootstrapConfiguration;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.TargetChannel;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool.ConnectionManager;
@@ -83,6 +84,7 @@ public class DefaultHttpClientConnector implements HttpClientConnector {
     private EventLoopGroup clientEventGroup;
     private BootstrapConfiguration bootstrapConfig;
     private int configHashCode;
+    private RequestHedger requestHedger;
 
     public DefaultHttpClientConnector(ConnectionManager connectionManager, SenderConfiguration senderConfiguration,
                                       BootstrapConfiguration bootstrapConfig, EventLoopGroup clientEventGroup,
@@ -97,6 +99,9 @@ public class DefaultHttpClientConnector implements HttpClientConnector {
         this.clientEventGroup = clientEventGroup;
         this.bootstrapConfig = bootstrapConfig;
         this.configHashCode = configHashCode;
+        if (senderConfiguration.getHedgingConfig() != null) {
+            this.requestHedger = new RequestHedger(this, clientEventGroup, senderConfiguration.getHedgingConfig());
+        }
     }
 
     @Override
@@ -146,6 +151,9 @@ public class DefaultHttpClientConnector implements HttpClientConnector {
 
     @Override
     public HttpResponseFuture send(HttpCarbonMessage httpOutboundRequest) {
+        if (requestHedger != null && requestHedger.isHedgeable(httpOutboundRequest)) {
+            return requestHedger.send(httpOutboundRequest);
+        }
         OutboundMsgHolder outboundMsgHolder = new OutboundMsgHolder(httpOutboundRequest);
         return send(outboundMsgHolder, httpOutboundRequest);
     }
@@ -276,6 +284,11 @@ public class DefaultHttpClientConnector implements HttpClientConnector {
                     targetChannel.getHttp2ClientChannel().setSocketIdleTimeout(socketIdleTimeout);
 
                     Channel targetNettyChannel = channelFuture.channel();
+                    if (!http2) {
+                        // A connection which may be upgraded to HTTP/2 is shared, hence it is never closed to
+                        // cancel a single request
+                        outboundMsgHolder.setHttp1Channel(targetNettyChannel);
+                    }
 
                     initializeSenderReqRespStateMgr(targetNettyChannel);
 
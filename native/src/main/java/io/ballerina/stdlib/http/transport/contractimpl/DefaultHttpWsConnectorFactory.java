@@ -91,6 +91,7 @@ public class DefaultHttpWsConnectorFactory implements HttpWsConnectorFactory {
         if (Constants.HTTP_2_0.equals(listenerConfig.getVersion())) {
             serverConnectorBootstrap.setHttp2Enabled(true);
             serverConnectorBootstrap.setHttp2InitialWindowSize(listenerConfig.getHttp2InitialWindowSize());
+            serverConnectorBootstrap.setHttp2SettingsConfig(listenerConfig.getHttp2SettingsConfig());
             serverConnectorBootstrap.setMinIdleTimeInStaleState(listenerConfig.getMinIdleTimeInStaleState());
             serverConnectorBootstrap.setTimeBetweenStaleEviction(listenerConfig.getTimeBetweenStaleEviction());
         }
@@ -101,6 +102,10 @@ public class DefaultHttpWsConnectorFactory implements HttpWsConnectorFactory {
         serverConnectorBootstrap.addChunkingBehaviour(listenerConfig.getChunkConfig());
         serverConnectorBootstrap.addKeepAliveBehaviour(listenerConfig.getKeepAliveConfig());
         serverConnectorBootstrap.addServerHeader(listenerConfig.getServerHeader());
+        serverConnectorBootstrap.addCompressionConfig(listenerConfig.getCompressionConfig());
+        serverConnectorBootstrap.setMetricsPath(listenerConfig.getMetricsPath());
+        serverConnectorBootstrap.setConcurrencyLimitConfig(listenerConfig.getConcurrencyLimitConfig());
+        serverConnectorBootstrap.setRequestSpillConfig(listenerConfig.getRequestSpillConfig());
         serverConnectorBootstrap.setGracefulStopTimeout(listenerConfig.getGracefulStopTimeout());
 
         serverConnectorBootstrap.setPipeliningEnabled(listenerConfig.isPipeliningEnabled());
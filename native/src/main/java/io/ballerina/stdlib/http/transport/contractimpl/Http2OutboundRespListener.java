@@ -22,12 +22,16 @@ package io.ballerina.stdlib.http.transport.contractimpl;
 import io.ballerina.stdlib.http.transport.contract.HttpConnectorListener;
 import io.ballerina.stdlib.http.transport.contract.HttpResponseFuture;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ServerConnectorException;
+import io.ballerina.stdlib.http.transport.contractimpl.common.CompressionUtil;
+import io.ballerina.stdlib.http.transport.contractimpl.common.Util;
 import io.ballerina.stdlib.http.transport.contractimpl.common.states.Http2MessageStateContext;
 import io.ballerina.stdlib.http.transport.contractimpl.common.states.Http2StateUtil;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.HttpServerChannelInitializer;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.http2.Http2ServerChannel;
+import io.ballerina.stdlib.http.transport.contractimpl.listener.http2.Http2SourceHandler;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.states.http2.EntityBodyReceived;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.states.http2.SendingHeaders;
+import io.ballerina.stdlib.http.transport.internal.RequestPhase;
 import io.ballerina.stdlib.http.transport.message.BackPressureObservable;
 import io.ballerina.stdlib.http.transport.message.DefaultBackPressureListener;
 import io.ballerina.stdlib.http.transport.message.DefaultBackPressureObservable;
@@ -38,7 +42,6 @@ import io.ballerina.stdlib.http.transport.message.Http2PushPromise;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 import io.ballerina.stdlib.http.transport.message.Listener;
 import io.ballerina.stdlib.http.transport.message.PassthroughBackPressureListener;
-import io.ballerina.stdlib.http.transport.message.ServerRemoteFlowControlListener;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpHeaderNames;
@@ -52,8 +55,6 @@ import org.slf4j.LoggerFactory;
 import java.util.Calendar;
 import java.util.concurrent.atomic.AtomicBoolean;
 
-import static io.ballerina.stdlib.http.transport.contract.Constants.ENCODING_DEFLATE;
-import static io.ballerina.stdlib.http.transport.contract.Constants.ENCODING_GZIP;
 import static io.ballerina.stdlib.http.transport.contract.Constants.PROMISED_STREAM_REJECTED_ERROR;
 
 /**
@@ -64,47 +65,29 @@ public class Http2OutboundRespListener implements HttpConnectorListener {
 
     private static final Logger LOG = LoggerFactory.getLogger(Http2OutboundRespListener.class);
 
+    // The connection-level collaborators are read from the source handler rather than being copied to each stream
+    private final Http2SourceHandler http2SourceHandler;
     private Http2MessageStateContext http2MessageStateContext;
     private HttpCarbonMessage inboundRequestMsg;
     private HttpCarbonMessage outboundResponseMsg;
-    private ChannelHandlerContext ctx;
-    private Http2ConnectionEncoder encoder;
     private int originalStreamId;   // stream id of the request received from the client
-    private Http2Connection conn;
-    private String serverName;
     private HttpResponseFuture outboundRespStatusFuture;
-    private HttpServerChannelInitializer serverChannelInitializer;
-    private Calendar inboundRequestArrivalTime;
-    private String remoteAddress = "-";
-    private ServerRemoteFlowControlListener remoteFlowControlListener;
+    private final long inboundRequestArrivalTime;
     private ResponseWriter defaultResponseWriter;
-    private Http2ServerChannel http2ServerChannel;
-
-    public Http2OutboundRespListener(HttpServerChannelInitializer serverChannelInitializer,
-                                     HttpCarbonMessage inboundRequestMsg, ChannelHandlerContext ctx,
-                                     Http2Connection conn, Http2ConnectionEncoder encoder, int streamId,
-                                     String serverName, String remoteAddress,
-                                     ServerRemoteFlowControlListener remoteFlowControlListener,
-                                     Http2ServerChannel http2ServerChannel) {
-        this.serverChannelInitializer = serverChannelInitializer;
+
+    public Http2OutboundRespListener(Http2SourceHandler http2SourceHandler, HttpCarbonMessage inboundRequestMsg,
+                                     int streamId) {
+        this.http2SourceHandler = http2SourceHandler;
         this.inboundRequestMsg = inboundRequestMsg;
-        this.ctx = ctx;
-        this.conn = conn;
-        this.encoder = encoder;
         this.originalStreamId = streamId;
-        this.serverName = serverName;
-        if (remoteAddress != null) {
-            this.remoteAddress = remoteAddress;
-        }
         outboundRespStatusFuture = inboundRequestMsg.getHttpOutboundRespStatusFuture();
-        inboundRequestArrivalTime = Calendar.getInstance();
+        inboundRequestArrivalTime = System.currentTimeMillis();
         http2MessageStateContext = inboundRequestMsg.getHttp2MessageStateContext();
-        this.remoteFlowControlListener = remoteFlowControlListener;
-        this.http2ServerChannel = http2ServerChannel;
     }
 
     @Override
     public void onMessage(HttpCarbonMessage outboundResponseMsg) {
+        Util.recordRequestPhase(inboundRequestMsg, RequestPhase.RESPONSE_STARTED);
         this.outboundResponseMsg = outboundResponseMsg;
         writeMessage(outboundResponseMsg, originalStreamId, true);
     }
@@ -122,7 +105,7 @@ public class Http2OutboundRespListener implements HttpConnectorListener {
     @Override
     public void onPushResponse(int promiseId, HttpCarbonMessage outboundResponseMsg) {
         //TODO:Add HTTP/2 server timeout handler for the push response stream
-        if (Http2StateUtil.isValidStreamId(promiseId, conn)) {
+        if (Http2StateUtil.isValidStreamId(promiseId, getConnection())) {
             //TODO:Call dataEventListener.onStreamInit with the promiseId
             writeMessage(outboundResponseMsg, promiseId, false);
         } else {
@@ -132,7 +115,7 @@ public class Http2OutboundRespListener implements HttpConnectorListener {
     }
 
     private void writePromise(Http2PushPromise pushPromise) {
-        ctx.channel().eventLoop().execute(() -> {
+        getChannelHandlerContext().channel().eventLoop().execute(() -> {
             try {
                 if (http2MessageStateContext == null) {
                     http2MessageStateContext = new Http2MessageStateContext();
@@ -149,7 +132,7 @@ public class Http2OutboundRespListener implements HttpConnectorListener {
     private void writeMessage(HttpCarbonMessage outboundResponseMsg, int streamId, boolean backOffEnabled) {
         ResponseWriter writer = new ResponseWriter(streamId);
         if (backOffEnabled) {
-            remoteFlowControlListener.addResponseWriter(writer);
+            http2SourceHandler.getServerRemoteFlowControlListener().addResponseWriter(writer);
             defaultResponseWriter = writer;
         }
         setBackPressureListener(outboundResponseMsg, writer);
@@ -157,7 +140,7 @@ public class Http2OutboundRespListener implements HttpConnectorListener {
         setContentEncoding(outboundResponseMsg);
         outboundResponseMsg.getHttpContentAsync().setMessageListener(httpContent -> {
             checkStreamUnwritability(writer);
-            ctx.channel().eventLoop().execute(() -> {
+            getChannelHandlerContext().channel().eventLoop().execute(() -> {
                 try {
                     writer.writeOutboundResponse(outboundResponseMsg, httpContent);
                 } catch (Http2Exception ex) {
@@ -176,9 +159,14 @@ public class Http2OutboundRespListener implements HttpConnectorListener {
         String contentEncoding = outboundResponseMsg.getHeader(HttpHeaderNames.CONTENT_ENCODING.toString());
         //This means compression AUTO case; With NEVER(identity) and ALWAYS, content-encoding will always have a value.
         if (contentEncoding == null) {
+            HttpServerChannelInitializer serverChannelInitializer = getServerChannelInitializer();
             String acceptEncoding = inboundRequestMsg.getHeader(HttpHeaderNames.ACCEPT_ENCODING.toString());
-            if (acceptEncoding != null) {
-                String targetContentEncoding = determineScheme(acceptEncoding);
+            if (acceptEncoding != null && CompressionUtil.isCompressible(
+                    serverChannelInitializer.getCompressionConfig(),
+                    outboundResponseMsg.getHeader(HttpHeaderNames.CONTENT_TYPE.toString()),
+                    outboundResponseMsg.getHeader(HttpHeaderNames.CONTENT_LENGTH.toString()))) {
+                String targetContentEncoding = CompressionUtil.determineEncoding(
+                        acceptEncoding, serverChannelInitializer.getCompressionEncodings());
                 if (targetContentEncoding != null) {
                     outboundResponseMsg.setHeader(HttpHeaderNames.CONTENT_ENCODING.toString(), targetContentEncoding);
                 }
@@ -186,57 +174,6 @@ public class Http2OutboundRespListener implements HttpConnectorListener {
         }
     }
 
-    /***
-     * This function is to determine one encoding scheme from the request's `accept-encoding` header. The logic to
-     * determine the scheme is similar to the logic used in Netty's `determineWrapper()` function in the
-     * `HttpContentCompressor` class which is used to do the same, when doing the HTTP1.1 compression.
-     *
-     * @param acceptEncoding `accept-encoding` header value
-     * @return the chosen encoding scheme
-     */
-    private String determineScheme(String acceptEncoding) {
-        float starQ = -1.0f;
-        float gzipQ = -1.0f;
-        float deflateQ = -1.0f;
-        for (String encoding : acceptEncoding.split(",")) {
-            float qValue = 1.0f;
-            int equalsPos = encoding.indexOf('=');
-            if (equalsPos != -1) {
-                try {
-                    qValue = Float.parseFloat(encoding.substring(equalsPos + 1));
-                } catch (NumberFormatException e) {
-                    // Ignore encoding
-                    qValue = 0.0f;
-                }
-            }
-            if (encoding.contains("*")) {
-                starQ = qValue;
-            } else if (encoding.contains(ENCODING_GZIP) && qValue > gzipQ) {
-                gzipQ = qValue;
-            } else if (encoding.contains(ENCODING_DEFLATE) && qValue > deflateQ) {
-                deflateQ = qValue;
-            } else {
-                LOG.debug("Server does not support the requested encoding scheme: {}", encoding);
-            }
-        }
-        if (gzipQ > 0.0f || deflateQ > 0.0f) {
-            if (gzipQ >= deflateQ) {
-                return ENCODING_GZIP;
-            } else {
-                return ENCODING_DEFLATE;
-            }
-        }
-        if (starQ > 0.0f) {
-            if (gzipQ == -1.0f) {
-                return ENCODING_GZIP;
-            }
-            if (deflateQ == -1.0f) {
-                return ENCODING_DEFLATE;
-            }
-        }
-        return null;
-    }
-
     /**
      * Responsible for writing HTTP/2 outbound response to the caller.
      */
@@ -313,19 +250,20 @@ public class Http2OutboundRespListener implements HttpConnectorListener {
     }
 
     public void resetStream(ChannelHandlerContext ctx, int streamId, Http2Error http2Error) throws Http2Exception {
+        Http2ConnectionEncoder encoder = getEncoder();
         encoder.writeRstStream(ctx, streamId, http2Error.code(), ctx.newPromise());
         encoder.flowController().writePendingBytes();
-        http2ServerChannel.getDataEventListeners()
+        getHttp2ServerChannel().getDataEventListeners()
                 .forEach(dataEventListener -> dataEventListener.onStreamReset(streamId));
         ctx.flush();
     }
 
     public ChannelHandlerContext getChannelHandlerContext() {
-        return ctx;
+        return http2SourceHandler.getChannelHandlerContext();
     }
 
     public Http2ConnectionEncoder getEncoder() {
-        return encoder;
+        return http2SourceHandler.getEncoder();
     }
 
     public HttpResponseFuture getOutboundRespStatusFuture() {
@@ -333,7 +271,7 @@ public class Http2OutboundRespListener implements HttpConnectorListener {
     }
 
     public HttpServerChannelInitializer getServerChannelInitializer() {
-        return serverChannelInitializer;
+        return http2SourceHandler.getServerChannelInitializer();
     }
 
     public HttpCarbonMessage getInboundRequestMsg() {
@@ -345,11 +283,19 @@ public class Http2OutboundRespListener implements HttpConnectorListener {
     }
 
     public Http2Connection getConnection() {
-        return conn;
+        return http2SourceHandler.getConnection();
     }
 
+    /**
+     * Returns the time the request arrived at. The calendar is only created when it is asked for, which is when the
+     * access log is enabled.
+     *
+     * @return the arrival time of the request
+     */
     public Calendar getInboundRequestArrivalTime() {
-        return inboundRequestArrivalTime;
+        Calendar arrivalTime = Calendar.getInstance();
+        arrivalTime.setTimeInMillis(inboundRequestArrivalTime);
+        return arrivalTime;
     }
 
     public int getOriginalStreamId() {
@@ -357,15 +303,16 @@ public class Http2OutboundRespListener implements HttpConnectorListener {
     }
 
     public String getRemoteAddress() {
-        return remoteAddress;
+        String remoteAddress = http2SourceHandler.getRemoteHost();
+        return remoteAddress != null ? remoteAddress : "-";
     }
 
     public String getServerName() {
-        return serverName;
+        return http2SourceHandler.getServerName();
     }
 
     public void removeDefaultResponseWriter() {
-        remoteFlowControlListener.removeResponseWriter(defaultResponseWriter);
+        http2SourceHandler.getServerRemoteFlowControlListener().removeResponseWriter(defaultResponseWriter);
     }
 
     public void removeBackPressureListener() {
@@ -375,6 +322,6 @@ public class Http2OutboundRespListener implements HttpConnectorListener {
     }
 
     public Http2ServerChannel getHttp2ServerChannel() {
-        return http2ServerChannel;
+        return http2SourceHandler.getHttp2ServerChannel();
     }
 }
@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common;
+
+import io.ballerina.stdlib.http.transport.contract.config.CompressionConfig;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.compression.Brotli;
+import io.netty.handler.codec.compression.BrotliEncoder;
+import io.netty.handler.codec.compression.CompressionOptions;
+import io.netty.handler.codec.compression.StandardCompressionOptions;
+import io.netty.handler.codec.compression.ZlibCodecFactory;
+import io.netty.handler.codec.compression.ZlibWrapper;
+import io.netty.handler.codec.compression.Zstd;
+import io.netty.handler.codec.compression.ZstdDecoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import static io.ballerina.stdlib.http.transport.contract.Constants.ENCODING_BROTLI;
+import static io.ballerina.stdlib.http.transport.contract.Constants.ENCODING_DEFLATE;
+import static io.ballerina.stdlib.http.transport.contract.Constants.ENCODING_GZIP;
+import static io.ballerina.stdlib.http.transport.contract.Constants.ENCODING_ZSTD;
+
+/**
+ * Utility functions for negotiating and configuring HTTP content codings.
+ */
+public final class CompressionUtil {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CompressionUtil.class);
+
+    private static final int DEFAULT_WINDOW_BITS = 15;
+    private static final int DEFAULT_MEM_LEVEL = 8;
+    private static final int ZSTD_BLOCK_SIZE = 1 << 16;
+    private static final int ZSTD_MAX_ENCODE_SIZE = 1 << 25;
+    private static final int BEST_COMPRESSION_LEVEL = 9;
+
+    /**
+     * Checks whether the codec of the given content coding can be used at runtime. Brotli and zstd rely on optional
+     * native libraries which may not be present on the classpath.
+     *
+     * @param encoding the content coding
+     * @return true if the codec is available
+     */
+    public static boolean isCodecAvailable(String encoding) {
+        switch (encoding) {
+            case ENCODING_GZIP:
+            case ENCODING_DEFLATE:
+                return true;
+            case ENCODING_BROTLI:
+                return Brotli.isAvailable();
+            case ENCODING_ZSTD:
+                return Zstd.isAvailable();
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Filters the configured content codings to the ones which are known and available, preserving their order of
+     * preference.
+     *
+     * @param algorithms the configured content codings
+     * @return an unmodifiable list of usable content codings
+     */
+    public static List<String> getSupportedEncodings(List<String> algorithms) {
+        List<String> supportedEncodings = new ArrayList<>(algorithms.size());
+        for (String algorithm : algorithms) {
+            String encoding = algorithm.trim().toLowerCase(Locale.ROOT);
+            if (supportedEncodings.contains(encoding)) {
+                continue;
+            }
+            if (isCodecAvailable(encoding)) {
+                supportedEncodings.add(encoding);
+            } else if (LOG.isDebugEnabled()) {
+                LOG.debug("Content coding '{}' is not available and will not be used", encoding);
+            }
+        }
+        return Collections.unmodifiableList(supportedEncodings);
+    }
+
+    /**
+     * Creates the netty compression options for the given content codings.
+     *
+     * @param compressionConfig  the compression configuration
+     * @param supportedEncodings the usable content codings
+     * @return the compression options, in the same order as the content codings
+     */
+    public static CompressionOptions[] getCompressionOptions(CompressionConfig compressionConfig,
+                                                             List<String> supportedEncodings) {
+        int level = compressionConfig.getLevel();
+        CompressionOptions[] compressionOptions = new CompressionOptions[supportedEncodings.size()];
+        for (int i = 0; i < supportedEncodings.size(); i++) {
+            switch (supportedEncodings.get(i)) {
+                case ENCODING_GZIP:
+                    compressionOptions[i] = StandardCompressionOptions.gzip(level, DEFAULT_WINDOW_BITS,
+                                                                            DEFAULT_MEM_LEVEL);
+                    break;
+                case ENCODING_DEFLATE:
+                    compressionOptions[i] = StandardCompressionOptions.deflate(level, DEFAULT_WINDOW_BITS,
+                                                                               DEFAULT_MEM_LEVEL);
+                    break;
+                case ENCODING_BROTLI:
+                    compressionOptions[i] = StandardCompressionOptions.brotli();
+                    break;
+                case ENCODING_ZSTD:
+                    compressionOptions[i] = StandardCompressionOptions.zstd(level, ZSTD_BLOCK_SIZE,
+                                                                            ZSTD_MAX_ENCODE_SIZE);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported content coding: " + supportedEncodings.get(i));
+            }
+        }
+        return compressionOptions;
+    }
+
+    /**
+     * Determines the content coding to be used for a response from the request's `accept-encoding` header. The
+     * coding with the highest q-value wins and ties are broken by the configured order of preference.
+     *
+     * @param acceptEncoding     `accept-encoding` header value
+     * @param supportedEncodings the usable content codings in the order of preference
+     * @return the chosen content coding or null if none is acceptable
+     */
+    public static String determineEncoding(String acceptEncoding, List<String> supportedEncodings) {
+        if (acceptEncoding == null || supportedEncodings.isEmpty()) {
+            return null;
+        }
+        float starQ = -1.0f;
+        float[] qValues = new float[supportedEncodings.size()];
+        Arrays.fill(qValues, -1.0f);
+        for (String encoding : acceptEncoding.split(",")) {
+            float qValue = 1.0f;
+            String coding = encoding;
+            int paramsPos = encoding.indexOf(';');
+            if (paramsPos != -1) {
+                coding = encoding.substring(0, paramsPos);
+                int equalsPos = encoding.indexOf('=', paramsPos);
+                if (equalsPos != -1) {
+                    try {
+                        qValue = Float.parseFloat(encoding.substring(equalsPos + 1).trim());
+                    } catch (NumberFormatException e) {
+                        // Ignore encoding
+                        qValue = 0.0f;
+                    }
+                }
+            }
+            coding = coding.trim();
+            if ("*".equals(coding)) {
+                starQ = qValue;
+                continue;
+            }
+            for (int i = 0; i < qValues.length; i++) {
+                if (supportedEncodings.get(i).equalsIgnoreCase(coding) && qValue > qValues[i]) {
+                    qValues[i] = qValue;
+                }
+            }
+        }
+        int selected = -1;
+        for (int i = 0; i < qValues.length; i++) {
+            if (qValues[i] > 0.0f && (selected == -1 || qValues[i] > qValues[selected])) {
+                selected = i;
+            }
+        }
+        if (selected != -1) {
+            return supportedEncodings.get(selected);
+        }
+        if (starQ > 0.0f) {
+            for (int i = 0; i < qValues.length; i++) {
+                if (qValues[i] == -1.0f) {
+                    return supportedEncodings.get(i);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks whether a payload of the given media type and length should be compressed.
+     *
+     * @param compressionConfig the compression configuration
+     * @param contentType       the `content-type` header value
+     * @param contentLength     the `content-length` header value
+     * @return true if the payload is eligible for compression
+     */
+    public static boolean isCompressible(CompressionConfig compressionConfig, String contentType,
+                                         String contentLength) {
+        if (contentLength != null && compressionConfig.getMinContentLength() > 0) {
+            try {
+                if (Long.parseLong(contentLength.trim()) < compressionConfig.getMinContentLength()) {
+                    return false;
+                }
+            } catch (NumberFormatException e) {
+                LOG.debug("Invalid content-length value: {}", contentLength);
+            }
+        }
+        List<String> contentTypes = compressionConfig.getContentTypes();
+        if (contentTypes.isEmpty()) {
+            return true;
+        }
+        if (contentType == null) {
+            return false;
+        }
+        String mediaType = contentType.toLowerCase(Locale.ROOT);
+        for (String compressibleType : contentTypes) {
+            if (mediaType.contains(compressibleType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Builds the `accept-encoding` header value advertising the usable content codings.
+     *
+     * @param algorithms the configured content codings in the order of preference
+     * @return the header value
+     */
+    public static String getAcceptEncodingValue(List<String> algorithms) {
+        return String.join(", ", getSupportedEncodings(algorithms));
+    }
+
+    /**
+     * Creates a zstd decoder if the zstd codec is available.
+     *
+     * @return the decoder or null if zstd is not available
+     */
+    public static ZstdDecoder newZstdDecoder() {
+        return Zstd.isAvailable() ? new ZstdDecoder() : null;
+    }
+
+    /**
+     * Compresses a complete payload up front with the best compression level of the given content coding. This is
+     * meant for static payloads which are encoded once and served many times.
+     *
+     * @param payload  the payload to be compressed
+     * @param encoding the content coding, either gzip or br
+     * @return the compressed payload or null if the codec is not available
+     */
+    public static byte[] encode(byte[] payload, String encoding) {
+        ChannelHandler encoder;
+        switch (encoding) {
+            case ENCODING_GZIP:
+                encoder = ZlibCodecFactory.newZlibEncoder(ZlibWrapper.GZIP, BEST_COMPRESSION_LEVEL);
+                break;
+            case ENCODING_BROTLI:
+                if (!Brotli.isAvailable()) {
+                    return null;
+                }
+                encoder = new BrotliEncoder();
+                break;
+            default:
+                return null;
+        }
+        EmbeddedChannel channel = new EmbeddedChannel(encoder);
+        channel.writeOutbound(Unpooled.wrappedBuffer(payload));
+        channel.finish();
+        ByteBuf encoded = Unpooled.buffer(payload.length);
+        try {
+            ByteBuf chunk;
+            while ((chunk = channel.readOutbound()) != null) {
+                encoded.writeBytes(chunk);
+                chunk.release();
+            }
+            byte[] result = new byte[encoded.readableBytes()];
+            encoded.readBytes(result);
+            return result;
+        } finally {
+            encoded.release();
+        }
+    }
+
+    private CompressionUtil() {
+    }
+}
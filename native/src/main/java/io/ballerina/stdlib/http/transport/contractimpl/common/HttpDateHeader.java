@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.common;
+
+import io.netty.handler.codec.DateFormatter;
+import io.netty.util.AsciiString;
+
+import java.util.Date;
+
+/**
+ * Provides the value of the `date` response header. The value only changes once per second, hence it is formatted
+ * and encoded once and shared by all the responses written within the same second.
+ *
+ * @since 2.12.1
+ */
+public final class HttpDateHeader {
+
+    private static volatile CachedDate cachedDate = new CachedDate(currentSecond());
+
+    /**
+     * Returns the current date formatted as an IMF-fixdate as per RFC 7231.
+     *
+     * @return the pre-encoded `date` header value
+     */
+    public static AsciiString getValue() {
+        long second = currentSecond();
+        CachedDate date = cachedDate;
+        if (date.second != second) {
+            // Racing threads format the same value, so the last write wins without any harm
+            date = new CachedDate(second);
+            cachedDate = date;
+        }
+        return date.value;
+    }
+
+    private static long currentSecond() {
+        return System.currentTimeMillis() / 1000;
+    }
+
+    private static final class CachedDate {
+
+        private final long second;
+        private final AsciiString value;
+
+        private CachedDate(long second) {
+            this.second = second;
+            this.value = AsciiString.cached(DateFormatter.format(new Date(second * 1000)));
+        }
+    }
+
+    private HttpDateHeader() {
+    }
+}
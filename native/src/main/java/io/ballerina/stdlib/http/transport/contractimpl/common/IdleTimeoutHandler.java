@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.common;
+
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.timeout.IdleStateEvent;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fires an {@link IdleStateEvent} when a channel has neither read nor written for the given time. This replaces
+ * netty's {@code IdleStateHandler} with a timeout in the {@link TimeoutWheel} of the channel's event loop. Reads and
+ * writes only record the time of the activity and the timeout is re-armed with the remaining time when it expires,
+ * hence activity does not cancel or reschedule anything.
+ *
+ * @since 2.12.1
+ */
+public class IdleTimeoutHandler extends ChannelDuplexHandler {
+
+    private final long idleTimeNanos;
+    private long lastActivityTime;
+    private final ChannelFutureListener writeListener = future -> lastActivityTime = Util.ticksInNanos();
+    private TimeoutWheel.Timeout timeout;
+    private boolean reading;
+    private boolean firstEventFired;
+    private boolean destroyed;
+
+    public IdleTimeoutHandler(long idleTimeMillis) {
+        this.idleTimeNanos = idleTimeMillis > 0 ? TimeUnit.MILLISECONDS.toNanos(idleTimeMillis) : 0;
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        if (ctx.channel().isActive() && ctx.channel().isRegistered()) {
+            initialize(ctx);
+        }
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        destroy();
+    }
+
+    @Override
+    public void channelRegistered(ChannelHandlerContext ctx) throws Exception {
+        if (ctx.channel().isActive()) {
+            initialize(ctx);
+        }
+        super.channelRegistered(ctx);
+    }
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) throws Exception {
+        initialize(ctx);
+        super.channelActive(ctx);
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        destroy();
+        super.channelInactive(ctx);
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        reading = true;
+        ctx.fireChannelRead(msg);
+    }
+
+    @Override
+    public void channelReadComplete(ChannelHandlerContext ctx) throws Exception {
+        if (reading) {
+            lastActivityTime = Util.ticksInNanos();
+            reading = false;
+        }
+        ctx.fireChannelReadComplete();
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        if (idleTimeNanos > 0) {
+            ctx.write(msg, promise.unvoid()).addListener(writeListener);
+        } else {
+            ctx.write(msg, promise);
+        }
+    }
+
+    private void initialize(ChannelHandlerContext ctx) {
+        if (idleTimeNanos == 0 || timeout != null || destroyed) {
+            return;
+        }
+        lastActivityTime = Util.ticksInNanos();
+        schedule(ctx, idleTimeNanos);
+    }
+
+    private void destroy() {
+        destroyed = true;
+        if (timeout != null) {
+            timeout.cancel();
+            timeout = null;
+        }
+    }
+
+    private void schedule(ChannelHandlerContext ctx, long delayNanos) {
+        timeout = TimeoutWheel.schedule(ctx.executor(), () -> onTimeout(ctx), delayNanos);
+    }
+
+    private void onTimeout(ChannelHandlerContext ctx) {
+        if (destroyed || !ctx.channel().isOpen()) {
+            return;
+        }
+        long nextDelay = reading ? idleTimeNanos : idleTimeNanos - (Util.ticksInNanos() - lastActivityTime);
+        if (nextDelay > 0) {
+            schedule(ctx, nextDelay);
+            return;
+        }
+        schedule(ctx, idleTimeNanos);
+        IdleStateEvent event = firstEventFired ? IdleStateEvent.ALL_IDLE_STATE_EVENT
+                : IdleStateEvent.FIRST_ALL_IDLE_STATE_EVENT;
+        firstEventFired = true;
+        ctx.fireUserEventTriggered(event);
+    }
+}
@@ -0,0 +1,318 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.common;
+
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.TimerTask;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.FastThreadLocal;
+import io.netty.util.concurrent.ScheduledFuture;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A coarse-grained hashed-wheel timer shared by all the channels of an event loop. Idle and stream timeouts are
+ * placed in the wheel of the event loop they belong to, which is advanced by a single periodic task of that event
+ * loop while the wheel is not empty. Adding and cancelling a timeout takes constant time, so timeouts which are
+ * re-armed on every expiry or cancelled on every response do not pay for the ordering of the executor's scheduled
+ * task queue. Timeouts expire up to one tick later than requested.
+ * <p>
+ * Periodic background tasks which are not bound to an event loop, such as the stale connection eviction, share a
+ * single daemon timer thread through {@link #schedulePeriodic(Runnable, long)}.
+ *
+ * @since 2.12.1
+ */
+public final class TimeoutWheel {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TimeoutWheel.class);
+
+    static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final int WHEEL_SIZE = 4096;
+    private static final int MASK = WHEEL_SIZE - 1;
+
+    private static final FastThreadLocal<TimeoutWheel> WHEELS = new FastThreadLocal<>();
+    private static volatile HashedWheelTimer backgroundTimer;
+
+    private final EventExecutor executor;
+    private final WheelTimeout[] buckets = new WheelTimeout[WHEEL_SIZE];
+    private final long startTime;
+    private long processedTicks;
+    private int size;
+    private ScheduledFuture<?> tickFuture;
+
+    private TimeoutWheel(EventExecutor executor) {
+        this.executor = executor;
+        this.startTime = System.nanoTime();
+    }
+
+    /**
+     * Schedules a task to run on the given executor after the given delay.
+     *
+     * @param executor   the executor of the channel the task belongs to
+     * @param task       the task to be run
+     * @param delayNanos the delay in nanoseconds
+     * @return the handle to cancel the task
+     */
+    public static Timeout schedule(EventExecutor executor, Runnable task, long delayNanos) {
+        WheelTimeout timeout = new WheelTimeout(executor, task, System.nanoTime() + Math.max(delayNanos, 0));
+        if (executor.inEventLoop()) {
+            wheelOf(executor).add(timeout);
+        } else {
+            executor.execute(() -> wheelOf(executor).add(timeout));
+        }
+        return timeout;
+    }
+
+    /**
+     * Runs a task periodically on the shared background timer thread.
+     *
+     * @param task         the task to be run
+     * @param periodMillis the period in milliseconds
+     * @return the handle to stop the task
+     */
+    public static Timeout schedulePeriodic(Runnable task, long periodMillis) {
+        PeriodicTimeout timeout = new PeriodicTimeout(task, periodMillis);
+        timeout.schedule();
+        return timeout;
+    }
+
+    private static TimeoutWheel wheelOf(EventExecutor executor) {
+        TimeoutWheel wheel = WHEELS.getIfExists();
+        if (wheel == null || wheel.executor != executor) {
+            // An embedded event loop runs on the caller's thread, hence a thread may see more than one executor.
+            wheel = new TimeoutWheel(executor);
+            WHEELS.set(wheel);
+        }
+        return wheel;
+    }
+
+    private static HashedWheelTimer backgroundTimer() {
+        HashedWheelTimer timer = backgroundTimer;
+        if (timer == null) {
+            synchronized (TimeoutWheel.class) {
+                timer = backgroundTimer;
+                if (timer == null) {
+                    timer = new HashedWheelTimer(new DefaultThreadFactory("http-background-timer", true),
+                                                 100, TimeUnit.MILLISECONDS);
+                    backgroundTimer = timer;
+                }
+            }
+        }
+        return timer;
+    }
+
+    private void add(WheelTimeout timeout) {
+        if (timeout.cancelled) {
+            return;
+        }
+        if (tickFuture == null) {
+            processedTicks = currentTick(System.nanoTime());
+            tickFuture = executor.scheduleAtFixedRate(this::tick, TICK_NANOS, TICK_NANOS, TimeUnit.NANOSECONDS);
+        }
+        insert(timeout);
+        size++;
+    }
+
+    private void insert(WheelTimeout timeout) {
+        long deadlineTick = Math.max((timeout.deadline - startTime + TICK_NANOS - 1) / TICK_NANOS, processedTicks);
+        timeout.remainingRounds = (deadlineTick - processedTicks) / WHEEL_SIZE;
+        timeout.wheel = this;
+        link(timeout, (int) (deadlineTick & MASK));
+    }
+
+    private void link(WheelTimeout timeout, int index) {
+        timeout.bucket = index;
+        timeout.prev = null;
+        timeout.next = buckets[index];
+        if (timeout.next != null) {
+            timeout.next.prev = timeout;
+        }
+        buckets[index] = timeout;
+    }
+
+    private void remove(WheelTimeout timeout) {
+        if (timeout.bucket == -1) {
+            return;
+        }
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else {
+            buckets[timeout.bucket] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+        timeout.bucket = -1;
+        size--;
+    }
+
+    /**
+     * Returns the number of timeouts in the wheel of an event loop. Must be called from that event loop.
+     */
+    static int pendingTimeouts(EventExecutor executor) {
+        return wheelOf(executor).size;
+    }
+
+    private long currentTick(long now) {
+        return (now - startTime) / TICK_NANOS;
+    }
+
+    private void tick() {
+        long currentTick = currentTick(System.nanoTime());
+        while (processedTicks <= currentTick) {
+            int index = (int) (processedTicks & MASK);
+            // Timeouts added by the expiring tasks belong to the following ticks.
+            processedTicks++;
+            expire(index);
+        }
+        if (size == 0 && tickFuture != null) {
+            tickFuture.cancel(false);
+            tickFuture = null;
+        }
+    }
+
+    private void expire(int index) {
+        // The bucket is detached first, as the expiring tasks may add or cancel timeouts.
+        WheelTimeout timeout = buckets[index];
+        buckets[index] = null;
+        for (WheelTimeout detached = timeout; detached != null; detached = detached.next) {
+            detached.bucket = -1;
+        }
+        while (timeout != null) {
+            WheelTimeout next = timeout.next;
+            timeout.prev = null;
+            timeout.next = null;
+            if (timeout.cancelled) {
+                size--;
+            } else if (timeout.remainingRounds > 0) {
+                timeout.remainingRounds--;
+                link(timeout, index);
+            } else {
+                size--;
+                try {
+                    timeout.task.run();
+                } catch (Throwable t) {
+                    LOG.warn("Error occurred while running a timeout task", t);
+                }
+            }
+            timeout = next;
+        }
+    }
+
+    /**
+     * A handle to a scheduled timeout.
+     */
+    public abstract static class Timeout {
+
+        volatile boolean cancelled;
+
+        /**
+         * Cancels the timeout. The task will not run once this returns, unless it is already running.
+         */
+        public abstract void cancel();
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    private static final class WheelTimeout extends Timeout {
+
+        private final EventExecutor executor;
+        private final Runnable task;
+        private final long deadline;
+        private TimeoutWheel wheel;
+        private long remainingRounds;
+        private int bucket = -1;
+        private WheelTimeout prev;
+        private WheelTimeout next;
+
+        WheelTimeout(EventExecutor executor, Runnable task, long deadline) {
+            this.executor = executor;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            if (executor.inEventLoop()) {
+                removeFromWheel();
+                return;
+            }
+            // The wheel is only touched by its event loop. A timeout which is not added yet is dropped when it is.
+            try {
+                executor.execute(this::removeFromWheel);
+            } catch (RejectedExecutionException e) {
+                // The event loop is shut down along with its wheel
+            }
+        }
+
+        private void removeFromWheel() {
+            if (wheel != null) {
+                wheel.remove(this);
+            }
+        }
+    }
+
+    private static final class PeriodicTimeout extends Timeout implements TimerTask {
+
+        private final Runnable task;
+        private final long periodMillis;
+        private volatile io.netty.util.Timeout current;
+
+        PeriodicTimeout(Runnable task, long periodMillis) {
+            this.task = task;
+            this.periodMillis = periodMillis;
+        }
+
+        void schedule() {
+            if (!cancelled) {
+                current = backgroundTimer().newTimeout(this, periodMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        @Override
+        public void run(io.netty.util.Timeout timeout) {
+            try {
+                task.run();
+            } catch (Throwable t) {
+                LOG.warn("Error occurred while running a periodic task", t);
+            } finally {
+                schedule();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            io.netty.util.Timeout timeout = current;
+            if (timeout != null) {
+                timeout.cancel();
+            }
+        }
+    }
+}
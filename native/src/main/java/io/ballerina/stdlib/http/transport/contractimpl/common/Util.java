@@ -20,23 +20,32 @@ import io.ballerina.stdlib.http.transport.contract.Constants;
 import io.ballerina.stdlib.http.transport.contract.HttpResponseFuture;
 import io.ballerina.stdlib.http.transport.contract.config.ChunkConfig;
 import io.ballerina.stdlib.http.transport.contract.config.ForwardedExtensionConfig;
+import io.ballerina.stdlib.http.transport.contract.config.Http2SettingsConfig;
 import io.ballerina.stdlib.http.transport.contract.config.KeepAliveConfig;
 import io.ballerina.stdlib.http.transport.contract.config.ProxyServerConfiguration;
 import io.ballerina.stdlib.http.transport.contract.config.SenderConfiguration;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ConfigurationException;
 import io.ballerina.stdlib.http.transport.contractimpl.Http2OutboundRespListener;
+import io.ballerina.stdlib.http.transport.contractimpl.common.jfr.TransportEvents;
+import io.ballerina.stdlib.http.transport.contractimpl.common.metrics.RequestMetrics;
 import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.SSLConfig;
 import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.SSLHandlerFactory;
+import io.ballerina.stdlib.http.transport.contractimpl.listener.ConcurrencyLimiter;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.HttpTraceLoggingHandler;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.SourceHandler;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.http2.Http2SourceHandler;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.CertificateValidationHandler;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.ForwardedHeaderUpdater;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.OCSPStaplingHandler;
+import io.ballerina.stdlib.http.transport.internal.HandlerExecutor;
+import io.ballerina.stdlib.http.transport.internal.HttpTransportContextHolder;
+import io.ballerina.stdlib.http.transport.internal.RequestPhase;
+import io.ballerina.stdlib.http.transport.internal.RequestTimeline;
 import io.ballerina.stdlib.http.transport.message.DefaultBackPressureListener;
 import io.ballerina.stdlib.http.transport.message.DefaultListener;
 import io.ballerina.stdlib.http.transport.message.Http2InboundContentListener;
 import io.ballerina.stdlib.http.transport.message.Http2PassthroughBackPressureListener;
+import io.ballerina.stdlib.http.transport.message.Http2ToHttpHeaders;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonRequest;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonResponse;
@@ -56,9 +65,11 @@ import io.netty.handler.codec.base64.Base64;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
 import io.netty.handler.codec.http.DefaultHttpRequest;
 import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.EmptyHttpHeaders;
 import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpMessage;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpRequest;
@@ -66,8 +77,10 @@ import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpVersion;
 import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.codec.http2.Http2Error;
 import io.netty.handler.codec.http2.Http2Exception;
 import io.netty.handler.codec.http2.Http2Headers;
+import io.netty.handler.codec.http2.Http2Settings;
 import io.netty.handler.codec.http2.HttpConversionUtil;
 import io.netty.handler.ssl.ApplicationProtocolConfig;
 import io.netty.handler.ssl.ApplicationProtocolNames;
@@ -97,12 +110,10 @@ import java.security.cert.CertificateException;
 import java.security.cert.CertificateExpiredException;
 import java.security.cert.CertificateNotYetValidException;
 import java.security.cert.X509Certificate;
-import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.Map;
-import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -132,7 +143,6 @@ import static io.ballerina.stdlib.http.transport.contract.Constants.TO;
 import static io.ballerina.stdlib.http.transport.contract.Constants.URL_AUTHORITY;
 import static io.ballerina.stdlib.http.transport.contract.config.KeepAliveConfig.ALWAYS;
 import static io.ballerina.stdlib.http.transport.contract.config.KeepAliveConfig.AUTO;
-import static io.netty.handler.codec.http.HttpHeaderNames.TRAILER;
 
 /**
  * Includes utility methods for creating http requests and responses and their related properties.
@@ -145,15 +155,10 @@ public class Util {
 
     private static final Logger LOG = LoggerFactory.getLogger(Util.class);
     public static final String HTTP_1_1 = "http/1.1";
-
-    private static String getStringValue(HttpCarbonMessage msg, String key, String defaultValue) {
-        String value = (String) msg.getProperty(key);
-        if (value == null) {
-            return defaultValue;
-        }
-
-        return value;
-    }
+    public static final HttpVersion HTTP_2_0 =
+            new HttpVersion(Constants.HTTP_VERSION_PREFIX + Constants.HTTP2_VERSION, true);
+    private static final int MAX_SERVER_HEADER_VALUES = 64;
+    private static final Map<String, AsciiString> SERVER_HEADER_VALUES = new ConcurrentHashMap<>();
 
     private static int getIntValue(HttpCarbonMessage msg) {
         Integer value = msg.getHttpStatusCode();
@@ -167,60 +172,100 @@ public class Util {
     public static HttpResponse createHttpResponse(HttpCarbonMessage outboundResponseMsg, String inboundReqHttpVersion,
                                                   String serverName, boolean keepAlive) {
 
-        HttpVersion httpVersion = new HttpVersion(Constants.HTTP_VERSION_PREFIX + inboundReqHttpVersion, true);
+        HttpVersion httpVersion = getResponseHttpVersion(inboundReqHttpVersion);
         HttpResponseStatus httpResponseStatus = getHttpResponseStatus(outboundResponseMsg);
-        HttpResponse outboundNettyResponse = new DefaultHttpResponse(httpVersion, httpResponseStatus);
-
-        setOutboundRespHeaders(outboundResponseMsg, inboundReqHttpVersion, serverName, keepAlive,
-                outboundNettyResponse);
+        setOutboundRespHeaders(outboundResponseMsg, inboundReqHttpVersion, serverName, keepAlive);
 
-        return outboundNettyResponse;
+        // The headers are handed over to the netty response, as the carbon message may still be used once it is written
+        return new DefaultHttpResponse(httpVersion, httpResponseStatus, outboundResponseMsg.handOverHeaders());
     }
 
     public static HttpResponse createFullHttpResponse(HttpCarbonMessage outboundResponseMsg,
             String inboundReqHttpVersion, String serverName, boolean keepAlive, ByteBuf fullContent) {
 
-        HttpVersion httpVersion = new HttpVersion(Constants.HTTP_VERSION_PREFIX + inboundReqHttpVersion, true);
+        HttpVersion httpVersion = getResponseHttpVersion(inboundReqHttpVersion);
         HttpResponseStatus httpResponseStatus = getHttpResponseStatus(outboundResponseMsg);
-        HttpResponse outboundNettyResponse =
-                new DefaultFullHttpResponse(httpVersion, httpResponseStatus, fullContent);
+        setOutboundRespHeaders(outboundResponseMsg, inboundReqHttpVersion, serverName, keepAlive);
 
-        setOutboundRespHeaders(outboundResponseMsg, inboundReqHttpVersion, serverName, keepAlive,
-                outboundNettyResponse);
-
-        return outboundNettyResponse;
+        return new DefaultFullHttpResponse(httpVersion, httpResponseStatus, fullContent,
+                                           outboundResponseMsg.handOverHeaders(), EmptyHttpHeaders.INSTANCE);
     }
 
     private static void setOutboundRespHeaders(HttpCarbonMessage outboundResponseMsg, String inboundReqHttpVersion,
-                                               String serverName, boolean keepAlive,
-                                               HttpResponse outboundNettyResponse) {
-        if (!keepAlive && (Float.valueOf(inboundReqHttpVersion) >= Constants.HTTP_1_1)) {
-            outboundResponseMsg.setHeader(HttpHeaderNames.CONNECTION.toString(), Constants.CONNECTION_CLOSE);
-        } else if (keepAlive && (Float.valueOf(inboundReqHttpVersion) < Constants.HTTP_1_1)) {
-            outboundResponseMsg.setHeader(HttpHeaderNames.CONNECTION.toString(), Constants.CONNECTION_KEEP_ALIVE);
-        } else if (Float.valueOf(inboundReqHttpVersion) == Constants.HTTP_1_1
-                && HttpUtil.hasEventStreamContentType(outboundResponseMsg)) {
-            outboundResponseMsg.setHeader(HttpHeaderNames.CONNECTION.toString(), Constants.CONNECTION_KEEP_ALIVE);
+                                               String serverName, boolean keepAlive) {
+        HttpHeaders headers = outboundResponseMsg.getHeaders();
+        float httpVersion = parseHttpVersion(inboundReqHttpVersion);
+        if (!keepAlive && (httpVersion >= Constants.HTTP_1_1)) {
+            headers.set(HttpHeaderNames.CONNECTION, HttpHeaderValues.CLOSE);
+        } else if (keepAlive && (httpVersion < Constants.HTTP_1_1)) {
+            headers.set(HttpHeaderNames.CONNECTION, HttpHeaderValues.KEEP_ALIVE);
+        } else if (httpVersion == Constants.HTTP_1_1 && HttpUtil.hasEventStreamContentType(outboundResponseMsg)) {
+            headers.set(HttpHeaderNames.CONNECTION, HttpHeaderValues.KEEP_ALIVE);
         } else {
-            outboundResponseMsg.removeHeader(HttpHeaderNames.CONNECTION.toString());
+            headers.remove(HttpHeaderNames.CONNECTION);
         }
 
-        if (outboundResponseMsg.getHeader(HttpHeaderNames.SERVER.toString()) == null) {
-            outboundResponseMsg.setHeader(HttpHeaderNames.SERVER.toString(), serverName);
+        if (!headers.contains(HttpHeaderNames.SERVER)) {
+            headers.set(HttpHeaderNames.SERVER, getServerHeaderValue(serverName));
         }
 
-        if (outboundResponseMsg.getHeader(HttpHeaderNames.DATE.toString()) == null) {
-            outboundResponseMsg.setHeader(HttpHeaderNames.DATE.toString(),
-                                          ZonedDateTime.now().format(DateTimeFormatter.RFC_1123_DATE_TIME));
+        if (!headers.contains(HttpHeaderNames.DATE)) {
+            headers.set(HttpHeaderNames.DATE, HttpDateHeader.getValue());
         }
+    }
 
-        outboundNettyResponse.headers().add(outboundResponseMsg.getHeaders());
+    private static HttpVersion getResponseHttpVersion(String httpVersion) {
+        switch (httpVersion) {
+            case Constants.HTTP_1_1_VERSION:
+                return HttpVersion.HTTP_1_1;
+            case Constants.HTTP_1_0_VERSION:
+                return HttpVersion.HTTP_1_0;
+            case Constants.HTTP2_VERSION:
+                return HTTP_2_0;
+            default:
+                return new HttpVersion(Constants.HTTP_VERSION_PREFIX + httpVersion, true);
+        }
+    }
+
+    /**
+     * Parses the numeric value of an HTTP version such as 1.1, avoiding the parsing for the well known versions.
+     *
+     * @param httpVersion the HTTP version without the protocol name
+     * @return the numeric value of the version
+     */
+    public static float parseHttpVersion(String httpVersion) {
+        switch (httpVersion) {
+            case Constants.HTTP_1_1_VERSION:
+                return Constants.HTTP_1_1;
+            case Constants.HTTP_1_0_VERSION:
+                return Constants.HTTP_1_0;
+            case Constants.HTTP2_VERSION:
+                return Constants.HTTP_2;
+            default:
+                return Float.parseFloat(httpVersion);
+        }
+    }
+
+    private static AsciiString getServerHeaderValue(String serverName) {
+        AsciiString serverHeaderValue = SERVER_HEADER_VALUES.get(serverName);
+        if (serverHeaderValue == null) {
+            serverHeaderValue = AsciiString.cached(serverName);
+            // Server names are configured per listener, hence there are only a few of them
+            if (SERVER_HEADER_VALUES.size() < MAX_SERVER_HEADER_VALUES) {
+                SERVER_HEADER_VALUES.putIfAbsent(serverName, serverHeaderValue);
+            }
+        }
+        return serverHeaderValue;
     }
 
     public static HttpResponseStatus getHttpResponseStatus(HttpCarbonMessage msg) {
         int statusCode = Util.getIntValue(msg);
-        String reasonPhrase = Util.getStringValue(msg, Constants.HTTP_REASON_PHRASE,
-                HttpResponseStatus.valueOf(statusCode).reasonPhrase());
+        // Standard status codes are interned by netty, and are reused unless a custom reason phrase is given
+        HttpResponseStatus status = HttpResponseStatus.valueOf(statusCode);
+        String reasonPhrase = (String) msg.getProperty(Constants.HTTP_REASON_PHRASE);
+        if (reasonPhrase == null || reasonPhrase.equals(status.reasonPhrase())) {
+            return status;
+        }
         return new HttpResponseStatus(statusCode, reasonPhrase);
     }
 
@@ -283,36 +328,68 @@ public class Util {
     }
 
     /**
-     * Creates a {@link HttpRequest} using a {@link Http2Headers} received over a particular HTTP/2 stream.
+     * Creates a {@link HttpRequest} using a {@link Http2Headers} received over a particular HTTP/2 stream. The HTTP/2
+     * headers are carried by the request as they are and translated to HTTP/1.x headers only when needed.
      *
      * @param http2Headers the Http2Headers received over a HTTP/2 stream
      * @param streamId     the stream id
-     * @return the HttpRequest formed using the HttpHeaders
-     * @throws Http2Exception if an error occurs while converting headers from HTTP/2 to HTTP
+     * @return the HttpRequest formed using the Http2Headers
+     * @throws Http2Exception if the request method is not valid or a header cannot be translated to HTTP/1.x
      */
     public static HttpRequest createHttpRequestFromHttp2Headers(Http2Headers http2Headers, int streamId)
             throws Http2Exception {
-        String method = Constants.HTTP_GET_METHOD;
-        if (http2Headers.method() != null) {
-            method = http2Headers.get(Constants.HTTP2_METHOD).toString();
-        }
-        String path = Constants.DEFAULT_BASE_PATH;
-        if (http2Headers.path() != null) {
-            path = http2Headers.get(Constants.HTTP2_PATH).toString();
+        HttpMethod method = HttpMethod.GET;
+        CharSequence methodValue = http2Headers.method();
+        if (methodValue != null) {
+            try {
+                method = HttpMethod.valueOf(methodValue.toString());
+            } catch (IllegalArgumentException e) {
+                throw Http2Exception.streamError(streamId, Http2Error.PROTOCOL_ERROR, e,
+                                                 "Invalid HTTP/2 method: %s", methodValue);
+            }
         }
+        Http2ToHttpHeaders.validate(http2Headers, streamId);
+        CharSequence path = http2Headers.path();
+        return new DefaultHttpRequest(HTTP_2_0, method, path != null ? path.toString() : Constants.DEFAULT_BASE_PATH,
+                                      new Http2ToHttpHeaders(http2Headers, streamId, true));
+    }
 
-        HttpVersion version = new HttpVersion(Constants.HTTP_VERSION_2_0, true);
+    /**
+     * Creates the {@link Http2Headers} of an outbound response directly from the carbon message, without an
+     * intermediate HTTP/1.x response.
+     *
+     * @param outboundResponseMsg the outbound response message
+     * @param serverName          the server name
+     * @return the HTTP/2 headers of the response
+     */
+    public static Http2Headers createHttp2ResponseHeaders(HttpCarbonMessage outboundResponseMsg, String serverName) {
+        HttpResponseStatus httpResponseStatus = getHttpResponseStatus(outboundResponseMsg);
+        setOutboundRespHeaders(outboundResponseMsg, Constants.HTTP2_VERSION, serverName, true);
+        Http2Headers http2Headers = HttpConversionUtil.toHttp2Headers(outboundResponseMsg.getHeaders(), true);
+        http2Headers.status(httpResponseStatus.codeAsText());
+        return http2Headers;
+    }
 
-        // Construct new HTTP Carbon Request
-        HttpRequest httpRequest = new DefaultHttpRequest(version, HttpMethod.valueOf(method), path);
-        // Convert Http2Headers to HttpHeaders
-        HttpConversionUtil.addHttp2ToHttpHeaders(
-                streamId, http2Headers, httpRequest.headers(), version, false, true);
-        CharSequence trailerHeaderValue = http2Headers.get(TRAILER.toString());
-        if (trailerHeaderValue != null) {
-            httpRequest.headers().add(TRAILER.toString(), trailerHeaderValue.toString());
+    /**
+     * Applies the configured SETTINGS values on the initial settings of an HTTP/2 connection handler. Values which
+     * are not configured are left as they are.
+     *
+     * @param settings       the initial settings of the connection handler
+     * @param settingsConfig the HTTP/2 settings configuration
+     */
+    public static void applyHttp2Settings(Http2Settings settings, Http2SettingsConfig settingsConfig) {
+        if (settingsConfig.getHeaderTableSize() != Http2SettingsConfig.UNSET) {
+            settings.headerTableSize(settingsConfig.getHeaderTableSize());
+        }
+        if (settingsConfig.getMaxConcurrentStreams() != Http2SettingsConfig.UNSET) {
+            settings.maxConcurrentStreams(settingsConfig.getMaxConcurrentStreams());
+        }
+        if (settingsConfig.getMaxFrameSize() != Http2SettingsConfig.UNSET) {
+            settings.maxFrameSize(settingsConfig.getMaxFrameSize());
+        }
+        if (settingsConfig.getMaxHeaderListSize() != Http2SettingsConfig.UNSET) {
+            settings.maxHeaderListSize(settingsConfig.getMaxHeaderListSize());
         }
-        return httpRequest;
     }
 
     public static void setupContentLengthRequest(HttpCarbonMessage httpOutboundRequest, long contentLength) {
@@ -346,7 +423,7 @@ public class Util {
      * @return  boolean value of status.
      */
     public static boolean isVersionCompatibleForChunking(String httpVersion) {
-        return Float.valueOf(httpVersion) >= Constants.HTTP_1_1;
+        return parseHttpVersion(httpVersion) >= Constants.HTTP_1_1;
     }
 
     /**
@@ -357,7 +434,7 @@ public class Util {
      * @return true if chunking should be enforced else false.
      */
     public static boolean shouldEnforceChunkingforHttpOneZero(ChunkConfig chunkConfig, String httpVersion) {
-        return chunkConfig == ChunkConfig.ALWAYS && Float.valueOf(httpVersion) >= Constants.HTTP_1_0;
+        return chunkConfig == ChunkConfig.ALWAYS && parseHttpVersion(httpVersion) >= Constants.HTTP_1_0;
     }
 
     /**
@@ -770,6 +847,76 @@ public class Util {
         });
     }
 
+    /**
+     * Starts the timeline of an inbound request, carrying over the phases of its connection, and records the
+     * decoding of its headers. The transport handlers are notified of the connection phases along with the first
+     * request of the connection.
+     *
+     * @param inboundRequestMsg  the inbound request
+     * @param connectionTimeline the timeline of the connection which carries the request, if known
+     */
+    public static void startRequestTimeline(HttpCarbonMessage inboundRequestMsg, RequestTimeline connectionTimeline) {
+        inboundRequestMsg.setRequestTimeline(new RequestTimeline(connectionTimeline));
+        HandlerExecutor handlerExecutor = HttpTransportContextHolder.getInstance().getHandlerExecutor();
+        if (handlerExecutor != null && connectionTimeline != null
+                && connectionTimeline.markConnectionPhasesNotified()) {
+            handlerExecutor.executeAtConnectionPhases(inboundRequestMsg);
+        }
+        recordRequestPhase(inboundRequestMsg, RequestPhase.HEADERS_DECODED);
+        TransportEvents.requestStarted(inboundRequestMsg);
+    }
+
+    /**
+     * Records the time at which an inbound request reaches a phase, notifying the transport handlers if any.
+     *
+     * @param inboundRequestMsg the inbound request
+     * @param phase             the phase reached
+     */
+    public static void recordRequestPhase(HttpCarbonMessage inboundRequestMsg, RequestPhase phase) {
+        HandlerExecutor handlerExecutor = HttpTransportContextHolder.getInstance().getHandlerExecutor();
+        if (handlerExecutor != null) {
+            handlerExecutor.executeAtRequestPhase(inboundRequestMsg, phase);
+        } else if (inboundRequestMsg.getRequestTimeline() != null) {
+            inboundRequestMsg.getRequestTimeline().record(phase, System.nanoTime());
+        }
+    }
+
+    /**
+     * Completes the lifecycle of an inbound request once the given write of the last part of its response is done.
+     * The last byte is recorded as flushed when the write succeeds and the request metrics are completed.
+     *
+     * @param inboundRequestMsg   the inbound request
+     * @param outboundResponseMsg the outbound response, used to classify server errors
+     * @param channelFuture       the future of the write operation
+     */
+    public static void completeOnResponseWrite(HttpCarbonMessage inboundRequestMsg,
+                                               HttpCarbonMessage outboundResponseMsg, ChannelFuture channelFuture) {
+        if (inboundRequestMsg.getRequestTimeline() == null) {
+            return;
+        }
+        Integer statusCode = outboundResponseMsg != null ? outboundResponseMsg.getHttpStatusCode() : null;
+        boolean serverError = statusCode != null && statusCode >= HttpResponseStatus.INTERNAL_SERVER_ERROR.code();
+        channelFuture.addListener(future -> {
+            if (future.isSuccess()) {
+                recordRequestPhase(inboundRequestMsg, RequestPhase.LAST_BYTE_FLUSHED);
+            }
+            RequestMetrics.responseCompleted(inboundRequestMsg, serverError || !future.isSuccess());
+            ConcurrencyLimiter.release(inboundRequestMsg, future.isSuccess());
+            TransportEvents.requestCompleted(inboundRequestMsg, statusCode, future.isSuccess());
+        });
+    }
+
+    /**
+     * Completes an inbound request which is abandoned without a response, e.g. due to the connection being closed.
+     * This has no effect on requests which are already completed.
+     *
+     * @param inboundRequestMsg the inbound request
+     */
+    public static void requestAborted(HttpCarbonMessage inboundRequestMsg) {
+        RequestMetrics.requestAborted(inboundRequestMsg);
+        ConcurrencyLimiter.release(inboundRequestMsg, false);
+    }
+
     /**
      * Adds a listener to notify the outbound response future if an error occurs while writing the response message.
      *
@@ -874,6 +1021,15 @@ public class Util {
         inboundRequestMsg.setProperty(BASE_64_ENCODED_CERT,
                 ctx.channel().attr(Constants.BASE_64_ENCODED_CERT_ATTRIBUTE).get());
         inboundRequestMsg.setProperty(OUTBOUND_ACCESS_LOG_MESSAGES, new ArrayList<>());
+        startRequestTimeline(inboundRequestMsg, ctx.channel().attr(Constants.CONNECTION_TIMELINE).get());
+        if (sourceHandler.getServerChannelInitializer() != null) {
+            RequestMetrics.requestReceived(inboundRequestMsg,
+                                           sourceHandler.getServerChannelInitializer().getListenerMetrics());
+            inboundRequestMsg.setConcurrencyLimiter(
+                    sourceHandler.getServerChannelInitializer().getConcurrencyLimiter());
+            inboundRequestMsg.setEntityMemoryBudget(
+                    sourceHandler.getServerChannelInitializer().getEntityMemoryBudget());
+        }
 
         return inboundRequestMsg;
     }
@@ -914,7 +1070,7 @@ public class Util {
                                       HttpCarbonMessage inboundRequestMsg) throws ConfigurationException {
         switch (keepAliveConfig) {
         case AUTO:
-            if (Float.valueOf(outboundRequestMsg.getHttpVersion()) <= Constants.HTTP_1_0) {
+            if (parseHttpVersion(outboundRequestMsg.getHttpVersion()) <= Constants.HTTP_1_0) {
                 return false;
             }
             if (inboundRequestMsg.getHeaders().contains(HttpHeaderNames.CONNECTION)) {
@@ -954,7 +1110,7 @@ public class Util {
     public static boolean isKeepAliveConnection(KeepAliveConfig keepAliveConfig, String requestConnectionHeader,
                                                 String httpVersion) {
         if (keepAliveConfig == null || keepAliveConfig == AUTO) {
-            if (Float.valueOf(httpVersion) <= Constants.HTTP_1_0) {
+            if (parseHttpVersion(httpVersion) <= Constants.HTTP_1_0) {
                 return requestConnectionHeader != null && requestConnectionHeader
                         .equalsIgnoreCase(Constants.CONNECTION_KEEP_ALIVE);
             } else {
@@ -1060,8 +1216,8 @@ public class Util {
         return System.nanoTime();
     }
 
-    public static ScheduledFuture<?> schedule(ChannelHandlerContext ctx, Runnable task, long delay) {
-        return ctx.executor().schedule(task, delay, TimeUnit.NANOSECONDS);
+    public static TimeoutWheel.Timeout schedule(ChannelHandlerContext ctx, Runnable task, long delay) {
+        return TimeoutWheel.schedule(ctx.executor(), task, delay);
     }
 
     public static void setCorrelationIdForLogging(ChannelPipeline pipeline, ChannelInboundHandlerAdapter srcHandler) {
@@ -1084,7 +1240,7 @@ public class Util {
                                                 HttpCarbonMessage httpOutboundRequest) {
         switch (senderConfiguration.getKeepAliveConfig()) {
             case AUTO:
-                if (Float.valueOf(senderConfiguration.getHttpVersion()) >= Constants.HTTP_1_1) {
+                if (parseHttpVersion(senderConfiguration.getHttpVersion()) >= Constants.HTTP_1_1) {
                     httpOutboundRequest
                             .setHeader(HttpHeaderNames.CONNECTION.toString(), Constants.CONNECTION_KEEP_ALIVE);
                 } else {
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.http2;
+
+import io.ballerina.stdlib.http.transport.contract.config.Http2SettingsConfig;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http2.Http2Connection;
+import io.netty.handler.codec.http2.Http2ConnectionEncoder;
+import io.netty.handler.codec.http2.Http2Exception;
+import io.netty.handler.codec.http2.Http2FrameListener;
+import io.netty.handler.codec.http2.Http2FrameListenerDecorator;
+import io.netty.handler.codec.http2.Http2LocalFlowController;
+import io.netty.handler.codec.http2.Http2Settings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps track of the receive windows of an HTTP/2 connection and, when auto-tuning is enabled, grows them from the
+ * bandwidth-delay product of the connection. The round trip time is measured with a PING frame sent along with the
+ * first DATA frame received after the previous PING was acknowledged. If twice the number of bytes received
+ * within that round trip exceeds the current window while the observed bandwidth is still increasing, the window is
+ * limiting the throughput and the connection window and the initial stream window are raised to that size.
+ *
+ * @since 2.12.1
+ */
+public class Http2FlowControlTuner extends Http2FrameListenerDecorator {
+
+    private static final Logger LOG = LoggerFactory.getLogger(Http2FlowControlTuner.class);
+    static final long BDP_PING_DATA = 0x62616c48_54545032L;
+
+    private final Http2Connection connection;
+    private final Http2SettingsConfig settingsConfig;
+    private Http2ConnectionEncoder encoder;
+    private boolean connectionWindowApplied;
+    private boolean pingOutstanding;
+    private long pingSentAt;
+    private int bytesSincePing;
+    private long lastBandwidth;
+
+    public Http2FlowControlTuner(Http2FrameListener listener, Http2Connection connection,
+                                 Http2SettingsConfig settingsConfig) {
+        super(listener);
+        this.connection = connection;
+        this.settingsConfig = settingsConfig;
+    }
+
+    /**
+     * Sets the encoder used to write PING and SETTINGS frames. The encoder is only available once the connection
+     * handler has been built, which is after this listener is created.
+     *
+     * @param encoder the connection encoder
+     */
+    public void setEncoder(Http2ConnectionEncoder encoder) {
+        this.encoder = encoder;
+    }
+
+    @Override
+    public void onSettingsRead(ChannelHandlerContext ctx, Http2Settings settings) throws Http2Exception {
+        if (!connectionWindowApplied) {
+            connectionWindowApplied = true;
+            int delta = settingsConfig.getConnectionWindowSize() - getConnectionWindowSize();
+            if (delta > 0) {
+                flowController().incrementWindowSize(connection.connectionStream(), delta);
+            }
+        }
+        super.onSettingsRead(ctx, settings);
+    }
+
+    @Override
+    public int onDataRead(ChannelHandlerContext ctx, int streamId, ByteBuf data, int padding, boolean endOfStream)
+            throws Http2Exception {
+        if (settingsConfig.isWindowAutoTuning() && encoder != null) {
+            if (!pingOutstanding) {
+                pingOutstanding = true;
+                bytesSincePing = 0;
+                pingSentAt = System.nanoTime();
+                encoder.writePing(ctx, false, BDP_PING_DATA, ctx.newPromise());
+                ctx.flush();
+            }
+            bytesSincePing += data.readableBytes() + padding;
+        }
+        return super.onDataRead(ctx, streamId, data, padding, endOfStream);
+    }
+
+    @Override
+    public void onPingAckRead(ChannelHandlerContext ctx, long data) throws Http2Exception {
+        if (data != BDP_PING_DATA || !pingOutstanding) {
+            super.onPingAckRead(ctx, data);
+            return;
+        }
+        pingOutstanding = false;
+        long roundTripTime = Math.max(System.nanoTime() - pingSentAt, 1);
+        long bandwidth = bytesSincePing * TimeUnit.SECONDS.toNanos(1) / roundTripTime;
+        int targetWindow = (int) Math.min(bytesSincePing * 2L, settingsConfig.getMaxWindowSize());
+        int currentWindow = getConnectionWindowSize();
+        if (targetWindow > currentWindow && bandwidth > lastBandwidth) {
+            lastBandwidth = bandwidth;
+            updateWindows(ctx, targetWindow, currentWindow);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Receive window of HTTP/2 connection {} grown from {} to {} bytes, rtt: {}us, "
+                                  + "bandwidth: {}B/s", ctx.channel().id(), currentWindow, targetWindow,
+                          TimeUnit.NANOSECONDS.toMicros(roundTripTime), bandwidth);
+            }
+        }
+    }
+
+    private void updateWindows(ChannelHandlerContext ctx, int targetWindow, int currentWindow) throws Http2Exception {
+        Http2LocalFlowController flowController = flowController();
+        flowController.incrementWindowSize(connection.connectionStream(), targetWindow - currentWindow);
+        if (targetWindow > flowController.initialWindowSize()) {
+            flowController.initialWindowSize(targetWindow);
+            Http2Settings settings = new Http2Settings();
+            settings.initialWindowSize(targetWindow);
+            encoder.writeSettings(ctx, settings, ctx.newPromise());
+            ctx.flush();
+        }
+    }
+
+    private Http2LocalFlowController flowController() {
+        return connection.local().flowController();
+    }
+
+    private int getConnectionWindowSize() {
+        return flowController().initialWindowSize(connection.connectionStream());
+    }
+}
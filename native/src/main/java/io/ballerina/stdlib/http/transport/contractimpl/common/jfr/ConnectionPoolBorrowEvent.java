@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event spanning the wait of a client for a connection from its pool.
+ *
+ * @since 2.12.1
+ */
+@Name("ballerina.http.ConnectionPoolBorrow")
+@Label("Connection Pool Borrow")
+@Category({"Ballerina", "HTTP", "Client"})
+@Description("Wait for a connection from a client connection pool")
+@Enabled(false)
+@StackTrace(false)
+public final class ConnectionPoolBorrowEvent extends Event {
+
+    @Label("Route")
+    String route;
+
+    @Label("Success")
+    boolean success;
+}
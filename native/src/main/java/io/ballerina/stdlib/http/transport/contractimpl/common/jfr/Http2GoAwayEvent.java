@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for an HTTP/2 GOAWAY frame sent or received on a connection.
+ *
+ * @since 2.12.1
+ */
+@Name("ballerina.http.Http2GoAway")
+@Label("HTTP/2 GOAWAY")
+@Category({"Ballerina", "HTTP", "HTTP/2"})
+@Description("GOAWAY frame sent or received on a connection")
+@Enabled(false)
+@StackTrace(false)
+public final class Http2GoAwayEvent extends Event {
+
+    @Label("Side")
+    @Description("Either listener or client")
+    String side;
+
+    @Label("Received")
+    @Description("Whether the frame was received from the peer rather than sent")
+    boolean received;
+
+    @Label("Last Stream Id")
+    int lastStreamId;
+
+    @Label("Error Code")
+    String errorCode;
+}
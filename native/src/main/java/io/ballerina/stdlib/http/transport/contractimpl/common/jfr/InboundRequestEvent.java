@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event spanning an inbound request from the decoding of its headers to the flush of the last byte
+ * of its response.
+ *
+ * @since 2.12.1
+ */
+@Name("ballerina.http.InboundRequest")
+@Label("Inbound Request")
+@Category({"Ballerina", "HTTP", "Listener"})
+@Description("An HTTP request served by a listener")
+@Enabled(false)
+@StackTrace(false)
+public final class InboundRequestEvent extends Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("Path")
+    String path;
+
+    @Label("Path Template")
+    @Description("Absolute path of the resource which served the request")
+    String pathTemplate;
+
+    @Label("Protocol")
+    String protocol;
+
+    @Label("Status Code")
+    int status;
+
+    @Label("Success")
+    @Description("Whether the response was completely written to the connection")
+    boolean success;
+}
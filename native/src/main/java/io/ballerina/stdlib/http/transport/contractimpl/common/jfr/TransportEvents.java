@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.jfr;
+
+import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.netty.channel.ChannelFuture;
+import io.netty.handler.codec.http2.Http2Error;
+import jdk.jfr.EventType;
+
+import javax.net.ssl.SSLSession;
+
+/**
+ * Emits the flight recorder events of the transport. All the events are disabled by default and are enabled through
+ * the settings of a recording. While an event is disabled its begin method returns null and nothing is allocated,
+ * so the instrumented paths stay as cheap as a volatile read.
+ *
+ * @since 2.12.1
+ */
+public final class TransportEvents {
+
+    public static final String LISTENER = "listener";
+    public static final String CLIENT = "client";
+
+    private static final EventType INBOUND_REQUEST = EventType.getEventType(InboundRequestEvent.class);
+    private static final EventType POOL_BORROW = EventType.getEventType(ConnectionPoolBorrowEvent.class);
+    private static final EventType OUTBOUND_CONNECT = EventType.getEventType(OutboundConnectEvent.class);
+    private static final EventType TLS_HANDSHAKE = EventType.getEventType(TlsHandshakeEvent.class);
+    private static final EventType HTTP2_STREAM_RESET = EventType.getEventType(Http2StreamResetEvent.class);
+    private static final EventType HTTP2_GO_AWAY = EventType.getEventType(Http2GoAwayEvent.class);
+    private static final EventType ENTITY_BODY_WAIT = EventType.getEventType(EntityBodyWaitEvent.class);
+
+    /**
+     * Begins the inbound request event of a request whose headers were just decoded.
+     *
+     * @param inboundRequestMsg the inbound request
+     */
+    public static void requestStarted(HttpCarbonMessage inboundRequestMsg) {
+        if (!INBOUND_REQUEST.isEnabled()) {
+            return;
+        }
+        InboundRequestEvent event = new InboundRequestEvent();
+        event.begin();
+        inboundRequestMsg.setInboundRequestEvent(event);
+    }
+
+    /**
+     * Attaches the path template of the resource which was matched for an inbound request.
+     *
+     * @param inboundRequestMsg the inbound request
+     * @param pathTemplate      absolute path of the resource
+     */
+    public static void resourceMatched(HttpCarbonMessage inboundRequestMsg, String pathTemplate) {
+        InboundRequestEvent event = inboundRequestMsg.getInboundRequestEvent();
+        if (event != null) {
+            event.pathTemplate = pathTemplate;
+        }
+    }
+
+    /**
+     * Ends and commits the inbound request event once the response has been written.
+     *
+     * @param inboundRequestMsg the inbound request
+     * @param statusCode        status code of the response, if known
+     * @param success           whether the response was completely written
+     */
+    public static void requestCompleted(HttpCarbonMessage inboundRequestMsg, Integer statusCode, boolean success) {
+        InboundRequestEvent event = inboundRequestMsg.getInboundRequestEvent();
+        if (event == null) {
+            return;
+        }
+        inboundRequestMsg.setInboundRequestEvent(null);
+        event.end();
+        if (event.shouldCommit()) {
+            event.method = inboundRequestMsg.getHttpMethod();
+            event.path = inboundRequestMsg.getRequestUrl();
+            event.protocol = inboundRequestMsg.getHttpVersion();
+            event.status = statusCode != null ? statusCode : 0;
+            event.success = success;
+            event.commit();
+        }
+    }
+
+    /**
+     * Begins the event for a wait on a client connection pool.
+     *
+     * @return the event or null if it is disabled
+     */
+    public static ConnectionPoolBorrowEvent beginPoolBorrow() {
+        if (!POOL_BORROW.isEnabled()) {
+            return null;
+        }
+        ConnectionPoolBorrowEvent event = new ConnectionPoolBorrowEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends and commits a connection pool wait.
+     *
+     * @param event   the event returned by {@link #beginPoolBorrow()}
+     * @param route   the route of the pool
+     * @param success whether a connection was obtained
+     */
+    public static void endPoolBorrow(ConnectionPoolBorrowEvent event, String route, boolean success) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.route = route;
+            event.success = success;
+            event.commit();
+        }
+    }
+
+    /**
+     * Begins the event for the establishment of a new client connection.
+     *
+     * @return the event or null if it is disabled
+     */
+    public static OutboundConnectEvent beginOutboundConnect() {
+        if (!OUTBOUND_CONNECT.isEnabled()) {
+            return null;
+        }
+        OutboundConnectEvent event = new OutboundConnectEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends and commits the outbound connect event once the connect operation completes.
+     *
+     * @param event         the event returned by {@link #beginOutboundConnect()}
+     * @param connectFuture future of the connect operation
+     * @param route         the route of the connection
+     * @param remoteAddress the address being connected to
+     */
+    public static void endOutboundConnect(OutboundConnectEvent event, ChannelFuture connectFuture, String route,
+                                          String remoteAddress) {
+        if (event == null) {
+            return;
+        }
+        connectFuture.addListener(future -> {
+            event.end();
+            if (event.shouldCommit()) {
+                event.route = route;
+                event.remoteAddress = remoteAddress;
+                event.success = future.isSuccess();
+                event.commit();
+            }
+        });
+    }
+
+    /**
+     * Begins the event for the TLS handshake of an inbound connection.
+     *
+     * @return the event or null if it is disabled
+     */
+    public static TlsHandshakeEvent beginTlsHandshake() {
+        if (!TLS_HANDSHAKE.isEnabled()) {
+            return null;
+        }
+        TlsHandshakeEvent event = new TlsHandshakeEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends and commits a TLS handshake.
+     *
+     * @param event         the event returned by {@link #beginTlsHandshake()}
+     * @param remoteAddress the address of the peer
+     * @param sslSession    the negotiated session, if any
+     * @param success       whether the handshake succeeded
+     */
+    public static void endTlsHandshake(TlsHandshakeEvent event, String remoteAddress, SSLSession sslSession,
+                                       boolean success) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.remoteAddress = remoteAddress;
+            if (sslSession != null) {
+                event.protocol = sslSession.getProtocol();
+                event.cipherSuite = sslSession.getCipherSuite();
+            }
+            event.success = success;
+            event.commit();
+        }
+    }
+
+    /**
+     * Commits an HTTP/2 RST_STREAM received from the peer.
+     *
+     * @param side      {@link #LISTENER} or {@link #CLIENT}
+     * @param streamId  the reset stream
+     * @param errorCode the HTTP/2 error code
+     */
+    public static void http2StreamReset(String side, int streamId, long errorCode) {
+        if (!HTTP2_STREAM_RESET.isEnabled()) {
+            return;
+        }
+        Http2StreamResetEvent event = new Http2StreamResetEvent();
+        if (event.shouldCommit()) {
+            event.side = side;
+            event.streamId = streamId;
+            event.errorCode = getErrorName(errorCode);
+            event.commit();
+        }
+    }
+
+    /**
+     * Commits an HTTP/2 GOAWAY sent or received on a connection.
+     *
+     * @param side         {@link #LISTENER} or {@link #CLIENT}
+     * @param received     whether the frame was received from the peer
+     * @param lastStreamId the last stream id carried by the frame
+     * @param errorCode    the HTTP/2 error code
+     */
+    public static void http2GoAway(String side, boolean received, int lastStreamId, long errorCode) {
+        if (!HTTP2_GO_AWAY.isEnabled()) {
+            return;
+        }
+        Http2GoAwayEvent event = new Http2GoAwayEvent();
+        if (event.shouldCommit()) {
+            event.side = side;
+            event.received = received;
+            event.lastStreamId = lastStreamId;
+            event.errorCode = getErrorName(errorCode);
+            event.commit();
+        }
+    }
+
+    /**
+     * Begins the event for a blocking wait on entity body content.
+     *
+     * @return the event or null if it is disabled
+     */
+    public static EntityBodyWaitEvent beginEntityBodyWait() {
+        if (!ENTITY_BODY_WAIT.isEnabled()) {
+            return null;
+        }
+        EntityBodyWaitEvent event = new EntityBodyWaitEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends and commits a blocking wait on entity body content.
+     *
+     * @param event         the event returned by {@link #beginEntityBodyWait()}
+     * @param timeoutMillis the timeout of the wait
+     * @param timedOut      whether the wait timed out before content arrived
+     */
+    public static void endEntityBodyWait(EntityBodyWaitEvent event, long timeoutMillis, boolean timedOut) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.timeout = timeoutMillis;
+            event.timedOut = timedOut;
+            event.commit();
+        }
+    }
+
+    private static String getErrorName(long errorCode) {
+        Http2Error http2Error = Http2Error.valueOf(errorCode);
+        return http2Error != null ? http2Error.name() : Long.toString(errorCode);
+    }
+
+    private TransportEvents() {
+    }
+}
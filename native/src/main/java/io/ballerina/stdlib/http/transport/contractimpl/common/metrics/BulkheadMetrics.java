@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Occupancy metrics of a resource bulkhead, i.e. the executions it admits and the requests waiting for a permit.
+ *
+ * @since 2.12.1
+ */
+public class BulkheadMetrics implements BulkheadMetricsMBean {
+
+    private final String bulkhead;
+    private final int maxConcurrentExecutions;
+    private final int maxQueueSize;
+    private final LongAdder active = new LongAdder();
+    private final LongAdder queued = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LatencyHistogram queueWait = new LatencyHistogram();
+
+    BulkheadMetrics(String bulkhead, int maxConcurrentExecutions, int maxQueueSize) {
+        this.bulkhead = bulkhead;
+        this.maxConcurrentExecutions = maxConcurrentExecutions;
+        this.maxQueueSize = maxQueueSize;
+    }
+
+    /**
+     * Records an execution which was admitted without waiting.
+     */
+    public void executionStarted() {
+        active.increment();
+    }
+
+    /**
+     * Records an execution which released its permit without handing it over to a waiting request.
+     */
+    public void executionCompleted() {
+        active.decrement();
+    }
+
+    /**
+     * Records a request being added to the wait queue.
+     */
+    public void requestQueued() {
+        queued.increment();
+    }
+
+    /**
+     * Records a waiting request taking over the permit of a completed execution.
+     *
+     * @param waitNanos the time the request spent in the wait queue
+     */
+    public void requestDequeued(long waitNanos) {
+        queued.decrement();
+        queueWait.record(waitNanos);
+    }
+
+    /**
+     * Records a waiting request which left the wait queue because its connection was closed.
+     */
+    public void requestAbandoned() {
+        queued.decrement();
+    }
+
+    /**
+     * Records a request rejected because both the permits and the wait queue were exhausted.
+     */
+    public void requestRejected() {
+        rejected.increment();
+    }
+
+    public String getBulkhead() {
+        return bulkhead;
+    }
+
+    public LatencyHistogram getQueueWait() {
+        return queueWait;
+    }
+
+    @Override
+    public int getMaxConcurrentExecutions() {
+        return maxConcurrentExecutions;
+    }
+
+    @Override
+    public int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+
+    @Override
+    public long getActiveExecutions() {
+        return active.sum();
+    }
+
+    @Override
+    public long getQueuedRequests() {
+        return queued.sum();
+    }
+
+    @Override
+    public long getRejectedRequests() {
+        return rejected.sum();
+    }
+
+    @Override
+    public double getMeanQueueWait() {
+        return queueWait.getMean();
+    }
+
+    @Override
+    public long getMaxQueueWait() {
+        return queueWait.getMax();
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Connection pool metrics of a client route, aggregated over all the pools which serve the route.
+ *
+ * @since 2.12.1
+ */
+public class ClientPoolMetrics implements ClientPoolMetricsMBean {
+
+    private static final double PERCENTILE_99 = 99.0;
+
+    private final String route;
+    private final LongAdder borrows = new LongAdder();
+    private final LongAdder borrowFailures = new LongAdder();
+    private final LongAdder leased = new LongAdder();
+    private final LongAdder created = new LongAdder();
+    private final LatencyHistogram borrowWait = new LatencyHistogram();
+
+    ClientPoolMetrics(String route) {
+        this.route = route;
+    }
+
+    /**
+     * Records a successful borrow of a connection from the pool.
+     *
+     * @param waitNanos the time spent waiting for the connection
+     */
+    public void borrowed(long waitNanos) {
+        borrows.increment();
+        leased.increment();
+        borrowWait.record(waitNanos);
+    }
+
+    /**
+     * Records a borrow which failed, either because the pool was exhausted or the connection could not be opened.
+     *
+     * @param waitNanos the time spent before the failure
+     */
+    public void borrowFailed(long waitNanos) {
+        borrowFailures.increment();
+        borrowWait.record(waitNanos);
+    }
+
+    /**
+     * Records a leased connection being returned to the pool or invalidated.
+     */
+    public void released() {
+        leased.decrement();
+    }
+
+    /**
+     * Records a new connection being opened for the route.
+     */
+    public void connectionCreated() {
+        created.increment();
+    }
+
+    public String getRoute() {
+        return route;
+    }
+
+    public LatencyHistogram getBorrowWait() {
+        return borrowWait;
+    }
+
+    @Override
+    public long getBorrowCount() {
+        return borrows.sum();
+    }
+
+    @Override
+    public long getBorrowFailureCount() {
+        return borrowFailures.sum();
+    }
+
+    @Override
+    public long getLeasedConnections() {
+        return leased.sum();
+    }
+
+    @Override
+    public long getCreatedConnections() {
+        return created.sum();
+    }
+
+    @Override
+    public double getMeanBorrowWait() {
+        return borrowWait.getMean();
+    }
+
+    @Override
+    public long getBorrowWaitP99() {
+        return borrowWait.getValueAtPercentile(PERCENTILE_99);
+    }
+
+    @Override
+    public long getMaxBorrowWait() {
+        return borrowWait.getMax();
+    }
+}
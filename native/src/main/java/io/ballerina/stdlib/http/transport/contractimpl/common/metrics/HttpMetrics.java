@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Request counters and latency histograms of a listener or of a single resource of a listener.
+ * <p>
+ * The latency of a request is split into the phases below, each of which has its own histogram.
+ * <ul>
+ *     <li>queueing - from decoding the request headers to the request reaching the dispatcher</li>
+ *     <li>dispatch - from reaching the dispatcher to invoking the resource, including interceptors</li>
+ *     <li>execution - from invoking the resource to the response being handed over to the transport</li>
+ *     <li>response write - from the response being handed over to its last byte being flushed</li>
+ * </ul>
+ *
+ * @since 2.12.1
+ */
+public class HttpMetrics implements HttpMetricsMBean {
+
+    private static final double PERCENTILE_50 = 50.0;
+    private static final double PERCENTILE_99 = 99.0;
+    private static final double PERCENTILE_999 = 99.9;
+
+    private final String listener;
+    private final String resource;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder inFlight = new LongAdder();
+    private final LongAdder bytesReceived = new LongAdder();
+    private final LongAdder bytesSent = new LongAdder();
+    private final LatencyHistogram queueingLatency = new LatencyHistogram();
+    private final LatencyHistogram dispatchLatency = new LatencyHistogram();
+    private final LatencyHistogram executionLatency = new LatencyHistogram();
+    private final LatencyHistogram responseWriteLatency = new LatencyHistogram();
+    private final LatencyHistogram totalLatency = new LatencyHistogram();
+
+    HttpMetrics(String listener, String resource) {
+        this.listener = listener;
+        this.resource = resource;
+    }
+
+    void requestStarted() {
+        requests.increment();
+        inFlight.increment();
+    }
+
+    void requestCompleted(RequestMetrics request, long completionNanoTime, boolean failed) {
+        inFlight.decrement();
+        if (failed) {
+            errors.increment();
+        }
+        bytesReceived.add(request.getBytesReceived());
+        bytesSent.add(request.getBytesSent());
+        recordPhase(queueingLatency, request.getArrivalNanoTime(), request.getDispatchNanoTime());
+        recordPhase(dispatchLatency, request.getDispatchNanoTime(), request.getExecutionNanoTime());
+        recordPhase(executionLatency, request.getExecutionNanoTime(), request.getResponseNanoTime());
+        recordPhase(responseWriteLatency, request.getResponseNanoTime(), completionNanoTime);
+        recordPhase(totalLatency, request.getArrivalNanoTime(), completionNanoTime);
+    }
+
+    private static void recordPhase(LatencyHistogram histogram, long startNanoTime, long endNanoTime) {
+        if (startNanoTime != 0 && endNanoTime != 0) {
+            histogram.record(endNanoTime - startNanoTime);
+        }
+    }
+
+    public String getListener() {
+        return listener;
+    }
+
+    /**
+     * Gets the resource these metrics belong to.
+     *
+     * @return the method and path of the resource or null for listener-wide metrics
+     */
+    public String getResource() {
+        return resource;
+    }
+
+    public LatencyHistogram getQueueingLatency() {
+        return queueingLatency;
+    }
+
+    public LatencyHistogram getDispatchLatency() {
+        return dispatchLatency;
+    }
+
+    public LatencyHistogram getExecutionLatency() {
+        return executionLatency;
+    }
+
+    public LatencyHistogram getResponseWriteLatency() {
+        return responseWriteLatency;
+    }
+
+    public LatencyHistogram getTotalLatency() {
+        return totalLatency;
+    }
+
+    @Override
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    @Override
+    public long getErrorCount() {
+        return errors.sum();
+    }
+
+    @Override
+    public long getInFlightRequests() {
+        return inFlight.sum();
+    }
+
+    @Override
+    public long getBytesReceived() {
+        return bytesReceived.sum();
+    }
+
+    @Override
+    public long getBytesSent() {
+        return bytesSent.sum();
+    }
+
+    @Override
+    public double getMeanLatency() {
+        return totalLatency.getMean();
+    }
+
+    @Override
+    public long getLatencyP50() {
+        return totalLatency.getValueAtPercentile(PERCENTILE_50);
+    }
+
+    @Override
+    public long getLatencyP99() {
+        return totalLatency.getValueAtPercentile(PERCENTILE_99);
+    }
+
+    @Override
+    public long getLatencyP999() {
+        return totalLatency.getValueAtPercentile(PERCENTILE_999);
+    }
+
+    @Override
+    public long getMaxLatency() {
+        return totalLatency.getMax();
+    }
+
+    @Override
+    public long getQueueingLatencyP99() {
+        return queueingLatency.getValueAtPercentile(PERCENTILE_99);
+    }
+
+    @Override
+    public long getDispatchLatencyP99() {
+        return dispatchLatency.getValueAtPercentile(PERCENTILE_99);
+    }
+
+    @Override
+    public long getExecutionLatencyP99() {
+        return executionLatency.getValueAtPercentile(PERCENTILE_99);
+    }
+
+    @Override
+    public long getResponseWriteLatencyP99() {
+        return responseWriteLatency.getValueAtPercentile(PERCENTILE_99);
+    }
+}
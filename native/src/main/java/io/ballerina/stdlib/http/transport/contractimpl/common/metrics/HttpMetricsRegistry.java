@@ -0,0 +1,422 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.metrics;
+
+import io.ballerina.stdlib.http.transport.contract.config.ConcurrencyLimitConfig;
+import io.ballerina.stdlib.http.transport.contractimpl.common.MBeanRegistrar;
+import io.ballerina.stdlib.http.transport.contractimpl.listener.ConcurrencyLimiter;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import javax.management.ObjectName;
+
+/**
+ * Registry of the native transport metrics. Metrics are created on first use, registered as MBeans and can be
+ * rendered in the Prometheus text exposition format.
+ *
+ * @since 2.12.1
+ */
+public final class HttpMetricsRegistry {
+
+    private static final HttpMetricsRegistry INSTANCE = new HttpMetricsRegistry();
+
+    static final String LISTENER_CATEGORY = "HttpListenerMetrics";
+    static final String RESOURCE_CATEGORY = "HttpResourceMetrics";
+    static final String CLIENT_POOL_CATEGORY = "HttpClientPoolMetrics";
+    static final String CONCURRENCY_LIMIT_CATEGORY = "HttpListenerConcurrencyLimit";
+    static final String BULKHEAD_CATEGORY = "HttpResourceBulkhead";
+    static final String CLIENT_RETRY_CATEGORY = "HttpClientRetryMetrics";
+    static final String LOAD_BALANCER_TARGET_CATEGORY = "HttpClientLoadBalancerTargetMetrics";
+
+    private static final String LISTENER_PREFIX = "ballerina_http_listener";
+    private static final String RESOURCE_PREFIX = "ballerina_http_resource";
+    private static final String CLIENT_POOL_PREFIX = "ballerina_http_client_pool";
+    private static final String BULKHEAD_PREFIX = "ballerina_http_resource_bulkhead";
+    private static final String CLIENT_RETRY_PREFIX = "ballerina_http_client_retry";
+    private static final String LOAD_BALANCER_TARGET_PREFIX = "ballerina_http_client_load_balancer_target";
+    // Upper bounds of the exported latency buckets, from half a millisecond to half a minute
+    private static final long[] LATENCY_BUCKET_MICROS = {500, 1_000, 2_500, 5_000, 10_000, 25_000, 50_000, 100_000,
+            250_000, 500_000, 1_000_000, 2_500_000, 5_000_000, 10_000_000, 30_000_000};
+    private static final String[] LATENCY_BUCKET_LABELS = new String[LATENCY_BUCKET_MICROS.length];
+    private static final double MICROS_PER_SECOND = 1_000_000.0;
+
+    static {
+        for (int i = 0; i < LATENCY_BUCKET_MICROS.length; i++) {
+            LATENCY_BUCKET_LABELS[i] = BigDecimal.valueOf(LATENCY_BUCKET_MICROS[i], 6).stripTrailingZeros()
+                    .toPlainString();
+        }
+    }
+
+    private final Map<String, HttpMetrics> listenerMetrics = new ConcurrentHashMap<>();
+    private final Map<String, HttpMetrics> resourceMetrics = new ConcurrentHashMap<>();
+    private final Map<String, ClientPoolMetrics> clientPoolMetrics = new ConcurrentHashMap<>();
+    private final Map<String, ConcurrencyLimiter> concurrencyLimiters = new ConcurrentHashMap<>();
+    private final Map<String, BulkheadMetrics> bulkheadMetrics = new ConcurrentHashMap<>();
+    private final Map<String, RetryMetrics> retryMetrics = new ConcurrentHashMap<>();
+    private final Map<String, LoadBalancerTargetMetrics> loadBalancerTargetMetrics = new ConcurrentHashMap<>();
+
+    public static HttpMetricsRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    private HttpMetricsRegistry() {
+    }
+
+    /**
+     * Gets the metrics of a listener.
+     *
+     * @param listener the id of the listener, i.e. its host and port
+     * @return the listener metrics
+     */
+    public HttpMetrics getListenerMetrics(String listener) {
+        return getOrCreate(listenerMetrics, listener, key -> register(new HttpMetrics(listener, null),
+                                                                      LISTENER_CATEGORY, key));
+    }
+
+    /**
+     * Gets the metrics of a resource of a listener.
+     *
+     * @param listener the id of the listener, i.e. its host and port
+     * @param resource the method and path of the resource
+     * @return the resource metrics
+     */
+    public HttpMetrics getResourceMetrics(String listener, String resource) {
+        return getOrCreate(resourceMetrics, listener + " " + resource,
+                           key -> register(new HttpMetrics(listener, resource), RESOURCE_CATEGORY, key));
+    }
+
+    /**
+     * Gets the connection pool metrics of a client route.
+     *
+     * @param route the route, i.e. the scheme, host and port of the remote endpoint
+     * @return the client pool metrics
+     */
+    public ClientPoolMetrics getClientPoolMetrics(String route) {
+        return getOrCreate(clientPoolMetrics, route,
+                           key -> register(new ClientPoolMetrics(route), CLIENT_POOL_CATEGORY, key));
+    }
+
+    /**
+     * Gets the concurrency limiter of a listener. A listener which is restarted keeps the limit it has learned.
+     *
+     * @param listener the id of the listener, i.e. its host and port
+     * @param config   the configuration used when the limiter is created
+     * @return the concurrency limiter
+     */
+    public ConcurrencyLimiter getConcurrencyLimiter(String listener, ConcurrencyLimitConfig config) {
+        return getOrCreate(concurrencyLimiters, listener,
+                           key -> register(new ConcurrencyLimiter(listener, config), CONCURRENCY_LIMIT_CATEGORY, key));
+    }
+
+    /**
+     * Gets the occupancy metrics of a resource bulkhead. The limits are the ones of the bulkhead which first
+     * registered the metrics.
+     *
+     * @param bulkhead      the name of the bulkhead, i.e. the service base path and the resource or group name
+     * @param maxConcurrent the maximum number of concurrent executions of the bulkhead
+     * @param maxQueueSize  the maximum number of requests waiting for the bulkhead
+     * @return the bulkhead metrics
+     */
+    public BulkheadMetrics getBulkheadMetrics(String bulkhead, int maxConcurrent, int maxQueueSize) {
+        return getOrCreate(bulkheadMetrics, bulkhead,
+                           key -> register(new BulkheadMetrics(bulkhead, maxConcurrent, maxQueueSize),
+                                           BULKHEAD_CATEGORY, key));
+    }
+
+    /**
+     * Gets the retry metrics of a client.
+     *
+     * @param client the URL of the client
+     * @return the retry metrics
+     */
+    public RetryMetrics getRetryMetrics(String client) {
+        return getOrCreate(retryMetrics, client,
+                           key -> register(new RetryMetrics(client), CLIENT_RETRY_CATEGORY, key));
+    }
+
+    /**
+     * Gets the metrics of the requests load balance clients send to a target.
+     *
+     * @param target the URL of the target
+     * @return the load balancer target metrics
+     */
+    public LoadBalancerTargetMetrics getLoadBalancerTargetMetrics(String target) {
+        return getOrCreate(loadBalancerTargetMetrics, target,
+                           key -> register(new LoadBalancerTargetMetrics(target), LOAD_BALANCER_TARGET_CATEGORY,
+                                           key));
+    }
+
+    private static <T> T getOrCreate(Map<String, T> metrics, String key, Function<String, T> factory) {
+        T value = metrics.get(key);
+        return value != null ? value : metrics.computeIfAbsent(key, factory);
+    }
+
+    private static <T> T register(T mBean, String category, String id) {
+        MBeanRegistrar.getInstance().registerMBean(mBean, category, ObjectName.quote(id));
+        return mBean;
+    }
+
+    /**
+     * Renders all the metrics in the Prometheus text exposition format, version 0.0.4.
+     *
+     * @return the metrics
+     */
+    public String toPrometheusText() {
+        StringBuilder builder = new StringBuilder(4096);
+        writeHttpMetrics(builder, LISTENER_PREFIX, listenerMetrics.values());
+        writeHttpMetrics(builder, RESOURCE_PREFIX, resourceMetrics.values());
+        writeConcurrencyLimits(builder, concurrencyLimiters.values());
+        writeBulkheadMetrics(builder, bulkheadMetrics.values());
+        writeClientPoolMetrics(builder, clientPoolMetrics.values());
+        writeRetryMetrics(builder, retryMetrics.values());
+        writeLoadBalancerTargetMetrics(builder, loadBalancerTargetMetrics.values());
+        return builder.toString();
+    }
+
+    private static void writeHttpMetrics(StringBuilder builder, String prefix, Collection<HttpMetrics> metrics) {
+        if (metrics.isEmpty()) {
+            return;
+        }
+        writeHeader(builder, prefix + "_requests_total", "counter", "Total number of requests received");
+        for (HttpMetrics scope : metrics) {
+            writeSample(builder, prefix + "_requests_total", labels(scope), scope.getRequestCount());
+        }
+        writeHeader(builder, prefix + "_errors_total", "counter",
+                    "Total number of requests which failed or were answered with a server error");
+        for (HttpMetrics scope : metrics) {
+            writeSample(builder, prefix + "_errors_total", labels(scope), scope.getErrorCount());
+        }
+        writeHeader(builder, prefix + "_in_flight_requests", "gauge", "Number of requests being served");
+        for (HttpMetrics scope : metrics) {
+            writeSample(builder, prefix + "_in_flight_requests", labels(scope), scope.getInFlightRequests());
+        }
+        writeHeader(builder, prefix + "_received_bytes_total", "counter", "Total request body bytes received");
+        for (HttpMetrics scope : metrics) {
+            writeSample(builder, prefix + "_received_bytes_total", labels(scope), scope.getBytesReceived());
+        }
+        writeHeader(builder, prefix + "_sent_bytes_total", "counter", "Total response body bytes sent");
+        for (HttpMetrics scope : metrics) {
+            writeSample(builder, prefix + "_sent_bytes_total", labels(scope), scope.getBytesSent());
+        }
+        String latency = prefix + "_latency_seconds";
+        writeHeader(builder, latency, "histogram", "Request latency by phase");
+        for (HttpMetrics scope : metrics) {
+            String labels = labels(scope);
+            writeHistogram(builder, latency, labels + ",phase=\"queueing\"", scope.getQueueingLatency());
+            writeHistogram(builder, latency, labels + ",phase=\"dispatch\"", scope.getDispatchLatency());
+            writeHistogram(builder, latency, labels + ",phase=\"execution\"", scope.getExecutionLatency());
+            writeHistogram(builder, latency, labels + ",phase=\"response_write\"", scope.getResponseWriteLatency());
+            writeHistogram(builder, latency, labels + ",phase=\"total\"", scope.getTotalLatency());
+        }
+    }
+
+    private static void writeConcurrencyLimits(StringBuilder builder, Collection<ConcurrencyLimiter> limiters) {
+        if (limiters.isEmpty()) {
+            return;
+        }
+        writeHeader(builder, LISTENER_PREFIX + "_concurrency_limit", "gauge",
+                    "Current adaptive limit of the requests served concurrently");
+        for (ConcurrencyLimiter limiter : limiters) {
+            writeSample(builder, LISTENER_PREFIX + "_concurrency_limit", labels(limiter), limiter.getLimit());
+        }
+        writeHeader(builder, LISTENER_PREFIX + "_rejected_requests_total", "counter",
+                    "Total number of requests rejected by the concurrency limit");
+        for (ConcurrencyLimiter limiter : limiters) {
+            writeSample(builder, LISTENER_PREFIX + "_rejected_requests_total", labels(limiter),
+                        limiter.getRejectedRequests());
+        }
+    }
+
+    private static void writeBulkheadMetrics(StringBuilder builder, Collection<BulkheadMetrics> metrics) {
+        if (metrics.isEmpty()) {
+            return;
+        }
+        writeHeader(builder, BULKHEAD_PREFIX + "_active_executions", "gauge",
+                    "Number of resource executions holding a bulkhead permit");
+        for (BulkheadMetrics bulkhead : metrics) {
+            writeSample(builder, BULKHEAD_PREFIX + "_active_executions", labels(bulkhead),
+                        bulkhead.getActiveExecutions());
+        }
+        writeHeader(builder, BULKHEAD_PREFIX + "_queued_requests", "gauge",
+                    "Number of requests waiting for a bulkhead permit");
+        for (BulkheadMetrics bulkhead : metrics) {
+            writeSample(builder, BULKHEAD_PREFIX + "_queued_requests", labels(bulkhead),
+                        bulkhead.getQueuedRequests());
+        }
+        writeHeader(builder, BULKHEAD_PREFIX + "_rejected_requests_total", "counter",
+                    "Total number of requests rejected by a full bulkhead");
+        for (BulkheadMetrics bulkhead : metrics) {
+            writeSample(builder, BULKHEAD_PREFIX + "_rejected_requests_total", labels(bulkhead),
+                        bulkhead.getRejectedRequests());
+        }
+        String queueWait = BULKHEAD_PREFIX + "_queue_wait_seconds";
+        writeHeader(builder, queueWait, "histogram", "Time spent waiting for a bulkhead permit");
+        for (BulkheadMetrics bulkhead : metrics) {
+            writeHistogram(builder, queueWait, labels(bulkhead), bulkhead.getQueueWait());
+        }
+    }
+
+    private static void writeClientPoolMetrics(StringBuilder builder, Collection<ClientPoolMetrics> metrics) {
+        if (metrics.isEmpty()) {
+            return;
+        }
+        writeHeader(builder, CLIENT_POOL_PREFIX + "_borrows_total", "counter",
+                    "Total number of connections borrowed from the pool");
+        for (ClientPoolMetrics pool : metrics) {
+            writeSample(builder, CLIENT_POOL_PREFIX + "_borrows_total", labels(pool), pool.getBorrowCount());
+        }
+        writeHeader(builder, CLIENT_POOL_PREFIX + "_borrow_failures_total", "counter",
+                    "Total number of failed attempts to borrow a connection");
+        for (ClientPoolMetrics pool : metrics) {
+            writeSample(builder, CLIENT_POOL_PREFIX + "_borrow_failures_total", labels(pool),
+                        pool.getBorrowFailureCount());
+        }
+        writeHeader(builder, CLIENT_POOL_PREFIX + "_leased_connections", "gauge",
+                    "Number of connections currently borrowed from the pool");
+        for (ClientPoolMetrics pool : metrics) {
+            writeSample(builder, CLIENT_POOL_PREFIX + "_leased_connections", labels(pool),
+                        pool.getLeasedConnections());
+        }
+        writeHeader(builder, CLIENT_POOL_PREFIX + "_created_connections_total", "counter",
+                    "Total number of connections opened");
+        for (ClientPoolMetrics pool : metrics) {
+            writeSample(builder, CLIENT_POOL_PREFIX + "_created_connections_total", labels(pool),
+                        pool.getCreatedConnections());
+        }
+        String borrowWait = CLIENT_POOL_PREFIX + "_borrow_wait_seconds";
+        writeHeader(builder, borrowWait, "histogram", "Time spent waiting to borrow a connection");
+        for (ClientPoolMetrics pool : metrics) {
+            writeHistogram(builder, borrowWait, labels(pool), pool.getBorrowWait());
+        }
+    }
+
+    private static void writeRetryMetrics(StringBuilder builder, Collection<RetryMetrics> metrics) {
+        if (metrics.isEmpty()) {
+            return;
+        }
+        writeHeader(builder, CLIENT_RETRY_PREFIX + "_attempts_total", "counter", "Total number of retries sent");
+        for (RetryMetrics retries : metrics) {
+            writeSample(builder, CLIENT_RETRY_PREFIX + "_attempts_total", labels(retries),
+                        retries.getRetryAttempts());
+        }
+        writeHeader(builder, CLIENT_RETRY_PREFIX + "_suppressed_total", "counter",
+                    "Total number of retries suppressed by the retry budget");
+        for (RetryMetrics retries : metrics) {
+            writeSample(builder, CLIENT_RETRY_PREFIX + "_suppressed_total", labels(retries),
+                        retries.getSuppressedRetries());
+        }
+    }
+
+    private static void writeLoadBalancerTargetMetrics(StringBuilder builder,
+                                                       Collection<LoadBalancerTargetMetrics> metrics) {
+        if (metrics.isEmpty()) {
+            return;
+        }
+        writeHeader(builder, LOAD_BALANCER_TARGET_PREFIX + "_in_flight_requests", "gauge",
+                    "Number of requests awaiting a response from the target");
+        for (LoadBalancerTargetMetrics target : metrics) {
+            writeSample(builder, LOAD_BALANCER_TARGET_PREFIX + "_in_flight_requests", labels(target),
+                        target.getInFlightRequests());
+        }
+        writeHeader(builder, LOAD_BALANCER_TARGET_PREFIX + "_failures_total", "counter",
+                    "Total number of requests to the target which failed without a response");
+        for (LoadBalancerTargetMetrics target : metrics) {
+            writeSample(builder, LOAD_BALANCER_TARGET_PREFIX + "_failures_total", labels(target),
+                        target.getFailureCount());
+        }
+        String latency = LOAD_BALANCER_TARGET_PREFIX + "_latency_seconds";
+        writeHeader(builder, latency, "histogram", "Time taken by the target to respond");
+        for (LoadBalancerTargetMetrics target : metrics) {
+            writeHistogram(builder, latency, labels(target), target.getLatency());
+        }
+    }
+
+    private static String labels(HttpMetrics scope) {
+        String labels = "listener=\"" + escape(scope.getListener()) + "\"";
+        if (scope.getResource() != null) {
+            labels += ",resource=\"" + escape(scope.getResource()) + "\"";
+        }
+        return labels;
+    }
+
+    private static String labels(ConcurrencyLimiter limiter) {
+        return "listener=\"" + escape(limiter.getListener()) + "\"";
+    }
+
+    private static String labels(BulkheadMetrics bulkhead) {
+        return "bulkhead=\"" + escape(bulkhead.getBulkhead()) + "\"";
+    }
+
+    private static String labels(ClientPoolMetrics pool) {
+        return "route=\"" + escape(pool.getRoute()) + "\"";
+    }
+
+    private static String labels(RetryMetrics retries) {
+        return "client=\"" + escape(retries.getClient()) + "\"";
+    }
+
+    private static String labels(LoadBalancerTargetMetrics target) {
+        return "target=\"" + escape(target.getTarget()) + "\"";
+    }
+
+    private static void writeHeader(StringBuilder builder, String name, String type, String help) {
+        builder.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        builder.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void writeSample(StringBuilder builder, String name, String labels, long value) {
+        builder.append(name).append('{').append(labels).append("} ").append(value).append('\n');
+    }
+
+    // The buckets are cumulative since the start, so that the latency of any time window is derived by the scraper
+    private static void writeHistogram(StringBuilder builder, String name, String labels,
+                                       LatencyHistogram histogram) {
+        long[] cumulativeCounts = histogram.getCumulativeCounts(LATENCY_BUCKET_MICROS);
+        for (int i = 0; i < LATENCY_BUCKET_LABELS.length; i++) {
+            builder.append(name).append("_bucket{").append(labels).append(",le=\"").append(LATENCY_BUCKET_LABELS[i])
+                    .append("\"} ").append(cumulativeCounts[i]).append('\n');
+        }
+        long count = cumulativeCounts[LATENCY_BUCKET_LABELS.length];
+        builder.append(name).append("_bucket{").append(labels).append(",le=\"+Inf\"} ").append(count).append('\n');
+        builder.append(name).append("_sum{").append(labels).append("} ")
+                .append(histogram.getSum() / MICROS_PER_SECOND).append('\n');
+        builder.append(name).append("_count{").append(labels).append("} ").append(count).append('\n');
+    }
+
+    static String escape(String value) {
+        StringBuilder escaped = null;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' || c == '"' || c == '\n') {
+                if (escaped == null) {
+                    escaped = new StringBuilder(value.length() + 8).append(value, 0, i);
+                }
+                escaped.append('\\').append(c == '\n' ? 'n' : c);
+            } else if (escaped != null) {
+                escaped.append(c);
+            }
+        }
+        return escaped == null ? value : escaped.toString();
+    }
+}
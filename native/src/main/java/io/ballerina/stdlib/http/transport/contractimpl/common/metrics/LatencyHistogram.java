@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free latency histogram with log-linear buckets, in the style of HdrHistogram. Values are recorded in
+ * microseconds. Each power of two range is split into eight linear sub-buckets, which bounds the relative error of
+ * the reported percentiles to 12.5% while a histogram takes a fixed ~2.4KB regardless of the number of recorded
+ * values. Recording takes a few atomic increments and never allocates.
+ *
+ * @since 2.12.1
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT = SUB_BUCKET_COUNT << 1;
+    private static final int MAX_EXPONENT = 40;
+    static final int BUCKET_COUNT = LINEAR_LIMIT + (MAX_EXPONENT - SUB_BUCKET_BITS - 1) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a duration.
+     *
+     * @param durationNanos the duration in nanoseconds
+     */
+    public void record(long durationNanos) {
+        long micros = durationNanos > 0 ? TimeUnit.NANOSECONDS.toMicros(durationNanos) : 0;
+        buckets.incrementAndGet(bucketIndex(micros));
+        count.increment();
+        sum.add(micros);
+        long currentMax = max.get();
+        while (micros > currentMax && !max.compareAndSet(currentMax, micros)) {
+            currentMax = max.get();
+        }
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Gets the sum of the recorded values.
+     *
+     * @return the sum in microseconds
+     */
+    public long getSum() {
+        return sum.sum();
+    }
+
+    /**
+     * Gets the largest recorded value.
+     *
+     * @return the largest value in microseconds
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Gets the mean of the recorded values.
+     *
+     * @return the mean in microseconds or 0 if nothing has been recorded
+     */
+    public double getMean() {
+        long total = count.sum();
+        return total == 0 ? 0 : (double) sum.sum() / total;
+    }
+
+    /**
+     * Gets the value below which the given percentage of the recorded values fall. The upper bound of the bucket
+     * holding that value is returned, capped by the largest recorded value.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the value in microseconds or 0 if nothing has been recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        long total = 0;
+        long[] counts = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * Math.min(percentile, 100.0) / 100.0));
+        long cumulative = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            cumulative += counts[i];
+            if (cumulative >= rank) {
+                return Math.min(bucketUpperBound(i) - 1, max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * Gets the cumulative number of recorded values at or below each of the given bounds, followed by the total
+     * number of recorded values, all from a single pass over the buckets. A bucket is counted below a bound once
+     * all of its values are, hence a bound which splits a bucket undercounts by at most that bucket.
+     *
+     * @param bounds the bounds in microseconds, in ascending order
+     * @return the cumulative counts, with one more element than the bounds holding the total
+     */
+    public long[] getCumulativeCounts(long[] bounds) {
+        long[] cumulativeCounts = new long[bounds.length + 1];
+        int bound = 0;
+        long cumulative = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long largestValue = bucketUpperBound(i) - 1;
+            while (bound < bounds.length && largestValue > bounds[bound]) {
+                cumulativeCounts[bound++] = cumulative;
+            }
+            cumulative += buckets.get(i);
+        }
+        while (bound < bounds.length) {
+            cumulativeCounts[bound++] = cumulative;
+        }
+        cumulativeCounts[bounds.length] = cumulative;
+        return cumulativeCounts;
+    }
+
+    static int bucketIndex(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent >= MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        int shift = exponent - SUB_BUCKET_BITS;
+        return LINEAR_LIMIT + (shift - 1) * SUB_BUCKET_COUNT + (int) (value >> shift) - SUB_BUCKET_COUNT;
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index + 1L;
+        }
+        int offset = index - LINEAR_LIMIT;
+        int shift = offset / SUB_BUCKET_COUNT + 1;
+        long mantissa = offset % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return (mantissa + 1) << shift;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of the requests load balance clients send to a target, aggregated over all the clients of the target.
+ *
+ * @since 2.12.1
+ */
+public class LoadBalancerTargetMetrics implements LoadBalancerTargetMetricsMBean {
+
+    private static final double PERCENTILE_99 = 99.0;
+
+    private final String target;
+    private final LongAdder inFlight = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    LoadBalancerTargetMetrics(String target) {
+        this.target = target;
+    }
+
+    /**
+     * Records a request being sent to the target.
+     */
+    public void requestStarted() {
+        inFlight.increment();
+    }
+
+    /**
+     * Records the completion of a request sent to the target.
+     *
+     * @param latencyNanos the time taken to receive the response or the failure
+     * @param failed       whether the request failed without a response
+     */
+    public void requestCompleted(long latencyNanos, boolean failed) {
+        inFlight.decrement();
+        latency.record(latencyNanos);
+        if (failed) {
+            failures.increment();
+        }
+    }
+
+    public String getTarget() {
+        return target;
+    }
+
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    @Override
+    public long getInFlightRequests() {
+        return inFlight.sum();
+    }
+
+    @Override
+    public long getRequestCount() {
+        return latency.getCount();
+    }
+
+    @Override
+    public long getFailureCount() {
+        return failures.sum();
+    }
+
+    @Override
+    public double getMeanLatency() {
+        return latency.getMean();
+    }
+
+    @Override
+    public long getLatencyP99() {
+        return latency.getValueAtPercentile(PERCENTILE_99);
+    }
+}
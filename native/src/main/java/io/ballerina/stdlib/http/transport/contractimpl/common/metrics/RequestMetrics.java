@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.metrics;
+
+import io.ballerina.stdlib.http.transport.internal.RequestPhase;
+import io.ballerina.stdlib.http.transport.internal.RequestTimeline;
+import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+
+/**
+ * Tracks the lifecycle of a single inbound request and reports it to the metrics of its listener and resource once
+ * the response is written. The instance is attached to the inbound request message by the transport when the
+ * request headers are decoded, and the static methods of this class are no-ops for messages without one. The phase
+ * durations are taken from the {@link RequestTimeline} of the request.
+ *
+ * @since 2.12.1
+ */
+public final class RequestMetrics {
+
+    private final HttpMetrics listenerMetrics;
+    private final RequestTimeline timeline;
+    private HttpMetrics resourceMetrics;
+    private long bytesReceived;
+    private long bytesSent;
+    private boolean completed;
+
+    private RequestMetrics(HttpMetrics listenerMetrics, RequestTimeline timeline) {
+        this.listenerMetrics = listenerMetrics;
+        this.timeline = timeline;
+    }
+
+    /**
+     * Starts tracking an inbound request of a listener. The timeline of the request must be set beforehand.
+     *
+     * @param inboundRequestMsg the inbound request
+     * @param listenerMetrics   the metrics of the listener which received the request
+     */
+    public static void requestReceived(HttpCarbonMessage inboundRequestMsg, HttpMetrics listenerMetrics) {
+        RequestTimeline timeline = inboundRequestMsg.getRequestTimeline();
+        if (listenerMetrics == null || timeline == null) {
+            return;
+        }
+        listenerMetrics.requestStarted();
+        inboundRequestMsg.setRequestMetrics(new RequestMetrics(listenerMetrics, timeline));
+    }
+
+    /**
+     * Attaches the metrics of the resource which serves the request. Only the first call has an effect, since a
+     * request is handed to the dispatcher again after its body is aggregated for data binding.
+     *
+     * @param inboundRequestMsg the inbound request
+     * @param resourceMetrics   the metrics of the resource
+     */
+    public static void resourceInvoked(HttpCarbonMessage inboundRequestMsg, HttpMetrics resourceMetrics) {
+        RequestMetrics requestMetrics = inboundRequestMsg.getRequestMetrics();
+        if (requestMetrics == null || requestMetrics.resourceMetrics != null || resourceMetrics == null) {
+            return;
+        }
+        requestMetrics.resourceMetrics = resourceMetrics;
+        resourceMetrics.requestStarted();
+    }
+
+    /**
+     * Accounts bytes of the response written to the channel.
+     *
+     * @param inboundRequestMsg the inbound request
+     * @param bytes             the number of bytes
+     */
+    public static void bytesSent(HttpCarbonMessage inboundRequestMsg, long bytes) {
+        RequestMetrics requestMetrics = inboundRequestMsg.getRequestMetrics();
+        if (requestMetrics != null) {
+            requestMetrics.bytesSent += bytes;
+        }
+    }
+
+    /**
+     * Completes the request once the last part of its response is flushed, or the write failed.
+     *
+     * @param inboundRequestMsg the inbound request
+     * @param failed            whether the response could not be written or carries a server error status
+     */
+    public static void responseCompleted(HttpCarbonMessage inboundRequestMsg, boolean failed) {
+        RequestMetrics requestMetrics = inboundRequestMsg.getRequestMetrics();
+        if (requestMetrics != null) {
+            requestMetrics.complete(failed);
+        }
+    }
+
+    /**
+     * Completes a request which is abandoned without a response, e.g. due to the connection being closed. This has
+     * no effect on requests which are already completed.
+     *
+     * @param inboundRequestMsg the inbound request
+     */
+    public static void requestAborted(HttpCarbonMessage inboundRequestMsg) {
+        responseCompleted(inboundRequestMsg, true);
+    }
+
+    private void complete(boolean failed) {
+        if (completed) {
+            return;
+        }
+        completed = true;
+        long completionNanoTime = timeline.getNanoTime(RequestPhase.LAST_BYTE_FLUSHED);
+        if (completionNanoTime == 0) {
+            completionNanoTime = System.nanoTime();
+        }
+        listenerMetrics.requestCompleted(this, completionNanoTime, failed);
+        if (resourceMetrics != null) {
+            resourceMetrics.requestCompleted(this, completionNanoTime, failed);
+        }
+    }
+
+    /**
+     * Accounts bytes of the request body received from the channel.
+     *
+     * @param bytes the number of bytes
+     */
+    public void onContentReceived(long bytes) {
+        bytesReceived += bytes;
+    }
+
+    long getArrivalNanoTime() {
+        return timeline.getNanoTime(RequestPhase.HEADERS_DECODED);
+    }
+
+    long getDispatchNanoTime() {
+        return timeline.getNanoTime(RequestPhase.DISPATCHED);
+    }
+
+    long getExecutionNanoTime() {
+        return timeline.getNanoTime(RequestPhase.RESOURCE_INVOKED);
+    }
+
+    long getResponseNanoTime() {
+        return timeline.getNanoTime(RequestPhase.RESPONSE_STARTED);
+    }
+
+    long getBytesReceived() {
+        return bytesReceived;
+    }
+
+    long getBytesSent() {
+        return bytesSent;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Retry metrics of a client, i.e. the retries it attempted and the ones its retry budget suppressed.
+ *
+ * @since 2.12.1
+ */
+public class RetryMetrics implements RetryMetricsMBean {
+
+    private final String client;
+    private final LongAdder attempted = new LongAdder();
+    private final LongAdder suppressed = new LongAdder();
+
+    RetryMetrics(String client) {
+        this.client = client;
+    }
+
+    /**
+     * Records a retry which is sent.
+     */
+    public void retryAttempted() {
+        attempted.increment();
+    }
+
+    /**
+     * Records a retry which is not sent because the retry budget is exhausted.
+     */
+    public void retrySuppressed() {
+        suppressed.increment();
+    }
+
+    public String getClient() {
+        return client;
+    }
+
+    @Override
+    public long getRetryAttempts() {
+        return attempted.sum();
+    }
+
+    @Override
+    public long getSuppressedRetries() {
+        return suppressed.sum();
+    }
+}
@@ -24,6 +24,7 @@ import io.ballerina.stdlib.http.transport.contract.ServerConnectorFuture;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ServerConnectorException;
 import io.ballerina.stdlib.http.transport.contractimpl.Http2OutboundRespListener;
 import io.ballerina.stdlib.http.transport.contractimpl.common.Util;
+import io.ballerina.stdlib.http.transport.contractimpl.common.metrics.RequestMetrics;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.http2.Http2SourceHandler;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.http2.InboundMessageHolder;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.states.http2.Response100ContinueSent;
@@ -33,12 +34,12 @@ import io.ballerina.stdlib.http.transport.contractimpl.sender.http2.Http2DataEve
 import io.ballerina.stdlib.http.transport.contractimpl.sender.http2.Http2TargetHandler;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.http2.OutboundMsgHolder;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.states.http2.RequestCompleted;
+import io.ballerina.stdlib.http.transport.internal.RequestPhase;
 import io.ballerina.stdlib.http.transport.message.Http2DataFrame;
 import io.ballerina.stdlib.http.transport.message.Http2InboundContentListener;
 import io.ballerina.stdlib.http.transport.message.Http2PushPromise;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonRequest;
-import io.ballerina.stdlib.http.transport.message.PooledDataStreamerFactory;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
@@ -106,12 +107,8 @@ public final class Http2StateUtil {
         if (http2SourceHandler.getServerConnectorFuture() != null) {
             try {
                 ServerConnectorFuture outboundRespFuture = httpRequestMsg.getHttpResponseFuture();
-                Http2OutboundRespListener http2OutboundRespListener = new Http2OutboundRespListener(
-                        http2SourceHandler.getServerChannelInitializer(), httpRequestMsg,
-                        http2SourceHandler.getChannelHandlerContext(), http2SourceHandler.getConnection(),
-                        http2SourceHandler.getEncoder(), streamId, http2SourceHandler.getServerName(),
-                        http2SourceHandler.getRemoteHost(), http2SourceHandler.getServerRemoteFlowControlListener(),
-                        http2SourceHandler.getHttp2ServerChannel());
+                Http2OutboundRespListener http2OutboundRespListener =
+                        new Http2OutboundRespListener(http2SourceHandler, httpRequestMsg, streamId);
                 outboundRespFuture.setHttpConnectorListener(http2OutboundRespListener);
                 http2SourceHandler.getServerConnectorFuture().notifyHttpListener(httpRequestMsg);
                 inboundMessageHolder.setHttp2OutboundRespListener(http2OutboundRespListener);
@@ -136,31 +133,29 @@ public final class Http2StateUtil {
         ChannelHandlerContext ctx = http2SourceHandler.getChannelHandlerContext();
         HttpCarbonRequest sourceReqCMsg = new HttpCarbonRequest(httpRequest, new Http2InboundContentListener(
             streamId, ctx, http2SourceHandler.getConnection(), INBOUND_REQUEST));
-        sourceReqCMsg.setProperty(POOLED_BYTE_BUFFER_FACTORY, new PooledDataStreamerFactory(ctx.alloc()));
+        sourceReqCMsg.setProperty(POOLED_BYTE_BUFFER_FACTORY, http2SourceHandler.getPooledDataStreamerFactory());
         sourceReqCMsg.setProperty(CHNL_HNDLR_CTX, ctx);
         sourceReqCMsg.setProperty(Constants.SRC_HANDLER, http2SourceHandler);
         HttpVersion protocolVersion = httpRequest.protocolVersion();
         sourceReqCMsg.setHttpVersion(protocolVersion.majorVersion() + "." + protocolVersion.minorVersion());
         sourceReqCMsg.setHttpMethod(httpRequest.method().name());
 
-        InetSocketAddress localAddress = null;
-        //This check was added because in case of netty embedded channel, this could be of type 'EmbeddedSocketAddress'.
-        if (ctx.channel().localAddress() instanceof InetSocketAddress) {
-            localAddress = (InetSocketAddress) ctx.channel().localAddress();
-        }
-        sourceReqCMsg.setProperty(LOCAL_ADDRESS, localAddress);
+        sourceReqCMsg.setProperty(LOCAL_ADDRESS, http2SourceHandler.getLocalAddress());
         sourceReqCMsg.setProperty(Constants.REMOTE_ADDRESS, http2SourceHandler.getRemoteAddress());
-        sourceReqCMsg.setProperty(LISTENER_PORT, localAddress != null ? localAddress.getPort() : null);
+        sourceReqCMsg.setProperty(LISTENER_PORT, http2SourceHandler.getListenerPort());
         sourceReqCMsg.setProperty(LISTENER_INTERFACE_ID, http2SourceHandler.getInterfaceId());
         sourceReqCMsg.setProperty(PROTOCOL, HTTP_SCHEME);
-        sourceReqCMsg.setProperty(MUTUAL_SSL_HANDSHAKE_RESULT,
-                ctx.channel().attr(Constants.MUTUAL_SSL_RESULT_ATTRIBUTE).get());
-        sourceReqCMsg.setProperty(BASE_64_ENCODED_CERT,
-                ctx.channel().attr(Constants.BASE_64_ENCODED_CERT_ATTRIBUTE).get());
+        sourceReqCMsg.setProperty(MUTUAL_SSL_HANDSHAKE_RESULT, http2SourceHandler.getMutualSslHandshakeResult());
+        sourceReqCMsg.setProperty(BASE_64_ENCODED_CERT, http2SourceHandler.getBase64EncodedCert());
         String uri = httpRequest.uri();
         sourceReqCMsg.setRequestUrl(uri);
         sourceReqCMsg.setProperty(TO, uri);
         sourceReqCMsg.setProperty(OUTBOUND_ACCESS_LOG_MESSAGES, new ArrayList<>());
+        Util.startRequestTimeline(sourceReqCMsg, http2SourceHandler.getConnectionTimeline());
+        RequestMetrics.requestReceived(sourceReqCMsg,
+                                       http2SourceHandler.getServerChannelInitializer().getListenerMetrics());
+        sourceReqCMsg.setConcurrencyLimiter(http2SourceHandler.getServerChannelInitializer().getConcurrencyLimiter());
+        sourceReqCMsg.setEntityMemoryBudget(http2SourceHandler.getServerChannelInitializer().getEntityMemoryBudget());
         return sourceReqCMsg;
     }
 
@@ -186,12 +181,19 @@ public final class Http2StateUtil {
                 break;
             }
         }
+        if (streamId == respListener.getOriginalStreamId()) {
+            Util.recordRequestPhase(inboundRequestMsg, RequestPhase.FIRST_BYTE_WRITTEN);
+        }
         ChannelFuture channelFuture = encoder.writeHeaders(
             ctx, streamId, http2Headers, 0, endStream, ctx.newPromise());
         encoder.flowController().writePendingBytes();
         ctx.flush();
         if (endStream) {
             respListener.getHttp2ServerChannel().getStreamIdRequestMap().remove(streamId);
+            if (streamId == respListener.getOriginalStreamId()) {
+                Util.completeOnResponseWrite(inboundRequestMsg, respListener.getOutboundResponseMsg(),
+                                             channelFuture);
+            }
             Util.checkForResponseWriteStatus(inboundRequestMsg, outboundRespStatusFuture, channelFuture);
         } else {
             Util.addResponseWriteFailureListener(outboundRespStatusFuture, channelFuture, respListener);
@@ -284,6 +286,37 @@ public final class Http2StateUtil {
         dataFrame.getData().release();
     }
 
+    /**
+     * Rejects an inbound request whose entity body exceeds the maximum allowed size. A `413` response is sent unless
+     * the response has already started, after which the stream is reset so that the client stops sending the body.
+     *
+     * @param http2SourceHandler the HTTP/2 source handler
+     * @param streamId           id of the stream of the request
+     * @param sendResponse       whether a `413` response should be sent
+     */
+    public static void rejectOversizedRequest(Http2SourceHandler http2SourceHandler, int streamId,
+                                              boolean sendResponse) {
+        ChannelHandlerContext ctx = http2SourceHandler.getChannelHandlerContext();
+        Http2ConnectionEncoder encoder = http2SourceHandler.getEncoder();
+        try {
+            if (sendResponse) {
+                Http2Headers headers = new DefaultHttp2Headers();
+                headers.status(HttpResponseStatus.REQUEST_ENTITY_TOO_LARGE.codeAsText());
+                headers.setInt(HttpHeaderNames.CONTENT_LENGTH, 0);
+                encoder.writeHeaders(ctx, streamId, headers, 0, true, ctx.newPromise());
+            }
+            // A reset with NO_ERROR after a complete response asks the client to stop sending (RFC 9113, 8.1)
+            Http2Error error = sendResponse ? Http2Error.NO_ERROR : Http2Error.CANCEL;
+            encoder.writeRstStream(ctx, streamId, error.code(), ctx.newPromise());
+            encoder.flowController().writePendingBytes();
+            http2SourceHandler.getHttp2ServerChannel().getDataEventListeners()
+                    .forEach(dataEventListener -> dataEventListener.onStreamReset(streamId));
+            ctx.flush();
+        } catch (Http2Exception e) {
+            LOG.error("Error in rejecting the oversized request: {}", e.getMessage());
+        }
+    }
+
     /**
      * Sends `RST_STREAM` frame with `NO_ERROR` error code.
      *
@@ -355,6 +388,7 @@ public final class Http2StateUtil {
         int streamId = getNextStreamId(connection);
         createStream(connection, streamId);
         http2ClientChannel.putInFlightMessage(streamId, outboundMsgHolder);
+        outboundMsgHolder.setStreamId(streamId);
         http2ClientChannel.getDataEventListeners()
                 .forEach(dataEventListener -> dataEventListener.onStreamInit(ctx, streamId));
         return streamId;
@@ -33,6 +33,7 @@ import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.DecoderException;
 import io.netty.handler.codec.DecoderResult;
+import io.netty.handler.codec.TooLongFrameException;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
 import io.netty.handler.codec.http.DefaultLastHttpContent;
 import io.netty.handler.codec.http.HttpContent;
@@ -131,6 +132,37 @@ public class StateUtil {
         listenerReqRespStateManager.writeOutboundResponseHeaders(outboundResponseMsg, httpContent);
     }
 
+    /**
+     * Handles request entity body content which arrives after the response has started, i.e. which was read before
+     * the read interest was removed. The content is no longer consumed, hence it is released. Once the body exceeds
+     * the maximum allowed size a `413` can no longer be sent, hence the connection is closed so that the client stops
+     * sending it.
+     *
+     * @param outboundResponseListener the outbound response listener of the request
+     * @param inboundRequestEntityBody the inbound request content
+     */
+    public static void releaseInboundContentAfterResponseStarted(HttpOutboundRespListener outboundResponseListener,
+                                                                 Object inboundRequestEntityBody) {
+        if (!(inboundRequestEntityBody instanceof HttpContent)) {
+            LOG.warn("readInboundRequestBody {}", ILLEGAL_STATE_ERROR);
+            return;
+        }
+        HttpContent httpContent = (HttpContent) inboundRequestEntityBody;
+        boolean oversized = httpContent.decoderResult().cause() instanceof TooLongFrameException;
+        httpContent.release();
+        if (!oversized) {
+            LOG.warn("readInboundRequestBody {}", ILLEGAL_STATE_ERROR);
+            return;
+        }
+        LOG.warn("{} after the response has started, hence closing the connection",
+                 Constants.INBOUND_REQUEST_ENTITY_BODY_TOO_LARGE);
+        HttpCarbonMessage inboundRequestMsg = outboundResponseListener.getInboundRequestMsg();
+        if (inboundRequestMsg.getIoException() == null) {
+            handleIncompleteInboundMessage(inboundRequestMsg, Constants.INBOUND_REQUEST_ENTITY_BODY_TOO_LARGE);
+        }
+        outboundResponseListener.getSourceContext().close();
+    }
+
     // This method will create and add the trailer header by looking at the trailers lies in HttpCarbonMessage
     // httpTrailerHeaders attribute. It does not consider seperately injected trailers to the LastHttpContent through
     // netty's API. Dev should use HttpCarbonMessage.getTrailerHeaders() API to manipulate trailer. Otherwise header
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.listener;
+
+import io.ballerina.stdlib.http.transport.contract.config.ConcurrencyLimitConfig;
+import io.ballerina.stdlib.http.transport.internal.RequestPhase;
+import io.ballerina.stdlib.http.transport.internal.RequestTimeline;
+import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Adaptive limit of the requests a listener serves concurrently. The limit follows the gradient between the
+ * long-term and the recent latency of the requests: it grows by the square root of itself while the latency is
+ * stable and shrinks in proportion when the recent latency exceeds the long-term latency by more than the
+ * configured tolerance, i.e. when requests start to queue. Requests beyond the limit are rejected up front instead of
+ * being queued in the runtime.
+ *
+ * @since 2.12.1
+ */
+public class ConcurrencyLimiter implements ConcurrencyLimiterMBean {
+
+    private static final double SMOOTHING = 0.2;
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double LONG_TERM_WINDOW = 600;
+    private static final double SHORT_TERM_WINDOW = 10;
+    private static final double DRIFT_RATIO = 2.0;
+    private static final double DRIFT_DECAY = 0.95;
+
+    private final String listener;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double latencyTolerance;
+    private final int retryAfter;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private volatile int limit;
+
+    // Guarded by this
+    private double estimatedLimit;
+    private double longTermLatency;
+    private double shortTermLatency;
+    private long sampleCount;
+
+    public ConcurrencyLimiter(String listener, ConcurrencyLimitConfig config) {
+        this.listener = listener;
+        this.minLimit = Math.max(1, config.getMinLimit());
+        this.maxLimit = Math.max(minLimit, config.getMaxLimit());
+        this.latencyTolerance = config.getLatencyTolerance();
+        this.retryAfter = config.getRetryAfter();
+        this.estimatedLimit = Math.min(maxLimit, Math.max(minLimit, config.getInitialLimit()));
+        this.limit = (int) estimatedLimit;
+    }
+
+    /**
+     * Admits an inbound request if the listener is below its limit. A request which is handed to the listener again,
+     * e.g. after its body is aggregated for data binding, keeps its admission.
+     *
+     * @param inboundRequestMsg the inbound request
+     * @return false if the request should be rejected
+     */
+    public static boolean admit(HttpCarbonMessage inboundRequestMsg) {
+        ConcurrencyLimiter limiter = inboundRequestMsg.getConcurrencyLimiter();
+        if (limiter == null || inboundRequestMsg.isConcurrencyPermitHeld()) {
+            return true;
+        }
+        if (!limiter.tryAcquire()) {
+            return false;
+        }
+        inboundRequestMsg.setConcurrencyPermitHeld(true);
+        return true;
+    }
+
+    /**
+     * Releases the admission of a request once it is completed or abandoned. The latency between the dispatch of the
+     * request and the flush of its response is fed to the limit only for completed requests.
+     *
+     * @param inboundRequestMsg the inbound request
+     * @param completed         whether the response was completely written
+     */
+    public static void release(HttpCarbonMessage inboundRequestMsg, boolean completed) {
+        if (!inboundRequestMsg.isConcurrencyPermitHeld()) {
+            return;
+        }
+        inboundRequestMsg.setConcurrencyPermitHeld(false);
+        long latency = -1;
+        RequestTimeline timeline = inboundRequestMsg.getRequestTimeline();
+        if (completed && timeline != null) {
+            latency = timeline.getElapsedNanos(RequestPhase.DISPATCHED, RequestPhase.LAST_BYTE_FLUSHED);
+        }
+        inboundRequestMsg.getConcurrencyLimiter().release(latency);
+    }
+
+    boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= limit) {
+                rejected.increment();
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    void release(long latencyNanos) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        if (latencyNanos > 0) {
+            update(latencyNanos, inFlightAtCompletion);
+        }
+    }
+
+    private synchronized void update(long latencyNanos, int inFlightAtCompletion) {
+        sampleCount++;
+        if (sampleCount == 1) {
+            longTermLatency = latencyNanos;
+            shortTermLatency = latencyNanos;
+        } else {
+            longTermLatency += (latencyNanos - longTermLatency) / Math.min(sampleCount, LONG_TERM_WINDOW);
+            shortTermLatency += (latencyNanos - shortTermLatency) / Math.min(sampleCount, SHORT_TERM_WINDOW);
+        }
+        // Let the long-term latency follow a lasting drop of the latency, e.g. after a warm up
+        if (longTermLatency / shortTermLatency > DRIFT_RATIO) {
+            longTermLatency *= DRIFT_DECAY;
+        }
+        // The latency says nothing about the limit while the listener is far from using it
+        if (inFlightAtCompletion < estimatedLimit / 2) {
+            return;
+        }
+        double gradient = Math.max(MIN_GRADIENT,
+                                   Math.min(1.0, latencyTolerance * longTermLatency / shortTermLatency));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        newLimit = estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+
+    public String getListener() {
+        return listener;
+    }
+
+    public int getRetryAfter() {
+        return retryAfter;
+    }
+
+    @Override
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public int getInFlightRequests() {
+        return inFlight.get();
+    }
+
+    @Override
+    public long getRejectedRequests() {
+        return rejected.sum();
+    }
+
+    @Override
+    public synchronized long getLongTermLatency() {
+        return TimeUnit.NANOSECONDS.toMicros((long) longTermLatency);
+    }
+
+    @Override
+    public synchronized long getShortTermLatency() {
+        return TimeUnit.NANOSECONDS.toMicros((long) shortTermLatency);
+    }
+}
@@ -1,27 +1,63 @@
 package io.ballerina.stdlib.http.transport.contractimpl.listener;
 
+import io.ballerina.stdlib.http.transport.contract.config.CompressionConfig;
+import io.ballerina.stdlib.http.transport.contractimpl.common.CompressionUtil;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.compression.CompressionOptions;
 import io.netty.handler.codec.http.HttpContentCompressor;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpObject;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponse;
 
 import java.util.List;
 
+import static io.ballerina.stdlib.http.transport.contract.Constants.HTTP_PRE_ENCODED_CONTENT;
+
 /**
  * Custom Http Content Compressor to handle the content-length and transfer encoding.
  */
 public class CustomHttpContentCompressor extends HttpContentCompressor {
 
+    private static final CompressionConfig DEFAULT_COMPRESSION_CONFIG = new CompressionConfig();
+    private static final List<String> DEFAULT_ENCODINGS =
+            CompressionUtil.getSupportedEncodings(DEFAULT_COMPRESSION_CONFIG.getAlgorithms());
+
     private HttpMethod method;
+    private boolean preEncoded;
+    private final CompressionConfig compressionConfig;
+    private final List<String> supportedEncodings;
 
     public CustomHttpContentCompressor() {
-        super();
+        this(DEFAULT_COMPRESSION_CONFIG, DEFAULT_ENCODINGS,
+             CompressionUtil.getCompressionOptions(DEFAULT_COMPRESSION_CONFIG, DEFAULT_ENCODINGS));
+    }
+
+    public CustomHttpContentCompressor(CompressionConfig compressionConfig, List<String> supportedEncodings,
+                                       CompressionOptions[] compressionOptions) {
+        super(compressionConfig.getMinContentLength(), compressionOptions);
+        this.compressionConfig = compressionConfig;
+        this.supportedEncodings = supportedEncodings;
+    }
+
+    @Override
+    protected void encode(ChannelHandlerContext ctx, HttpObject msg, List<Object> out) throws Exception {
+        if (msg instanceof HttpResponse) {
+            //Payloads marked as pre-encoded already carry their content-encoding and must be written as they are.
+            preEncoded = ((HttpResponse) msg).headers().contains(HTTP_PRE_ENCODED_CONTENT);
+            if (preEncoded) {
+                ((HttpResponse) msg).headers().remove(HTTP_PRE_ENCODED_CONTENT);
+            }
+        }
+        super.encode(ctx, msg, out);
     }
 
     @Override
     protected Result beginEncode(HttpResponse headers, String acceptEncoding) throws Exception {
+        if (preEncoded) {
+            return null;
+        }
         String allowHeader = headers.headers().get(HttpHeaderNames.ALLOW);
         String contentLength = headers.headers().get(HttpHeaderNames.CONTENT_LENGTH);
         if (method == HttpMethod.OPTIONS && allowHeader != null && contentLength.equals("0")) {
@@ -33,10 +69,19 @@ public class CustomHttpContentCompressor extends HttpContentCompressor {
             //ultimately be used for compression and then remove the content-encoding header from response.
             acceptEncoding = contentEncoding;
             headers.headers().remove(HttpHeaderNames.CONTENT_ENCODING);
+        } else if (!CompressionUtil.isCompressible(compressionConfig,
+                                                   headers.headers().get(HttpHeaderNames.CONTENT_TYPE),
+                                                   contentLength)) {
+            return null;
         }
         return super.beginEncode(headers, acceptEncoding);
     }
 
+    @Override
+    protected String determineEncoding(String acceptEncoding) {
+        return CompressionUtil.determineEncoding(acceptEncoding, supportedEncodings);
+    }
+
     @Override
     protected void decode(ChannelHandlerContext ctx, HttpRequest msg, List<Object> out)
             throws Exception {
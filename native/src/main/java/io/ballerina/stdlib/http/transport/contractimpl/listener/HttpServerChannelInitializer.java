@@ -18,12 +18,21 @@ package io.ballerina.stdlib.http.transport.contractimpl.listener;
 import io.ballerina.stdlib.http.transport.contract.Constants;
 import io.ballerina.stdlib.http.transport.contract.ServerConnectorFuture;
 import io.ballerina.stdlib.http.transport.contract.config.ChunkConfig;
+import io.ballerina.stdlib.http.transport.contract.config.CompressionConfig;
+import io.ballerina.stdlib.http.transport.contract.config.ConcurrencyLimitConfig;
+import io.ballerina.stdlib.http.transport.contract.config.Http2SettingsConfig;
 import io.ballerina.stdlib.http.transport.contract.config.InboundMsgSizeValidationConfig;
 import io.ballerina.stdlib.http.transport.contract.config.KeepAliveConfig;
+import io.ballerina.stdlib.http.transport.contract.config.RequestSpillConfig;
 import io.ballerina.stdlib.http.transport.contractimpl.common.BackPressureHandler;
+import io.ballerina.stdlib.http.transport.contractimpl.common.CompressionUtil;
+import io.ballerina.stdlib.http.transport.contractimpl.common.IdleTimeoutHandler;
+import io.ballerina.stdlib.http.transport.contractimpl.common.TimeoutWheel;
 import io.ballerina.stdlib.http.transport.contractimpl.common.Util;
 import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.CertificateVerificationException;
 import io.ballerina.stdlib.http.transport.contractimpl.common.http2.Http2ExceptionHandler;
+import io.ballerina.stdlib.http.transport.contractimpl.common.metrics.HttpMetrics;
+import io.ballerina.stdlib.http.transport.contractimpl.common.metrics.HttpMetricsRegistry;
 import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.SSLConfig;
 import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.SSLHandlerFactory;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.http2.Http2SourceConnectionHandlerBuilder;
@@ -31,6 +40,9 @@ import io.ballerina.stdlib.http.transport.contractimpl.listener.http2.Http2Sourc
 import io.ballerina.stdlib.http.transport.contractimpl.listener.http2.Http2ToHttpFallbackHandler;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.http2.Http2WithPriorKnowledgeHandler;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.CertificateValidationHandler;
+import io.ballerina.stdlib.http.transport.internal.RequestPhase;
+import io.ballerina.stdlib.http.transport.internal.RequestTimeline;
+import io.ballerina.stdlib.http.transport.message.EntityMemoryBudget;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
@@ -38,6 +50,7 @@ import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.group.ChannelGroup;
 import io.netty.channel.socket.SocketChannel;
+import io.netty.handler.codec.compression.CompressionOptions;
 import io.netty.handler.codec.http.HttpRequestDecoder;
 import io.netty.handler.codec.http.HttpResponseEncoder;
 import io.netty.handler.codec.http.HttpServerCodec;
@@ -52,7 +65,6 @@ import io.netty.handler.ssl.ReferenceCountedOpenSslEngine;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.stream.ChunkedWriteHandler;
-import io.netty.handler.timeout.IdleStateHandler;
 import io.netty.util.AsciiString;
 import io.netty.util.concurrent.EventExecutorGroup;
 import org.bouncycastle.cert.ocsp.OCSPResp;
@@ -62,18 +74,17 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.security.KeyStoreException;
 import java.security.cert.CertificateException;
+import java.util.List;
 import java.util.Objects;
-import java.util.Timer;
-import java.util.TimerTask;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.TimeUnit;
 
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLEngine;
 
 import static io.ballerina.stdlib.http.transport.contract.Constants.HTTP_TRACE_LOG_HANDLER;
 import static io.ballerina.stdlib.http.transport.contract.Constants.MAX_ENTITY_BODY_VALIDATION_HANDLER;
+import static io.ballerina.stdlib.http.transport.contract.Constants.METRICS_ENDPOINT_HANDLER;
 import static io.ballerina.stdlib.http.transport.contract.Constants.SECURITY;
 import static io.ballerina.stdlib.http.transport.contract.Constants.SSL;
 import static io.ballerina.stdlib.http.transport.contract.Constants.TRACE_LOG_DOWNSTREAM;
@@ -113,10 +124,21 @@ public class HttpServerChannelInitializer extends ChannelInitializer<SocketChann
     private EventExecutorGroup pipeliningGroup;
     private boolean webSocketCompressionEnabled;
     private int http2InitialWindowSize;
+    private Http2SettingsConfig http2SettingsConfig = new Http2SettingsConfig();
     private long minIdleTimeInStaleState;
     private long timeBetweenStaleEviction;
+    private CompressionConfig compressionConfig = new CompressionConfig();
+    private List<String> compressionEncodings =
+            CompressionUtil.getSupportedEncodings(compressionConfig.getAlgorithms());
+    private CompressionOptions[] compressionOptions =
+            CompressionUtil.getCompressionOptions(compressionConfig, compressionEncodings);
     private final BlockingQueue<Http2SourceHandler> http2StaleSourceHandlers = new LinkedBlockingQueue<>();
-    private Timer timer;
+    private TimeoutWheel.Timeout staleEvictionTask;
+    private HttpMetrics listenerMetrics;
+    private String metricsPath;
+    private ConcurrencyLimitConfig concurrencyLimitConfig;
+    private ConcurrencyLimiter concurrencyLimiter;
+    private EntityMemoryBudget entityMemoryBudget;
 
     @Override
     public void initChannel(SocketChannel ch) throws Exception {
@@ -124,6 +146,9 @@ public class HttpServerChannelInitializer extends ChannelInitializer<SocketChann
             LOG.debug("Initializing source channel pipeline");
         }
         ChannelPipeline serverPipeline = ch.pipeline();
+        RequestTimeline connectionTimeline = new RequestTimeline();
+        connectionTimeline.record(RequestPhase.CONNECTION_ACCEPTED, System.nanoTime());
+        ch.attr(Constants.CONNECTION_TIMELINE).set(connectionTimeline);
 
         if (http2Enabled) {
             if (sslHandlerFactory != null) {
@@ -136,11 +161,13 @@ public class HttpServerChannelInitializer extends ChannelInitializer<SocketChann
                     ReferenceCountedOpenSslEngine engine = (ReferenceCountedOpenSslEngine) sslHandler.engine();
                     engine.setOcspResponse(response.getEncoded());
                     setSslHandshakeTimeOut(sslConfig, sslHandler);
+                    recordTlsHandshake(ch, sslHandler);
                     ch.pipeline()
                             .addLast(sslHandler, new Http2PipelineConfiguratorForServer(this, sslHandler.engine()));
                 } else {
                     SslHandler sslHandler = keystoreHttp2SslContext.newHandler(ch.alloc());
                     setSslHandshakeTimeOut(sslConfig, sslHandler);
+                    recordTlsHandshake(ch, sslHandler);
                     serverPipeline
                             .addLast(sslHandler, new Http2PipelineConfiguratorForServer(this, sslHandler.engine()));
                     serverPipeline.addLast(Constants.HTTP2_EXCEPTION_HANDLER, new Http2ExceptionHandler());
@@ -158,6 +185,15 @@ public class HttpServerChannelInitializer extends ChannelInitializer<SocketChann
         }
     }
 
+    private static void recordTlsHandshake(SocketChannel ch, SslHandler sslHandler) {
+        RequestTimeline connectionTimeline = ch.attr(Constants.CONNECTION_TIMELINE).get();
+        sslHandler.handshakeFuture().addListener(future -> {
+            if (future.isSuccess()) {
+                connectionTimeline.record(RequestPhase.TLS_HANDSHAKE_COMPLETED, System.nanoTime());
+            }
+        });
+    }
+
     private OCSPResp getOcspResponse()
             throws IOException, KeyStoreException, CertificateVerificationException, CertificateException {
         OCSPResp response = OCSPResponseBuilder.generateOcspResponse(sslConfig, cacheSize, cacheDelay);
@@ -186,6 +222,7 @@ public class HttpServerChannelInitializer extends ChannelInitializer<SocketChann
             ReferenceCountedOpenSslEngine engine = (ReferenceCountedOpenSslEngine) sslEngine;
             engine.setOcspResponse(response.getEncoded());
             setSslHandshakeTimeOut(sslConfig, sslHandler);
+            recordTlsHandshake(ch, sslHandler);
             ch.pipeline().addLast(sslHandler);
         } else {
             if (sslConfig.getServerKeyFile() != null) {
@@ -198,6 +235,7 @@ public class HttpServerChannelInitializer extends ChannelInitializer<SocketChann
             Util.setAlpnProtocols(sslEngine);
             sslHandler = new SslHandler(sslEngine);
             setSslHandshakeTimeOut(sslConfig, sslHandler);
+            recordTlsHandshake(ch, sslHandler);
             serverPipeline.addLast(Constants.SSL_HANDLER, sslHandler);
             if (validateCertEnabled) {
                 serverPipeline.addLast(Constants.HTTP_CERT_VALIDATION_HANDLER,
@@ -223,7 +261,7 @@ public class HttpServerChannelInitializer extends ChannelInitializer<SocketChann
                                                           reqSizeValidationConfig.getMaxHeaderSize(),
                                                           reqSizeValidationConfig.getMaxChunkSize()));
 
-            serverPipeline.addLast(Constants.HTTP_COMPRESSOR, new CustomHttpContentCompressor());
+            serverPipeline.addLast(Constants.HTTP_COMPRESSOR, createHttpContentCompressor());
             serverPipeline.addLast(Constants.HTTP_CHUNK_WRITER, new ChunkedWriteHandler());
 
             if (httpTraceLogEnabled) {
@@ -240,6 +278,9 @@ public class HttpServerChannelInitializer extends ChannelInitializer<SocketChann
                                new WebSocketServerHandshakeHandler(this.serverConnectorFuture,
                                                                    webSocketCompressionEnabled));
         serverPipeline.addLast(Constants.BACK_PRESSURE_HANDLER, new BackPressureHandler());
+        if (metricsPath != null) {
+            serverPipeline.addLast(METRICS_ENDPOINT_HANDLER, new MetricsEndpointHandler(metricsPath));
+        }
         serverPipeline.addLast(Constants.HTTP_SOURCE_HANDLER,
                                new SourceHandler(this.serverConnectorFuture, this, this.interfaceId, this.chunkConfig,
                                                  keepAliveConfig, this.serverName, this.allChannels,
@@ -247,7 +288,7 @@ public class HttpServerChannelInitializer extends ChannelInitializer<SocketChann
                                                  this.pipeliningGroup));
         if (socketIdleTimeout >= 0) {
             serverPipeline.addBefore(Constants.HTTP_SOURCE_HANDLER, Constants.IDLE_STATE_HANDLER,
-                                     new IdleStateHandler(0, 0, socketIdleTimeout, TimeUnit.MILLISECONDS));
+                                     new IdleTimeoutHandler(socketIdleTimeout));
         }
         serverPipeline.addLast(Constants.HTTP_EXCEPTION_HANDLER, new HttpExceptionHandler());
     }
@@ -268,7 +309,7 @@ public class HttpServerChannelInitializer extends ChannelInitializer<SocketChann
                                                                 reqSizeValidationConfig.getMaxChunkSize());
 
         pipeline.addLast(Constants.HTTP_SERVER_CODEC, sourceCodec);
-        pipeline.addLast(Constants.HTTP_COMPRESSOR, new CustomHttpContentCompressor());
+        pipeline.addLast(Constants.HTTP_COMPRESSOR, createHttpContentCompressor());
         if (httpTraceLogEnabled) {
             pipeline.addLast(HTTP_TRACE_LOG_HANDLER,
                              new HttpTraceLoggingHandler(TRACE_LOG_DOWNSTREAM));
@@ -295,6 +336,10 @@ public class HttpServerChannelInitializer extends ChannelInitializer<SocketChann
                          new Http2ToHttpFallbackHandler(this));
     }
 
+    private CustomHttpContentCompressor createHttpContentCompressor() {
+        return new CustomHttpContentCompressor(compressionConfig, compressionEncodings, compressionOptions);
+    }
+
     public void setServerConnectorFuture(ServerConnectorFuture serverConnectorFuture) {
         this.serverConnectorFuture = serverConnectorFuture;
     }
@@ -325,6 +370,35 @@ public class HttpServerChannelInitializer extends ChannelInitializer<SocketChann
 
     void setInterfaceId(String interfaceId) {
         this.interfaceId = interfaceId;
+        this.listenerMetrics = HttpMetricsRegistry.getInstance().getListenerMetrics(interfaceId);
+        if (concurrencyLimitConfig != null) {
+            this.concurrencyLimiter = HttpMetricsRegistry.getInstance().getConcurrencyLimiter(interfaceId,
+                                                                                              concurrencyLimitConfig);
+        }
+    }
+
+    public HttpMetrics getListenerMetrics() {
+        return listenerMetrics;
+    }
+
+    void setMetricsPath(String metricsPath) {
+        this.metricsPath = metricsPath;
+    }
+
+    void setConcurrencyLimitConfig(ConcurrencyLimitConfig concurrencyLimitConfig) {
+        this.concurrencyLimitConfig = concurrencyLimitConfig;
+    }
+
+    public ConcurrencyLimiter getConcurrencyLimiter() {
+        return concurrencyLimiter;
+    }
+
+    void setRequestSpillConfig(RequestSpillConfig requestSpillConfig) {
+        this.entityMemoryBudget = requestSpillConfig != null ? new EntityMemoryBudget(requestSpillConfig) : null;
+    }
+
+    public EntityMemoryBudget getEntityMemoryBudget() {
+        return entityMemoryBudget;
     }
 
     void setSslConfig(SSLConfig sslConfig) {
@@ -351,10 +425,40 @@ public class HttpServerChannelInitializer extends ChannelInitializer<SocketChann
         this.reqSizeValidationConfig = reqSizeValidationConfig;
     }
 
+    public long getMaxEntityBodySize() {
+        return reqSizeValidationConfig.getMaxEntityBodySize();
+    }
+
     void setHttp2InitialWindowSize(int http2InitialWindowSize) {
         this.http2InitialWindowSize = http2InitialWindowSize;
     }
 
+    void setHttp2SettingsConfig(Http2SettingsConfig http2SettingsConfig) {
+        this.http2SettingsConfig = http2SettingsConfig;
+    }
+
+    public Http2SettingsConfig getHttp2SettingsConfig() {
+        return http2SettingsConfig;
+    }
+
+    void setCompressionConfig(CompressionConfig compressionConfig) {
+        this.compressionConfig = compressionConfig;
+        this.compressionEncodings = CompressionUtil.getSupportedEncodings(compressionConfig.getAlgorithms());
+        this.compressionOptions = CompressionUtil.getCompressionOptions(compressionConfig, compressionEncodings);
+    }
+
+    public CompressionConfig getCompressionConfig() {
+        return compressionConfig;
+    }
+
+    public List<String> getCompressionEncodings() {
+        return compressionEncodings;
+    }
+
+    public CompressionOptions[] getCompressionOptions() {
+        return compressionOptions;
+    }
+
     void setTimeBetweenStaleEviction(long timeBetweenStaleEviction) {
         this.timeBetweenStaleEviction = timeBetweenStaleEviction;
     }
@@ -486,14 +590,11 @@ public class HttpServerChannelInitializer extends ChannelInitializer<SocketChann
     }
 
     private void initiateHttp2ConnectionEvictionTask() {
-        if (Objects.nonNull(timer)) {
+        if (Objects.nonNull(staleEvictionTask)) {
             return;
         }
-        timer = new Timer(true);
-        TimerTask timerTask = new TimerTask() {
-            @Override
-            public void run() {
-                http2StaleSourceHandlers.forEach(http2SourceHandler -> {
+        staleEvictionTask = TimeoutWheel.schedulePeriodic(() -> http2StaleSourceHandlers.forEach(
+                http2SourceHandler -> {
                     if (minIdleTimeInStaleState == -1) {
                         if (http2SourceHandler.getStreamIdRequestMap().isEmpty()) {
                             removeChannelAndEvict(http2SourceHandler);
@@ -502,20 +603,17 @@ public class HttpServerChannelInitializer extends ChannelInitializer<SocketChann
                             minIdleTimeInStaleState) {
                         removeChannelAndEvict(http2SourceHandler);
                     }
-                });
-            }
+                }), timeBetweenStaleEviction);
+    }
 
-            public void removeChannelAndEvict(Http2SourceHandler http2SourceHandler) {
-                http2StaleSourceHandlers.remove(http2SourceHandler);
-                http2SourceHandler.closeChannelAfterBecomingStale();
-            }
-        };
-        timer.schedule(timerTask, timeBetweenStaleEviction, timeBetweenStaleEviction);
+    private void removeChannelAndEvict(Http2SourceHandler http2SourceHandler) {
+        http2StaleSourceHandlers.remove(http2SourceHandler);
+        http2SourceHandler.closeChannelAfterBecomingStale();
     }
 
     public void cancelStaleEvictionTask() {
-        if (Objects.nonNull(timer)) {
-            timer.cancel();
+        if (Objects.nonNull(staleEvictionTask)) {
+            staleEvictionTask.cancel();
         }
     }
 }
@@ -21,76 +21,77 @@ package io.ballerina.stdlib.http.transport.contractimpl.listener;
 import io.ballerina.stdlib.http.transport.contractimpl.common.Util;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.codec.DecoderResult;
+import io.netty.handler.codec.TooLongFrameException;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
 import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpMessage;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.LastHttpContent;
-import io.netty.util.ReferenceCounted;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.LinkedList;
+import static io.ballerina.stdlib.http.transport.contract.Constants.INBOUND_REQUEST_ENTITY_BODY_TOO_LARGE;
 
 /**
- * Responsible for validating request entity body size before sending it to the application.
+ * Responsible for validating request entity body size while it is streamed to the application. A request which
+ * declares a larger content length is rejected before it is dispatched. Otherwise the request is dispatched right
+ * away and, once the received body exceeds the limit, it is terminated with a failed {@link LastHttpContent} whose
+ * cause is a {@link TooLongFrameException}, and the rest of the body is discarded.
  */
 public class MaxEntityBodyValidator extends ChannelInboundHandlerAdapter {
 
     private static final Logger LOG = LoggerFactory.getLogger(MaxEntityBodyValidator.class);
 
-    private String serverName;
-    private long maxEntityBodySize;
+    private final String serverName;
+    private final long maxEntityBodySize;
     private long currentSize;
-    private HttpRequest inboundRequest;
-    private LinkedList<HttpContent> fullContent;
+    private boolean discarding;
 
     MaxEntityBodyValidator(String serverName, long maxEntityBodySize) {
         this.serverName = serverName;
         this.maxEntityBodySize = maxEntityBodySize;
-        this.fullContent = new LinkedList<>();
     }
 
     @Override
     public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
-        if (ctx.channel().isActive()) {
-            if (msg instanceof HttpRequest) {
-                inboundRequest = (HttpRequest) msg;
-                if (isContentLengthInvalid(inboundRequest, maxEntityBodySize)) {
-                    sendEntityTooLargeResponse(ctx);
-                }
-                ctx.channel().read();
-            } else {
-                HttpContent inboundContent = (HttpContent) msg;
-                this.currentSize += inboundContent.content().readableBytes();
-                this.fullContent.add(inboundContent);
-                if (this.currentSize > maxEntityBodySize) {
-                    sendEntityTooLargeResponse(ctx);
-                } else {
-                    if (msg instanceof LastHttpContent) {
-                        super.channelRead(ctx, this.inboundRequest);
-                        while (!this.fullContent.isEmpty()) {
-                            super.channelRead(ctx, this.fullContent.pop());
-                        }
-                    } else {
-                        ctx.channel().read();
-                    }
-                }
+        if (msg instanceof HttpRequest) {
+            HttpRequest inboundRequest = (HttpRequest) msg;
+            this.currentSize = 0;
+            this.discarding = false;
+            if (isContentLengthInvalid(inboundRequest, maxEntityBodySize)) {
+                this.discarding = true;
+                Util.sendAndCloseNoEntityBodyResp(ctx, HttpResponseStatus.REQUEST_ENTITY_TOO_LARGE,
+                                                  inboundRequest.protocolVersion(), this.serverName);
+                LOG.warn("Inbound request payload size exceeds the max entity body allowed for a request");
+                return;
             }
+            super.channelRead(ctx, msg);
+        } else if (msg instanceof HttpContent) {
+            HttpContent inboundContent = (HttpContent) msg;
+            if (this.discarding) {
+                inboundContent.release();
+                return;
+            }
+            this.currentSize += inboundContent.content().readableBytes();
+            if (this.currentSize > maxEntityBodySize) {
+                this.discarding = true;
+                inboundContent.release();
+                LastHttpContent failedContent = new DefaultLastHttpContent();
+                failedContent.setDecoderResult(
+                        DecoderResult.failure(new TooLongFrameException(INBOUND_REQUEST_ENTITY_BODY_TOO_LARGE)));
+                super.channelRead(ctx, failedContent);
+                LOG.warn("Inbound request payload size exceeds the max entity body allowed for a request");
+                return;
+            }
+            super.channelRead(ctx, msg);
+        } else {
+            super.channelRead(ctx, msg);
         }
     }
 
-    private void sendEntityTooLargeResponse(ChannelHandlerContext ctx) {
-        Util.sendAndCloseNoEntityBodyResp(ctx, HttpResponseStatus.REQUEST_ENTITY_TOO_LARGE,
-                inboundRequest.protocolVersion(), this.serverName);
-
-        this.fullContent.forEach(ReferenceCounted::release);
-        this.fullContent.forEach(httpContent -> this.fullContent.remove(httpContent));
-
-        LOG.warn("Inbound request payload size exceeds the max entity body allowed for a request");
-    }
-
     private boolean isContentLengthInvalid(HttpMessage start, long maxContentLength) {
         try {
             return HttpUtil.getContentLength(start, -1L) > maxContentLength;
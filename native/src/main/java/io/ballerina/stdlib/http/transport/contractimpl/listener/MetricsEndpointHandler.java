@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.listener;
+
+import io.ballerina.stdlib.http.transport.contractimpl.common.metrics.HttpMetricsRegistry;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.util.ReferenceCountUtil;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Serves the native transport metrics in the Prometheus text exposition format on a configured path of the
+ * listener, without dispatching the request to a service. All other requests are passed through untouched.
+ *
+ * @since 2.12.1
+ */
+public class MetricsEndpointHandler extends ChannelInboundHandlerAdapter {
+
+    static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final String metricsPath;
+    private HttpRequest metricsRequest;
+
+    MetricsEndpointHandler(String metricsPath) {
+        this.metricsPath = metricsPath;
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        if (msg instanceof HttpRequest && isMetricsRequest((HttpRequest) msg)) {
+            metricsRequest = (HttpRequest) msg;
+        }
+        if (metricsRequest == null) {
+            super.channelRead(ctx, msg);
+            return;
+        }
+        // The request body, if any, is not of interest and is discarded until the request is fully read.
+        if (msg instanceof HttpContent) {
+            ReferenceCountUtil.release(msg);
+        }
+        if (msg instanceof LastHttpContent) {
+            writeMetrics(ctx, metricsRequest);
+            metricsRequest = null;
+        }
+    }
+
+    private boolean isMetricsRequest(HttpRequest request) {
+        if (!HttpMethod.GET.equals(request.method()) && !HttpMethod.HEAD.equals(request.method())) {
+            return false;
+        }
+        String uri = request.uri();
+        int queryStart = uri.indexOf('?');
+        int pathLength = queryStart == -1 ? uri.length() : queryStart;
+        return pathLength == metricsPath.length() && uri.startsWith(metricsPath);
+    }
+
+    private static void writeMetrics(ChannelHandlerContext ctx, HttpRequest request) {
+        byte[] metrics = HttpMetricsRegistry.getInstance().toPrometheusText().getBytes(StandardCharsets.UTF_8);
+        ByteBuf content = HttpMethod.HEAD.equals(request.method()) ? Unpooled.EMPTY_BUFFER :
+                Unpooled.wrappedBuffer(metrics);
+        FullHttpResponse response = new DefaultFullHttpResponse(request.protocolVersion(), HttpResponseStatus.OK,
+                                                                 content);
+        response.headers().set(HttpHeaderNames.CONTENT_TYPE, CONTENT_TYPE);
+        response.headers().setInt(HttpHeaderNames.CONTENT_LENGTH, metrics.length);
+        boolean keepAlive = HttpUtil.isKeepAlive(request);
+        if (!keepAlive) {
+            response.headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.CLOSE);
+        }
+        ChannelFuture future = ctx.writeAndFlush(response);
+        if (!keepAlive) {
+            future.addListener(ChannelFutureListener.CLOSE);
+        }
+    }
+}
@@ -21,8 +21,12 @@ package io.ballerina.stdlib.http.transport.contractimpl.listener;
 import io.ballerina.stdlib.http.transport.contract.ServerConnector;
 import io.ballerina.stdlib.http.transport.contract.ServerConnectorFuture;
 import io.ballerina.stdlib.http.transport.contract.config.ChunkConfig;
+import io.ballerina.stdlib.http.transport.contract.config.CompressionConfig;
+import io.ballerina.stdlib.http.transport.contract.config.ConcurrencyLimitConfig;
+import io.ballerina.stdlib.http.transport.contract.config.Http2SettingsConfig;
 import io.ballerina.stdlib.http.transport.contract.config.InboundMsgSizeValidationConfig;
 import io.ballerina.stdlib.http.transport.contract.config.KeepAliveConfig;
+import io.ballerina.stdlib.http.transport.contract.config.RequestSpillConfig;
 import io.ballerina.stdlib.http.transport.contract.config.ServerBootstrapConfiguration;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ServerConnectorException;
 import io.ballerina.stdlib.http.transport.contractimpl.HttpWsServerConnectorFuture;
@@ -181,6 +185,10 @@ public class ServerConnectorBootstrap {
         httpServerChannelInitializer.setServerName(serverName);
     }
 
+    public void addCompressionConfig(CompressionConfig compressionConfig) {
+        httpServerChannelInitializer.setCompressionConfig(compressionConfig);
+    }
+
     public void setPipeliningEnabled(boolean pipeliningEnabled) {
         httpServerChannelInitializer.setPipeliningEnabled(pipeliningEnabled);
     }
@@ -201,6 +209,22 @@ public class ServerConnectorBootstrap {
         httpServerChannelInitializer.setHttp2InitialWindowSize(http2InitialWindowSize);
     }
 
+    public void setHttp2SettingsConfig(Http2SettingsConfig http2SettingsConfig) {
+        httpServerChannelInitializer.setHttp2SettingsConfig(http2SettingsConfig);
+    }
+
+    public void setMetricsPath(String metricsPath) {
+        httpServerChannelInitializer.setMetricsPath(metricsPath);
+    }
+
+    public void setConcurrencyLimitConfig(ConcurrencyLimitConfig concurrencyLimitConfig) {
+        httpServerChannelInitializer.setConcurrencyLimitConfig(concurrencyLimitConfig);
+    }
+
+    public void setRequestSpillConfig(RequestSpillConfig requestSpillConfig) {
+        httpServerChannelInitializer.setRequestSpillConfig(requestSpillConfig);
+    }
+
     public void setTimeBetweenStaleEviction(long timeBetweenStaleEviction) {
         httpServerChannelInitializer.setTimeBetweenStaleEviction(timeBetweenStaleEviction);
     }
@@ -25,6 +25,7 @@ import io.ballerina.stdlib.http.transport.contract.config.ChunkConfig;
 import io.ballerina.stdlib.http.transport.contract.config.KeepAliveConfig;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ClientClosedConnectionException;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ServerConnectorException;
+import io.ballerina.stdlib.http.transport.contractimpl.common.Util;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.states.ListenerReqRespStateManager;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.states.ReceivingHeaders;
 import io.ballerina.stdlib.http.transport.internal.HandlerExecutor;
@@ -171,6 +172,7 @@ public class SourceHandler extends ChannelInboundHandlerAdapter {
 
     @Override
     public void channelInactive(ChannelHandlerContext ctx) {
+        requestSet.forEach((key, inboundMsg) -> Util.requestAborted(inboundMsg));
         if (!idleTimeout) {
             if (!requestSet.isEmpty()) {
                 requestSet.forEach((key, inboundMsg) -> inboundMsg.listenerReqRespStateManager
@@ -21,6 +21,8 @@ package io.ballerina.stdlib.http.transport.contractimpl.listener;
 
 import io.ballerina.stdlib.http.transport.contract.Constants;
 import io.ballerina.stdlib.http.transport.contractimpl.common.Util;
+import io.ballerina.stdlib.http.transport.contractimpl.common.jfr.TlsHandshakeEvent;
+import io.ballerina.stdlib.http.transport.contractimpl.common.jfr.TransportEvents;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.ChannelPipeline;
@@ -41,12 +43,14 @@ public class SslHandshakeCompletionHandlerForServer extends ChannelInboundHandle
     private HttpServerChannelInitializer httpServerChannelInitializer;
     private ChannelPipeline serverPipeline;
     private SSLEngine sslEngine;
+    private TlsHandshakeEvent handshakeEvent;
 
     SslHandshakeCompletionHandlerForServer(HttpServerChannelInitializer httpServerChannelInitializer,
             ChannelPipeline serverPipeline, SSLEngine sslEngine) {
         this.httpServerChannelInitializer = httpServerChannelInitializer;
         this.serverPipeline = serverPipeline;
         this.sslEngine = sslEngine;
+        this.handshakeEvent = TransportEvents.beginTlsHandshake();
     }
 
     @Override
@@ -54,6 +58,9 @@ public class SslHandshakeCompletionHandlerForServer extends ChannelInboundHandle
         if (evt instanceof SslHandshakeCompletionEvent) {
 
             SslHandshakeCompletionEvent event = (SslHandshakeCompletionEvent) evt;
+            TransportEvents.endTlsHandshake(handshakeEvent, String.valueOf(ctx.channel().remoteAddress()),
+                                            sslEngine.getSession(), event.isSuccess());
+            handshakeEvent = null;
 
             if (event.isSuccess()) {
                 Util.setMutualSslStatus(ctx, sslEngine);
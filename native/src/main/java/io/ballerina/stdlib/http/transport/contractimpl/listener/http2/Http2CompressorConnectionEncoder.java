@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.listener.http2;
+
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.compression.CompressionOptions;
+import io.netty.handler.codec.http2.CompressorHttp2ConnectionEncoder;
+import io.netty.handler.codec.http2.Http2ConnectionEncoder;
+import io.netty.handler.codec.http2.Http2Exception;
+import io.netty.handler.codec.http2.Http2Headers;
+
+import static io.ballerina.stdlib.http.transport.contract.Constants.HTTP_PRE_ENCODED_CONTENT;
+
+/**
+ * {@code Http2CompressorConnectionEncoder} compresses outbound data frames based on the content-encoding header,
+ * except for the streams whose payload is marked as pre-encoded.
+ */
+public class Http2CompressorConnectionEncoder extends CompressorHttp2ConnectionEncoder {
+
+    private boolean preEncoded;
+
+    public Http2CompressorConnectionEncoder(Http2ConnectionEncoder delegate,
+                                            CompressionOptions... compressionOptions) {
+        super(delegate, compressionOptions);
+    }
+
+    @Override
+    public ChannelFuture writeHeaders(ChannelHandlerContext ctx, int streamId, Http2Headers headers, int padding,
+                                      boolean endStream, ChannelPromise promise) {
+        preEncoded = headers.remove(HTTP_PRE_ENCODED_CONTENT);
+        try {
+            return super.writeHeaders(ctx, streamId, headers, padding, endStream, promise);
+        } finally {
+            preEncoded = false;
+        }
+    }
+
+    @Override
+    public ChannelFuture writeHeaders(ChannelHandlerContext ctx, int streamId, Http2Headers headers,
+                                      int streamDependency, short weight, boolean exclusive, int padding,
+                                      boolean endOfStream, ChannelPromise promise) {
+        preEncoded = headers.remove(HTTP_PRE_ENCODED_CONTENT);
+        try {
+            return super.writeHeaders(ctx, streamId, headers, streamDependency, weight, exclusive, padding,
+                                      endOfStream, promise);
+        } finally {
+            preEncoded = false;
+        }
+    }
+
+    @Override
+    protected EmbeddedChannel newContentCompressor(ChannelHandlerContext ctx, CharSequence contentEncoding)
+            throws Http2Exception {
+        if (preEncoded) {
+            return null;
+        }
+        return super.newContentCompressor(ctx, contentEncoding);
+    }
+}
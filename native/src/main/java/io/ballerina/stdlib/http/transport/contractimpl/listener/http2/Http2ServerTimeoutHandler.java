@@ -19,6 +19,8 @@
 package io.ballerina.stdlib.http.transport.contractimpl.listener.http2;
 
 import io.ballerina.stdlib.http.transport.contract.ServerConnectorFuture;
+import io.ballerina.stdlib.http.transport.contractimpl.common.TimeoutWheel;
+import io.ballerina.stdlib.http.transport.contractimpl.common.Util;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.http2.Http2DataEventListener;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
@@ -30,7 +32,6 @@ import org.slf4j.LoggerFactory;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import static io.ballerina.stdlib.http.transport.contractimpl.common.Util.schedule;
@@ -45,7 +46,7 @@ public class Http2ServerTimeoutHandler implements Http2DataEventListener {
     private static final long MIN_TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
     private long idleTimeNanos;
     private Http2ServerChannel http2ServerChannel;
-    private Map<Integer, ScheduledFuture<?>> timerTasks;
+    private Map<Integer, TimeoutWheel.Timeout> timerTasks;
     private ServerConnectorFuture serverConnectorFuture;
 
     Http2ServerTimeoutHandler(long idleTimeMills, Http2ServerChannel serverChannel,
@@ -104,19 +105,19 @@ public class Http2ServerTimeoutHandler implements Http2DataEventListener {
 
     @Override
     public void onStreamClose(int streamId) {
-        ScheduledFuture timerTask = timerTasks.get(streamId);
+        TimeoutWheel.Timeout timerTask = timerTasks.get(streamId);
         if (timerTask != null) {
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Server timer is removed for the stream : {}", streamId);
             }
-            timerTask.cancel(false);
+            timerTask.cancel();
             timerTasks.remove(streamId);
         }
     }
 
     @Override
     public void destroy() {
-        timerTasks.forEach((streamId, task) -> task.cancel(false));
+        timerTasks.forEach((streamId, task) -> task.cancel());
         timerTasks.clear();
     }
 
@@ -168,6 +169,7 @@ public class Http2ServerTimeoutHandler implements Http2DataEventListener {
             try {
                 msgHolder.getHttp2OutboundRespListener().resetStream(ctx, streamId, Http2Error.INTERNAL_ERROR);
                 http2ServerChannel.getStreamIdRequestMap().remove(streamId);
+                Util.requestAborted(msgHolder.getInboundMsg());
             } catch (Http2Exception e) {
                 LOG.error("Error sending RST_STREAM: ", e.getCause());
             }
@@ -20,6 +20,7 @@ package io.ballerina.stdlib.http.transport.contractimpl.listener.http2;
 import io.ballerina.stdlib.http.transport.contract.Constants;
 import io.ballerina.stdlib.http.transport.contract.ServerConnectorFuture;
 import io.ballerina.stdlib.http.transport.contractimpl.common.http2.Http2ExceptionHandler;
+import io.ballerina.stdlib.http.transport.contractimpl.common.jfr.TransportEvents;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.HttpServerChannelInitializer;
 import io.ballerina.stdlib.http.transport.internal.HttpTransportContextHolder;
 import io.ballerina.stdlib.http.transport.message.Http2DataFrame;
@@ -169,6 +170,7 @@ public class Http2SourceConnectionHandler extends Http2ConnectionHandler {
                 LOG.debug("RstStreamRead event in server frame listener. Stream id : {} Error code : {}", streamId,
                           errorCode);
             }
+            TransportEvents.http2StreamReset(TransportEvents.LISTENER, streamId, errorCode);
             ctx.fireExceptionCaught(new Http2Exception(Http2Error.valueOf(errorCode), "Stream closed"));
         }
     }
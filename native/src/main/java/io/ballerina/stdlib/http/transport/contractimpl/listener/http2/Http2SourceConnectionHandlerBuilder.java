@@ -21,11 +21,11 @@ package io.ballerina.stdlib.http.transport.contractimpl.listener.http2;
 import io.ballerina.stdlib.http.transport.contract.Constants;
 import io.ballerina.stdlib.http.transport.contract.ServerConnectorFuture;
 import io.ballerina.stdlib.http.transport.contractimpl.common.FrameLogger;
+import io.ballerina.stdlib.http.transport.contractimpl.common.Util;
+import io.ballerina.stdlib.http.transport.contractimpl.common.http2.Http2FlowControlTuner;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.HttpServerChannelInitializer;
 import io.netty.channel.group.ChannelGroup;
-import io.netty.handler.codec.compression.StandardCompressionOptions;
 import io.netty.handler.codec.http2.AbstractHttp2ConnectionHandlerBuilder;
-import io.netty.handler.codec.http2.CompressorHttp2ConnectionEncoder;
 import io.netty.handler.codec.http2.DefaultHttp2Connection;
 import io.netty.handler.codec.http2.Http2Connection;
 import io.netty.handler.codec.http2.Http2ConnectionDecoder;
@@ -63,6 +63,7 @@ public final class Http2SourceConnectionHandlerBuilder
         this.listenerChannels = listenerChannels;
         this.initialSettings().maxHeaderListSize(maxHeaderListSize);
         this.initialSettings().initialWindowSize(initialWindowSize);
+        Util.applyHttp2Settings(this.initialSettings(), serverChannelInitializer.getHttp2SettingsConfig());
     }
 
     @Override
@@ -84,12 +85,16 @@ public final class Http2SourceConnectionHandlerBuilder
     @Override
     public Http2SourceConnectionHandler build(Http2ConnectionDecoder decoder, Http2ConnectionEncoder encoder,
                                               Http2Settings initialSettings) {
-        Http2ConnectionEncoder compressEncoder = new CompressorHttp2ConnectionEncoder(
-                encoder, StandardCompressionOptions.gzip(), StandardCompressionOptions.deflate());
+        Http2ConnectionEncoder compressEncoder = new Http2CompressorConnectionEncoder(
+                encoder, serverChannelInitializer.getCompressionOptions());
         Http2SourceConnectionHandler sourceConnectionHandler = new Http2SourceConnectionHandler(
                 serverChannelInitializer, decoder, compressEncoder, initialSettings, interfaceId,
                 serverConnectorFuture, serverName, allChannels, listenerChannels);
-        frameListener(sourceConnectionHandler.getHttp2FrameListener());
+        Http2FlowControlTuner flowControlTuner = new Http2FlowControlTuner(
+                sourceConnectionHandler.getHttp2FrameListener(), decoder.connection(),
+                serverChannelInitializer.getHttp2SettingsConfig());
+        flowControlTuner.setEncoder(encoder);
+        frameListener(flowControlTuner);
         return sourceConnectionHandler;
     }
 }
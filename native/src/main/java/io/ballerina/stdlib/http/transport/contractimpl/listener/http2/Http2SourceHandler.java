@@ -21,15 +21,20 @@ package io.ballerina.stdlib.http.transport.contractimpl.listener.http2;
 import io.ballerina.stdlib.http.transport.contract.Constants;
 import io.ballerina.stdlib.http.transport.contract.ServerConnectorFuture;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ServerConnectorException;
+import io.ballerina.stdlib.http.transport.contractimpl.common.Util;
+import io.ballerina.stdlib.http.transport.contractimpl.common.jfr.TransportEvents;
 import io.ballerina.stdlib.http.transport.contractimpl.common.states.Http2MessageStateContext;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.HttpServerChannelInitializer;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.states.http2.EntityBodyReceived;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.states.http2.ReceivingHeaders;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.http2.Http2DataEventListener;
+import io.ballerina.stdlib.http.transport.internal.RequestPhase;
+import io.ballerina.stdlib.http.transport.internal.RequestTimeline;
 import io.ballerina.stdlib.http.transport.message.Http2DataFrame;
 import io.ballerina.stdlib.http.transport.message.Http2HeadersFrame;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonRequest;
+import io.ballerina.stdlib.http.transport.message.PooledDataStreamerFactory;
 import io.ballerina.stdlib.http.transport.message.ServerRemoteFlowControlListener;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
@@ -88,6 +93,16 @@ public final class Http2SourceHandler extends ChannelInboundHandlerAdapter {
     private long timeSinceMarkedAsStale = 0;
     Http2SourceConnectionHandler sourceConnectionHandler;
 
+    // Connection scoped state shared by every stream. Resolved once the first stream arrives, by which time the
+    // TLS handshake (if any) has completed and the SSL attributes of the channel are in place.
+    private boolean connectionStateResolved = false;
+    private PooledDataStreamerFactory pooledDataStreamerFactory;
+    private InetSocketAddress localAddress;
+    private Integer listenerPort;
+    private String mutualSslHandshakeResult;
+    private String base64EncodedCert;
+    private RequestTimeline connectionTimeline;
+
     Http2SourceHandler(HttpServerChannelInitializer serverChannelInitializer, Http2ConnectionEncoder encoder,
                        String interfaceId, Http2Connection conn, ServerConnectorFuture serverConnectorFuture,
                        String serverName, ChannelGroup allChannels, ChannelGroup listenerChannels,
@@ -157,6 +172,7 @@ public final class Http2SourceHandler extends ChannelInboundHandlerAdapter {
 
             HttpCarbonRequest requestCarbonMessage = setupCarbonRequest(httpRequest, this, STREAM_ID_ONE);
             requestCarbonMessage.addHttpContent(new DefaultLastHttpContent(upgradedRequest.content()));
+            Util.recordRequestPhase(requestCarbonMessage, RequestPhase.BODY_RECEIVED);
             requestCarbonMessage.setLastHttpContentArrived();
             InboundMessageHolder inboundMsgHolder = new InboundMessageHolder(requestCarbonMessage);
             if (requestCarbonMessage.getHttp2MessageStateContext() == null) {
@@ -226,6 +242,7 @@ public final class Http2SourceHandler extends ChannelInboundHandlerAdapter {
         LOG.debug("Inbound request map size {}", http2ServerChannel.getStreamIdRequestMap().size());
         http2ServerChannel.getStreamIdRequestMap().forEach((streamId, inboundMessageHolder) -> {
             HttpCarbonMessage inboundMsg = inboundMessageHolder.getInboundMsg();
+            Util.requestAborted(inboundMsg);
             LOG.debug("Listener state {}", inboundMsg.getHttp2MessageStateContext().getListenerState());
             inboundMsg.getHttp2MessageStateContext().getListenerState()
                     .handleAbruptChannelClosure(serverConnectorFuture, getChannelHandlerContext(),
@@ -302,6 +319,52 @@ public final class Http2SourceHandler extends ChannelInboundHandlerAdapter {
         return remoteAddress;
     }
 
+    public PooledDataStreamerFactory getPooledDataStreamerFactory() {
+        resolveConnectionState();
+        return pooledDataStreamerFactory;
+    }
+
+    public InetSocketAddress getLocalAddress() {
+        resolveConnectionState();
+        return localAddress;
+    }
+
+    public Integer getListenerPort() {
+        resolveConnectionState();
+        return listenerPort;
+    }
+
+    public String getMutualSslHandshakeResult() {
+        resolveConnectionState();
+        return mutualSslHandshakeResult;
+    }
+
+    public String getBase64EncodedCert() {
+        resolveConnectionState();
+        return base64EncodedCert;
+    }
+
+    public RequestTimeline getConnectionTimeline() {
+        resolveConnectionState();
+        return connectionTimeline;
+    }
+
+    private void resolveConnectionState() {
+        if (connectionStateResolved) {
+            return;
+        }
+        pooledDataStreamerFactory = new PooledDataStreamerFactory(ctx.alloc());
+        //This check was added because in case of netty embedded channel, this could be of type 'EmbeddedSocketAddress'.
+        if (ctx.channel().localAddress() instanceof InetSocketAddress) {
+            localAddress = (InetSocketAddress) ctx.channel().localAddress();
+            listenerPort = localAddress.getPort();
+        }
+        mutualSslHandshakeResult = ctx.channel().attr(Constants.MUTUAL_SSL_RESULT_ATTRIBUTE).get();
+        base64EncodedCert = ctx.channel().attr(Constants.BASE_64_ENCODED_CERT_ATTRIBUTE).get();
+        connectionTimeline = ctx.channel().attr(Constants.CONNECTION_TIMELINE).get();
+        connectionStateResolved = true;
+    }
+
     public void markAsStale() {
         isStale.set(true);
         serverChannelInitializer.addToStaleChannels(this);
@@ -332,8 +395,14 @@ public final class Http2SourceHandler extends ChannelInboundHandlerAdapter {
 
     private class GoAwayListener extends Http2EventAdapter {
 
+        @Override
+        public void onGoAwaySent(int lastStreamId, long errorCode, ByteBuf debugData) {
+            TransportEvents.http2GoAway(TransportEvents.LISTENER, false, lastStreamId, errorCode);
+        }
+
         @Override
         public void onGoAwayReceived(int lastStreamId, long errorCode, ByteBuf debugData) {
+            TransportEvents.http2GoAway(TransportEvents.LISTENER, true, lastStreamId, errorCode);
             if (isStale.get()) {
                 return;
             }
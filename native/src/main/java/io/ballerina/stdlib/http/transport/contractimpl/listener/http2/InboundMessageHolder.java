@@ -28,6 +28,7 @@ public class InboundMessageHolder {
     private HttpCarbonMessage inboundMsg;
     private long lastReadWriteTime;
     private Http2OutboundRespListener http2OutboundRespListener;
+    private long entityBodySize;
 
     public InboundMessageHolder(HttpCarbonMessage inboundMsgOrPushResponse) {
         this.inboundMsg = inboundMsgOrPushResponse;
@@ -51,6 +52,17 @@ public class InboundMessageHolder {
         this.lastReadWriteTime = lastReadWriteTime;
     }
 
+    /**
+     * Adds the size of a received data frame to the size of the entity body received so far.
+     *
+     * @param size the number of bytes received
+     * @return the size of the entity body received so far
+     */
+    public long addEntityBodySize(int size) {
+        entityBodySize += size;
+        return entityBodySize;
+    }
+
     public HttpCarbonMessage getInboundMsg() {
         return inboundMsg;
     }
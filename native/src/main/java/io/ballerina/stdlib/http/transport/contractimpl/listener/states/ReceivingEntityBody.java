@@ -26,11 +26,13 @@ import io.ballerina.stdlib.http.transport.contractimpl.common.Util;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.SourceHandler;
 import io.ballerina.stdlib.http.transport.internal.HandlerExecutor;
 import io.ballerina.stdlib.http.transport.internal.HttpTransportContextHolder;
+import io.ballerina.stdlib.http.transport.internal.RequestPhase;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.TooLongFrameException;
 import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponseStatus;
@@ -39,12 +41,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import static io.ballerina.stdlib.http.transport.contract.Constants.IDLE_TIMEOUT_TRIGGERED_WHILE_READING_INBOUND_REQUEST_BODY;
+import static io.ballerina.stdlib.http.transport.contract.Constants.INBOUND_REQUEST_ENTITY_BODY_TOO_LARGE;
 import static io.ballerina.stdlib.http.transport.contract.Constants.REMOTE_CLIENT_CLOSED_WHILE_READING_INBOUND_REQUEST_BODY;
 import static io.ballerina.stdlib.http.transport.contractimpl.common.states.StateUtil.ILLEGAL_STATE_ERROR;
 import static io.ballerina.stdlib.http.transport.contractimpl.common.states.StateUtil.handleIncompleteInboundMessage;
 import static io.ballerina.stdlib.http.transport.contractimpl.common.states.StateUtil.respondToIncompleteRequest;
 import static io.ballerina.stdlib.http.transport.contractimpl.common.states.StateUtil.sendRequestTimeoutResponse;
 import static io.netty.buffer.Unpooled.copiedBuffer;
+import static io.netty.handler.codec.http.HttpResponseStatus.REQUEST_ENTITY_TOO_LARGE;
 import static io.netty.handler.codec.http.HttpResponseStatus.REQUEST_TIMEOUT;
 
 /**
@@ -80,9 +84,14 @@ public class ReceivingEntityBody implements ListenerState {
     public void readInboundRequestBody(Object inboundRequestEntityBody) throws ServerConnectorException {
         if (inboundRequestEntityBody instanceof HttpContent) {
             HttpContent httpContent = (HttpContent) inboundRequestEntityBody;
+            if (httpContent.decoderResult().cause() instanceof TooLongFrameException) {
+                rejectOversizedEntityBody();
+                return;
+            }
             try {
                 inboundRequestMsg.addHttpContent(httpContent);
                 if (Util.isLastHttpContent(httpContent)) {
+                    Util.recordRequestPhase(inboundRequestMsg, RequestPhase.BODY_RECEIVED);
                     if (handlerExecutor != null) {
                         handlerExecutor.executeAtSourceRequestSending(inboundRequestMsg);
                     }
@@ -146,6 +155,26 @@ public class ReceivingEntityBody implements ListenerState {
         return outboundRespFuture;
     }
 
+    private void rejectOversizedEntityBody() {
+        ChannelHandlerContext ctx = sourceHandler.getInboundChannelContext();
+        ByteBuf responseBody = copiedBuffer(INBOUND_REQUEST_ENTITY_BODY_TOO_LARGE, CharsetUtil.UTF_8);
+        ChannelFuture outboundRespFuture = sendRequestTimeoutResponse(ctx, REQUEST_ENTITY_TOO_LARGE,
+                                                                      responseBody, responseBody.readableBytes(),
+                                                                      httpVersion, sourceHandler.getServerName());
+        outboundRespFuture.addListener((ChannelFutureListener) channelFuture -> {
+            Throwable cause = channelFuture.cause();
+            if (cause != null) {
+                LOG.warn("Failed to send: {}", cause.getMessage());
+            }
+            ctx.close();
+        });
+        handleIncompleteInboundMessage(inboundRequestMsg, INBOUND_REQUEST_ENTITY_BODY_TOO_LARGE);
+        Util.requestAborted(inboundRequestMsg);
+        sourceHandler.resetInboundRequestMsg();
+        listenerReqRespStateManager.state
+                = new ResponseCompleted(listenerReqRespStateManager, sourceHandler, inboundRequestMsg);
+    }
+
     private boolean isDiffered(HttpCarbonMessage sourceReqCmsg) {
         //Http resource stored in the HTTPCarbonMessage means execution waits till payload.
         return sourceReqCmsg.getProperty(HttpConstants.WAIT_FOR_FULL_REQUEST) != null;
@@ -36,6 +36,7 @@ import org.slf4j.LoggerFactory;
 import static io.ballerina.stdlib.http.transport.contract.Constants.IDLE_TIMEOUT_TRIGGERED_WHILE_READING_INBOUND_REQUEST_HEADERS;
 import static io.ballerina.stdlib.http.transport.contract.Constants.REMOTE_CLIENT_CLOSED_WHILE_READING_INBOUND_REQUEST_HEADERS;
 import static io.ballerina.stdlib.http.transport.contractimpl.common.Util.is100ContinueRequest;
+import static io.ballerina.stdlib.http.transport.contractimpl.common.Util.parseHttpVersion;
 import static io.ballerina.stdlib.http.transport.contractimpl.common.states.StateUtil.ILLEGAL_STATE_ERROR;
 import static io.ballerina.stdlib.http.transport.contractimpl.common.states.StateUtil.handleIncompleteInboundMessage;
 import static io.ballerina.stdlib.http.transport.contractimpl.common.states.StateUtil.respondToIncompleteRequest;
@@ -65,7 +66,7 @@ public class ReceivingHeaders implements ListenerState {
     @Override
     public void readInboundRequestHeaders(HttpCarbonMessage inboundRequestMsg, HttpRequest inboundRequestHeaders) {
         this.inboundRequestMsg = inboundRequestMsg;
-        this.httpVersion = Float.parseFloat(inboundRequestMsg.getHttpVersion());
+        this.httpVersion = parseHttpVersion(inboundRequestMsg.getHttpVersion());
         boolean continueRequest = is100ContinueRequest(inboundRequestMsg);
         if (continueRequest) {
             listenerReqRespStateManager.state =
@@ -23,7 +23,9 @@ import io.ballerina.stdlib.http.transport.contract.ServerConnectorFuture;
 import io.ballerina.stdlib.http.transport.contract.config.ChunkConfig;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ServerConnectorException;
 import io.ballerina.stdlib.http.transport.contractimpl.HttpOutboundRespListener;
+import io.ballerina.stdlib.http.transport.contractimpl.common.metrics.RequestMetrics;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.SourceHandler;
+import io.ballerina.stdlib.http.transport.internal.RequestPhase;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
@@ -43,7 +45,10 @@ import static io.ballerina.stdlib.http.transport.contract.Constants.IDLE_TIMEOUT
 import static io.ballerina.stdlib.http.transport.contract.Constants.REMOTE_CLIENT_CLOSED_BEFORE_INITIATING_OUTBOUND_RESPONSE;
 import static io.ballerina.stdlib.http.transport.contract.Constants.REMOTE_CLIENT_CLOSED_WHILE_WRITING_100_CONTINUE_RESPONSE;
 import static io.ballerina.stdlib.http.transport.contract.Constants.REMOTE_CLIENT_TO_HOST_CONNECTION_CLOSED;
+import static io.ballerina.stdlib.http.transport.contractimpl.common.Util.completeOnResponseWrite;
 import static io.ballerina.stdlib.http.transport.contractimpl.common.Util.createFullHttpResponse;
+import static io.ballerina.stdlib.http.transport.contractimpl.common.Util.parseHttpVersion;
+import static io.ballerina.stdlib.http.transport.contractimpl.common.Util.recordRequestPhase;
 import static io.ballerina.stdlib.http.transport.contractimpl.common.Util.setupChunkedRequest;
 import static io.ballerina.stdlib.http.transport.contractimpl.common.states.StateUtil.ILLEGAL_STATE_ERROR;
 import static io.ballerina.stdlib.http.transport.contractimpl.common.states.StateUtil.checkChunkingCompatibility;
@@ -69,7 +74,7 @@ public class Response100ContinueSent extends SendingHeaders {
         this.outboundResponseListener = outboundResponseListener;
         this.chunkConfig = outboundResponseListener.getChunkConfig();
         this.keepAlive = outboundResponseListener.isKeepAlive();
-        this.httpVersion = Float.parseFloat(outboundResponseListener.getRequestDataHolder().getHttpVersion());
+        this.httpVersion = parseHttpVersion(outboundResponseListener.getRequestDataHolder().getHttpVersion());
     }
 
     @Override
@@ -115,7 +120,11 @@ public class Response100ContinueSent extends SendingHeaders {
                                                                        outboundRespListener.getServerName(),
                                                                        outboundRespListener.isKeepAlive(), allContent);
 
+            RequestMetrics.bytesSent(outboundRespListener.getInboundRequestMsg(), allContent.readableBytes());
+            recordRequestPhase(outboundRespListener.getInboundRequestMsg(), RequestPhase.FIRST_BYTE_WRITTEN);
             outboundHeaderFuture = outboundRespListener.getSourceContext().writeAndFlush(fullOutboundResponse);
+            completeOnResponseWrite(outboundRespListener.getInboundRequestMsg(), outboundResponseMsg,
+                                    outboundHeaderFuture);
             checkForResponseWriteStatus(outboundRespListener.getInboundRequestMsg(), outboundRespStatusFuture,
                                         outboundHeaderFuture);
         }
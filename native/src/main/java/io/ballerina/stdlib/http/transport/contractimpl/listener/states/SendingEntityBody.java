@@ -24,20 +24,30 @@ import io.ballerina.stdlib.http.transport.contract.HttpResponseFuture;
 import io.ballerina.stdlib.http.transport.contract.ServerConnectorFuture;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ServerConnectorException;
 import io.ballerina.stdlib.http.transport.contractimpl.HttpOutboundRespListener;
+import io.ballerina.stdlib.http.transport.contractimpl.common.metrics.RequestMetrics;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.SourceHandler;
 import io.ballerina.stdlib.http.transport.internal.HandlerExecutor;
 import io.ballerina.stdlib.http.transport.internal.HttpTransportContextHolder;
+import io.ballerina.stdlib.http.transport.internal.RequestPhase;
+import io.ballerina.stdlib.http.transport.message.FileContent;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.DefaultFileRegion;
 import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.HttpChunkedInput;
 import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.stream.ChunkedNioFile;
+import io.netty.handler.stream.ChunkedWriteHandler;
 import io.netty.util.concurrent.EventExecutorGroup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -52,9 +62,13 @@ import static io.ballerina.stdlib.http.transport.contract.Constants.HTTP_HEAD_ME
 import static io.ballerina.stdlib.http.transport.contract.Constants.IDLE_TIMEOUT_TRIGGERED_WHILE_WRITING_OUTBOUND_RESPONSE_BODY;
 import static io.ballerina.stdlib.http.transport.contract.Constants.REMOTE_CLIENT_CLOSED_WHILE_WRITING_OUTBOUND_RESPONSE_BODY;
 import static io.ballerina.stdlib.http.transport.contract.Constants.REMOTE_CLIENT_TO_HOST_CONNECTION_CLOSED;
+import static io.ballerina.stdlib.http.transport.contractimpl.common.Util.completeOnResponseWrite;
 import static io.ballerina.stdlib.http.transport.contractimpl.common.Util.createFullHttpResponse;
+import static io.ballerina.stdlib.http.transport.contractimpl.common.Util.createHttpResponse;
+import static io.ballerina.stdlib.http.transport.contractimpl.common.Util.recordRequestPhase;
 import static io.ballerina.stdlib.http.transport.contractimpl.common.Util.setupContentLengthRequest;
 import static io.ballerina.stdlib.http.transport.contractimpl.common.states.StateUtil.ILLEGAL_STATE_ERROR;
+import static io.ballerina.stdlib.http.transport.contractimpl.common.states.StateUtil.releaseInboundContentAfterResponseStarted;
 
 /**
  * State between start and end of outbound response entity body write.
@@ -62,6 +76,7 @@ import static io.ballerina.stdlib.http.transport.contractimpl.common.states.Stat
 public class SendingEntityBody implements ListenerState {
 
     private static final Logger LOG = LoggerFactory.getLogger(SendingEntityBody.class);
+    private static final int FILE_CHUNK_SIZE = 8192;
 
     private final HandlerExecutor handlerExecutor;
     private final HttpOutboundRespListener outboundRespListener;
@@ -98,7 +113,7 @@ public class SendingEntityBody implements ListenerState {
 
     @Override
     public void readInboundRequestBody(Object inboundRequestEntityBody) throws ServerConnectorException {
-        LOG.warn("readInboundRequestBody {}", ILLEGAL_STATE_ERROR);
+        releaseInboundContentAfterResponseStarted(outboundRespListener, inboundRequestEntityBody);
     }
 
     @Override
@@ -113,11 +128,20 @@ public class SendingEntityBody implements ListenerState {
 
         ChannelFuture outboundChannelFuture;
         if (httpContent instanceof LastHttpContent) {
+            FileContent fileContent = outboundResponseMsg.getFileContent();
             if (headersWritten) {
                 final LastHttpContent lastContent = (httpContent == LastHttpContent.EMPTY_LAST_CONTENT) ?
                         new DefaultLastHttpContent() : (LastHttpContent) httpContent;
                 lastContent.trailingHeaders().add(outboundResponseMsg.getTrailerHeaders());
-                outboundChannelFuture = checkHeadRequestAndWriteOutboundResponseBody(lastContent);
+                if (fileContent != null && !headRequest) {
+                    outboundChannelFuture = writeOutboundResponseFile(fileContent, lastContent, true);
+                } else {
+                    closeFileContent(fileContent);
+                    outboundChannelFuture = checkHeadRequestAndWriteOutboundResponseBody(lastContent);
+                }
+            } else if (fileContent != null) {
+                outboundChannelFuture = writeOutboundResponseHeaderAndFile(outboundRespListener, outboundResponseMsg,
+                                                                           fileContent, (LastHttpContent) httpContent);
             } else {
                 contentLength += httpContent.content().readableBytes();
                 setupContentLengthRequest(outboundResponseMsg, contentLength);
@@ -140,6 +164,7 @@ public class SendingEntityBody implements ListenerState {
                     httpContent.release();
                     return;
                 }
+                RequestMetrics.bytesSent(inboundRequestMsg, httpContent.content().readableBytes());
                 outboundRespListener.getSourceContext().writeAndFlush(httpContent);
             } else {
                 this.contentList.add(httpContent);
@@ -200,12 +225,90 @@ public class SendingEntityBody implements ListenerState {
                                                                    outboundRespListener.getServerName(),
                                                                    outboundRespListener.isKeepAlive(), allContent);
 
+        RequestMetrics.bytesSent(inboundRequestMsg, allContent.readableBytes());
+        recordRequestPhase(inboundRequestMsg, RequestPhase.FIRST_BYTE_WRITTEN);
         ChannelFuture outboundChannelFuture = sourceContext.writeAndFlush(fullOutboundResponse);
         checkForResponseWriteStatus(inboundRequestMsg, outboundRespStatusFuture, outboundChannelFuture);
         return outboundChannelFuture;
     }
 
+    /**
+     * Writes the response headers with the length of the file region, followed by the file region.
+     */
+    private ChannelFuture writeOutboundResponseHeaderAndFile(HttpOutboundRespListener outboundRespListener,
+                                                             HttpCarbonMessage outboundResponseMsg,
+                                                             FileContent fileContent,
+                                                             LastHttpContent lastHttpContent) {
+        for (HttpContent cachedHttpContent : contentList) {
+            cachedHttpContent.release();
+        }
+        lastHttpContent.release();
+        contentLength = fileContent.getCount();
+        setupContentLengthRequest(outboundResponseMsg, contentLength);
+        HttpResponse outboundResponse = createHttpResponse(outboundResponseMsg,
+                                                           outboundRespListener.getRequestDataHolder()
+                                                                   .getHttpVersion(),
+                                                           outboundRespListener.getServerName(),
+                                                           outboundRespListener.isKeepAlive());
+        recordRequestPhase(inboundRequestMsg, RequestPhase.FIRST_BYTE_WRITTEN);
+        sourceContext.write(outboundResponse);
+        if (headRequest) {
+            closeFileContent(fileContent);
+            return writeOutboundResponseBody(new DefaultLastHttpContent());
+        }
+        // A content coding applied by the compressor changes the response to be chunked, in which case the file
+        // has to pass through the compressor as http content.
+        return writeOutboundResponseFile(fileContent, new DefaultLastHttpContent(),
+                                         HttpUtil.isTransferEncodingChunked(outboundResponse));
+    }
+
+    /**
+     * Writes the file region as the response body. The region is transferred with sendfile when the bytes can be
+     * written to the socket as they are, and is read in chunks otherwise, i.e. over TLS or when the body is chunked.
+     */
+    private ChannelFuture writeOutboundResponseFile(FileContent fileContent, LastHttpContent lastHttpContent,
+                                                    boolean chunked) {
+        ChannelFuture outboundChannelFuture;
+        if (chunked || sourceContext.pipeline().get(SslHandler.class) != null) {
+            ChunkedNioFile chunkedFile;
+            try {
+                chunkedFile = new ChunkedNioFile(fileContent.getFileChannel(), fileContent.getPosition(),
+                                                 fileContent.getCount(), FILE_CHUNK_SIZE);
+            } catch (IOException e) {
+                closeFileContent(fileContent);
+                lastHttpContent.release();
+                outboundChannelFuture = sourceContext.newFailedFuture(e);
+                outboundChannelFuture.addListener(ChannelFutureListener.CLOSE);
+                checkForResponseWriteStatus(inboundRequestMsg, outboundRespStatusFuture, outboundChannelFuture);
+                return outboundChannelFuture;
+            }
+            addChunkedWriteHandlerIfAbsent();
+            outboundChannelFuture = sourceContext.writeAndFlush(new HttpChunkedInput(chunkedFile, lastHttpContent));
+        } else {
+            sourceContext.write(new DefaultFileRegion(fileContent.getFileChannel(), fileContent.getPosition(),
+                                                      fileContent.getCount()));
+            outboundChannelFuture = sourceContext.writeAndFlush(lastHttpContent);
+        }
+        RequestMetrics.bytesSent(inboundRequestMsg, fileContent.getCount());
+        checkForResponseWriteStatus(inboundRequestMsg, outboundRespStatusFuture, outboundChannelFuture);
+        return outboundChannelFuture;
+    }
+
+    private void addChunkedWriteHandlerIfAbsent() {
+        ChannelPipeline pipeline = sourceContext.pipeline();
+        if (pipeline.get(ChunkedWriteHandler.class) == null) {
+            pipeline.addBefore(sourceContext.name(), Constants.HTTP_CHUNK_WRITER, new ChunkedWriteHandler());
+        }
+    }
+
+    private static void closeFileContent(FileContent fileContent) {
+        if (fileContent != null) {
+            fileContent.close();
+        }
+    }
+
     private ChannelFuture writeOutboundResponseBody(HttpContent lastHttpContent) {
+        RequestMetrics.bytesSent(inboundRequestMsg, lastHttpContent.content().readableBytes());
         ChannelFuture outboundChannelFuture = sourceContext.writeAndFlush(lastHttpContent);
         checkForResponseWriteStatus(inboundRequestMsg, outboundRespStatusFuture, outboundChannelFuture);
         return outboundChannelFuture;
@@ -213,6 +316,7 @@ public class SendingEntityBody implements ListenerState {
 
     private void checkForResponseWriteStatus(HttpCarbonMessage inboundRequestMsg,
                                              HttpResponseFuture outboundRespStatusFuture, ChannelFuture channelFuture) {
+        completeOnResponseWrite(inboundRequestMsg, outboundResponseMsg, channelFuture);
         channelFuture.addListener(writeOperationPromise -> {
             listenerReqRespStateManager.state
                     = new ResponseCompleted(listenerReqRespStateManager, sourceHandler, inboundRequestMsg);
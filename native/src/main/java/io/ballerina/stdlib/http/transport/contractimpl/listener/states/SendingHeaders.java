@@ -25,6 +25,7 @@ import io.ballerina.stdlib.http.transport.contract.config.ChunkConfig;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ServerConnectorException;
 import io.ballerina.stdlib.http.transport.contractimpl.HttpOutboundRespListener;
 import io.ballerina.stdlib.http.transport.contractimpl.common.states.StateUtil;
+import io.ballerina.stdlib.http.transport.internal.RequestPhase;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandlerContext;
@@ -40,10 +41,12 @@ import static io.ballerina.stdlib.http.transport.contract.Constants.REMOTE_CLIEN
 import static io.ballerina.stdlib.http.transport.contract.Constants.REMOTE_CLIENT_CLOSED_WHILE_WRITING_OUTBOUND_RESPONSE_HEADERS;
 import static io.ballerina.stdlib.http.transport.contractimpl.common.Util.createHttpResponse;
 import static io.ballerina.stdlib.http.transport.contractimpl.common.Util.isLastHttpContent;
+import static io.ballerina.stdlib.http.transport.contractimpl.common.Util.recordRequestPhase;
 import static io.ballerina.stdlib.http.transport.contractimpl.common.Util.setupChunkedRequest;
 import static io.ballerina.stdlib.http.transport.contractimpl.common.states.StateUtil.ILLEGAL_STATE_ERROR;
 import static io.ballerina.stdlib.http.transport.contractimpl.common.states.StateUtil.checkChunkingCompatibility;
 import static io.ballerina.stdlib.http.transport.contractimpl.common.states.StateUtil.notifyIfHeaderWriteFailure;
+import static io.ballerina.stdlib.http.transport.contractimpl.common.states.StateUtil.releaseInboundContentAfterResponseStarted;
 
 /**
  * State between start and end of outbound response headers write.
@@ -73,7 +76,7 @@ public class SendingHeaders implements ListenerState {
 
     @Override
     public void readInboundRequestBody(Object inboundRequestEntityBody) throws ServerConnectorException {
-        LOG.warn("readInboundRequestBody {}", ILLEGAL_STATE_ERROR);
+        releaseInboundContentAfterResponseStarted(outboundResponseListener, inboundRequestEntityBody);
     }
 
     @Override
@@ -147,6 +150,7 @@ public class SendingHeaders implements ListenerState {
         HttpResponse response = createHttpResponse(outboundResponseMsg,
                                                    outboundResponseListener.getRequestDataHolder().getHttpVersion(),
                                                    outboundResponseListener.getServerName(), keepAlive);
+        recordRequestPhase(outboundResponseListener.getInboundRequestMsg(), RequestPhase.FIRST_BYTE_WRITTEN);
         return outboundResponseListener.getSourceContext().write(response);
     }
 }
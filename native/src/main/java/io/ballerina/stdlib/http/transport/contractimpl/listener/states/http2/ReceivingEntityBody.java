@@ -22,10 +22,13 @@ import io.ballerina.stdlib.http.api.HttpConstants;
 import io.ballerina.stdlib.http.transport.contract.ServerConnectorFuture;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ServerConnectorException;
 import io.ballerina.stdlib.http.transport.contractimpl.Http2OutboundRespListener;
+import io.ballerina.stdlib.http.transport.contractimpl.common.Util;
 import io.ballerina.stdlib.http.transport.contractimpl.common.states.Http2MessageStateContext;
 import io.ballerina.stdlib.http.transport.contractimpl.common.states.Http2StateUtil;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.http2.Http2SourceHandler;
+import io.ballerina.stdlib.http.transport.contractimpl.listener.http2.InboundMessageHolder;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.http2.Http2DataEventListener;
+import io.ballerina.stdlib.http.transport.internal.RequestPhase;
 import io.ballerina.stdlib.http.transport.message.Http2DataFrame;
 import io.ballerina.stdlib.http.transport.message.Http2HeadersFrame;
 import io.ballerina.stdlib.http.transport.message.Http2PushPromise;
@@ -40,6 +43,7 @@ import io.netty.handler.codec.http2.Http2Exception;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static io.ballerina.stdlib.http.transport.contract.Constants.INBOUND_REQUEST_ENTITY_BODY_TOO_LARGE;
 import static io.ballerina.stdlib.http.transport.contract.Constants.REMOTE_CLIENT_CLOSED_WHILE_READING_INBOUND_REQUEST_BODY;
 import static io.ballerina.stdlib.http.transport.contract.Constants.REMOTE_CLIENT_SENT_GOAWAY_WHILE_READING_INBOUND_REQUEST_BODY;
 import static io.ballerina.stdlib.http.transport.contractimpl.common.states.Http2StateUtil.writeHttp2Promise;
@@ -71,15 +75,23 @@ public class ReceivingEntityBody implements ListenerState {
             throws ServerConnectorException {
         int streamId = dataFrame.getStreamId();
         ByteBuf data = dataFrame.getData();
-        HttpCarbonMessage sourceReqCMsg = http2SourceHandler.getStreamIdRequestMap().get(streamId)
-                .getInboundMsg();
+        InboundMessageHolder inboundMessageHolder = http2SourceHandler.getStreamIdRequestMap().get(streamId);
+        HttpCarbonMessage sourceReqCMsg = inboundMessageHolder.getInboundMsg();
         if (sourceReqCMsg != null) {
+            long maxEntityBodySize = http2SourceHandler.getServerChannelInitializer().getMaxEntityBodySize();
+            long entityBodySize = inboundMessageHolder.addEntityBodySize(data.readableBytes());
+            if (maxEntityBodySize > -1 && entityBodySize > maxEntityBodySize) {
+                rejectOversizedEntityBody(http2SourceHandler, sourceReqCMsg, streamId);
+                data.release();
+                return;
+            }
             for (Http2DataEventListener listener : http2SourceHandler.getHttp2ServerChannel().getDataEventListeners()) {
                 listener.onDataRead(http2SourceHandler.getChannelHandlerContext(), streamId, data,
                                     dataFrame.isEndOfStream());
             }
             if (dataFrame.isEndOfStream()) {
                 sourceReqCMsg.addHttpContent(new DefaultLastHttpContent(data));
+                Util.recordRequestPhase(sourceReqCMsg, RequestPhase.BODY_RECEIVED);
                 if (isDiffered(sourceReqCMsg)) {
                     http2SourceHandler.getServerConnectorFuture().notifyHttpListener(sourceReqCMsg);
                 }
@@ -151,6 +163,17 @@ public class ReceivingEntityBody implements ListenerState {
                 REMOTE_CLIENT_SENT_GOAWAY_WHILE_READING_INBOUND_REQUEST_BODY);
     }
 
+    private void rejectOversizedEntityBody(Http2SourceHandler http2SourceHandler, HttpCarbonMessage sourceReqCMsg,
+                                           int streamId) {
+        // Data frames which are still in flight are released by the source handler once the stream is removed
+        http2SourceHandler.getStreamIdRequestMap().remove(streamId);
+        handleIncompleteInboundMessage(sourceReqCMsg, INBOUND_REQUEST_ENTITY_BODY_TOO_LARGE);
+        Http2StateUtil.rejectOversizedRequest(http2SourceHandler, streamId,
+                                              !http2MessageStateContext.isHeadersSent());
+        Util.requestAborted(sourceReqCMsg);
+        http2MessageStateContext.setListenerState(new EntityBodyReceived(http2MessageStateContext));
+    }
+
     private boolean isDiffered(HttpCarbonMessage sourceReqCmsg) {
         //Http resource stored in the HTTPCarbonMessage means execution waits till payload.
         return sourceReqCmsg.getProperty(HttpConstants.WAIT_FOR_FULL_REQUEST) != null;
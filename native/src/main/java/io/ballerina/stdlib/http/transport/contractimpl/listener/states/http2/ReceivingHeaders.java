@@ -25,6 +25,7 @@ import io.ballerina.stdlib.http.transport.contractimpl.common.states.Http2Messag
 import io.ballerina.stdlib.http.transport.contractimpl.common.states.Http2StateUtil;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.http2.Http2SourceHandler;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.http2.InboundMessageHolder;
+import io.ballerina.stdlib.http.transport.internal.RequestPhase;
 import io.ballerina.stdlib.http.transport.message.Http2DataFrame;
 import io.ballerina.stdlib.http.transport.message.Http2HeadersFrame;
 import io.ballerina.stdlib.http.transport.message.Http2PushPromise;
@@ -33,6 +34,7 @@ import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.DefaultLastHttpContent;
 import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http2.Http2Exception;
 import io.netty.handler.codec.http2.Http2Headers;
 import org.slf4j.Logger;
@@ -84,11 +86,18 @@ public class ReceivingHeaders implements ListenerState {
 
                 // Add empty last http content if no data frames available in the http request
                 sourceReqCMsg.addHttpContent(new DefaultLastHttpContent());
+                Util.recordRequestPhase(sourceReqCMsg, RequestPhase.BODY_RECEIVED);
                 initializeDataEventListeners(ctx, streamId, sourceReqCMsg);
                 sourceReqCMsg.setHttp2MessageStateContext(http2MessageStateContext);
             }
             http2MessageStateContext.setListenerState(new EntityBodyReceived(http2MessageStateContext));
         } else {
+            if (isContentLengthTooLarge(headersFrame.getHeaders())) {
+                // The declared size is known up front, hence the request is rejected without being dispatched
+                Http2StateUtil.rejectOversizedRequest(http2SourceHandler, streamId, true);
+                LOG.warn("Inbound request payload size exceeds the max entity body allowed for a request");
+                return;
+            }
             // Construct new HTTP Request
             HttpCarbonMessage sourceReqCMsg = setupHttp2CarbonMsg(headersFrame.getHeaders(), streamId);
             sourceReqCMsg.setHttp2MessageStateContext(http2MessageStateContext);
@@ -158,6 +167,15 @@ public class ReceivingHeaders implements ListenerState {
                 REMOTE_CLIENT_SENT_GOAWAY_WHILE_READING_INBOUND_REQUEST_HEADERS);
     }
 
+    private boolean isContentLengthTooLarge(Http2Headers http2Headers) {
+        long maxEntityBodySize = http2SourceHandler.getServerChannelInitializer().getMaxEntityBodySize();
+        if (maxEntityBodySize < 0) {
+            return false;
+        }
+        Long contentLength = http2Headers.getLong(HttpHeaderNames.CONTENT_LENGTH);
+        return contentLength != null && contentLength > maxEntityBodySize;
+    }
+
     private HttpCarbonMessage setupHttp2CarbonMsg(Http2Headers http2Headers, int streamId) throws Http2Exception {
         return setupCarbonRequest(Util.createHttpRequestFromHttp2Headers(http2Headers, streamId), http2SourceHandler,
                                   streamId);
@@ -24,6 +24,7 @@ import io.ballerina.stdlib.http.transport.contract.ServerConnectorFuture;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ServerConnectorException;
 import io.ballerina.stdlib.http.transport.contractimpl.Http2OutboundRespListener;
 import io.ballerina.stdlib.http.transport.contractimpl.common.Util;
+import io.ballerina.stdlib.http.transport.contractimpl.common.metrics.RequestMetrics;
 import io.ballerina.stdlib.http.transport.contractimpl.common.states.Http2MessageStateContext;
 import io.ballerina.stdlib.http.transport.contractimpl.common.states.Http2StateUtil;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.http2.Http2SourceHandler;
@@ -205,12 +206,18 @@ public class SendingEntityBody implements ListenerState {
                 break;
             }
         }
+        if (streamId == originalStreamId) {
+            RequestMetrics.bytesSent(inboundRequestMsg, content.readableBytes());
+        }
         ChannelFuture channelFuture = encoder.writeData(
                 ctx, streamId, content, 0, endStream, ctx.newPromise());
         encoder.flowController().writePendingBytes();
         ctx.flush();
         if (endStream) {
             http2OutboundRespListener.getHttp2ServerChannel().getStreamIdRequestMap().remove(streamId);
+            if (streamId == originalStreamId) {
+                Util.completeOnResponseWrite(inboundRequestMsg, outboundResponseMsg, channelFuture);
+            }
             Util.checkForResponseWriteStatus(inboundRequestMsg, outboundRespStatusFuture, channelFuture);
         } else {
             Util.addResponseWriteFailureListener(outboundRespStatusFuture, channelFuture, http2OutboundRespListener);
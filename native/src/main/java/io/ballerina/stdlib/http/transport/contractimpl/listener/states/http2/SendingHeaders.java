@@ -33,20 +33,16 @@ import io.ballerina.stdlib.http.transport.message.Http2PushPromise;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.HttpContent;
-import io.netty.handler.codec.http.HttpMessage;
 import io.netty.handler.codec.http2.Http2Connection;
 import io.netty.handler.codec.http2.Http2ConnectionEncoder;
 import io.netty.handler.codec.http2.Http2Error;
 import io.netty.handler.codec.http2.Http2Exception;
 import io.netty.handler.codec.http2.Http2Headers;
-import io.netty.handler.codec.http2.HttpConversionUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 
-import static io.ballerina.stdlib.http.transport.contract.Constants.HTTP2_VERSION;
-import static io.ballerina.stdlib.http.transport.contract.Constants.HTTP_SCHEME;
 import static io.ballerina.stdlib.http.transport.contract.Constants.IDLE_TIMEOUT_TRIGGERED_WHILE_WRITING_OUTBOUND_RESPONSE_HEADERS;
 import static io.ballerina.stdlib.http.transport.contract.Constants.REMOTE_CLIENT_CLOSED_WHILE_WRITING_OUTBOUND_RESPONSE_HEADERS;
 import static io.ballerina.stdlib.http.transport.contract.Constants.REMOTE_CLIENT_SENT_GOAWAY_WHILE_WRITING_OUTBOUND_RESPONSE_HEADERS;
@@ -158,13 +154,9 @@ public class SendingHeaders implements ListenerState {
     }
 
     private void writeHeaders(HttpCarbonMessage outboundResponseMsg, int streamId) throws Http2Exception {
-        outboundResponseMsg.getHeaders().
-                add(HttpConversionUtil.ExtensionHeaderNames.SCHEME.text(), HTTP_SCHEME);
         StateUtil.addTrailerHeaderIfPresent(outboundResponseMsg);
-        HttpMessage httpMessage =
-                Util.createHttpResponse(outboundResponseMsg, HTTP2_VERSION, serverName, true);
         // Construct Http2 headers
-        Http2Headers http2Headers = HttpConversionUtil.toHttp2Headers(httpMessage, true);
+        Http2Headers http2Headers = Util.createHttp2ResponseHeaders(outboundResponseMsg, serverName);
         validatePromisedStreamState(originalStreamId, streamId, conn, inboundRequestMsg);
         Http2StateUtil.writeHttp2ResponseHeaders(ctx, encoder, outboundRespStatusFuture, streamId, http2Headers, false,
                                                  http2OutboundRespListener, inboundRequestMsg);
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.sender;
+
+import io.ballerina.stdlib.http.transport.contractimpl.common.CompressionUtil;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.compression.ZstdDecoder;
+import io.netty.handler.codec.http.HttpContentDecompressor;
+
+import static io.ballerina.stdlib.http.transport.contract.Constants.ENCODING_ZSTD;
+
+/**
+ * Decompresses HTTP/1.x response content, adding zstd to the codings supported by netty when the codec is available.
+ */
+public class CustomHttpContentDecompressor extends HttpContentDecompressor {
+
+    @Override
+    protected EmbeddedChannel newContentDecoder(String contentEncoding) throws Exception {
+        EmbeddedChannel decoder = super.newContentDecoder(contentEncoding);
+        if (decoder == null && ENCODING_ZSTD.equalsIgnoreCase(contentEncoding)) {
+            ZstdDecoder zstdDecoder = CompressionUtil.newZstdDecoder();
+            if (zstdDecoder != null) {
+                return new EmbeddedChannel(ctx.channel().id(), ctx.channel().metadata().hasDisconnect(),
+                                           ctx.channel().config(), zstdDecoder);
+            }
+        }
+        return decoder;
+    }
+}
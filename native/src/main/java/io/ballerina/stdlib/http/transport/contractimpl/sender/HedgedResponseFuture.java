@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.sender;
+
+import io.ballerina.stdlib.http.transport.contract.HttpConnectorListener;
+import io.ballerina.stdlib.http.transport.contract.HttpResponseFuture;
+import io.ballerina.stdlib.http.transport.contractimpl.DefaultHttpResponseFuture;
+import io.ballerina.stdlib.http.transport.contractimpl.common.TimeoutWheel;
+import io.ballerina.stdlib.http.transport.contractimpl.sender.http2.OutboundMsgHolder;
+import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+
+/**
+ * {@code HedgedResponseFuture} combines the attempts of a hedged request. It is notified with the response which
+ * arrives first, or with the error of the last attempt when all of them fail.
+ *
+ * @since 2.12.1
+ */
+class HedgedResponseFuture extends DefaultHttpResponseFuture {
+
+    private final RequestHedger requestHedger;
+    private final HttpCarbonMessage hedgeRequest;
+    private final Attempt primary;
+    private Attempt hedge;
+    private TimeoutWheel.Timeout hedgeTimeout;
+    private int pendingAttempts = 1;
+    private boolean settled;
+
+    HedgedResponseFuture(RequestHedger requestHedger, OutboundMsgHolder primary, HttpCarbonMessage hedgeRequest) {
+        super(primary);
+        this.requestHedger = requestHedger;
+        this.hedgeRequest = hedgeRequest;
+        this.primary = new Attempt(primary);
+    }
+
+    void start() {
+        synchronized (this) {
+            hedgeTimeout = requestHedger.scheduleHedge(this::sendHedge);
+        }
+        primary.send();
+    }
+
+    private void sendHedge() {
+        synchronized (this) {
+            if (settled || !requestHedger.tryAcquireHedge()) {
+                return;
+            }
+            hedge = new Attempt(new OutboundMsgHolder(hedgeRequest));
+            pendingAttempts++;
+        }
+        hedge.send();
+    }
+
+    private void onResponse(Attempt attempt, HttpCarbonMessage response) {
+        synchronized (this) {
+            if (settled) {
+                // The loser is drained so that its connection can be reused
+                response.getHttpContentAsync().setMessageListener(httpContent -> httpContent.release());
+                return;
+            }
+            settled = true;
+            hedgeTimeout.cancel();
+            Attempt loser = attempt == primary ? hedge : primary;
+            if (loser != null && !loser.done) {
+                // The loser is cancelled while holding the lock, hence its response cannot have been read yet and
+                // its connection cannot have been released to the pool
+                loser.outboundMsgHolder.cancel();
+            }
+        }
+        notifyHttpListener(response);
+    }
+
+    private void onError(Throwable throwable) {
+        synchronized (this) {
+            if (settled || --pendingAttempts > 0) {
+                return;
+            }
+            settled = true;
+            hedgeTimeout.cancel();
+        }
+        notifyHttpListener(throwable);
+    }
+
+    /**
+     * A single attempt of the hedged request.
+     */
+    private class Attempt implements HttpConnectorListener {
+
+        private final OutboundMsgHolder outboundMsgHolder;
+        private long startTime;
+        private boolean done;
+
+        Attempt(OutboundMsgHolder outboundMsgHolder) {
+            this.outboundMsgHolder = outboundMsgHolder;
+        }
+
+        void send() {
+            startTime = System.nanoTime();
+            // The listener is set before the request is sent so that the response is always notified on the I/O
+            // thread, which releases the connection only after the response is read
+            HttpResponseFuture responseFuture = outboundMsgHolder.getResponseFuture();
+            responseFuture.setHttpConnectorListener(this);
+            HttpResponseFuture attemptFuture = requestHedger.sendAttempt(outboundMsgHolder);
+            if (attemptFuture != responseFuture) {
+                attemptFuture.setHttpConnectorListener(this);
+            }
+        }
+
+        @Override
+        public void onMessage(HttpCarbonMessage httpMessage) {
+            requestHedger.recordLatency(System.nanoTime() - startTime);
+            synchronized (HedgedResponseFuture.this) {
+                done = true;
+            }
+            onResponse(this, httpMessage);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            synchronized (HedgedResponseFuture.this) {
+                done = true;
+            }
+            HedgedResponseFuture.this.onError(throwable);
+        }
+    }
+}
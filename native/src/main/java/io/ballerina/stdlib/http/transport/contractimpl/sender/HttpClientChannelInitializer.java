@@ -26,6 +26,7 @@ import io.ballerina.stdlib.http.transport.contractimpl.common.FrameLogger;
 import io.ballerina.stdlib.http.transport.contractimpl.common.HttpRoute;
 import io.ballerina.stdlib.http.transport.contractimpl.common.Util;
 import io.ballerina.stdlib.http.transport.contractimpl.common.http2.Http2ExceptionHandler;
+import io.ballerina.stdlib.http.transport.contractimpl.common.http2.Http2FlowControlTuner;
 import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.SSLConfig;
 import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.SSLHandlerFactory;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.HttpExceptionHandler;
@@ -34,6 +35,7 @@ import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool.Conne
 import io.ballerina.stdlib.http.transport.contractimpl.sender.http2.ClientFrameListener;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.http2.Http2ClientChannel;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.http2.Http2ConnectionManager;
+import io.ballerina.stdlib.http.transport.contractimpl.sender.http2.Http2DecompressorFrameListener;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.http2.Http2TargetHandler;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelFutureListener;
@@ -42,14 +44,11 @@ import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.handler.codec.http.HttpClientCodec;
-import io.netty.handler.codec.http.HttpContentDecompressor;
 import io.netty.handler.codec.http2.DefaultHttp2Connection;
-import io.netty.handler.codec.http2.DelegatingDecompressorFrameListener;
 import io.netty.handler.codec.http2.Http2ClientUpgradeCodec;
 import io.netty.handler.codec.http2.Http2Connection;
 import io.netty.handler.codec.http2.Http2ConnectionHandler;
 import io.netty.handler.codec.http2.Http2ConnectionHandlerBuilder;
-import io.netty.handler.codec.http2.Http2FrameListener;
 import io.netty.handler.proxy.HttpProxyHandler;
 import io.netty.handler.ssl.ApplicationProtocolNames;
 import io.netty.handler.ssl.ApplicationProtocolNegotiationHandler;
@@ -115,14 +114,19 @@ public class HttpClientChannelInitializer extends ChannelInitializer<SocketChann
         }
         connection = new DefaultHttp2Connection(false);
         clientFrameListener = new ClientFrameListener();
-        Http2FrameListener frameListener = new DelegatingDecompressorFrameListener(connection, clientFrameListener);
+        Http2FlowControlTuner frameListener = new Http2FlowControlTuner(
+                new Http2DecompressorFrameListener(connection, clientFrameListener), connection,
+                senderConfiguration.getHttp2SettingsConfig());
 
         Http2ConnectionHandlerBuilder connectionHandlerBuilder = new Http2ConnectionHandlerBuilder();
         if (httpTraceLogEnabled) {
             connectionHandlerBuilder.frameLogger(new FrameLogger(TRACE, Constants.TRACE_LOG_UPSTREAM));
         }
         connectionHandlerBuilder.initialSettings().initialWindowSize(senderConfiguration.getHttp2InitialWindowSize());
+        Util.applyHttp2Settings(connectionHandlerBuilder.initialSettings(),
+                                senderConfiguration.getHttp2SettingsConfig());
         http2ConnectionHandler = connectionHandlerBuilder.connection(connection).frameListener(frameListener).build();
+        frameListener.setEncoder(http2ConnectionHandler.encoder());
         http2TargetHandler = new Http2TargetHandler(connection, http2ConnectionHandler.encoder());
         if (sslConfig != null) {
             sslHandlerFactory = new SSLHandlerFactory(sslConfig);
@@ -276,7 +280,7 @@ public class HttpClientChannelInitializer extends ChannelInitializer<SocketChann
         Util.safelyRemoveHandlers(pipeline, Constants.HTTP2_EXCEPTION_HANDLER);
         pipeline.addLast(Constants.CONNECTION_HANDLER, http2ConnectionHandler);
         pipeline.addLast(Constants.HTTP2_TARGET_HANDLER, http2TargetHandler);
-        pipeline.addLast(Constants.DECOMPRESSOR_HANDLER, new HttpContentDecompressor());
+        pipeline.addLast(Constants.DECOMPRESSOR_HANDLER, new CustomHttpContentDecompressor());
         pipeline.addLast(Constants.HTTP2_EXCEPTION_HANDLER, new Http2ExceptionHandler(http2ConnectionHandler));
     }
 
@@ -312,7 +316,7 @@ public class HttpClientChannelInitializer extends ChannelInitializer<SocketChann
      * @param pipeline the client channel pipeline
      */
     private void addCommonHandlers(ChannelPipeline pipeline) {
-        pipeline.addLast(Constants.DECOMPRESSOR_HANDLER, new HttpContentDecompressor());
+        pipeline.addLast(Constants.DECOMPRESSOR_HANDLER, new CustomHttpContentDecompressor());
         if (httpTraceLogEnabled) {
             pipeline.addLast(Constants.HTTP_TRACE_LOG_HANDLER,
                     new HttpTraceLoggingHandler(Constants.TRACE_LOG_UPSTREAM));
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.sender;
+
+import io.ballerina.stdlib.http.transport.contract.Constants;
+import io.ballerina.stdlib.http.transport.contract.HttpResponseFuture;
+import io.ballerina.stdlib.http.transport.contract.config.HedgingConfig;
+import io.ballerina.stdlib.http.transport.contractimpl.DefaultHttpClientConnector;
+import io.ballerina.stdlib.http.transport.contractimpl.common.TimeoutWheel;
+import io.ballerina.stdlib.http.transport.contractimpl.sender.http2.OutboundMsgHolder;
+import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.netty.channel.EventLoopGroup;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hedges the idempotent requests of a client connector. A second attempt of a request is sent to the same target when
+ * no response is received for the first attempt within the hedging delay, as long as the hedging budget allows it.
+ * The response which arrives first is used and the other attempt is cancelled.
+ * <p>
+ * Only requests without a payload are hedged, since the second attempt is sent before the payload of the first one
+ * could be replayed.
+ * <p>
+ * The hedged attempts are sent on a small bounded pool of threads owned by the hedger of each client connector. A
+ * hedge which finds the pool saturated is skipped, and the request waits for its first attempt.
+ *
+ * @since 2.12.1
+ */
+public class RequestHedger {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RequestHedger.class);
+    // Each request earns the budget ratio of a token, while each hedged attempt spends a whole token
+    private static final long TOKEN = 1000;
+    private static final long MAX_BALANCE = 10 * TOKEN;
+    private static final int LATENCY_WINDOW_SIZE = 1024;
+    private static final int LATENCY_UPDATE_INTERVAL = 64;
+    private static final int HEDGE_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+    private static final int HEDGE_QUEUE_SIZE = 1024;
+    private static final long HEDGE_THREAD_KEEP_ALIVE_SECONDS = 60;
+
+    private final DefaultHttpClientConnector clientConnector;
+    private final EventLoopGroup clientEventGroup;
+    private final HedgingConfig hedgingConfig;
+    private final long delayNanos;
+    private final long deposit;
+    private final AtomicLong balance = new AtomicLong();
+    private final ThreadPoolExecutor hedgeExecutor;
+
+    private final long[] latencies;
+    private int latencyCount;
+    private int nextLatency;
+    private int latenciesSinceUpdate;
+    private volatile long percentileDelayNanos = -1;
+
+    public RequestHedger(DefaultHttpClientConnector clientConnector, EventLoopGroup clientEventGroup,
+                         HedgingConfig hedgingConfig) {
+        this.clientConnector = clientConnector;
+        this.clientEventGroup = clientEventGroup;
+        this.hedgingConfig = hedgingConfig;
+        this.delayNanos = TimeUnit.MILLISECONDS.toNanos(hedgingConfig.getDelay());
+        this.deposit = Math.round(hedgingConfig.getBudgetRatio() * TOKEN);
+        this.latencies = hedgingConfig.getLatencyPercentile() > 0 ? new long[LATENCY_WINDOW_SIZE] : null;
+        this.hedgeExecutor = new ThreadPoolExecutor(HEDGE_THREADS, HEDGE_THREADS, HEDGE_THREAD_KEEP_ALIVE_SECONDS,
+                                                    TimeUnit.SECONDS, new ArrayBlockingQueue<>(HEDGE_QUEUE_SIZE),
+                                                    new DefaultThreadFactory("http-client-hedge", true),
+                                                    (task, executor) -> LOG.debug("Skipped a hedged attempt as " +
+                                                            "the hedging threads are saturated"));
+        this.hedgeExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Checks whether a request can be hedged. A request is hedged when its method is configured for hedging, it does
+     * not carry a payload and its response is not fetched later through a response handle.
+     *
+     * @param request the outbound request
+     * @return true if the request can be hedged
+     */
+    public boolean isHedgeable(HttpCarbonMessage request) {
+        if (!hedgingConfig.getMethods().contains(request.getHttpMethod())
+                || Boolean.TRUE.equals(request.getProperty(Constants.RESPONSE_HANDLE_REQUESTED))) {
+            return false;
+        }
+        HttpHeaders headers = request.getHeaders();
+        String contentLength = headers.get(HttpHeaderNames.CONTENT_LENGTH);
+        return !headers.contains(HttpHeaderNames.TRANSFER_ENCODING) && !headers.contains(HttpHeaderNames.CONTENT_TYPE)
+                && (contentLength == null || "0".equals(contentLength.trim()));
+    }
+
+    /**
+     * Sends a request and schedules its hedged attempt.
+     *
+     * @param request the outbound request
+     * @return the future which is notified with the response which arrives first
+     */
+    public HttpResponseFuture send(HttpCarbonMessage request) {
+        depositToBudget();
+        // The hedged attempt is cloned before the first attempt is sent, since sending it alters the request
+        HttpCarbonMessage hedgeRequest = request.cloneCarbonMessageWithOutData();
+        hedgeRequest.addHttpContent(new DefaultLastHttpContent());
+        HedgedResponseFuture responseFuture = new HedgedResponseFuture(this, new OutboundMsgHolder(request),
+                                                                       hedgeRequest);
+        responseFuture.start();
+        return responseFuture;
+    }
+
+    HttpResponseFuture sendAttempt(OutboundMsgHolder outboundMsgHolder) {
+        return clientConnector.send(outboundMsgHolder, outboundMsgHolder.getRequest());
+    }
+
+    TimeoutWheel.Timeout scheduleHedge(Runnable task) {
+        // Borrowing a connection may block until one is available, hence the attempt is not sent on the event loop
+        return TimeoutWheel.schedule(clientEventGroup.next(), () -> hedgeExecutor.execute(task), getDelayNanos());
+    }
+
+    void depositToBudget() {
+        balance.getAndUpdate(current -> Math.min(current + deposit, MAX_BALANCE));
+    }
+
+    boolean tryAcquireHedge() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < TOKEN) {
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - TOKEN));
+        return true;
+    }
+
+    void recordLatency(long latencyNanos) {
+        if (latencies == null) {
+            return;
+        }
+        synchronized (latencies) {
+            latencies[nextLatency] = latencyNanos;
+            nextLatency = (nextLatency + 1) % LATENCY_WINDOW_SIZE;
+            latencyCount = Math.min(latencyCount + 1, LATENCY_WINDOW_SIZE);
+            if (++latenciesSinceUpdate < LATENCY_UPDATE_INTERVAL) {
+                return;
+            }
+            latenciesSinceUpdate = 0;
+            long[] sorted = Arrays.copyOf(latencies, latencyCount);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(hedgingConfig.getLatencyPercentile() / 100 * latencyCount) - 1;
+            percentileDelayNanos = sorted[Math.max(index, 0)];
+        }
+    }
+
+    /**
+     * Gets the delay after which a hedged attempt is sent, which is the configured percentile of the recent response
+     * times once enough responses are observed.
+     *
+     * @return the delay in nanoseconds
+     */
+    public long getDelayNanos() {
+        long percentileDelay = percentileDelayNanos;
+        return percentileDelay > 0 ? percentileDelay : delayNanos;
+    }
+}
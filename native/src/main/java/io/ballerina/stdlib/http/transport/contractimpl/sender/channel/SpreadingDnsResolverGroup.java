@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.sender.channel;
+
+import io.ballerina.stdlib.http.transport.contract.config.DnsResolverConfig;
+import io.netty.channel.EventLoop;
+import io.netty.channel.socket.nio.NioDatagramChannel;
+import io.netty.resolver.AbstractAddressResolver;
+import io.netty.resolver.AddressResolver;
+import io.netty.resolver.NameResolver;
+import io.netty.resolver.dns.DefaultDnsCache;
+import io.netty.resolver.dns.DnsAddressResolverGroup;
+import io.netty.resolver.dns.DnsNameResolverBuilder;
+import io.netty.resolver.dns.SequentialDnsServerAddressStreamProvider;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Resolves the host names of outbound connections without blocking, through the DNS resolver of Netty. The addresses
+ * of a host are cached, and each new connection to the host goes to the next of them, so that the connections of a
+ * route are spread across all the A and AAAA records of the host. Once the refresh interval elapses, the host is
+ * re-resolved in the background while the cached addresses keep being used, hence backends which are scaled out
+ * start receiving connections without restarting the client. The TTL of the DNS records is honoured within the
+ * configured bounds, and the cached addresses are refreshed at least once per maximum TTL. A host whose refresh keeps
+ * failing for the negative TTL is dropped, as is a host which is not connected to for a whole refresh interval.
+ *
+ * @since 2.12.1
+ */
+public class SpreadingDnsResolverGroup extends DnsAddressResolverGroup {
+
+    private static final Map<DnsResolverConfig, SpreadingDnsResolverGroup> GROUPS = new ConcurrentHashMap<>();
+
+    private final long refreshIntervalNanos;
+    private final long negativeTtlNanos;
+    private final Map<String, ResolvedHost> resolvedHosts = new ConcurrentHashMap<>();
+
+    SpreadingDnsResolverGroup(DnsResolverConfig config) {
+        super(createNameResolverBuilder(config));
+        this.refreshIntervalNanos = Math.min(TimeUnit.MILLISECONDS.toNanos(config.getRefreshInterval()),
+                                             TimeUnit.SECONDS.toNanos(config.getMaxTtl()));
+        this.negativeTtlNanos = TimeUnit.SECONDS.toNanos(config.getNegativeTtl());
+    }
+
+    /**
+     * Gets the resolver group of a DNS configuration, which is shared by all the clients with an equal configuration.
+     *
+     * @param config the DNS resolver configuration
+     * @return the resolver group
+     */
+    public static SpreadingDnsResolverGroup getInstance(DnsResolverConfig config) {
+        SpreadingDnsResolverGroup group = GROUPS.get(config);
+        return group != null ? group : GROUPS.computeIfAbsent(config, SpreadingDnsResolverGroup::new);
+    }
+
+    private static DnsNameResolverBuilder createNameResolverBuilder(DnsResolverConfig config) {
+        DnsNameResolverBuilder builder = new DnsNameResolverBuilder()
+                .channelType(NioDatagramChannel.class)
+                .resolveCache(new DefaultDnsCache(config.getMinTtl(), config.getMaxTtl(), config.getNegativeTtl()))
+                .queryTimeoutMillis(config.getQueryTimeout());
+        if (!config.getNameServers().isEmpty()) {
+            builder.nameServerProvider(new SequentialDnsServerAddressStreamProvider(config.getNameServers()));
+        }
+        return builder;
+    }
+
+    @Override
+    protected AddressResolver<InetSocketAddress> newAddressResolver(EventLoop eventLoop,
+                                                                   NameResolver<InetAddress> resolver) {
+        return new SpreadingAddressResolver(eventLoop, resolver);
+    }
+
+    private ResolvedHost cache(String host, List<InetAddress> addresses) {
+        long now = System.nanoTime();
+        ResolvedHost resolvedHost = resolvedHosts.get(host);
+        if (resolvedHost != null) {
+            return resolvedHost;
+        }
+        // A new host is cached rarely, hence the hosts which are no longer connected to are dropped here.
+        resolvedHosts.values().removeIf(cached -> cached.isIdle(now, refreshIntervalNanos));
+        return resolvedHosts.computeIfAbsent(host, key -> new ResolvedHost(addresses, now + refreshIntervalNanos));
+    }
+
+    private final class SpreadingAddressResolver extends AbstractAddressResolver<InetSocketAddress> {
+
+        private final NameResolver<InetAddress> nameResolver;
+
+        private SpreadingAddressResolver(EventExecutor executor, NameResolver<InetAddress> nameResolver) {
+            super(executor, InetSocketAddress.class);
+            this.nameResolver = nameResolver;
+        }
+
+        @Override
+        protected boolean doIsResolved(InetSocketAddress address) {
+            return !address.isUnresolved();
+        }
+
+        @Override
+        protected void doResolve(InetSocketAddress unresolvedAddress, Promise<InetSocketAddress> promise) {
+            String host = unresolvedAddress.getHostString();
+            int port = unresolvedAddress.getPort();
+            ResolvedHost resolvedHost = resolvedHosts.get(host);
+            if (resolvedHost != null) {
+                refreshIfStale(host, resolvedHost);
+                promise.setSuccess(new InetSocketAddress(resolvedHost.next(), port));
+                return;
+            }
+            Future<List<InetAddress>> resolution = nameResolver.resolveAll(host);
+            resolution.addListener(future -> {
+                if (resolution.isSuccess()) {
+                    promise.trySuccess(new InetSocketAddress(cache(host, resolution.getNow()).next(), port));
+                } else {
+                    promise.tryFailure(resolution.cause());
+                }
+            });
+        }
+
+        @Override
+        protected void doResolveAll(InetSocketAddress unresolvedAddress,
+                                    Promise<List<InetSocketAddress>> promise) {
+            int port = unresolvedAddress.getPort();
+            Future<List<InetAddress>> resolution = nameResolver.resolveAll(unresolvedAddress.getHostString());
+            resolution.addListener(future -> {
+                if (resolution.isSuccess()) {
+                    List<InetSocketAddress> socketAddresses = new ArrayList<>(resolution.getNow().size());
+                    for (InetAddress address : resolution.getNow()) {
+                        socketAddresses.add(new InetSocketAddress(address, port));
+                    }
+                    promise.trySuccess(socketAddresses);
+                } else {
+                    promise.tryFailure(resolution.cause());
+                }
+            });
+        }
+
+        @Override
+        public void close() {
+            nameResolver.close();
+        }
+
+        private void refreshIfStale(String host, ResolvedHost resolvedHost) {
+            if (!resolvedHost.startRefresh(System.nanoTime())) {
+                return;
+            }
+            Future<List<InetAddress>> resolution = nameResolver.resolveAll(host);
+            resolution.addListener(future -> {
+                long now = System.nanoTime();
+                List<InetAddress> resolved = resolution.isSuccess() ? resolution.getNow() : null;
+                if (!resolvedHost.refreshed(resolved, now, refreshIntervalNanos, negativeTtlNanos)) {
+                    resolvedHosts.remove(host, resolvedHost);
+                }
+            });
+        }
+    }
+
+    /**
+     * The cached addresses of a host. A failed refresh keeps the previous addresses until the next refresh, unless the
+     * refresh has been failing for the negative TTL.
+     */
+    private static final class ResolvedHost {
+
+        private final AtomicInteger nextIndex = new AtomicInteger();
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+        private volatile List<InetAddress> addresses;
+        private volatile long refreshAt;
+        private long failingSince;
+        private boolean failing;
+
+        private ResolvedHost(List<InetAddress> addresses, long refreshAt) {
+            this.addresses = addresses;
+            this.refreshAt = refreshAt;
+        }
+
+        private InetAddress next() {
+            List<InetAddress> current = addresses;
+            return current.get(Math.floorMod(nextIndex.getAndIncrement(), current.size()));
+        }
+
+        private boolean startRefresh(long now) {
+            return now - refreshAt >= 0 && refreshing.compareAndSet(false, true);
+        }
+
+        private boolean isIdle(long now, long refreshIntervalNanos) {
+            return !refreshing.get() && now - refreshAt - refreshIntervalNanos >= 0;
+        }
+
+        /**
+         * Completes a refresh. Only one refresh of a host runs at a time, hence the failure state is not shared.
+         *
+         * @return false if the refresh has been failing for the negative TTL and the host should be dropped
+         */
+        private boolean refreshed(List<InetAddress> resolved, long now, long refreshIntervalNanos,
+                                  long negativeTtlNanos) {
+            boolean keep = true;
+            if (resolved != null && !resolved.isEmpty()) {
+                addresses = resolved;
+                failing = false;
+            } else if (!failing) {
+                failing = true;
+                failingSince = now;
+                keep = negativeTtlNanos > 0;
+            } else {
+                keep = now - failingSince < negativeTtlNanos;
+            }
+            refreshAt = now + refreshIntervalNanos;
+            refreshing.set(false);
+            return keep;
+        }
+    }
+}
@@ -19,6 +19,7 @@ import io.ballerina.stdlib.http.transport.contract.HttpResponseFuture;
 import io.ballerina.stdlib.http.transport.contractimpl.common.BackPressureHandler;
 import io.ballerina.stdlib.http.transport.contractimpl.common.HttpRoute;
 import io.ballerina.stdlib.http.transport.contractimpl.common.Util;
+import io.ballerina.stdlib.http.transport.contractimpl.common.metrics.ClientPoolMetrics;
 import io.ballerina.stdlib.http.transport.contractimpl.common.states.SenderReqRespStateManager;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.ConnectionAvailabilityFuture;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.HttpClientChannelInitializer;
@@ -53,6 +54,7 @@ public class TargetChannel {
     private ChannelInboundHandlerAdapter correlatedSource;
     private ConnectionManager connectionManager;
     private TargetHandler targetHandler;
+    private ClientPoolMetrics poolMetrics;
 
     private Http2ClientChannel http2ClientChannel;
     private final HttpRoute httpRoute;
@@ -165,4 +167,12 @@ public class TargetChannel {
     public HttpRoute getHttpRoute() {
         return httpRoute;
     }
+
+    public ClientPoolMetrics getPoolMetrics() {
+        return poolMetrics;
+    }
+
+    public void setPoolMetrics(ClientPoolMetrics poolMetrics) {
+        this.poolMetrics = poolMetrics;
+    }
 }
@@ -17,6 +17,10 @@ package io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool;
 
 import io.ballerina.stdlib.http.transport.contract.config.SenderConfiguration;
 import io.ballerina.stdlib.http.transport.contractimpl.common.HttpRoute;
+import io.ballerina.stdlib.http.transport.contractimpl.common.jfr.ConnectionPoolBorrowEvent;
+import io.ballerina.stdlib.http.transport.contractimpl.common.jfr.TransportEvents;
+import io.ballerina.stdlib.http.transport.contractimpl.common.metrics.ClientPoolMetrics;
+import io.ballerina.stdlib.http.transport.contractimpl.common.metrics.HttpMetricsRegistry;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.SourceHandler;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.http2.Http2SourceHandler;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.BootstrapConfiguration;
@@ -95,7 +99,7 @@ public class ConnectionManager {
             trgHlrConnPool = getTrgHlrPoolFromGlobalPool(httpRoute, senderConfig, bootstrapConfig, clientEventGroup);
         }
 
-        return getTargetChannel(sourceHandler, http2SourceHandler, trgHlrConnPool, trgHlrConnPoolId);
+        return getTargetChannel(httpRoute, sourceHandler, http2SourceHandler, trgHlrConnPool, trgHlrConnPoolId);
     }
 
     private GenericObjectPool getTrgHlrPoolFromGlobalPool(HttpRoute httpRoute, SenderConfiguration senderConfig,
@@ -148,10 +152,23 @@ public class ConnectionManager {
         globalFactoryObjects.put(httpRoute.toString(), poolableTargetChannelFactory);
     }
 
-    private TargetChannel getTargetChannel(SourceHandler sourceHandler, Http2SourceHandler http2SourceHandler,
-                                           GenericObjectPool trgHlrConnPool,
+    private TargetChannel getTargetChannel(HttpRoute httpRoute, SourceHandler sourceHandler,
+                                           Http2SourceHandler http2SourceHandler, GenericObjectPool trgHlrConnPool,
                                            String trgHlrConnPoolId) throws Exception {
-        TargetChannel targetChannel = (TargetChannel) trgHlrConnPool.borrowObject();
+        ClientPoolMetrics poolMetrics = HttpMetricsRegistry.getInstance().getClientPoolMetrics(httpRoute.toString());
+        ConnectionPoolBorrowEvent borrowEvent = TransportEvents.beginPoolBorrow();
+        long borrowStartTime = System.nanoTime();
+        TargetChannel targetChannel;
+        try {
+            targetChannel = (TargetChannel) trgHlrConnPool.borrowObject();
+        } catch (Exception e) {
+            poolMetrics.borrowFailed(System.nanoTime() - borrowStartTime);
+            TransportEvents.endPoolBorrow(borrowEvent, httpRoute.toString(), false);
+            throw e;
+        }
+        poolMetrics.borrowed(System.nanoTime() - borrowStartTime);
+        TransportEvents.endPoolBorrow(borrowEvent, httpRoute.toString(), true);
+        targetChannel.setPoolMetrics(poolMetrics);
         if (sourceHandler != null) {
             targetChannel.setCorrelatedSource(sourceHandler);
         } else if (http2SourceHandler != null) {
@@ -165,6 +182,7 @@ public class ConnectionManager {
     }
 
     public void returnChannel(TargetChannel targetChannel) throws Exception {
+        markReleased(targetChannel);
         if (targetChannel.getCorrelatedSource() != null) {
             Map<String, GenericObjectPool> objectPoolMap = getTargetPoolMap(targetChannel);
             if (objectPoolMap != null) {
@@ -175,6 +193,14 @@ public class ConnectionManager {
         }
     }
 
+    private static void markReleased(TargetChannel targetChannel) {
+        ClientPoolMetrics poolMetrics = targetChannel.getPoolMetrics();
+        if (poolMetrics != null) {
+            targetChannel.setPoolMetrics(null);
+            poolMetrics.released();
+        }
+    }
+
     private void releaseChannelToPool(TargetChannel targetChannel, GenericObjectPool pool) throws Exception {
         try {
             String channelID = targetChannel.getChannel().id().asShortText();
@@ -192,6 +218,7 @@ public class ConnectionManager {
     }
 
     public void invalidateTargetChannel(TargetChannel targetChannel) throws Exception {
+        markReleased(targetChannel);
         if (targetChannel.getCorrelatedSource() != null) {
             Map<String, GenericObjectPool> objectPoolMap = getTargetPoolMap(targetChannel);
             if (objectPoolMap != null) {
@@ -234,6 +261,13 @@ public class ConnectionManager {
         return http2ConnectionManager;
     }
 
+    /**
+     * Stops the background tasks of the connection manager once it is no longer used by any client.
+     */
+    public void shutdown() {
+        http2ConnectionManager.shutdown();
+    }
+
     private GenericObjectPool createPoolForRoutePerSrcHndlr(GenericObjectPool genericObjectPool,
                                                             PoolableTargetChannelFactory channelFactory,
                                                             EventLoopGroup clientEventGroup,
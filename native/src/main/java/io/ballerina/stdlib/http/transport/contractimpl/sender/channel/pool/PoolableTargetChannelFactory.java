@@ -15,11 +15,16 @@
 
 package io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool;
 
+import io.ballerina.stdlib.http.transport.contract.config.DnsResolverConfig;
 import io.ballerina.stdlib.http.transport.contract.config.SenderConfiguration;
 import io.ballerina.stdlib.http.transport.contractimpl.common.HttpRoute;
+import io.ballerina.stdlib.http.transport.contractimpl.common.jfr.OutboundConnectEvent;
+import io.ballerina.stdlib.http.transport.contractimpl.common.jfr.TransportEvents;
+import io.ballerina.stdlib.http.transport.contractimpl.common.metrics.HttpMetricsRegistry;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.ConnectionAvailabilityFuture;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.HttpClientChannelInitializer;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.BootstrapConfiguration;
+import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.SpreadingDnsResolverGroup;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.TargetChannel;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
@@ -75,6 +80,7 @@ public class PoolableTargetChannelFactory implements PoolableObjectFactory {
                                                              httpClientChannelInitializer);
 
         LOG.debug("Created channel: {}", httpRoute);
+        HttpMetricsRegistry.getInstance().getClientPoolMetrics(httpRoute.toString()).connectionCreated();
 
         return targetChannel;
     }
@@ -83,7 +89,9 @@ public class PoolableTargetChannelFactory implements PoolableObjectFactory {
                                                  ConnectionAvailabilityFuture connectionAvailabilityFuture,
                                                  HttpClientChannelInitializer httpClientChannelInitializer) {
 
+        OutboundConnectEvent connectEvent = TransportEvents.beginOutboundConnect();
         ChannelFuture channelFuture = connectToRemoteEndpoint(clientBootstrap);
+        TransportEvents.endOutboundConnect(connectEvent, channelFuture, httpRoute.toString(), remoteAddress);
         connectionAvailabilityFuture.setSocketAvailabilityFuture(channelFuture, remoteAddress);
         connectionAvailabilityFuture.setForceHttp2(senderConfiguration.isForceHttp2());
 
@@ -99,18 +107,27 @@ public class PoolableTargetChannelFactory implements PoolableObjectFactory {
         InetSocketAddress socketAddress;
         if (senderConfiguration.getProxyServerConfiguration() != null && senderConfiguration.getScheme()
                 .equals(HTTP_SCHEME)) {
-            socketAddress = new InetSocketAddress(
+            socketAddress = createSocketAddress(
                     senderConfiguration.getProxyServerConfiguration().getProxyHost(),
                     senderConfiguration.getProxyServerConfiguration().getProxyPort()
             );
         } else {
-            socketAddress = new InetSocketAddress(httpRoute.getHost(), httpRoute.getPort());
+            socketAddress = createSocketAddress(httpRoute.getHost(), httpRoute.getPort());
         }
-        remoteAddress = socketAddress.toString();
+        remoteAddress = socketAddress.isUnresolved() ? socketAddress.getHostString() + ":" + socketAddress.getPort()
+                : socketAddress.toString();
         channelFuture = clientBootstrap.connect(socketAddress);
         return channelFuture;
     }
 
+    private InetSocketAddress createSocketAddress(String host, int port) {
+        // The address is left unresolved for the DNS resolver of the bootstrap, which resolves it without blocking
+        if (senderConfiguration.getDnsResolverConfig() != null) {
+            return InetSocketAddress.createUnresolved(host, port);
+        }
+        return new InetSocketAddress(host, port);
+    }
+
     private Bootstrap instantiateAndConfigBootStrap(EventLoopGroup eventLoopGroup, Class eventLoopClass,
                                                     BootstrapConfiguration bootstrapConfiguration) {
         Bootstrap clientBootstrap = new Bootstrap();
@@ -122,6 +139,10 @@ public class PoolableTargetChannelFactory implements PoolableObjectFactory {
         clientBootstrap.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, bootstrapConfiguration.getConnectTimeOut());
         clientBootstrap.option(ChannelOption.SO_RCVBUF, bootstrapConfiguration.getReceiveBufferSize());
         clientBootstrap.option(ChannelOption.SO_SNDBUF, bootstrapConfiguration.getSendBufferSize());
+        DnsResolverConfig dnsResolverConfig = senderConfiguration.getDnsResolverConfig();
+        if (dnsResolverConfig != null) {
+            clientBootstrap.resolver(SpreadingDnsResolverGroup.getInstance(dnsResolverConfig));
+        }
         return clientBootstrap;
     }
 
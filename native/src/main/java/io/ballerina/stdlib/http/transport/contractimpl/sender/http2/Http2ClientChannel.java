@@ -20,6 +20,7 @@ package io.ballerina.stdlib.http.transport.contractimpl.sender.http2;
 
 import io.ballerina.stdlib.http.transport.contract.Constants;
 import io.ballerina.stdlib.http.transport.contractimpl.common.HttpRoute;
+import io.ballerina.stdlib.http.transport.contractimpl.common.jfr.TransportEvents;
 import io.ballerina.stdlib.http.transport.contractimpl.common.states.Http2MessageStateContext;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
@@ -301,8 +302,14 @@ public class Http2ClientChannel {
             }
         }
 
+        @Override
+        public void onGoAwaySent(int lastStreamId, long errorCode, ByteBuf debugData) {
+            TransportEvents.http2GoAway(TransportEvents.CLIENT, false, lastStreamId, errorCode);
+        }
+
         @Override
         public void onGoAwayReceived(int lastStreamId, long errorCode, ByteBuf debugData) {
+            TransportEvents.http2GoAway(TransportEvents.CLIENT, true, lastStreamId, errorCode);
             if (isStale.get()) {
                 return;
             }
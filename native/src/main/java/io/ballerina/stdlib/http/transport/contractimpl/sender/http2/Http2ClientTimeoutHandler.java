@@ -20,6 +20,7 @@ package io.ballerina.stdlib.http.transport.contractimpl.sender.http2;
 
 import io.ballerina.stdlib.http.transport.contract.Constants;
 import io.ballerina.stdlib.http.transport.contract.exceptions.EndpointTimeOutException;
+import io.ballerina.stdlib.http.transport.contractimpl.common.TimeoutWheel;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.DecoderException;
@@ -35,7 +36,6 @@ import org.slf4j.LoggerFactory;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import static io.ballerina.stdlib.http.transport.contract.Constants.IDLE_TIMEOUT_TRIGGERED_BEFORE_INITIATING_PUSH_RESPONSE;
@@ -55,7 +55,7 @@ public class Http2ClientTimeoutHandler implements Http2DataEventListener {
 
     private long idleTimeNanos;
     private Http2ClientChannel http2ClientChannel;
-    private Map<Integer, ScheduledFuture<?>> timerTasks;
+    private Map<Integer, TimeoutWheel.Timeout> timerTasks;
 
     public Http2ClientTimeoutHandler(long idleTimeMills, Http2ClientChannel http2ClientChannel) {
         this.idleTimeNanos = Math.max(TimeUnit.MILLISECONDS.toNanos(idleTimeMills), MIN_TIMEOUT_NANOS);
@@ -125,16 +125,16 @@ public class Http2ClientTimeoutHandler implements Http2DataEventListener {
 
     @Override
     public void onStreamClose(int streamId) {
-        ScheduledFuture timerTask = timerTasks.get(streamId);
+        TimeoutWheel.Timeout timerTask = timerTasks.get(streamId);
         if (timerTask != null) {
-            timerTask.cancel(false);
+            timerTask.cancel();
             timerTasks.remove(streamId);
         }
     }
 
     @Override
     public void destroy() {
-        timerTasks.forEach((streamId, task) -> task.cancel(false));
+        timerTasks.forEach((streamId, task) -> task.cancel());
         timerTasks.clear();
     }
 
@@ -265,7 +265,7 @@ public class Http2ClientTimeoutHandler implements Http2DataEventListener {
         }
     }
 
-    public Map<Integer, ScheduledFuture<?>> getTimerTasks() {
+    public Map<Integer, TimeoutWheel.Timeout> getTimerTasks() {
         return timerTasks;
     }
 }
@@ -19,13 +19,12 @@
 package io.ballerina.stdlib.http.transport.contractimpl.sender.http2;
 
 import io.ballerina.stdlib.http.transport.contractimpl.common.HttpRoute;
+import io.ballerina.stdlib.http.transport.contractimpl.common.TimeoutWheel;
 import io.ballerina.stdlib.http.transport.contractimpl.common.states.Http2MessageStateContext;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool.PoolConfiguration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Timer;
-import java.util.TimerTask;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 
@@ -39,10 +38,11 @@ public class Http2ConnectionManager {
     private final Http2ChannelPool http2ChannelPool = new Http2ChannelPool();
     private final BlockingQueue<Http2ClientChannel> http2StaleClientChannels = new LinkedBlockingQueue<>();
     private final PoolConfiguration poolConfiguration;
+    private final TimeoutWheel.Timeout staleEvictionTask;
 
     public Http2ConnectionManager(PoolConfiguration poolConfiguration) {
         this.poolConfiguration = poolConfiguration;
-        initiateConnectionEvictionTask();
+        this.staleEvictionTask = initiateConnectionEvictionTask();
     }
 
     /**
@@ -171,37 +171,37 @@ public class Http2ConnectionManager {
         }
     }
 
-    private void initiateConnectionEvictionTask() {
-        Timer timer = new Timer(true);
-        TimerTask timerTask = new TimerTask() {
-            @Override
-            public void run() {
-                http2StaleClientChannels.forEach(http2ClientChannel -> {
-                    if (poolConfiguration.getMinIdleTimeInStaleState() == -1) {
-                        if (!http2ClientChannel.hasInFlightMessages()) {
-                            closeChannelAndEvict(http2ClientChannel);
-                        }
-                    } else if ((System.currentTimeMillis() - http2ClientChannel.getTimeSinceMarkedAsStale()) >
-                            poolConfiguration.getMinIdleTimeInStaleState()) {
-                        http2ClientChannel.getInFlightMessages().forEach((streamId, outboundMsgHolder) -> {
-                            Http2MessageStateContext messageStateContext =
-                                    outboundMsgHolder.getRequest().getHttp2MessageStateContext();
-                            if (messageStateContext != null) {
-                                messageStateContext.getSenderState().handleConnectionClose(outboundMsgHolder);
-                            }
-                        });
-                        closeChannelAndEvict(http2ClientChannel);
+    /**
+     * Stops evicting the stale connections of this manager. The periodic eviction task otherwise keeps the manager
+     * reachable from the shared background timer.
+     */
+    public void shutdown() {
+        staleEvictionTask.cancel();
+    }
+
+    private TimeoutWheel.Timeout initiateConnectionEvictionTask() {
+        return TimeoutWheel.schedulePeriodic(() -> http2StaleClientChannels.forEach(http2ClientChannel -> {
+            if (poolConfiguration.getMinIdleTimeInStaleState() == -1) {
+                if (!http2ClientChannel.hasInFlightMessages()) {
+                    closeChannelAndEvict(http2ClientChannel);
+                }
+            } else if ((System.currentTimeMillis() - http2ClientChannel.getTimeSinceMarkedAsStale()) >
+                    poolConfiguration.getMinIdleTimeInStaleState()) {
+                http2ClientChannel.getInFlightMessages().forEach((streamId, outboundMsgHolder) -> {
+                    Http2MessageStateContext messageStateContext =
+                            outboundMsgHolder.getRequest().getHttp2MessageStateContext();
+                    if (messageStateContext != null) {
+                        messageStateContext.getSenderState().handleConnectionClose(outboundMsgHolder);
                     }
                 });
+                closeChannelAndEvict(http2ClientChannel);
             }
+        }), poolConfiguration.getTimeBetweenStaleEviction());
+    }
 
-            public void closeChannelAndEvict(Http2ClientChannel http2ClientChannel) {
-                removeClosedChannelFromStalePool(http2ClientChannel);
-                http2ClientChannel.getConnection().close(http2ClientChannel.getChannel().newPromise());
-            }
-        };
-        timer.schedule(timerTask, poolConfiguration.getTimeBetweenStaleEviction(),
-                poolConfiguration.getTimeBetweenStaleEviction());
+    private void closeChannelAndEvict(Http2ClientChannel http2ClientChannel) {
+        removeClosedChannelFromStalePool(http2ClientChannel);
+        http2ClientChannel.getConnection().close(http2ClientChannel.getChannel().newPromise());
     }
 
     private Http2ChannelPool.PerRouteConnectionPool fetchPerRoutePool(HttpRoute httpRoute) {
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.sender.http2;
+
+import io.ballerina.stdlib.http.transport.contractimpl.common.CompressionUtil;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.compression.ZstdDecoder;
+import io.netty.handler.codec.http2.DelegatingDecompressorFrameListener;
+import io.netty.handler.codec.http2.Http2Connection;
+import io.netty.handler.codec.http2.Http2Exception;
+import io.netty.handler.codec.http2.Http2FrameListener;
+import io.netty.util.AsciiString;
+
+import static io.ballerina.stdlib.http.transport.contract.Constants.ENCODING_ZSTD;
+
+/**
+ * Decompresses HTTP/2 response data frames, adding zstd to the codings supported by netty when the codec is
+ * available.
+ */
+public class Http2DecompressorFrameListener extends DelegatingDecompressorFrameListener {
+
+    public Http2DecompressorFrameListener(Http2Connection connection, Http2FrameListener listener) {
+        super(connection, listener);
+    }
+
+    @Override
+    protected EmbeddedChannel newContentDecompressor(ChannelHandlerContext ctx, CharSequence contentEncoding)
+            throws Http2Exception {
+        EmbeddedChannel decompressor = super.newContentDecompressor(ctx, contentEncoding);
+        if (decompressor == null && AsciiString.contentEqualsIgnoreCase(ENCODING_ZSTD, contentEncoding)) {
+            ZstdDecoder zstdDecoder = CompressionUtil.newZstdDecoder();
+            if (zstdDecoder != null) {
+                return new EmbeddedChannel(ctx.channel().id(), ctx.channel().metadata().hasDisconnect(),
+                                           ctx.channel().config(), zstdDecoder);
+            }
+        }
+        return decompressor;
+    }
+}
@@ -23,8 +23,11 @@ import io.ballerina.stdlib.http.transport.contractimpl.DefaultHttpResponseFuture
 import io.ballerina.stdlib.http.transport.message.BackPressureObservable;
 import io.ballerina.stdlib.http.transport.message.DefaultBackPressureObservable;
 import io.ballerina.stdlib.http.transport.message.Http2PushPromise;
+import io.ballerina.stdlib.http.transport.message.Http2Reset;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonResponse;
+import io.netty.channel.Channel;
+import io.netty.handler.codec.http2.Http2Error;
 
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
@@ -45,6 +48,9 @@ public class OutboundMsgHolder {
     // Future which is used to notify the response listener upon response receive
     private HttpResponseFuture responseFuture;
     private Http2ClientChannel http2ClientChannel;
+    // Stream of the invocation over HTTP/2 or the connection of the invocation over HTTP/1.x
+    private volatile int streamId;
+    private volatile Channel http1Channel;
 
     private boolean allPromisesReceived = false;
     private long lastReadWriteTime;
@@ -234,4 +240,42 @@ public class OutboundMsgHolder {
     public BackPressureObservable getBackPressureObservable() {
         return backPressureObservable;
     }
+
+    /**
+     * Sets the id of the HTTP/2 stream in which the request is sent.
+     *
+     * @param streamId id of the stream
+     */
+    public void setStreamId(int streamId) {
+        this.streamId = streamId;
+    }
+
+    /**
+     * Sets the HTTP/1.x connection through which the request is sent.
+     *
+     * @param http1Channel the target channel
+     */
+    public void setHttp1Channel(Channel http1Channel) {
+        this.http1Channel = http1Channel;
+    }
+
+    /**
+     * Abandons the invocation by resetting its stream on HTTP/2 or closing its connection on HTTP/1.x, since an
+     * HTTP/1.x connection cannot be reused until the response is fully read.
+     *
+     * @return false if the request is not yet written to a stream or a connection
+     */
+    public boolean cancel() {
+        Channel channel = http1Channel;
+        if (channel != null) {
+            channel.close();
+            return true;
+        }
+        int id = streamId;
+        if (id > 0 && http2ClientChannel != null) {
+            http2ClientChannel.getChannel().writeAndFlush(new Http2Reset(id, Http2Error.CANCEL));
+            return true;
+        }
+        return false;
+    }
 }
@@ -20,6 +20,7 @@ package io.ballerina.stdlib.http.transport.contractimpl.sender.states.http2;
 
 import io.ballerina.stdlib.http.transport.contract.Constants;
 import io.ballerina.stdlib.http.transport.contract.exceptions.EndpointTimeOutException;
+import io.ballerina.stdlib.http.transport.contractimpl.common.Util;
 import io.ballerina.stdlib.http.transport.contractimpl.common.states.Http2MessageStateContext;
 import io.ballerina.stdlib.http.transport.contractimpl.common.states.StateUtil;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.http2.Http2ClientChannel;
@@ -29,6 +30,7 @@ import io.ballerina.stdlib.http.transport.message.Http2DataFrame;
 import io.ballerina.stdlib.http.transport.message.Http2HeadersFrame;
 import io.ballerina.stdlib.http.transport.message.Http2InboundContentListener;
 import io.ballerina.stdlib.http.transport.message.Http2PushPromise;
+import io.ballerina.stdlib.http.transport.message.Http2ToHttpHeaders;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonResponse;
 import io.ballerina.stdlib.http.transport.message.PooledDataStreamerFactory;
@@ -39,7 +41,6 @@ import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
-import io.netty.handler.codec.http.HttpVersion;
 import io.netty.handler.codec.http.LastHttpContent;
 import io.netty.handler.codec.http2.DefaultHttp2Headers;
 import io.netty.handler.codec.http2.Http2Exception;
@@ -54,7 +55,6 @@ import static io.ballerina.stdlib.http.transport.contract.Constants.DIRECTION;
 import static io.ballerina.stdlib.http.transport.contract.Constants.DIRECTION_RESPONSE;
 import static io.ballerina.stdlib.http.transport.contract.Constants.EXECUTOR_WORKER_POOL;
 import static io.ballerina.stdlib.http.transport.contract.Constants.HTTP2_STATUS;
-import static io.ballerina.stdlib.http.transport.contract.Constants.HTTP_VERSION_2_0;
 import static io.ballerina.stdlib.http.transport.contract.Constants.IDLE_TIMEOUT_TRIGGERED_WHILE_READING_INBOUND_RESPONSE_HEADERS;
 import static io.ballerina.stdlib.http.transport.contract.Constants.INBOUND_RESPONSE;
 import static io.ballerina.stdlib.http.transport.contract.Constants.POOLED_BYTE_BUFFER_FACTORY;
@@ -246,12 +246,11 @@ public class ReceivingHeaders implements SenderState {
 
     private void onTrailersRead(int streamId, Http2Headers headers, OutboundMsgHolder outboundMsgHolder,
                                 HttpCarbonMessage responseMessage) {
-        HttpVersion version = new HttpVersion(HTTP_VERSION_2_0, true);
         LastHttpContent lastHttpContent = new DefaultLastHttpContent();
         HttpHeaders trailers = lastHttpContent.trailingHeaders();
 
         try {
-            HttpConversionUtil.addHttp2ToHttpHeaders(streamId, headers, trailers, version, true, false);
+            HttpConversionUtil.addHttp2ToHttpHeaders(streamId, headers, trailers, Util.HTTP_2_0, true, false);
             StateUtil.setInboundTrailersToNewMessage(trailers, responseMessage);
         } catch (Http2Exception e) {
             outboundMsgHolder.getResponseFuture().
@@ -277,21 +276,15 @@ public class ReceivingHeaders implements SenderState {
         } catch (Http2Exception e) {
             responseStatus = HttpResponseStatus.BAD_GATEWAY;
         }
-        HttpVersion version = new HttpVersion(HTTP_VERSION_2_0, true);
-        HttpResponse httpResponse = new DefaultHttpResponse(version, responseStatus);
-
-        // Set headers
         try {
-            HttpConversionUtil.addHttp2ToHttpHeaders(
-                    streamId, http2Headers, httpResponse.headers(), version, false, false);
-            CharSequence trailerHeaderValue = http2Headers.get(TRAILER.toString());
-            if (trailerHeaderValue != null) {
-                httpResponse.headers().add(TRAILER.toString(), trailerHeaderValue.toString());
-            }
+            Http2ToHttpHeaders.validate(http2Headers, streamId);
         } catch (Http2Exception e) {
             outboundMsgHolder.getResponseFuture().
                     notifyHttpListener(new Exception("Error while setting http headers", e));
         }
+        // The HTTP/2 headers are translated to HTTP/1.x headers only when they are needed
+        HttpResponse httpResponse = new DefaultHttpResponse(Util.HTTP_2_0, responseStatus,
+                                                            new Http2ToHttpHeaders(http2Headers, streamId, false));
         // Create HTTP Carbon Response
         HttpCarbonResponse responseCarbonMsg = new HttpCarbonResponse(httpResponse, new Http2InboundContentListener(
             streamId, ctx, http2TargetHandler.getConnection(), INBOUND_RESPONSE));
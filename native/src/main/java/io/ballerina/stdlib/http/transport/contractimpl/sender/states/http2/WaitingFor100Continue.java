@@ -19,6 +19,7 @@
 package io.ballerina.stdlib.http.transport.contractimpl.sender.states.http2;
 
 import io.ballerina.stdlib.http.transport.contract.exceptions.ServerConnectorException;
+import io.ballerina.stdlib.http.transport.contractimpl.common.TimeoutWheel;
 import io.ballerina.stdlib.http.transport.contractimpl.common.states.Http2MessageStateContext;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.http2.Http2ClientChannel;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.http2.Http2ClientTimeoutHandler;
@@ -38,7 +39,6 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ScheduledFuture;
 
 import static io.ballerina.stdlib.http.transport.contract.Constants.REMOTE_SERVER_CLOSED_WHILE_READING_INBOUND_RESPONSE_HEADERS;
 import static io.ballerina.stdlib.http.transport.contract.Constants.REMOTE_SERVER_SENT_GOAWAY_WHILE_READING_INBOUND_RESPONSE_HEADERS;
@@ -110,9 +110,9 @@ public class WaitingFor100Continue implements SenderState {
     private void configTimeOut(ChannelHandlerContext ctx, int streamId, boolean expectContinue) {
         List<Http2DataEventListener> eventListeners = http2ClientChannel.getDataEventListeners();
         Http2ClientTimeoutHandler timeoutHandler = (Http2ClientTimeoutHandler) eventListeners.get(0);
-        ScheduledFuture<?> timerTask = timeoutHandler.getTimerTasks().get(streamId);
+        TimeoutWheel.Timeout timerTask = timeoutHandler.getTimerTasks().get(streamId);
         if (timerTask != null) {
-            timerTask.cancel(true);
+            timerTask.cancel();
         }
         if (expectContinue) {
             timeoutHandler.createTimerTask(ctx, streamId, http2ClientChannel.getSocketIdleTimeout() / 5, true);
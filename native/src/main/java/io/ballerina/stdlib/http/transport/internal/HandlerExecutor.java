@@ -31,7 +31,9 @@ import java.util.Map;
 public class HandlerExecutor {
 
     private static final Logger LOG = LoggerFactory.getLogger(HandlerExecutor.class);
+    private static final MessagingHandler[] NO_HANDLERS = new MessagingHandler[0];
     private Map<String, MessagingHandler> handlers = new HashMap<>();
+    private volatile MessagingHandler[] phaseHandlers = NO_HANDLERS;
 
     public void executeAtSourceConnectionInitiation(String metadata) {
         try {
@@ -129,15 +131,70 @@ public class HandlerExecutor {
         }
     }
 
+    /**
+     * Records the time at which an inbound request reaches a phase and notifies the handlers. Only the first
+     * occurrence of a phase is recorded and notified. This is invoked several times for every request, hence it
+     * iterates over a snapshot of the handlers and does not allocate.
+     *
+     * @param carbonMessage the inbound request
+     * @param phase         the phase reached
+     */
+    public void executeAtRequestPhase(HttpCarbonMessage carbonMessage, RequestPhase phase) {
+        RequestTimeline timeline = carbonMessage.getRequestTimeline();
+        if (timeline == null) {
+            return;
+        }
+        long nanoTime = System.nanoTime();
+        if (timeline.record(phase, nanoTime)) {
+            notifyRequestPhase(carbonMessage, phase, nanoTime);
+        }
+    }
+
+    /**
+     * Notifies the handlers of the connection phases, i.e. the acceptance and the TLS handshake of the connection,
+     * carried over into the timeline of the first request of a connection. The phases are notified with the times
+     * at which the connection reached them.
+     *
+     * @param carbonMessage the first inbound request of the connection
+     */
+    public void executeAtConnectionPhases(HttpCarbonMessage carbonMessage) {
+        RequestTimeline timeline = carbonMessage.getRequestTimeline();
+        if (timeline == null) {
+            return;
+        }
+        notifyConnectionPhase(carbonMessage, timeline, RequestPhase.CONNECTION_ACCEPTED);
+        notifyConnectionPhase(carbonMessage, timeline, RequestPhase.TLS_HANDSHAKE_COMPLETED);
+    }
+
+    private void notifyConnectionPhase(HttpCarbonMessage carbonMessage, RequestTimeline timeline,
+                                       RequestPhase phase) {
+        long nanoTime = timeline.getNanoTime(phase);
+        if (nanoTime != 0) {
+            notifyRequestPhase(carbonMessage, phase, nanoTime);
+        }
+    }
+
+    private void notifyRequestPhase(HttpCarbonMessage carbonMessage, RequestPhase phase, long nanoTime) {
+        for (MessagingHandler handler : phaseHandlers) {
+            try {
+                handler.invokeAtRequestPhase(carbonMessage, phase, nanoTime);
+            } catch (Exception e) {
+                LOG.error("Error while executing handler at request phase {}", phase, e);
+            }
+        }
+    }
+
     public void addHandler(MessagingHandler messagingHandler) {
         String handlerName = messagingHandler.handlerName();
         handlers.put(handlerName, messagingHandler);
+        phaseHandlers = handlers.values().toArray(NO_HANDLERS);
         LOG.info("A new handler named {} is added to the Handler Executor", handlerName);
     }
 
     public void removeHandler(MessagingHandler messagingHandler) {
         String handlerName = messagingHandler.handlerName();
         handlers.remove(handlerName);
+        phaseHandlers = handlers.values().toArray(NO_HANDLERS);
         LOG.info("Handler named {} is removed from the Handler Executor", handlerName);
     }
 }
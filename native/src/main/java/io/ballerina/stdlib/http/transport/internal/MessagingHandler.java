@@ -113,6 +113,21 @@ public interface MessagingHandler {
      */
     void invokeAtSourceResponseSending(HttpCarbonMessage carbonMessage);
 
+    /**
+     * Invoked when an inbound request reaches a phase for the first time. This is invoked on the I/O path of every
+     * request, hence implementations should be cheap and must not block. The times of the earlier phases are
+     * available through {@link HttpCarbonMessage#getRequestTimeline()}. The connection phases, i.e.
+     * {@link RequestPhase#CONNECTION_ACCEPTED} and {@link RequestPhase#TLS_HANDSHAKE_COMPLETED}, are reached before
+     * any request exists, hence they are notified once per connection, along with its first request and with the
+     * times at which the connection reached them.
+     *
+     * @param carbonMessage the inbound request
+     * @param phase         the phase reached
+     * @param nanoTime      the time at which the phase is reached, as given by {@link System#nanoTime()}
+     */
+    default void invokeAtRequestPhase(HttpCarbonMessage carbonMessage, RequestPhase phase, long nanoTime) {
+    }
+
     /**
      * Gives handler name.
      *
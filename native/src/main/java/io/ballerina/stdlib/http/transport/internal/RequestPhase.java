@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.internal;
+
+/**
+ * The phases an inbound request goes through on its way from the socket to the last byte of its response. The
+ * times at which a request reaches them are kept in its {@link RequestTimeline}.
+ *
+ * @since 2.12.1
+ */
+public enum RequestPhase {
+
+    /**
+     * The connection which carries the request is accepted.
+     */
+    CONNECTION_ACCEPTED,
+
+    /**
+     * The TLS handshake of the connection which carries the request is completed.
+     */
+    TLS_HANDSHAKE_COMPLETED,
+
+    /**
+     * The request headers are decoded and the request message is created.
+     */
+    HEADERS_DECODED,
+
+    /**
+     * The request is handed over to the service dispatcher.
+     */
+    DISPATCHED,
+
+    /**
+     * The resource which serves the request is invoked.
+     */
+    RESOURCE_INVOKED,
+
+    /**
+     * The last part of the request body is received.
+     */
+    BODY_RECEIVED,
+
+    /**
+     * The response is handed over to the transport.
+     */
+    RESPONSE_STARTED,
+
+    /**
+     * The first part of the response, i.e. its headers, is written to the channel.
+     */
+    FIRST_BYTE_WRITTEN,
+
+    /**
+     * The last part of the response is flushed to the socket.
+     */
+    LAST_BYTE_FLUSHED
+}
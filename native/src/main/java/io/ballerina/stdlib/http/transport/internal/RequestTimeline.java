@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.internal;
+
+/**
+ * Keeps the {@link System#nanoTime()} at which an inbound request reached each {@link RequestPhase}. A timeline is
+ * created once per request and recording a phase does not allocate. A connection also keeps a timeline, holding only
+ * the connection phases, which are copied into the timeline of each of its requests.
+ *
+ * @since 2.12.1
+ */
+public final class RequestTimeline {
+
+    private static final int PHASE_COUNT = RequestPhase.values().length;
+
+    private final long[] nanoTimes = new long[PHASE_COUNT];
+    private boolean connectionPhasesNotified;
+
+    public RequestTimeline() {
+    }
+
+    /**
+     * Creates the timeline of a request, carrying over the phases of its connection.
+     *
+     * @param connectionTimeline the timeline of the connection, or null if it is not known
+     */
+    public RequestTimeline(RequestTimeline connectionTimeline) {
+        if (connectionTimeline != null) {
+            copy(connectionTimeline, RequestPhase.CONNECTION_ACCEPTED);
+            copy(connectionTimeline, RequestPhase.TLS_HANDSHAKE_COMPLETED);
+        }
+    }
+
+    private void copy(RequestTimeline timeline, RequestPhase phase) {
+        nanoTimes[phase.ordinal()] = timeline.nanoTimes[phase.ordinal()];
+    }
+
+    /**
+     * Records the time at which a phase is reached. Only the first occurrence of a phase is kept.
+     *
+     * @param phase    the phase
+     * @param nanoTime the time, as given by {@link System#nanoTime()}
+     * @return true if the phase was not recorded before
+     */
+    public boolean record(RequestPhase phase, long nanoTime) {
+        int index = phase.ordinal();
+        if (nanoTimes[index] != 0) {
+            return false;
+        }
+        nanoTimes[index] = nanoTime;
+        return true;
+    }
+
+    /**
+     * Marks the connection phases of this connection timeline as notified to the transport handlers. The phases of a
+     * connection are notified along with its first request only. A connection timeline is only accessed from the
+     * event loop of its channel.
+     *
+     * @return true if the connection phases were not notified before
+     */
+    public boolean markConnectionPhasesNotified() {
+        if (connectionPhasesNotified) {
+            return false;
+        }
+        connectionPhasesNotified = true;
+        return true;
+    }
+
+    /**
+     * Gets the time at which a phase was reached.
+     *
+     * @param phase the phase
+     * @return the time, as given by {@link System#nanoTime()}, or 0 if the phase is not reached
+     */
+    public long getNanoTime(RequestPhase phase) {
+        return nanoTimes[phase.ordinal()];
+    }
+
+    /**
+     * Gets the time elapsed between two phases.
+     *
+     * @param from the earlier phase
+     * @param to   the later phase
+     * @return the elapsed time in nanoseconds, or -1 if either of the phases is not reached
+     */
+    public long getElapsedNanos(RequestPhase from, RequestPhase to) {
+        long start = nanoTimes[from.ordinal()];
+        long end = nanoTimes[to.ordinal()];
+        return start == 0 || end == 0 ? -1 : end - start;
+    }
+}
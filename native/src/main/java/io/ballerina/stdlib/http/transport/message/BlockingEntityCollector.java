@@ -18,8 +18,11 @@
 
 package io.ballerina.stdlib.http.transport.message;
 
+import io.ballerina.stdlib.http.transport.contractimpl.common.jfr.EntityBodyWaitEvent;
+import io.ballerina.stdlib.http.transport.contractimpl.common.jfr.TransportEvents;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.DecoderResult;
 import io.netty.handler.codec.http.DefaultHttpContent;
 import io.netty.handler.codec.http.DefaultLastHttpContent;
 import io.netty.handler.codec.http.HttpContent;
@@ -27,11 +30,12 @@ import io.netty.handler.codec.http.LastHttpContent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.nio.ByteBuffer;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedList;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -39,32 +43,64 @@ import java.util.concurrent.locks.ReentrantLock;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 /**
- * Blocking entity collector.
+ * Blocking entity collector. When a memory budget is set, the content which does not fit in the budget is spilled to
+ * a temporary file and handed out from there in the same order once the content held in memory is consumed. The spill
+ * file is written on the spill executor of the budget and read by the consumer without holding the collector lock, so
+ * that the I/O thread adding content never waits for the disk. Reading from the connection is paused while content is
+ * waiting to be spilled.
  */
 public class BlockingEntityCollector implements EntityCollector {
 
     private static final Logger LOG = LoggerFactory.getLogger(BlockingEntityCollector.class);
+    private static final int SPILLED_CONTENT_CHUNK_SIZE = 16384;
 
     private int soTimeOut;
     private EntityBodyState state;
 
-    private BlockingQueue<HttpContent> httpContentQueue;
+    private Deque<HttpContent> httpContentQueue;
     private Lock readWriteLock;
     private Condition readCondition;
+    private boolean lastContentReceived;
+
+    private EntityMemoryBudget memoryBudget;
+    private long reservedBytes;
+    private long restoredBytes;
+    private EntitySpillFile spillFile;
+    private LastHttpContent spilledLastContent;
+    private Listener contentListener;
+    private final Deque<HttpContent> pendingSpills = new ArrayDeque<>();
+    private long pendingSpillBytes;
+    private boolean spillScheduled;
+    private long spillGeneration;
 
     BlockingEntityCollector(int soTimeOut) {
         this.soTimeOut = soTimeOut;
         this.state = EntityBodyState.EXPECTING;
         this.readWriteLock = new ReentrantLock();
-        this.httpContentQueue = new LinkedBlockingQueue<>();
+        this.httpContentQueue = new LinkedList<>();
         this.readCondition = readWriteLock.newCondition();
     }
 
+    public void setMemoryBudget(EntityMemoryBudget memoryBudget, Listener contentListener) {
+        try {
+            readWriteLock.lock();
+            this.memoryBudget = memoryBudget;
+            this.contentListener = contentListener;
+        } finally {
+            readWriteLock.unlock();
+        }
+    }
+
     public void addHttpContent(HttpContent httpContent) {
         try {
             readWriteLock.lock();
             state = EntityBodyState.CONSUMABLE;
-            httpContentQueue.add(httpContent);
+            if (httpContent instanceof LastHttpContent) {
+                lastContentReceived = true;
+            }
+            if (!spillHttpContent(httpContent)) {
+                httpContentQueue.add(httpContent);
+            }
             readCondition.signalAll();
         } catch (Exception e) {
             LOG.error("Cannot put content to queue", e);
@@ -73,6 +109,240 @@ public class BlockingEntityCollector implements EntityCollector {
         }
     }
 
+    public void restoreHttpContent(HttpContent httpContent) {
+        try {
+            readWriteLock.lock();
+            state = EntityBodyState.CONSUMABLE;
+            if (httpContent instanceof LastHttpContent) {
+                lastContentReceived = true;
+            }
+            // Restored content is held outside the memory budget as its reservation is released when it is taken
+            restoredBytes += httpContent.content().readableBytes();
+            httpContentQueue.addFirst(httpContent);
+            readCondition.signalAll();
+        } finally {
+            readWriteLock.unlock();
+        }
+    }
+
+    /**
+     * Queues the content to be written to the spill file if it does not fit in the memory budget, or if earlier
+     * content is still held in or waiting for the spill file.
+     *
+     * @param httpContent the received content
+     * @return true if the content is spilled
+     */
+    private boolean spillHttpContent(HttpContent httpContent) {
+        if (memoryBudget == null) {
+            return false;
+        }
+        if (spilledLastContent != null) {
+            // The entity body has already ended or failed to spill, hence the content is dropped
+            httpContent.release();
+            return true;
+        }
+        int size = httpContent.content().readableBytes();
+        boolean spilling = spillScheduled || (spillFile != null && spillFile.getUnreadBytes() > 0);
+        if (!spilling && reservedBytes + size <= memoryBudget.getThreshold() && memoryBudget.tryReserve(size)) {
+            reservedBytes += size;
+            return false;
+        }
+        pendingSpills.add(httpContent);
+        pendingSpillBytes += size;
+        if (!spillScheduled) {
+            spillScheduled = true;
+            if (contentListener != null) {
+                contentListener.pauseContentReading();
+            }
+            memoryBudget.getSpillExecutor().execute(this::writePendingSpills);
+        }
+        return true;
+    }
+
+    /**
+     * Writes the content waiting to be spilled to the spill file. This runs on the spill executor and holds the
+     * collector lock only to hand over the content, never while writing.
+     */
+    private void writePendingSpills() {
+        while (true) {
+            HttpContent httpContent;
+            int size;
+            EntitySpillFile file;
+            Path directory;
+            long generation;
+            try {
+                readWriteLock.lock();
+                httpContent = pendingSpills.poll();
+                if (httpContent == null) {
+                    spillScheduled = false;
+                    if (contentListener != null) {
+                        // Resumed under the lock so that it is not interleaved with pausing for a new spill
+                        contentListener.resumeContentReading();
+                    }
+                    return;
+                }
+                size = httpContent.content().readableBytes();
+                file = spillFile;
+                directory = memoryBudget.getDirectory();
+                generation = spillGeneration;
+            } finally {
+                readWriteLock.unlock();
+            }
+
+            boolean created = false;
+            IOException spillError = null;
+            try {
+                if (file == null) {
+                    file = new EntitySpillFile(directory);
+                    created = true;
+                }
+                file.write(httpContent.content());
+            } catch (IOException e) {
+                spillError = e;
+            } finally {
+                httpContent.release();
+            }
+            commitSpill(httpContent, size, file, created, generation, spillError);
+        }
+    }
+
+    private void commitSpill(HttpContent httpContent, int size, EntitySpillFile file, boolean created,
+                             long generation, IOException spillError) {
+        try {
+            readWriteLock.lock();
+            if (generation != spillGeneration) {
+                // The entity body was released while the content was being written
+                if (created && file != null) {
+                    file.close();
+                }
+                return;
+            }
+            if (created) {
+                spillFile = file;
+            }
+            pendingSpillBytes -= size;
+            if (spillError != null) {
+                LOG.error("Error while spilling the entity body to disk", spillError);
+                releasePendingSpills();
+                spilledLastContent = new DefaultLastHttpContent(Unpooled.EMPTY_BUFFER);
+                spilledLastContent.setDecoderResult(DecoderResult.failure(spillError));
+            } else if (httpContent instanceof LastHttpContent) {
+                LastHttpContent lastHttpContent = (LastHttpContent) httpContent;
+                spilledLastContent = new DefaultLastHttpContent(Unpooled.EMPTY_BUFFER);
+                spilledLastContent.trailingHeaders().set(lastHttpContent.trailingHeaders());
+                spilledLastContent.setDecoderResult(lastHttpContent.decoderResult());
+            }
+            readCondition.signalAll();
+        } finally {
+            readWriteLock.unlock();
+        }
+    }
+
+    private void releasePendingSpills() {
+        HttpContent httpContent;
+        while ((httpContent = pendingSpills.poll()) != null) {
+            httpContent.release();
+        }
+        pendingSpillBytes = 0;
+    }
+
+    private boolean hasHttpContent() {
+        return !httpContentQueue.isEmpty() || (spillFile != null && spillFile.getUnreadBytes() > 0) ||
+                spilledLastContent != null;
+    }
+
+    private HttpContent pollHttpContent() {
+        HttpContent httpContent = httpContentQueue.poll();
+        if (httpContent != null) {
+            long size = httpContent.content().readableBytes();
+            long restored = Math.min(size, restoredBytes);
+            restoredBytes -= restored;
+            if (memoryBudget != null) {
+                size = Math.min(size - restored, reservedBytes);
+                reservedBytes -= size;
+                memoryBudget.release(size);
+            }
+            return httpContent;
+        }
+        if (spillFile != null && spillFile.getUnreadBytes() > 0) {
+            return readSpilledContent();
+        }
+        httpContent = spilledLastContent;
+        if (httpContent != null) {
+            releaseSpilledContent();
+        }
+        return httpContent;
+    }
+
+    /**
+     * Reads the next chunk of the spill file. The collector lock, which is held by the caller, is released while
+     * reading so that content can still be added.
+     */
+    private HttpContent readSpilledContent() {
+        EntitySpillFile file = spillFile;
+        long generation = spillGeneration;
+        ByteBuf content = null;
+        IOException readError = null;
+        readWriteLock.unlock();
+        try {
+            content = file.read(SPILLED_CONTENT_CHUNK_SIZE);
+        } catch (IOException e) {
+            readError = e;
+        } finally {
+            readWriteLock.lock();
+        }
+        if (generation != spillGeneration) {
+            // The entity body was released while the content was being read
+            if (content != null) {
+                content.release();
+            }
+            readError = new IOException("Entity body released while reading the spilled content");
+        }
+        if (readError != null) {
+            LOG.error("Error while reading the spilled entity body", readError);
+            releaseSpilledContent();
+            LastHttpContent failedContent = new DefaultLastHttpContent(Unpooled.EMPTY_BUFFER);
+            failedContent.setDecoderResult(DecoderResult.failure(readError));
+            return failedContent;
+        }
+        return new DefaultHttpContent(content);
+    }
+
+    private long getAvailableContentLength() {
+        long size = 0;
+        for (HttpContent httpContent : httpContentQueue) {
+            size += httpContent.content().readableBytes();
+        }
+        if (spillFile != null) {
+            size += spillFile.getUnreadBytes();
+        }
+        return size + pendingSpillBytes;
+    }
+
+    private void releaseHttpContent() {
+        HttpContent httpContent;
+        while ((httpContent = httpContentQueue.poll()) != null) {
+            httpContent.release();
+        }
+        if (memoryBudget != null) {
+            memoryBudget.release(reservedBytes);
+            reservedBytes = 0;
+        }
+        restoredBytes = 0;
+        releaseSpilledContent();
+        lastContentReceived = false;
+    }
+
+    private void releaseSpilledContent() {
+        spillGeneration++;
+        releasePendingSpills();
+        if (spillFile != null) {
+            spillFile.close();
+            spillFile = null;
+        }
+        spilledLastContent = null;
+    }
+
     public void addMessageBody(ByteBuffer msgBody) {
         addHttpContent(new DefaultHttpContent(Unpooled.copiedBuffer(msgBody)));
     }
@@ -82,11 +352,11 @@ public class BlockingEntityCollector implements EntityCollector {
             readWriteLock.lock();
             if (state == EntityBodyState.CONSUMABLE || state == EntityBodyState.EXPECTING) {
                 waitForEntity();
-                HttpContent httpContent = httpContentQueue.poll(soTimeOut, MILLISECONDS);
+                HttpContent httpContent = pollHttpContent();
 
                 if (httpContent instanceof LastHttpContent) {
                     state = EntityBodyState.CONSUMED;
-                    httpContentQueue.clear();
+                    releaseHttpContent();
                 }
 
                 return httpContent;
@@ -111,17 +381,15 @@ public class BlockingEntityCollector implements EntityCollector {
         long size = 0;
         try {
             readWriteLock.lock();
-            List<HttpContent> contentList = new ArrayList<>();
-            while (state == EntityBodyState.CONSUMABLE || state == EntityBodyState.EXPECTING) {
-                waitForEntity();
-                HttpContent httpContent = httpContentQueue.poll(soTimeOut, MILLISECONDS);
-                size += httpContent.content().readableBytes();
-                contentList.add(httpContent);
-                if ((httpContent instanceof LastHttpContent)) {
-                    state = EntityBodyState.CONSUMED;
+            if (state == EntityBodyState.CONSUMABLE || state == EntityBodyState.EXPECTING) {
+                while (!lastContentReceived) {
+                    if (!readCondition.await(soTimeOut, MILLISECONDS)) {
+                        LOG.warn("Timed out while waiting for the full message to be received");
+                        break;
+                    }
                 }
+                size = getAvailableContentLength();
             }
-            httpContentQueue.addAll(contentList);
             state = EntityBodyState.CONSUMABLE;
         } catch (InterruptedException e) {
             LOG.warn("Error while getting full message length", e);
@@ -138,25 +406,14 @@ public class BlockingEntityCollector implements EntityCollector {
         long size = 0;
         try {
             readWriteLock.lock();
-            List<HttpContent> contentList = new ArrayList<>();
-            while (state == EntityBodyState.CONSUMABLE || state == EntityBodyState.EXPECTING) {
-                waitForEntity();
-                HttpContent httpContent = httpContentQueue.poll(soTimeOut, MILLISECONDS);
-                if (httpContent == null) {
-                    throw new IllegalStateException("poll timeout expired");
-                }
-                size += httpContent.content().readableBytes();
-                contentList.add(httpContent);
-                if (size >= maxSize) {
-                    while (!httpContentQueue.isEmpty()) {
-                        contentList.add(httpContentQueue.poll(soTimeOut, MILLISECONDS));
+            if (state == EntityBodyState.CONSUMABLE || state == EntityBodyState.EXPECTING) {
+                while (!lastContentReceived && getAvailableContentLength() < maxSize) {
+                    if (!readCondition.await(soTimeOut, MILLISECONDS)) {
+                        throw new IllegalStateException("poll timeout expired");
                     }
-                    break;
-                } else if ((httpContent instanceof LastHttpContent)) {
-                    state = EntityBodyState.CONSUMED;
                 }
+                size = getAvailableContentLength();
             }
-            httpContentQueue.addAll(contentList);
             state = EntityBodyState.CONSUMABLE;
         } catch (InterruptedException e) {
             LOG.warn("Error while getting full message length", e);
@@ -173,10 +430,20 @@ public class BlockingEntityCollector implements EntityCollector {
     }
 
     private void waitForEntity() throws InterruptedException {
-        while (httpContentQueue.isEmpty()) {
-            if (!readCondition.await(soTimeOut, MILLISECONDS)) {
-                break;
+        if (hasHttpContent()) {
+            return;
+        }
+        EntityBodyWaitEvent waitEvent = TransportEvents.beginEntityBodyWait();
+        boolean timedOut = false;
+        try {
+            while (!hasHttpContent()) {
+                if (!readCondition.await(soTimeOut, MILLISECONDS)) {
+                    timedOut = true;
+                    break;
+                }
             }
+        } finally {
+            TransportEvents.endEntityBodyWait(waitEvent, soTimeOut, timedOut);
         }
     }
 
@@ -186,15 +453,14 @@ public class BlockingEntityCollector implements EntityCollector {
             if (state == EntityBodyState.CONSUMABLE) {
                 boolean isEndOfMessageProcessed = false;
                 while (!isEndOfMessageProcessed) {
-                    waitForEntity();
-                    HttpContent httpContent = httpContentQueue.poll(soTimeOut, MILLISECONDS);
-                    if (httpContent instanceof LastHttpContent) {
-                        isEndOfMessageProcessed = true;
-                        state = EntityBodyState.CONSUMED;
-                        httpContentQueue.clear();
+                    isEndOfMessageProcessed = lastContentReceived;
+                    releaseHttpContent();
+                    if (!isEndOfMessageProcessed && !readCondition.await(soTimeOut, MILLISECONDS)) {
+                        LOG.warn("Timed out while waiting for the full message to be received");
+                        break;
                     }
-                    httpContent.release();
                 }
+                state = EntityBodyState.CONSUMED;
             }
             state = EntityBodyState.EXPECTING;
         } catch (InterruptedException e) {
@@ -209,7 +475,7 @@ public class BlockingEntityCollector implements EntityCollector {
     public boolean isEmpty() {
         try {
             readWriteLock.lock();
-            return this.httpContentQueue.isEmpty();
+            return !hasHttpContent();
         } finally {
             readWriteLock.unlock();
         }
@@ -32,7 +32,8 @@ public class DefaultListener implements Listener {
     private static final int MAXIMUM_BYTE_SIZE = 2097152; //Maximum threshold of reading bytes(2MB)
     private AtomicInteger cumulativeByteQuantity = new AtomicInteger(0);
     private ChannelHandlerContext ctx;
-    private boolean readCompleted = false;
+    private volatile boolean readCompleted = false;
+    private volatile boolean readPaused = false;
     private boolean first = true;
 
     public DefaultListener(ChannelHandlerContext ctx) {
@@ -51,7 +52,7 @@ public class DefaultListener implements Listener {
                 readCompleted = true;
                 this.ctx.channel().config().setAutoRead(true);
                 this.ctx = null;
-            } else {
+            } else if (!readPaused) {
                 this.ctx.channel().read();
             }
         }
@@ -60,11 +61,25 @@ public class DefaultListener implements Listener {
     @Override
     public void onRemove(HttpContent httpContent) {
         int count = this.cumulativeByteQuantity.addAndGet(-(httpContent.content().readableBytes()));
-        if (count < MAXIMUM_BYTE_SIZE && !readCompleted) {
+        if (count < MAXIMUM_BYTE_SIZE && !readCompleted && !readPaused) {
             this.ctx.channel().read();
         }
     }
 
+    @Override
+    public void pauseContentReading() {
+        readPaused = true;
+    }
+
+    @Override
+    public void resumeContentReading() {
+        readPaused = false;
+        ChannelHandlerContext context = this.ctx;
+        if (context != null && !readCompleted && cumulativeByteQuantity.get() < MAXIMUM_BYTE_SIZE) {
+            context.channel().read();
+        }
+    }
+
     @Override
     public void resumeReadInterest() {
         if (this.ctx != null) {
@@ -34,6 +34,12 @@ public interface EntityCollector {
      */
     void addHttpContent(HttpContent httpContent);
 
+    /**
+     * Put content which is taken from the queue back in front of the content which is still in the queue.
+     * @param httpContent httpContent
+     */
+    void restoreHttpContent(HttpContent httpContent);
+
     /**
      * Get the first httpContent from the queue.
      * @return HttpContent
@@ -84,4 +90,11 @@ public interface EntityCollector {
      * This is need to release content before GC.
      */
     void waitAndReleaseAllEntities();
+
+    /**
+     * Set the memory budget of the content. The content which does not fit in the budget is spilled to disk.
+     * @param memoryBudget memory budget
+     * @param contentListener listener used to pause reading the content while it is being spilled, if any
+     */
+    void setMemoryBudget(EntityMemoryBudget memoryBudget, Listener contentListener);
 }
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.message;
+
+import io.ballerina.stdlib.http.transport.contract.config.RequestSpillConfig;
+import io.netty.util.concurrent.DefaultThreadFactory;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Memory budget shared by the inbound entity bodies of a listener. Entity body bytes which do not fit in the budget are
+ * spilled to temporary files by the {@link BlockingEntityCollector}. The spilled bytes are written on a small pool of
+ * threads owned by the budget, so that the I/O threads never block on the disk.
+ *
+ * @since 2.12.1
+ */
+public final class EntityMemoryBudget {
+
+    private static final int SPILL_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+    private static final long SPILL_THREAD_KEEP_ALIVE_SECONDS = 60;
+
+    private final long threshold;
+    private final long memoryBudget;
+    private final Path directory;
+    private final AtomicLong availableBytes;
+    private final ThreadPoolExecutor spillExecutor;
+
+    public EntityMemoryBudget(RequestSpillConfig requestSpillConfig) {
+        this.threshold = requestSpillConfig.getThreshold();
+        this.memoryBudget = requestSpillConfig.getMemoryBudget();
+        String spillDirectory = requestSpillConfig.getDirectory();
+        this.directory = spillDirectory != null ? Paths.get(spillDirectory) : null;
+        this.availableBytes = new AtomicLong(memoryBudget);
+        this.spillExecutor = new ThreadPoolExecutor(SPILL_THREADS, SPILL_THREADS, SPILL_THREAD_KEEP_ALIVE_SECONDS,
+                                                    TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                                                    new DefaultThreadFactory("http-entity-spill", true));
+        this.spillExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Reserves memory for entity body bytes held by a single message.
+     *
+     * @param bytes the number of bytes
+     * @return true if the bytes fit in the budget
+     */
+    boolean tryReserve(long bytes) {
+        long available;
+        do {
+            available = availableBytes.get();
+            if (available < bytes) {
+                return false;
+            }
+        } while (!availableBytes.compareAndSet(available, available - bytes));
+        return true;
+    }
+
+    void release(long bytes) {
+        availableBytes.addAndGet(bytes);
+    }
+
+    long getThreshold() {
+        return threshold;
+    }
+
+    Path getDirectory() {
+        return directory;
+    }
+
+    Executor getSpillExecutor() {
+        return spillExecutor;
+    }
+
+    public long getMemoryBudget() {
+        return memoryBudget;
+    }
+
+    public long getAvailableBytes() {
+        return availableBytes.get();
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.message;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.lang.ref.Cleaner;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.nio.file.StandardOpenOption.DELETE_ON_CLOSE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Temporary file holding the spilled part of an entity body. Bytes are read back in the order they were written and
+ * the file is deleted when it is closed, or when it becomes unreachable without being closed. A single writer and a
+ * single reader may use the file concurrently.
+ *
+ * @since 2.12.1
+ */
+final class EntitySpillFile {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EntitySpillFile.class);
+    private static final Cleaner CLEANER = Cleaner.create();
+    private static final String FILE_PREFIX = "ballerina-http-entity-";
+    private static final String FILE_SUFFIX = ".tmp";
+
+    private final FileChannel fileChannel;
+    private final Cleaner.Cleanable cleanable;
+    private long writePosition;
+    private long readPosition;
+    private boolean writing;
+    private volatile long unreadBytes;
+
+    EntitySpillFile(Path directory) throws IOException {
+        Path file = directory != null ? Files.createTempFile(directory, FILE_PREFIX, FILE_SUFFIX) :
+                Files.createTempFile(FILE_PREFIX, FILE_SUFFIX);
+        try {
+            this.fileChannel = FileChannel.open(file, READ, WRITE, DELETE_ON_CLOSE);
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        this.cleanable = CLEANER.register(this, new CloseAction(fileChannel));
+    }
+
+    /**
+     * Appends the readable bytes of the given buffer to the file.
+     *
+     * @param content the buffer to be written
+     * @throws IOException if the bytes cannot be written
+     */
+    void write(ByteBuf content) throws IOException {
+        long position;
+        synchronized (this) {
+            writing = true;
+            position = writePosition;
+        }
+        try {
+            while (content.isReadable()) {
+                position += content.readBytes(fileChannel, position, content.readableBytes());
+            }
+        } finally {
+            synchronized (this) {
+                writing = false;
+                writePosition = position;
+                unreadBytes = writePosition - readPosition;
+            }
+        }
+    }
+
+    /**
+     * Reads the next unread bytes of the file. The file is truncated once all the bytes written so far are read.
+     *
+     * @param maxLength the maximum number of bytes to read
+     * @return a buffer holding the bytes
+     * @throws IOException if the bytes cannot be read
+     */
+    ByteBuf read(int maxLength) throws IOException {
+        long position;
+        int length;
+        synchronized (this) {
+            position = readPosition;
+            length = (int) Math.min(maxLength, writePosition - readPosition);
+        }
+        ByteBuf content = ByteBufAllocator.DEFAULT.buffer(length);
+        try {
+            while (content.isWritable()) {
+                int read = content.writeBytes(fileChannel, position, content.writableBytes());
+                if (read < 0) {
+                    throw new EOFException("Unexpected end of the spilled entity body");
+                }
+                position += read;
+            }
+            synchronized (this) {
+                readPosition = position;
+                if (readPosition == writePosition && !writing) {
+                    fileChannel.truncate(0);
+                    readPosition = 0;
+                    writePosition = 0;
+                }
+                unreadBytes = writePosition - readPosition;
+            }
+            return content;
+        } catch (IOException e) {
+            content.release();
+            throw e;
+        }
+    }
+
+    long getUnreadBytes() {
+        return unreadBytes;
+    }
+
+    void close() {
+        cleanable.clean();
+    }
+
+    private static class CloseAction implements Runnable {
+
+        private final FileChannel fileChannel;
+
+        CloseAction(FileChannel fileChannel) {
+            this.fileChannel = fileChannel;
+        }
+
+        @Override
+        public void run() {
+            try {
+                fileChannel.close();
+            } catch (IOException e) {
+                LOG.debug("Error while closing the entity spill file", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.message;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+
+/**
+ * A region of a file which is sent as the entity body of an outbound response. The transport writes the region
+ * directly from the file, without copying it through the message data streamer, and closes the file afterwards.
+ *
+ * @since 2.12.1
+ */
+public final class FileContent {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FileContent.class);
+
+    private final FileChannel fileChannel;
+    private final long position;
+    private final long count;
+
+    public FileContent(FileChannel fileChannel, long position, long count) {
+        this.fileChannel = fileChannel;
+        this.position = position;
+        this.count = count;
+    }
+
+    public FileChannel getFileChannel() {
+        return fileChannel;
+    }
+
+    public long getPosition() {
+        return position;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Closes the file when the region is not handed over to the channel.
+     */
+    public void close() {
+        try {
+            fileChannel.close();
+        } catch (IOException e) {
+            LOG.debug("Error while closing the file of the response", e);
+        }
+    }
+}
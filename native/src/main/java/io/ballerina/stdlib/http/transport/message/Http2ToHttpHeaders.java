@@ -0,0 +1,414 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.message;
+
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValidationUtil;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http2.Http2Error;
+import io.netty.handler.codec.http2.Http2Exception;
+import io.netty.handler.codec.http2.Http2Headers;
+import io.netty.handler.codec.http2.HttpConversionUtil.ExtensionHeaderNames;
+import io.netty.util.AsciiString;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@code Http2ToHttpHeaders} exposes the {@link Http2Headers} received over an HTTP/2 stream as {@link HttpHeaders}.
+ * <p>
+ * The HTTP/2 headers are carried as they are and single header lookups are served from them directly. They are
+ * translated to HTTP/1.x semantics only when the headers are modified or iterated, which is when the
+ * {@code :authority} pseudo header becomes the {@code host} header, cookie crumbs are concatenated and the remaining
+ * pseudo headers are dropped. The translation adds the same extension headers, such as {@code x-http2-scheme} and
+ * {@code x-http2-stream-id}, as {@link io.netty.handler.codec.http2.HttpConversionUtil} does. The headers can be
+ * checked for names which cannot be translated with {@link #validate(Http2Headers, int)} as soon as they are
+ * received, so that the stream is rejected then rather than when the headers are translated.
+ *
+ * @since 2.12.1
+ */
+public final class Http2ToHttpHeaders extends HttpHeaders {
+
+    private static final String COOKIE_SEPARATOR = "; ";
+
+    private final Http2Headers http2Headers;
+    private final int streamId;
+    private final boolean isRequest;
+    private volatile HttpHeaders headers;
+
+    public Http2ToHttpHeaders(Http2Headers http2Headers, int streamId, boolean isRequest) {
+        this.http2Headers = http2Headers;
+        this.streamId = streamId;
+        this.isRequest = isRequest;
+    }
+
+    /**
+     * Checks that the HTTP/2 headers can be translated to HTTP/1.x headers, rejecting the same headers as
+     * {@link io.netty.handler.codec.http2.HttpConversionUtil#addHttp2ToHttpHeaders} does.
+     *
+     * @param http2Headers the headers received over the HTTP/2 stream
+     * @param streamId     the stream id
+     * @throws Http2Exception if a header name is empty, is not a known pseudo header or is not a valid token
+     */
+    public static void validate(Http2Headers http2Headers, int streamId) throws Http2Exception {
+        for (Map.Entry<CharSequence, CharSequence> header : http2Headers) {
+            CharSequence name = header.getKey();
+            if (Http2Headers.PseudoHeaderName.isPseudoHeader(name)) {
+                continue;
+            }
+            if (name.length() == 0 || name.charAt(0) == ':' || HttpHeaderValidationUtil.validateToken(name) != -1) {
+                throw Http2Exception.streamError(streamId, Http2Error.PROTOCOL_ERROR,
+                                                 "Invalid HTTP/2 header '%s' encountered in translation to HTTP/1.x",
+                                                 name);
+            }
+        }
+    }
+
+    /**
+     * Returns the headers as they were received over the HTTP/2 stream, including the pseudo headers. These do not
+     * reflect any modification made through this object.
+     *
+     * @return the HTTP/2 headers
+     */
+    public Http2Headers getHttp2Headers() {
+        return http2Headers;
+    }
+
+    /**
+     * Returns whether the HTTP/2 headers have already been translated to HTTP/1.x headers.
+     *
+     * @return true if the headers are translated
+     */
+    public boolean isTranslated() {
+        return headers != null;
+    }
+
+    @Override
+    public String get(String name) {
+        return get((CharSequence) name);
+    }
+
+    @Override
+    public String get(CharSequence name) {
+        HttpHeaders translatedHeaders = headers;
+        if (translatedHeaders != null) {
+            return translatedHeaders.get(name);
+        }
+        if (ExtensionHeaderNames.STREAM_ID.text().contentEqualsIgnoreCase(name)) {
+            return Integer.toString(streamId);
+        }
+        if (isDirectlyAccessible(name)) {
+            CharSequence value = http2Headers.get(AsciiString.of(name).toLowerCase());
+            return value != null ? value.toString() : null;
+        }
+        return translated().get(name);
+    }
+
+    @Override
+    public Integer getInt(CharSequence name) {
+        return translated().getInt(name);
+    }
+
+    @Override
+    public int getInt(CharSequence name, int defaultValue) {
+        return translated().getInt(name, defaultValue);
+    }
+
+    @Override
+    public Short getShort(CharSequence name) {
+        return translated().getShort(name);
+    }
+
+    @Override
+    public short getShort(CharSequence name, short defaultValue) {
+        return translated().getShort(name, defaultValue);
+    }
+
+    @Override
+    public Long getTimeMillis(CharSequence name) {
+        return translated().getTimeMillis(name);
+    }
+
+    @Override
+    public long getTimeMillis(CharSequence name, long defaultValue) {
+        return translated().getTimeMillis(name, defaultValue);
+    }
+
+    @Override
+    public List<String> getAll(String name) {
+        return translated().getAll(name);
+    }
+
+    @Override
+    public List<String> getAll(CharSequence name) {
+        return translated().getAll(name);
+    }
+
+    @Override
+    public List<Map.Entry<String, String>> entries() {
+        return translated().entries();
+    }
+
+    @Override
+    public boolean contains(String name) {
+        return contains((CharSequence) name);
+    }
+
+    @Override
+    public boolean contains(CharSequence name) {
+        HttpHeaders translatedHeaders = headers;
+        if (translatedHeaders != null) {
+            return translatedHeaders.contains(name);
+        }
+        if (ExtensionHeaderNames.STREAM_ID.text().contentEqualsIgnoreCase(name)) {
+            return true;
+        }
+        if (isDirectlyAccessible(name)) {
+            return http2Headers.contains(AsciiString.of(name).toLowerCase());
+        }
+        return translated().contains(name);
+    }
+
+    @Override
+    public boolean contains(String name, String value, boolean ignoreCase) {
+        return translated().contains(name, value, ignoreCase);
+    }
+
+    @Override
+    public boolean contains(CharSequence name, CharSequence value, boolean ignoreCase) {
+        return translated().contains(name, value, ignoreCase);
+    }
+
+    @Override
+    public boolean containsValue(CharSequence name, CharSequence value, boolean ignoreCase) {
+        return translated().containsValue(name, value, ignoreCase);
+    }
+
+    @Override
+    @Deprecated
+    public Iterator<Map.Entry<String, String>> iterator() {
+        return translated().iterator();
+    }
+
+    @Override
+    public Iterator<Map.Entry<CharSequence, CharSequence>> iteratorCharSequence() {
+        return translated().iteratorCharSequence();
+    }
+
+    @Override
+    public Iterator<String> valueStringIterator(CharSequence name) {
+        return translated().valueStringIterator(name);
+    }
+
+    @Override
+    public Iterator<? extends CharSequence> valueCharSequenceIterator(CharSequence name) {
+        return translated().valueCharSequenceIterator(name);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return translated().isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return translated().size();
+    }
+
+    @Override
+    public Set<String> names() {
+        return translated().names();
+    }
+
+    @Override
+    public HttpHeaders add(String name, Object value) {
+        translated().add(name, value);
+        return this;
+    }
+
+    @Override
+    public HttpHeaders add(CharSequence name, Object value) {
+        translated().add(name, value);
+        return this;
+    }
+
+    @Override
+    public HttpHeaders add(String name, Iterable<?> values) {
+        translated().add(name, values);
+        return this;
+    }
+
+    @Override
+    public HttpHeaders add(CharSequence name, Iterable<?> values) {
+        translated().add(name, values);
+        return this;
+    }
+
+    @Override
+    public HttpHeaders addInt(CharSequence name, int value) {
+        translated().addInt(name, value);
+        return this;
+    }
+
+    @Override
+    public HttpHeaders addShort(CharSequence name, short value) {
+        translated().addShort(name, value);
+        return this;
+    }
+
+    @Override
+    public HttpHeaders set(String name, Object value) {
+        translated().set(name, value);
+        return this;
+    }
+
+    @Override
+    public HttpHeaders set(CharSequence name, Object value) {
+        translated().set(name, value);
+        return this;
+    }
+
+    @Override
+    public HttpHeaders set(String name, Iterable<?> values) {
+        translated().set(name, values);
+        return this;
+    }
+
+    @Override
+    public HttpHeaders set(CharSequence name, Iterable<?> values) {
+        translated().set(name, values);
+        return this;
+    }
+
+    @Override
+    public HttpHeaders setInt(CharSequence name, int value) {
+        translated().setInt(name, value);
+        return this;
+    }
+
+    @Override
+    public HttpHeaders setShort(CharSequence name, short value) {
+        translated().setShort(name, value);
+        return this;
+    }
+
+    @Override
+    public HttpHeaders remove(String name) {
+        translated().remove(name);
+        return this;
+    }
+
+    @Override
+    public HttpHeaders remove(CharSequence name) {
+        translated().remove(name);
+        return this;
+    }
+
+    @Override
+    public HttpHeaders clear() {
+        translated().clear();
+        return this;
+    }
+
+    @Override
+    public HttpHeaders copy() {
+        return translated().copy();
+    }
+
+    /**
+     * Checks whether the value of a header is the same in both the HTTP/2 and the translated headers, so that it can
+     * be looked up without translating the headers.
+     */
+    private boolean isDirectlyAccessible(CharSequence name) {
+        if (name.length() == 0 || name.charAt(0) == ':') {
+            return false;
+        }
+        return !ExtensionHeaderNames.SCHEME.text().contentEqualsIgnoreCase(name)
+                && !ExtensionHeaderNames.PATH.text().contentEqualsIgnoreCase(name)
+                && !AsciiString.contentEqualsIgnoreCase(name, HttpHeaderNames.COOKIE)
+                && !AsciiString.contentEqualsIgnoreCase(name, HttpHeaderNames.HOST)
+                && !AsciiString.contentEqualsIgnoreCase(name, HttpHeaderNames.CONNECTION)
+                && !AsciiString.contentEqualsIgnoreCase(name, HttpHeaderNames.TRANSFER_ENCODING);
+    }
+
+    private HttpHeaders translated() {
+        HttpHeaders translatedHeaders = headers;
+        if (translatedHeaders == null) {
+            // The headers may be read from another thread than the one which received them, and a translation made
+            // by one thread must not be replaced by another which would lose the modifications made to the first
+            synchronized (this) {
+                translatedHeaders = headers;
+                if (translatedHeaders == null) {
+                    translatedHeaders = translate();
+                    headers = translatedHeaders;
+                }
+            }
+        }
+        return translatedHeaders;
+    }
+
+    private HttpHeaders translate() {
+        HttpHeaders translatedHeaders = new DefaultHttpHeaders();
+        StringBuilder cookies = null;
+        for (Map.Entry<CharSequence, CharSequence> header : http2Headers) {
+            CharSequence name = header.getKey();
+            CharSequence value = header.getValue();
+            if (Http2Headers.PseudoHeaderName.isPseudoHeader(name)) {
+                AsciiString translatedName = translatePseudoHeader(name);
+                if (translatedName != null) {
+                    translatedHeaders.add(translatedName, value);
+                }
+            } else if (HttpHeaderNames.COOKIE.contentEqualsIgnoreCase(name)) {
+                // Cookie crumbs are concatenated as HTTP/1.x allows a single cookie header only
+                if (cookies == null) {
+                    cookies = new StringBuilder(value);
+                } else {
+                    cookies.append(COOKIE_SEPARATOR).append(value);
+                }
+            } else if (!HttpHeaderNames.CONNECTION.contentEqualsIgnoreCase(name)
+                    && !HttpHeaderNames.TRANSFER_ENCODING.contentEqualsIgnoreCase(name)) {
+                translatedHeaders.add(name, value);
+            }
+        }
+        if (cookies != null) {
+            translatedHeaders.add(HttpHeaderNames.COOKIE, cookies.toString());
+        }
+        translatedHeaders.setInt(ExtensionHeaderNames.STREAM_ID.text(), streamId);
+        return translatedHeaders;
+    }
+
+    /**
+     * Returns the HTTP/1.x header a pseudo header is carried as, following the translations of
+     * {@link io.netty.handler.codec.http2.HttpConversionUtil}, or null if the pseudo header is dropped.
+     */
+    private AsciiString translatePseudoHeader(CharSequence name) {
+        if (Http2Headers.PseudoHeaderName.AUTHORITY.value().contentEquals(name)) {
+            return HttpHeaderNames.HOST;
+        } else if (Http2Headers.PseudoHeaderName.SCHEME.value().contentEquals(name)) {
+            return ExtensionHeaderNames.SCHEME.text();
+        } else if (!isRequest && Http2Headers.PseudoHeaderName.PATH.value().contentEquals(name)) {
+            return ExtensionHeaderNames.PATH.text();
+        }
+        return null;
+    }
+}
@@ -25,11 +25,18 @@ import io.ballerina.stdlib.http.transport.contract.ServerConnectorFuture;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ServerConnectorException;
 import io.ballerina.stdlib.http.transport.contractimpl.DefaultHttpResponseFuture;
 import io.ballerina.stdlib.http.transport.contractimpl.HttpWsServerConnectorFuture;
+import io.ballerina.stdlib.http.transport.contractimpl.common.jfr.InboundRequestEvent;
+import io.ballerina.stdlib.http.transport.contractimpl.common.metrics.RequestMetrics;
 import io.ballerina.stdlib.http.transport.contractimpl.common.states.Http2MessageStateContext;
+import io.ballerina.stdlib.http.transport.contractimpl.listener.ConcurrencyLimiter;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.states.ListenerReqRespStateManager;
+import io.ballerina.stdlib.http.transport.internal.RequestTimeline;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.DefaultHttpContent;
 import io.netty.handler.codec.http.DefaultHttpHeaders;
 import io.netty.handler.codec.http.DefaultHttpRequest;
 import io.netty.handler.codec.http.DefaultHttpResponse;
@@ -41,6 +48,7 @@ import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.codec.http2.Http2Headers;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -81,6 +89,15 @@ public class HttpCarbonMessage {
     private Integer httpStatusCode;
     private Integer contentSize = 0;
     private boolean contentReleased = false;
+    private RequestMetrics requestMetrics;
+    private RequestTimeline requestTimeline;
+    private InboundRequestEvent inboundRequestEvent;
+    private ConcurrencyLimiter concurrencyLimiter;
+    private boolean concurrencyPermitHeld;
+    private volatile FileContent fileContent;
+    private volatile boolean headersHandedOver;
+    private volatile ByteBuf replayableContent;
+    private HttpHeaders replayableTrailers;
 
     public HttpCarbonMessage(HttpMessage httpMessage, Listener contentListener) {
         this.httpMessage = httpMessage;
@@ -106,6 +123,9 @@ public class HttpCarbonMessage {
      */
     public synchronized void addHttpContent(HttpContent httpContent) {
         contentObservable.notifyAddListener(httpContent);
+        if (requestMetrics != null) {
+            requestMetrics.onContentReceived(httpContent.content().readableBytes());
+        }
         if (messageFuture != null) {
             if (ioException != null) {
                 blockingEntityCollector.addHttpContent(new DefaultLastHttpContent());
@@ -215,9 +235,51 @@ public class HttpCarbonMessage {
      * @return all headers.
      */
     public HttpHeaders getHeaders() {
+        if (headersHandedOver) {
+            detachHeaders();
+        }
         return this.httpMessage.headers();
     }
 
+    /**
+     * Hands the headers of the message over to the netty message written in its place, without copying them. The
+     * written message owns the headers from then on. Single header lookups on this message still read them, while
+     * anything which may modify the headers is given a copy of its own first, so that nothing done to this message
+     * after the write reaches the headers being encoded.
+     *
+     * @return the headers to be written
+     */
+    public HttpHeaders handOverHeaders() {
+        HttpHeaders headers = getHeaders();
+        headersHandedOver = true;
+        return headers;
+    }
+
+    private synchronized void detachHeaders() {
+        if (!headersHandedOver) {
+            return;
+        }
+        HttpHeaders headers = httpMessage.headers().copy();
+        if (httpMessage instanceof HttpRequest) {
+            HttpRequest request = (HttpRequest) httpMessage;
+            httpMessage = new DefaultHttpRequest(request.protocolVersion(), request.method(), request.uri(), headers);
+        } else {
+            HttpResponse response = (HttpResponse) httpMessage;
+            httpMessage = new DefaultHttpResponse(response.protocolVersion(), response.status(), headers);
+        }
+        headersHandedOver = false;
+    }
+
+    /**
+     * Returns the headers of a message received over HTTP/2, including the pseudo headers, as they were received.
+     *
+     * @return the HTTP/2 headers or null if the message was not received over HTTP/2
+     */
+    public Http2Headers getHttp2Headers() {
+        HttpHeaders headers = this.httpMessage.headers();
+        return headers instanceof Http2ToHttpHeaders ? ((Http2ToHttpHeaders) headers).getHttp2Headers() : null;
+    }
+
     /**
      * Return the value of the given header name.
      *
@@ -235,7 +297,7 @@ public class HttpCarbonMessage {
      * @param value header value.
      */
     public void setHeader(String key, String value) {
-        this.httpMessage.headers().set(key, value);
+        getHeaders().set(key, value);
     }
 
     /**
@@ -245,7 +307,7 @@ public class HttpCarbonMessage {
      * @param value header value as object.
      */
     public void setHeader(String key, Object value) {
-        this.httpMessage.headers().set(key, value);
+        getHeaders().set(key, value);
     }
 
     /**
@@ -254,7 +316,7 @@ public class HttpCarbonMessage {
      * @param httpHeaders set of headers that needs to be set.
      */
     public void setHeaders(HttpHeaders httpHeaders) {
-        this.httpMessage.headers().setAll(httpHeaders);
+        getHeaders().setAll(httpHeaders);
     }
 
     /**
@@ -265,7 +327,7 @@ public class HttpCarbonMessage {
      */
     public void addHeader(String key, String value) {
 
-        this.httpMessage.headers().add(key, value);
+        getHeaders().add(key, value);
     }
 
     /**
@@ -276,7 +338,7 @@ public class HttpCarbonMessage {
      */
     public void addHeader(String key, Object value) {
 
-        this.httpMessage.headers().add(key, value);
+        getHeaders().add(key, value);
     }
 
     /**
@@ -286,7 +348,7 @@ public class HttpCarbonMessage {
      */
     public void addHeaders(HttpHeaders httpHeaders) {
 
-        this.httpMessage.headers().add(httpHeaders);
+        getHeaders().add(httpHeaders);
     }
 
     /**
@@ -295,7 +357,7 @@ public class HttpCarbonMessage {
      * @param key header name.
      */
     public void removeHeader(String key) {
-        httpMessage.headers().remove(key);
+        getHeaders().remove(key);
     }
 
     /**
@@ -555,6 +617,168 @@ public class HttpCarbonMessage {
         return contentSize;
     }
 
+    public RequestMetrics getRequestMetrics() {
+        return requestMetrics;
+    }
+
+    /**
+     * Sets the lifecycle metrics of an inbound request. This is set by the listener when metrics are collected.
+     *
+     * @param requestMetrics the request metrics
+     */
+    public void setRequestMetrics(RequestMetrics requestMetrics) {
+        this.requestMetrics = requestMetrics;
+    }
+
+    public RequestTimeline getRequestTimeline() {
+        return requestTimeline;
+    }
+
+    /**
+     * Sets the timeline of an inbound request. This is set by the listener when the request headers are decoded.
+     *
+     * @param requestTimeline the request timeline
+     */
+    public void setRequestTimeline(RequestTimeline requestTimeline) {
+        this.requestTimeline = requestTimeline;
+    }
+
+    public InboundRequestEvent getInboundRequestEvent() {
+        return inboundRequestEvent;
+    }
+
+    /**
+     * Sets the flight recorder event of an inbound request. This is set only while the event is enabled.
+     *
+     * @param inboundRequestEvent the inbound request event
+     */
+    public void setInboundRequestEvent(InboundRequestEvent inboundRequestEvent) {
+        this.inboundRequestEvent = inboundRequestEvent;
+    }
+
+    public ConcurrencyLimiter getConcurrencyLimiter() {
+        return concurrencyLimiter;
+    }
+
+    /**
+     * Sets the concurrency limiter of the listener which received an inbound request, if the listener is limited.
+     *
+     * @param concurrencyLimiter the concurrency limiter
+     */
+    public void setConcurrencyLimiter(ConcurrencyLimiter concurrencyLimiter) {
+        this.concurrencyLimiter = concurrencyLimiter;
+    }
+
+    /**
+     * Sets the memory budget of the listener which received an inbound request, if the listener spills entity bodies
+     * to disk. The content which does not fit in the budget is spilled until it is consumed, and reading the content
+     * is paused through the content listener while it is being spilled.
+     *
+     * @param memoryBudget the entity memory budget
+     */
+    public void setEntityMemoryBudget(EntityMemoryBudget memoryBudget) {
+        blockingEntityCollector.setMemoryBudget(memoryBudget, contentObservable.getListener());
+    }
+
+    public boolean isConcurrencyPermitHeld() {
+        return concurrencyPermitHeld;
+    }
+
+    public void setConcurrencyPermitHeld(boolean concurrencyPermitHeld) {
+        this.concurrencyPermitHeld = concurrencyPermitHeld;
+    }
+
+    public FileContent getFileContent() {
+        return fileContent;
+    }
+
+    /**
+     * Sets a region of a file as the entity body of an outbound response. It has to be set before the message is
+     * completed and the message should not carry any other content.
+     *
+     * @param fileContent the file region
+     */
+    public void setFileContent(FileContent fileContent) {
+        this.fileContent = fileContent;
+    }
+
+    /**
+     * Retains the entity body of the message as a read-only buffer, so that the message can be sent more than once by
+     * replaying the body through {@link #replayHttpContent()}. This is a blocking method. If the entity body is larger
+     * than the given size, the content which is already read is put back and the message can only be sent once. A
+     * body which is already retained is retained once more, and has to be released as many times.
+     *
+     * @param maxReplaySize maximum number of bytes to be retained
+     * @return true if the entity body is retained
+     * @throws IllegalStateException if the entity body is not received in time, in which case the content which is
+     *                               already read is put back
+     */
+    public boolean retainReplayableContent(long maxReplaySize) throws IllegalStateException {
+        ByteBuf retainedContent = replayableContent;
+        if (retainedContent != null) {
+            retainedContent.retain();
+            return true;
+        }
+        CompositeByteBuf content = Unpooled.compositeBuffer(Integer.MAX_VALUE);
+        HttpContent httpContent;
+        do {
+            httpContent = getHttpContent();
+            if (httpContent == null) {
+                restoreHttpContent(content, null);
+                throw new IllegalStateException("Timed out while retaining the entity body");
+            }
+            content.addComponent(true, httpContent.content());
+            if (content.readableBytes() > maxReplaySize || httpContent.decoderResult().isFailure()) {
+                restoreHttpContent(content, httpContent);
+                return false;
+            }
+        } while (!(httpContent instanceof LastHttpContent));
+        replayableTrailers = ((LastHttpContent) httpContent).trailingHeaders().copy();
+        replayableContent = content.asReadOnly();
+        return true;
+    }
+
+    private void restoreHttpContent(ByteBuf content, HttpContent lastReadContent) {
+        HttpContent restoredContent;
+        if (lastReadContent instanceof LastHttpContent) {
+            LastHttpContent lastHttpContent = new DefaultLastHttpContent(content);
+            lastHttpContent.trailingHeaders().set(((LastHttpContent) lastReadContent).trailingHeaders());
+            restoredContent = lastHttpContent;
+        } else {
+            restoredContent = new DefaultHttpContent(content);
+        }
+        if (lastReadContent != null) {
+            restoredContent.setDecoderResult(lastReadContent.decoderResult());
+        }
+        this.contentSize -= content.readableBytes();
+        blockingEntityCollector.restoreHttpContent(restoredContent);
+    }
+
+    public boolean hasReplayableContent() {
+        return replayableContent != null;
+    }
+
+    /**
+     * Adds the retained entity body to the message again, releasing the content which is left from a previous attempt
+     * to send the message.
+     */
+    public void replayHttpContent() {
+        blockingEntityCollector.waitAndReleaseAllEntities();
+        LastHttpContent lastHttpContent = new DefaultLastHttpContent(replayableContent.retainedDuplicate());
+        lastHttpContent.trailingHeaders().set(replayableTrailers);
+        blockingEntityCollector.addHttpContent(lastHttpContent);
+    }
+
+    /**
+     * Releases the retained entity body once the message is not going to be sent again by the party which retained it.
+     */
+    public void releaseReplayableContent() {
+        ByteBuf content = replayableContent;
+        if (content != null && content.release()) {
+            replayableContent = null;
+        }
+    }
+
     public void setContentReleased(boolean contentReleased) {
         this.contentReleased = contentReleased;
     }
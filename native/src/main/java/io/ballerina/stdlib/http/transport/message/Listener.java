@@ -41,4 +41,17 @@ public interface Listener {
      * Since the listener removes readInterest this method resumes it if required.
      */
     void resumeReadInterest();
+
+    /**
+     * Stops reading further content of the message from the connection until {@link #resumeContentReading()} is
+     * called. This is used while the content which is already received is being spilled to disk.
+     */
+    default void pauseContentReading() {
+    }
+
+    /**
+     * Resumes reading the content of the message which was paused by {@link #pauseContentReading()}.
+     */
+    default void resumeContentReading() {
+    }
 }
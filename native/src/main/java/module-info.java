@@ -28,6 +28,7 @@ module io.ballerina.stdlib.http {
     requires org.bouncycastle.pkix;
     requires jakarta.xml.bind;
     requires java.management;
+    requires jdk.jfr;
     requires org.slf4j;
     requires java.logging;
     requires gson;
@@ -41,6 +42,8 @@ module io.ballerina.stdlib.http {
     requires io.netty.handler;
     requires commons.pool;
     requires io.netty.handler.proxy;
+    requires io.netty.resolver;
+    requires io.netty.resolver.dns;
     exports io.ballerina.stdlib.http.api;
     exports io.ballerina.stdlib.http.transport.contract.websocket;
     exports io.ballerina.stdlib.http.transport.contract;
@@ -18,7 +18,12 @@
 
 package io.ballerina.stdlib.http.api;
 
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.http.transport.contractimpl.common.metrics.HttpMetrics;
+import org.mockito.Mockito;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -98,6 +103,59 @@ public class HttpServiceTest {
         Assert.assertEquals(swaggerUiResource.getName(), "$get$swagger-ui-dygixywsw");
     }
 
+    @Test
+    public void testOasResourceRepresentations() {
+        HttpService httpService = new HttpService(TestUtils.getNewServiceObject("hello"));
+        byte[] payload = "{\"openapi\": \"3.0.1\"}".repeat(100).getBytes();
+        HttpIntrospectionResource introspectionResource = new HttpIntrospectionResource(httpService, payload);
+
+        HttpOASResource.Representation identity = introspectionResource.getRepresentation(null);
+        Assert.assertNull(identity.getContentEncoding());
+        Assert.assertEquals(identity.getContentLength(), payload.length);
+        Assert.assertTrue(identity.getEntityTag().startsWith("\""));
+
+        HttpOASResource.Representation gzip = introspectionResource.getRepresentation("gzip, deflate");
+        Assert.assertEquals(gzip.getContentEncoding(), "gzip");
+        Assert.assertTrue(gzip.getContentLength() < payload.length);
+        Assert.assertNotEquals(gzip.getEntityTag(), identity.getEntityTag());
+        Assert.assertEquals(gzip.getContent().readableBytes(), gzip.getContentLength());
+        Assert.assertTrue(gzip.getContent().isReadOnly());
+    }
+
+    @Test
+    public void testOasResourceIfNoneMatch() {
+        HttpService httpService = new HttpService(TestUtils.getNewServiceObject("hello"));
+        HttpSwaggerUiResource swaggerUiResource = new HttpSwaggerUiResource(httpService, "abc".getBytes());
+        HttpOASResource.Representation gzip = swaggerUiResource.getRepresentation("gzip");
+        HttpOASResource.Representation identity = swaggerUiResource.getRepresentation(null);
+        String entityTag = gzip.getEntityTag();
+
+        Assert.assertTrue(gzip.isNotModified(entityTag));
+        Assert.assertTrue(gzip.isNotModified("\"xyz\", W/" + entityTag));
+        Assert.assertTrue(gzip.isNotModified("*"));
+        Assert.assertFalse(gzip.isNotModified("\"xyz\""));
+        Assert.assertFalse(gzip.isNotModified(null));
+        Assert.assertFalse(identity.isNotModified(entityTag));
+        Assert.assertFalse(gzip.isNotModified(identity.getEntityTag()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testOasResourceWithCompressionDisabled() {
+        HttpService httpService = new HttpService(TestUtils.getNewServiceObject("hello"));
+        BMap<BString, Object> compressionConfig = Mockito.mock(BMap.class);
+        Mockito.when(compressionConfig.getStringValue(HttpConstants.ANN_CONFIG_ATTR_COMPRESSION_ENABLE))
+                .thenReturn(StringUtils.fromString(HttpConstants.NEVER));
+        httpService.setCompressionConfig(compressionConfig);
+        byte[] payload = "{\"openapi\": \"3.0.1\"}".repeat(100).getBytes();
+        HttpIntrospectionResource introspectionResource = new HttpIntrospectionResource(httpService, payload);
+
+        HttpOASResource.Representation representation = introspectionResource.getRepresentation("gzip, br");
+        Assert.assertNull(representation.getContentEncoding());
+        Assert.assertEquals(representation.getContentLength(), payload.length);
+        Assert.assertFalse(introspectionResource.isEncodingNegotiated());
+    }
+
     @Test
     public void testGetAbsoluteResourcePath() {
         HttpService httpService = new HttpService(TestUtils.getNewServiceObject("hello"));
@@ -107,4 +165,21 @@ public class HttpServiceTest {
         httpService.setResources(Collections.singletonList(resource));
         Assert.assertEquals(resource.getAbsoluteResourcePath(), "/basePath/abc/{xyz}");
     }
+
+    @Test
+    public void testResourceMetricsPerListener() {
+        HttpService httpService = new HttpService(TestUtils.getNewServiceObject("hello"));
+        httpService.setBasePath("/metrics");
+        HttpResource resource = new HttpResource(TestUtils.getNewMethodType(), httpService);
+        resource.setPath("/greeting");
+        httpService.setResources(Collections.singletonList(resource));
+
+        HttpMetrics firstListenerMetrics = resource.getMetrics("0.0.0.0:9090");
+        HttpMetrics secondListenerMetrics = resource.getMetrics("0.0.0.0:9091");
+        Assert.assertEquals(firstListenerMetrics.getListener(), "0.0.0.0:9090");
+        Assert.assertEquals(secondListenerMetrics.getListener(), "0.0.0.0:9091");
+        Assert.assertSame(resource.getMetrics("0.0.0.0:9090"), firstListenerMetrics);
+        Assert.assertSame(resource.getMetrics("0.0.0.0:9091"), secondListenerMetrics);
+        Assert.assertNull(resource.getMetrics(null));
+    }
 }
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.api;
+
+import io.ballerina.stdlib.http.transport.contractimpl.common.metrics.BulkheadMetrics;
+import io.ballerina.stdlib.http.transport.contractimpl.common.metrics.HttpMetricsRegistry;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A unit test class for the {@link ResourceBulkhead} class.
+ */
+public class ResourceBulkheadTest {
+
+    @Test
+    public void testExecutionsBeyondTheLimitAreQueuedAndRejected() {
+        ResourceBulkhead bulkhead = new ResourceBulkhead("/bulkhead queued", 2, 1, 503);
+        ChannelHandlerContext context = newContext(new EmbeddedChannel(new ChannelInboundHandlerAdapter()));
+        List<String> executed = new ArrayList<>();
+
+        Assert.assertTrue(bulkhead.tryExecute(context, () -> executed.add("first")));
+        Assert.assertTrue(bulkhead.tryExecute(context, () -> executed.add("second")));
+        Assert.assertTrue(bulkhead.tryExecute(context, () -> executed.add("third")));
+        Assert.assertFalse(bulkhead.tryExecute(context, () -> executed.add("fourth")));
+
+        Assert.assertEquals(executed, List.of("first", "second"));
+        Assert.assertEquals(bulkhead.getActiveExecutions(), 2);
+        Assert.assertEquals(bulkhead.getQueuedRequests(), 1);
+
+        BulkheadMetrics metrics = HttpMetricsRegistry.getInstance().getBulkheadMetrics("/bulkhead queued", 2, 1);
+        Assert.assertEquals(metrics.getActiveExecutions(), 2);
+        Assert.assertEquals(metrics.getQueuedRequests(), 1);
+        Assert.assertEquals(metrics.getRejectedRequests(), 1);
+    }
+
+    @Test
+    public void testReleaseHandsThePermitToTheOldestWaitingExecution() {
+        ResourceBulkhead bulkhead = new ResourceBulkhead("/bulkhead handover", 1, 2, 429);
+        EmbeddedChannel channel = new EmbeddedChannel(new ChannelInboundHandlerAdapter());
+        ChannelHandlerContext context = newContext(channel);
+        List<String> executed = new ArrayList<>();
+
+        Assert.assertTrue(bulkhead.tryExecute(context, () -> executed.add("first")));
+        Assert.assertTrue(bulkhead.tryExecute(context, () -> executed.add("second")));
+        Assert.assertTrue(bulkhead.tryExecute(context, () -> executed.add("third")));
+
+        // The waiting execution is handed to the event loop instead of running on the releasing thread
+        bulkhead.release();
+        Assert.assertEquals(executed, List.of("first"));
+        channel.runPendingTasks();
+        Assert.assertEquals(executed, List.of("first", "second"));
+        Assert.assertEquals(bulkhead.getActiveExecutions(), 1);
+        Assert.assertEquals(bulkhead.getQueuedRequests(), 1);
+
+        bulkhead.release();
+        channel.runPendingTasks();
+        bulkhead.release();
+        Assert.assertEquals(executed, List.of("first", "second", "third"));
+        Assert.assertEquals(bulkhead.getActiveExecutions(), 0);
+        Assert.assertEquals(bulkhead.getQueuedRequests(), 0);
+
+        BulkheadMetrics metrics = HttpMetricsRegistry.getInstance().getBulkheadMetrics("/bulkhead handover", 1, 2);
+        Assert.assertEquals(metrics.getActiveExecutions(), 0);
+        Assert.assertEquals(metrics.getQueuedRequests(), 0);
+        Assert.assertEquals(metrics.getQueueWait().getCount(), 2);
+        Assert.assertEquals(bulkhead.getRejectionStatusCode(), 429);
+    }
+
+    @Test
+    public void testWaitingExecutionsOfClosedConnectionsAreDropped() {
+        ResourceBulkhead bulkhead = new ResourceBulkhead("/bulkhead closed", 1, 2, 503);
+        EmbeddedChannel open = new EmbeddedChannel(new ChannelInboundHandlerAdapter());
+        EmbeddedChannel closed = new EmbeddedChannel(new ChannelInboundHandlerAdapter());
+        List<String> executed = new ArrayList<>();
+
+        Assert.assertTrue(bulkhead.tryExecute(newContext(open), () -> executed.add("first")));
+        Assert.assertTrue(bulkhead.tryExecute(newContext(closed), () -> executed.add("second")));
+        Assert.assertTrue(bulkhead.tryExecute(newContext(open), () -> executed.add("third")));
+
+        closed.close();
+        Assert.assertEquals(bulkhead.getQueuedRequests(), 1);
+
+        bulkhead.release();
+        open.runPendingTasks();
+        Assert.assertEquals(executed, List.of("first", "third"));
+        Assert.assertEquals(bulkhead.getActiveExecutions(), 1);
+        Assert.assertEquals(bulkhead.getQueuedRequests(), 0);
+
+        BulkheadMetrics metrics = HttpMetricsRegistry.getInstance().getBulkheadMetrics("/bulkhead closed", 1, 2);
+        Assert.assertEquals(metrics.getQueuedRequests(), 0);
+        Assert.assertEquals(metrics.getQueueWait().getCount(), 1);
+    }
+
+    @Test
+    public void testResourcesOfAGroupShareTheBulkhead() {
+        HttpService httpService = new HttpService(TestUtils.getNewServiceObject("hello"));
+        httpService.setBasePath("/hello");
+
+        ResourceBulkhead bulkhead = httpService.getBulkhead("/hello reports", 4, 8, 503);
+        Assert.assertSame(httpService.getBulkhead("/hello reports", 4, 8, 503), bulkhead);
+        Assert.assertNotSame(httpService.getBulkhead("/hello exports", 4, 8, 503), bulkhead);
+    }
+
+    private static ChannelHandlerContext newContext(EmbeddedChannel channel) {
+        return channel.pipeline().firstContext();
+    }
+}
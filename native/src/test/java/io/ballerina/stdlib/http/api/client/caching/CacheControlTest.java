@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.api.client.caching;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * A unit test class for the interned Cache-Control header value.
+ */
+public class CacheControlTest {
+
+    @Test
+    public void testParseResponseDirectives() {
+        CacheControl cacheControl = CacheControl.parse("no-cache=\"set-cookie,x-id\", private, max-age=3600");
+        Assert.assertTrue(cacheControl.isNoCache());
+        Assert.assertEquals(cacheControl.getNoCacheFields(), new String[]{"set-cookie", "x-id"});
+        Assert.assertTrue(cacheControl.isPrivate());
+        Assert.assertNull(cacheControl.getPrivateFields());
+        Assert.assertFalse(cacheControl.isPublic());
+        Assert.assertFalse(cacheControl.isNoStore());
+        Assert.assertEquals(cacheControl.getMaxAge(), 3600);
+        Assert.assertEquals(cacheControl.getSMaxAge(), CacheControl.ABSENT);
+    }
+
+    @Test
+    public void testParseRequestDirectives() {
+        CacheControl cacheControl = CacheControl.parse("only-if-cached, max-stale, min-fresh=10, max-age=abc");
+        Assert.assertTrue(cacheControl.isOnlyIfCached());
+        Assert.assertEquals(cacheControl.getMaxStale(), 0);
+        Assert.assertEquals(cacheControl.getMinFresh(), 10);
+        Assert.assertEquals(cacheControl.getMaxAge(), 0);
+        Assert.assertEquals(cacheControl.getMinFreshValue().decimalValue().longValue(), 10);
+    }
+
+    @Test
+    public void testParsedValuesAreInterned() {
+        String header = "public, max-age=60";
+        Assert.assertSame(CacheControl.parse(new String(header)), CacheControl.parse(new String(header)));
+        Assert.assertNotSame(CacheControl.parse(header), CacheControl.parse("public, max-age=61"));
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.api.client.caching;
+
+import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.util.CharsetUtil;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A unit test class for the native HTTP response cache.
+ */
+public class HttpResponseCacheTest {
+
+    private static final String KEY = "GET /hello";
+
+    @Test
+    public void testReplayCachedResponse() {
+        HttpResponseCache cache = new HttpResponseCache(1024, 16, 0.2);
+        HttpHeaders headers = new DefaultHttpHeaders().set(HttpHeaderNames.ETAG, "\"1\"");
+        Assert.assertTrue(cache.put(KEY, createResponse(headers, "hello", new DefaultHttpHeaders())));
+
+        CachedResponse cachedResponse = cache.get(KEY, new DefaultHttpHeaders());
+        Assert.assertNotNull(cachedResponse);
+        HttpCarbonMessage firstReplay = cachedResponse.toCarbonMessage();
+        HttpCarbonMessage secondReplay = cachedResponse.toCarbonMessage();
+        Assert.assertEquals(firstReplay.getHttpStatusCode().intValue(), 200);
+        Assert.assertEquals(firstReplay.getHeader(HttpHeaderNames.ETAG.toString()), "\"1\"");
+        HttpContent firstContent = firstReplay.getHttpContent();
+        Assert.assertTrue(firstContent.content().isDirect());
+        Assert.assertEquals(firstContent.content().toString(CharsetUtil.UTF_8), "hello");
+        firstContent.release();
+        HttpContent secondContent = secondReplay.getHttpContent();
+        Assert.assertEquals(secondContent.content().toString(CharsetUtil.UTF_8), "hello");
+        secondContent.release();
+    }
+
+    @Test
+    public void testBodyReleasedOnRemove() {
+        HttpResponseCache cache = new HttpResponseCache(1024, 16, 0.2);
+        cache.put(KEY, createResponse(new DefaultHttpHeaders(), "hello", new DefaultHttpHeaders()));
+        CachedResponse cachedResponse = cache.get(KEY, new DefaultHttpHeaders());
+        HttpContent content = cachedResponse.toCarbonMessage().getHttpContent();
+
+        cache.remove(KEY);
+        Assert.assertEquals(cache.getSize(), 0);
+        // A replay taken before the removal keeps the body alive until it is consumed
+        Assert.assertEquals(content.content().toString(CharsetUtil.UTF_8), "hello");
+        content.release();
+        Assert.assertEquals(content.refCnt(), 0);
+        Assert.assertNull(cachedResponse.toCarbonMessage());
+    }
+
+    @Test
+    public void testBodyReleasedOnReplaceAndEviction() {
+        HttpResponseCache cache = new HttpResponseCache(100, 16, 0.2);
+        cache.put(KEY, createResponse(new DefaultHttpHeaders(), "hello", new DefaultHttpHeaders()));
+        CachedResponse replaced = cache.get(KEY, new DefaultHttpHeaders());
+        cache.put(KEY, createResponse(new DefaultHttpHeaders(), "hola", new DefaultHttpHeaders()));
+        Assert.assertNull(replaced.toCarbonMessage());
+
+        CachedResponse evicted = cache.get(KEY, new DefaultHttpHeaders());
+        cache.put("GET /large", createResponse(new DefaultHttpHeaders(), "x".repeat(99), new DefaultHttpHeaders()));
+        Assert.assertFalse(cache.hasKey(KEY));
+        Assert.assertNull(evicted.toCarbonMessage());
+    }
+
+    @Test
+    public void testConcurrentAccess() throws InterruptedException {
+        HttpResponseCache cache = new HttpResponseCache(2000, 8, 0.25);
+        int threads = 8;
+        CountDownLatch done = new CountDownLatch(threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            executor.execute(() -> {
+                for (int i = 0; i < 500; i++) {
+                    String key = "GET /" + ((thread + i) % 20);
+                    cache.put(key, createResponse(new DefaultHttpHeaders(), "x".repeat(50), new DefaultHttpHeaders()));
+                    CachedResponse cachedResponse = cache.get(key, new DefaultHttpHeaders());
+                    HttpCarbonMessage responseMsg = cachedResponse == null ? null : cachedResponse.toCarbonMessage();
+                    if (responseMsg != null) {
+                        responseMsg.getHttpContent().release();
+                    }
+                }
+                done.countDown();
+            });
+        }
+        Assert.assertTrue(done.await(30, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        long expectedSize = 0;
+        for (int i = 0; i < 20; i++) {
+            CachedResponse cachedResponse = cache.get("GET /" + i, new DefaultHttpHeaders());
+            expectedSize += cachedResponse == null ? 0 : cachedResponse.getSize();
+        }
+        Assert.assertEquals(cache.getSize(), expectedSize);
+    }
+
+    @Test
+    public void testVaryVariants() {
+        HttpResponseCache cache = new HttpResponseCache(1024, 16, 0.2);
+        HttpHeaders headers = new DefaultHttpHeaders().set(HttpHeaderNames.VARY, "Accept-Language");
+        cache.put(KEY, createResponse(headers, "hello", new DefaultHttpHeaders().set("accept-language", "en")));
+        cache.put(KEY, createResponse(headers, "hola", new DefaultHttpHeaders().set("accept-language", "es")));
+
+        Assert.assertEquals(cache.get(KEY, new DefaultHttpHeaders().set("accept-language", "es")).toCarbonMessage()
+                                    .getHttpContent().content().toString(CharsetUtil.UTF_8), "hola");
+        Assert.assertNotNull(cache.get(KEY, new DefaultHttpHeaders().set("accept-language", "en")));
+        Assert.assertNull(cache.get(KEY, new DefaultHttpHeaders().set("accept-language", "fr")));
+
+        HttpHeaders varyAny = new DefaultHttpHeaders().set(HttpHeaderNames.VARY, "*");
+        Assert.assertFalse(cache.put("GET /any", createResponse(varyAny, "hello", new DefaultHttpHeaders())));
+    }
+
+    @Test
+    public void testUpdateByEntityTag() {
+        HttpResponseCache cache = new HttpResponseCache(1024, 16, 0.2);
+        HttpHeaders headers = new DefaultHttpHeaders().set(HttpHeaderNames.ETAG, "W/\"1\"")
+                .add(HttpHeaderNames.WARNING, "110 - \"Response is Stale\"")
+                .add(HttpHeaderNames.WARNING, "214 - \"Transformation Applied\"");
+        cache.put(KEY, createResponse(headers, "hello", new DefaultHttpHeaders()));
+        HttpHeaders validationHeaders = new DefaultHttpHeaders().set(HttpHeaderNames.CACHE_CONTROL, "max-age=60");
+
+        cache.update(KEY, "\"1\"", false, validationHeaders);
+        HttpCarbonMessage responseMsg = cache.get(KEY, new DefaultHttpHeaders()).toCarbonMessage();
+        Assert.assertNull(responseMsg.getHeader(HttpHeaderNames.CACHE_CONTROL.toString()));
+
+        cache.update(KEY, "\"1\"", true, validationHeaders);
+        responseMsg = cache.get(KEY, new DefaultHttpHeaders()).toCarbonMessage();
+        Assert.assertEquals(responseMsg.getHeader(HttpHeaderNames.CACHE_CONTROL.toString()), "max-age=60");
+        Assert.assertEquals(responseMsg.getHeaders().getAll(HttpHeaderNames.WARNING).size(), 1);
+    }
+
+    @Test
+    public void testSizeBasedEviction() {
+        HttpResponseCache cache = new HttpResponseCache(100, 16, 0.2);
+        String payload = "x".repeat(40);
+        cache.put("GET /a", createResponse(new DefaultHttpHeaders(), payload, new DefaultHttpHeaders()));
+        cache.put("GET /b", createResponse(new DefaultHttpHeaders(), payload, new DefaultHttpHeaders()));
+        Assert.assertNotNull(cache.get("GET /a", new DefaultHttpHeaders()));
+        cache.put("GET /c", createResponse(new DefaultHttpHeaders(), payload, new DefaultHttpHeaders()));
+
+        Assert.assertTrue(cache.hasKey("GET /a"));
+        Assert.assertFalse(cache.hasKey("GET /b"));
+        Assert.assertTrue(cache.hasKey("GET /c"));
+        Assert.assertEquals(cache.getSize(), 80);
+        Assert.assertFalse(cache.put("GET /d", createResponse(new DefaultHttpHeaders(), "x".repeat(101),
+                                                              new DefaultHttpHeaders())));
+    }
+
+    private static CachedResponse createResponse(HttpHeaders headers, String payload, HttpHeaders requestHeaders) {
+        return new CachedResponse(200, "OK", headers, payload.getBytes(CharsetUtil.UTF_8), null, null,
+                                  requestHeaders);
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.api.client.caching;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A unit test class for the in-flight request tracking used for request collapsing.
+ */
+public class InFlightRequestsTest {
+
+    private static final String KEY = "GET /hello";
+
+    @Test
+    public void testCollapsedRequestsWakeUpOnRelease() {
+        InFlightRequests inFlightRequests = new InFlightRequests();
+        Assert.assertTrue(inFlightRequests.tryAcquire(KEY));
+        Assert.assertFalse(inFlightRequests.tryAcquire(KEY));
+
+        CompletableFuture<Void> first = inFlightRequests.await(KEY, 60000);
+        CompletableFuture<Void> second = inFlightRequests.await(KEY, 60000);
+        Assert.assertFalse(first.isDone());
+        inFlightRequests.release(KEY);
+
+        Assert.assertTrue(first.isDone());
+        Assert.assertTrue(second.isDone());
+        Assert.assertFalse(inFlightRequests.isInFlight(KEY));
+        Assert.assertTrue(inFlightRequests.tryAcquire(KEY));
+    }
+
+    @Test
+    public void testCollapsedRequestTimeout() {
+        InFlightRequests inFlightRequests = new InFlightRequests();
+        inFlightRequests.tryAcquire(KEY);
+
+        inFlightRequests.await(KEY, 10).join();
+        CompletableFuture<Void> waiting = inFlightRequests.await(KEY, 60000);
+        Assert.assertFalse(waiting.isDone());
+        Assert.assertTrue(inFlightRequests.isInFlight(KEY));
+        Assert.assertTrue(inFlightRequests.await("GET /other", 60000).isDone());
+    }
+}
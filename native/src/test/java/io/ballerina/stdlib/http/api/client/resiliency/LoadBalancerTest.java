@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.api.client.resiliency;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * A unit test class for the native load balancing algorithms of the load balance client.
+ */
+public class LoadBalancerTest {
+
+    private static final String[] TARGETS = {"http://lb.test/1", "http://lb.test/2", "http://lb.test/3"};
+
+    @Test
+    public void testRoundRobin() {
+        LoadBalancer loadBalancer = new LoadBalancer(TARGETS, LoadBalancer.Algorithm.ROUND_ROBIN, null);
+        for (int i = 0; i < 6; i++) {
+            Assert.assertEquals(loadBalancer.select(null), i % TARGETS.length);
+        }
+    }
+
+    @Test
+    public void testLeastRequestAvoidsBusyTarget() {
+        LoadBalancer loadBalancer = new LoadBalancer(TARGETS, LoadBalancer.Algorithm.LEAST_REQUEST, null);
+        while (loadBalancer.getInFlightRequests(0) == 0) {
+            int index = loadBalancer.select(null);
+            if (index != 0) {
+                loadBalancer.complete(index, 1000, false);
+            }
+        }
+        // With two random choices out of three, the only busy target always loses to an idle one
+        for (int i = 0; i < 100; i++) {
+            int index = loadBalancer.select(null);
+            Assert.assertNotEquals(index, 0);
+            loadBalancer.complete(index, 1000, false);
+        }
+        Assert.assertEquals(loadBalancer.getInFlightRequests(0), 1);
+    }
+
+    @Test
+    public void testPeakEwmaPrefersFastTarget() {
+        LoadBalancer loadBalancer = new LoadBalancer(new String[]{TARGETS[0], TARGETS[1]},
+                                                     LoadBalancer.Algorithm.PEAK_EWMA, null);
+        loadBalancer.select(null);
+        loadBalancer.select(null);
+        loadBalancer.complete(0, 1_000_000, false);
+        loadBalancer.complete(1, 50_000_000, false);
+        for (int i = 0; i < 20; i++) {
+            Assert.assertEquals(loadBalancer.select(null), 0);
+        }
+        // The peak of a slower response is taken at once
+        for (int i = 0; i < 20; i++) {
+            loadBalancer.complete(0, 200_000_000, false);
+        }
+        Assert.assertTrue(loadBalancer.getCost(0) > loadBalancer.getCost(1));
+        Assert.assertEquals(loadBalancer.select(null), 1);
+    }
+
+    @Test
+    public void testFailureDoesNotLowerLatency() {
+        LoadBalancer loadBalancer = new LoadBalancer(new String[]{TARGETS[0]}, LoadBalancer.Algorithm.PEAK_EWMA, null);
+        loadBalancer.select(null);
+        loadBalancer.complete(0, 50_000_000, false);
+        double cost = loadBalancer.getCost(0);
+        loadBalancer.select(null);
+        loadBalancer.complete(0, 1_000, true);
+        Assert.assertEquals(loadBalancer.getCost(0), cost);
+    }
+
+    @Test
+    public void testExcludedTargetNotChosen() {
+        LoadBalancer loadBalancer = new LoadBalancer(TARGETS, LoadBalancer.Algorithm.LEAST_REQUEST, null);
+        for (int i = 0; i < 100; i++) {
+            int index = loadBalancer.select(new boolean[]{false, true});
+            Assert.assertNotEquals(index, 1);
+            loadBalancer.complete(index, 1000, false);
+        }
+        LoadBalancer single = new LoadBalancer(new String[]{TARGETS[0]}, LoadBalancer.Algorithm.PEAK_EWMA, null);
+        Assert.assertEquals(single.select(new boolean[]{true}), 0);
+    }
+
+    @Test
+    public void testFailoverTriesEveryTargetOnce() {
+        OutlierDetector detector = new OutlierDetector(TARGETS.length, 1, 0.5, 20, 10_000_000_000L,
+                                                       30_000_000_000L, 300_000_000_000L, 0.5);
+        detector.record(1, true);
+        for (LoadBalancer.Algorithm algorithm : LoadBalancer.Algorithm.values()) {
+            LoadBalancer loadBalancer = new LoadBalancer(TARGETS, algorithm, detector);
+            boolean[] tried = new boolean[TARGETS.length];
+            for (int i = 0; i < TARGETS.length; i++) {
+                int index = loadBalancer.select(tried);
+                Assert.assertFalse(tried[index]);
+                // The ejected target is only tried once the others failed
+                Assert.assertEquals(index == 1, i == TARGETS.length - 1);
+                tried[index] = true;
+                loadBalancer.complete(index, 1000, true);
+            }
+            Assert.assertNotEquals(loadBalancer.select(tried), 1);
+        }
+    }
+}
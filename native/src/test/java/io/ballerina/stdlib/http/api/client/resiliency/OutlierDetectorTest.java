@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.api.client.resiliency;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * A unit test class for the outlier detection of the targets of the failover and load balance clients.
+ */
+public class OutlierDetectorTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    public void testEjectionAfterConsecutiveFailures() {
+        OutlierDetector detector = createDetector(3, 3, 20);
+        long now = System.nanoTime();
+        detector.record(0, true, now);
+        detector.record(0, true, now);
+        detector.record(0, false, now);
+        detector.record(0, true, now);
+        detector.record(0, true, now);
+        Assert.assertFalse(detector.isEjected(0, now));
+        detector.record(0, true, now);
+        Assert.assertTrue(detector.isEjected(0, now));
+        Assert.assertTrue(detector.isEjected(0, now + 29 * SECOND));
+        Assert.assertFalse(detector.isEjected(0, now + 30 * SECOND));
+        Assert.assertFalse(detector.isEjected(1, now));
+    }
+
+    @Test
+    public void testEjectionTimeGrowsExponentially() {
+        OutlierDetector detector = createDetector(3, 1, 20);
+        long now = System.nanoTime();
+        detector.record(0, true, now);
+        Assert.assertFalse(detector.isEjected(0, now + 30 * SECOND));
+
+        now += 30 * SECOND;
+        detector.record(0, true, now);
+        Assert.assertTrue(detector.isEjected(0, now + 59 * SECOND));
+        Assert.assertFalse(detector.isEjected(0, now + 60 * SECOND));
+
+        now += 60 * SECOND;
+        detector.record(0, true, now);
+        Assert.assertTrue(detector.isEjected(0, now + 119 * SECOND));
+
+        // A target which stays healthy for the maximum ejection time starts over
+        now += 120 * SECOND + 300 * SECOND;
+        detector.record(0, true, now);
+        Assert.assertTrue(detector.isEjected(0, now + 29 * SECOND));
+        Assert.assertFalse(detector.isEjected(0, now + 30 * SECOND));
+    }
+
+    @Test
+    public void testEjectionAfterFailureRate() {
+        OutlierDetector detector = createDetector(3, 0, 4);
+        long now = System.nanoTime();
+        detector.record(0, false, now);
+        detector.record(0, true, now);
+        detector.record(0, false, now);
+        Assert.assertFalse(detector.isEjected(0, now));
+        detector.record(0, true, now);
+        Assert.assertTrue(detector.isEjected(0, now));
+
+        // Failures of an elapsed window are not counted
+        OutlierDetector windowed = createDetector(3, 0, 4);
+        windowed.record(0, true, now);
+        windowed.record(0, true, now);
+        windowed.record(0, true, now + 10 * SECOND);
+        windowed.record(0, false, now + 10 * SECOND);
+        Assert.assertFalse(windowed.isEjected(0, now + 10 * SECOND));
+    }
+
+    @Test
+    public void testMaxEjectedTargets() {
+        OutlierDetector detector = createDetector(3, 1, 20);
+        long now = System.nanoTime();
+        detector.record(0, true, now);
+        detector.record(1, true, now);
+        Assert.assertTrue(detector.isEjected(0, now));
+        Assert.assertFalse(detector.isEjected(1, now));
+
+        OutlierDetector single = createDetector(1, 1, 20);
+        single.record(0, true, now);
+        Assert.assertFalse(single.isEjected(0, now));
+    }
+
+    @Test
+    public void testMaxEjectedTargetsUnderConcurrentFailures() throws InterruptedException {
+        int targetCount = 8;
+        for (int round = 0; round < 50; round++) {
+            OutlierDetector detector = createDetector(targetCount, 1, 20);
+            long now = System.nanoTime();
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> threads = new ArrayList<>();
+            for (int i = 0; i < targetCount; i++) {
+                int index = i;
+                Thread thread = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    detector.record(index, true, now);
+                });
+                thread.start();
+                threads.add(thread);
+            }
+            start.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            int ejected = 0;
+            for (int i = 0; i < targetCount; i++) {
+                if (detector.isEjected(i, now)) {
+                    ejected++;
+                }
+            }
+            Assert.assertEquals(ejected, targetCount / 2);
+        }
+    }
+
+    @Test
+    public void testLoadBalancerSkipsEjectedTarget() {
+        String[] targets = {"http://outlier.test/1", "http://outlier.test/2", "http://outlier.test/3"};
+        OutlierDetector detector = createDetector(targets.length, 1, 20);
+        detector.record(1, true);
+        Assert.assertTrue(detector.isEjected(1));
+        for (LoadBalancer.Algorithm algorithm : LoadBalancer.Algorithm.values()) {
+            LoadBalancer loadBalancer = new LoadBalancer(targets, algorithm, detector);
+            for (int i = 0; i < 30; i++) {
+                int index = loadBalancer.select(null);
+                Assert.assertNotEquals(index, 1);
+                loadBalancer.complete(index, 1000, false);
+            }
+            if (algorithm != LoadBalancer.Algorithm.ROUND_ROBIN) {
+                Assert.assertEquals(loadBalancer.select(new boolean[]{true}), 2);
+            }
+        }
+    }
+
+    private static OutlierDetector createDetector(int targets, int consecutiveFailures, long minimumRequests) {
+        return new OutlierDetector(targets, consecutiveFailures, 0.5, minimumRequests, 10 * SECOND, 30 * SECOND,
+                                   300 * SECOND, 0.5);
+    }
+}
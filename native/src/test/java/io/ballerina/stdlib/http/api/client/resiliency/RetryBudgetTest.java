@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.api.client.resiliency;
+
+import io.ballerina.stdlib.http.transport.contractimpl.common.metrics.HttpMetricsRegistry;
+import io.ballerina.stdlib.http.transport.contractimpl.common.metrics.RetryMetrics;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * A unit test class for the retry budget of the retry client.
+ */
+public class RetryBudgetTest {
+
+    @Test
+    public void testRetriesSuppressedWhenBudgetExhausted() {
+        RetryMetrics metrics = HttpMetricsRegistry.getInstance().getRetryMetrics("http://budget.exhausted");
+        RetryBudget budget = new RetryBudget(0.5, 0, 0, metrics);
+        Assert.assertFalse(budget.tryAcquire());
+
+        budget.deposit();
+        Assert.assertFalse(budget.tryAcquire());
+        budget.deposit();
+        Assert.assertTrue(budget.tryAcquire());
+        Assert.assertFalse(budget.tryAcquire());
+        Assert.assertEquals(budget.getBalance(), 0);
+
+        Assert.assertEquals(metrics.getRetryAttempts(), 1);
+        Assert.assertEquals(metrics.getSuppressedRetries(), 3);
+    }
+
+    @Test
+    public void testMinimumRetriesAllowed() {
+        RetryMetrics metrics = HttpMetricsRegistry.getInstance().getRetryMetrics("http://budget.minimum");
+        RetryBudget budget = new RetryBudget(0, 2, 0, metrics);
+        Assert.assertTrue(budget.tryAcquire());
+        Assert.assertTrue(budget.tryAcquire());
+        Assert.assertFalse(budget.tryAcquire());
+        Assert.assertEquals(metrics.getSuppressedRetries(), 1);
+    }
+
+    @Test
+    public void testUnlimitedBudget() {
+        RetryMetrics metrics = HttpMetricsRegistry.getInstance().getRetryMetrics("http://budget.unlimited");
+        RetryBudget budget = new RetryBudget(-1, 0, 0, metrics);
+        for (int i = 0; i < 100; i++) {
+            Assert.assertTrue(budget.tryAcquire());
+        }
+        Assert.assertEquals(metrics.getRetryAttempts(), 100);
+        Assert.assertEquals(metrics.getSuppressedRetries(), 0);
+    }
+
+    @Test
+    public void testJitteredInterval() {
+        RetryMetrics metrics = HttpMetricsRegistry.getInstance().getRetryMetrics("http://budget.jitter");
+        Assert.assertEquals(new RetryBudget(-1, 0, 0, metrics).getJitteredInterval(2), 2.0);
+        RetryBudget budget = new RetryBudget(-1, 0, 0.5, metrics);
+        for (int i = 0; i < 100; i++) {
+            double interval = budget.getJitteredInterval(2);
+            Assert.assertTrue(interval > 1 && interval <= 2, "Unexpected interval " + interval);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.api.nativeimpl.connection;
+
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * A unit test class for FileResponse class functions.
+ */
+public class FileResponseTest {
+
+    private static final String LAST_MODIFIED = "Tue, 15 Oct 2024 10:00:00 GMT";
+
+    @Test
+    public void testParseSingleRanges() {
+        assertRanges(FileResponse.parseRanges("bytes=0-99", 1000), new long[]{0, 99});
+        assertRanges(FileResponse.parseRanges("bytes=900-", 1000), new long[]{900, 999});
+        assertRanges(FileResponse.parseRanges("bytes=-100", 1000), new long[]{900, 999});
+        assertRanges(FileResponse.parseRanges("bytes=-2000", 1000), new long[]{0, 999});
+        assertRanges(FileResponse.parseRanges("bytes=500-5000", 1000), new long[]{500, 999});
+    }
+
+    @Test
+    public void testParseMultipleRangesAreSortedAndCoalesced() {
+        assertRanges(FileResponse.parseRanges("bytes=500-599, 0-99, 50-150, 151-200", 1000),
+                     new long[]{0, 200}, new long[]{500, 599});
+    }
+
+    @Test
+    public void testUnsatisfiableAndInvalidRanges() {
+        Assert.assertTrue(FileResponse.parseRanges("bytes=1000-1100", 1000).isEmpty());
+        Assert.assertTrue(FileResponse.parseRanges("bytes=-0", 1000).isEmpty());
+        Assert.assertTrue(FileResponse.parseRanges("bytes=1000-", 1000).isEmpty());
+        Assert.assertNull(FileResponse.parseRanges("bytes=10-5", 1000));
+        Assert.assertNull(FileResponse.parseRanges("bytes=a-b", 1000));
+        Assert.assertNull(FileResponse.parseRanges("items=0-10", 1000));
+        Assert.assertNull(FileResponse.parseRanges("bytes=10", 1000));
+    }
+
+    @Test
+    public void testNotModified() {
+        HttpHeaders responseHeaders = new DefaultHttpHeaders();
+        responseHeaders.set(HttpHeaderNames.ETAG, "W/\"v1\"");
+        responseHeaders.set(HttpHeaderNames.LAST_MODIFIED, LAST_MODIFIED);
+
+        Assert.assertTrue(FileResponse.isNotModified(requestHeaders(HttpHeaderNames.IF_NONE_MATCH, "\"v0\", \"v1\""),
+                                                     responseHeaders));
+        Assert.assertTrue(FileResponse.isNotModified(requestHeaders(HttpHeaderNames.IF_NONE_MATCH, "*"),
+                                                     responseHeaders));
+        Assert.assertFalse(FileResponse.isNotModified(requestHeaders(HttpHeaderNames.IF_NONE_MATCH, "\"v2\""),
+                                                      responseHeaders));
+        Assert.assertTrue(FileResponse.isNotModified(requestHeaders(HttpHeaderNames.IF_MODIFIED_SINCE,
+                                                                    LAST_MODIFIED), responseHeaders));
+        Assert.assertFalse(FileResponse.isNotModified(requestHeaders(HttpHeaderNames.IF_MODIFIED_SINCE,
+                                                                     "Mon, 14 Oct 2024 10:00:00 GMT"),
+                                                      responseHeaders));
+    }
+
+    @Test
+    public void testIfRange() {
+        HttpHeaders responseHeaders = new DefaultHttpHeaders();
+        responseHeaders.set(HttpHeaderNames.ETAG, "\"v1\"");
+        responseHeaders.set(HttpHeaderNames.LAST_MODIFIED, LAST_MODIFIED);
+
+        Assert.assertTrue(FileResponse.isIfRangeSatisfied(null, responseHeaders));
+        Assert.assertTrue(FileResponse.isIfRangeSatisfied("\"v1\"", responseHeaders));
+        Assert.assertFalse(FileResponse.isIfRangeSatisfied("W/\"v1\"", responseHeaders));
+        Assert.assertFalse(FileResponse.isIfRangeSatisfied("\"v2\"", responseHeaders));
+        Assert.assertTrue(FileResponse.isIfRangeSatisfied(LAST_MODIFIED, responseHeaders));
+        Assert.assertFalse(FileResponse.isIfRangeSatisfied("Mon, 14 Oct 2024 10:00:00 GMT", responseHeaders));
+    }
+
+    private static HttpHeaders requestHeaders(CharSequence name, String value) {
+        return new DefaultHttpHeaders().set(name, value);
+    }
+
+    private static void assertRanges(List<long[]> actual, long[]... expected) {
+        Assert.assertEquals(actual.size(), expected.length);
+        for (int i = 0; i < expected.length; i++) {
+            Assert.assertEquals(actual.get(i), expected[i]);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common;
+
+import io.ballerina.stdlib.http.transport.contract.config.CompressionConfig;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * A unit test class for Transport module CompressionUtil class functions.
+ */
+public class CompressionUtilTest {
+
+    private static final List<String> ENCODINGS = List.of("gzip", "deflate");
+
+    @Test
+    public void testDetermineEncodingByQValue() {
+        Assert.assertEquals(CompressionUtil.determineEncoding("gzip, deflate", ENCODINGS), "gzip");
+        Assert.assertEquals(CompressionUtil.determineEncoding("deflate, gzip", ENCODINGS), "gzip");
+        Assert.assertEquals(CompressionUtil.determineEncoding("gzip;q=0.5, deflate", ENCODINGS), "deflate");
+        Assert.assertEquals(CompressionUtil.determineEncoding("deflate, gzip", List.of("deflate", "gzip")),
+                            "deflate");
+        Assert.assertNull(CompressionUtil.determineEncoding("gzip;q=0, deflate;q=0", ENCODINGS));
+        Assert.assertNull(CompressionUtil.determineEncoding("identity", ENCODINGS));
+        Assert.assertNull(CompressionUtil.determineEncoding(null, ENCODINGS));
+    }
+
+    @Test
+    public void testDetermineEncodingWithWildcard() {
+        Assert.assertEquals(CompressionUtil.determineEncoding("*", ENCODINGS), "gzip");
+        Assert.assertEquals(CompressionUtil.determineEncoding("gzip;q=0, *", ENCODINGS), "deflate");
+        Assert.assertNull(CompressionUtil.determineEncoding("*;q=0", ENCODINGS));
+    }
+
+    @Test
+    public void testUnavailableEncodingsAreIgnored() {
+        Assert.assertEquals(CompressionUtil.getSupportedEncodings(List.of("GZIP", "unknown", "gzip", "deflate")),
+                            ENCODINGS);
+        Assert.assertEquals(CompressionUtil.getAcceptEncodingValue(List.of("deflate", "gzip")), "deflate, gzip");
+        Assert.assertEquals(CompressionUtil.getCompressionOptions(new CompressionConfig(), ENCODINGS).length, 2);
+    }
+
+    @Test
+    public void testIsCompressible() {
+        CompressionConfig compressionConfig = new CompressionConfig();
+        Assert.assertTrue(CompressionUtil.isCompressible(compressionConfig, null, "10"));
+
+        compressionConfig.setMinContentLength(1024);
+        Assert.assertFalse(CompressionUtil.isCompressible(compressionConfig, "text/plain", "10"));
+        Assert.assertTrue(CompressionUtil.isCompressible(compressionConfig, "text/plain", "2048"));
+        Assert.assertTrue(CompressionUtil.isCompressible(compressionConfig, "text/plain", null));
+
+        compressionConfig.setContentTypes(List.of("application/json"));
+        Assert.assertTrue(CompressionUtil.isCompressible(compressionConfig, "application/json; charset=utf-8",
+                                                         null));
+        Assert.assertFalse(CompressionUtil.isCompressible(compressionConfig, "image/png", null));
+        Assert.assertFalse(CompressionUtil.isCompressible(compressionConfig, null, null));
+    }
+}
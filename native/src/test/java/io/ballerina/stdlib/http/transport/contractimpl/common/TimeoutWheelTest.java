@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.common;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.DefaultEventLoop;
+import io.netty.channel.EventLoop;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.timeout.IdleStateEvent;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A unit test class for Transport module TimeoutWheel and IdleTimeoutHandler class functions.
+ */
+public class TimeoutWheelTest {
+
+    private EventLoop eventLoop;
+
+    @BeforeClass
+    public void setUp() {
+        eventLoop = new DefaultEventLoop();
+    }
+
+    @Test
+    public void testTimeoutsExpireInOrder() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(3);
+        List<Integer> expired = new ArrayList<>();
+        eventLoop.execute(() -> {
+            TimeoutWheel.schedule(eventLoop, () -> {
+                expired.add(3);
+                latch.countDown();
+            }, TimeUnit.MILLISECONDS.toNanos(300));
+            TimeoutWheel.schedule(eventLoop, () -> {
+                expired.add(1);
+                latch.countDown();
+            }, 0);
+            TimeoutWheel.schedule(eventLoop, () -> {
+                expired.add(2);
+                latch.countDown();
+            }, TimeUnit.MILLISECONDS.toNanos(100));
+        });
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(expired, List.of(1, 2, 3));
+    }
+
+    @Test
+    public void testScheduleFromAnotherThread() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+        TimeoutWheel.schedule(eventLoop, latch::countDown, TimeUnit.MILLISECONDS.toNanos(50));
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assert.assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    @Test
+    public void testCancel() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(1);
+        TimeoutWheel.Timeout cancelledOffLoop = TimeoutWheel.schedule(eventLoop, runs::incrementAndGet,
+                                                                      TimeUnit.MILLISECONDS.toNanos(50));
+        cancelledOffLoop.cancel();
+        eventLoop.execute(() -> TimeoutWheel.schedule(eventLoop, runs::incrementAndGet,
+                                                      TimeUnit.MILLISECONDS.toNanos(50)).cancel());
+        TimeoutWheel.schedule(eventLoop, latch::countDown, TimeUnit.MILLISECONDS.toNanos(200));
+
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assert.assertTrue(cancelledOffLoop.isCancelled());
+        Assert.assertEquals(runs.get(), 0);
+    }
+
+    @Test
+    public void testCancelFromAnotherThreadRemovesTimeout() throws Exception {
+        TimeoutWheel.Timeout timeout = eventLoop.submit(() -> TimeoutWheel.schedule(
+                eventLoop, () -> { }, TimeUnit.SECONDS.toNanos(60))).get(5, TimeUnit.SECONDS);
+        int pending = eventLoop.submit(() -> TimeoutWheel.pendingTimeouts(eventLoop)).get(5, TimeUnit.SECONDS);
+
+        timeout.cancel();
+
+        Assert.assertEquals(eventLoop.submit(() -> TimeoutWheel.pendingTimeouts(eventLoop)).get(5, TimeUnit.SECONDS)
+                                    .intValue(), pending - 1);
+    }
+
+    @Test
+    public void testTimeoutsBeyondOneRotation() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        // A rotation of the wheel takes 4096 ticks, so this timeout shares a bucket with the 100ms one.
+        long rotation = TimeoutWheel.TICK_NANOS * 4096;
+        TimeoutWheel.schedule(eventLoop, runs::incrementAndGet, rotation + TimeUnit.MILLISECONDS.toNanos(100));
+        TimeoutWheel.schedule(eventLoop, latch::countDown, TimeUnit.MILLISECONDS.toNanos(300));
+
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(runs.get(), 0);
+    }
+
+    @Test
+    public void testSchedulePeriodic() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(3);
+        TimeoutWheel.Timeout timeout = TimeoutWheel.schedulePeriodic(latch::countDown, 10);
+        try {
+            Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } finally {
+            timeout.cancel();
+        }
+    }
+
+    @Test
+    public void testIdleTimeoutHandler() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Object> events = new ArrayList<>();
+        EmbeddedChannel channel = new EmbeddedChannel(new IdleTimeoutHandler(50),
+                                                      new ChannelInboundHandlerAdapter() {
+            @Override
+            public void userEventTriggered(ChannelHandlerContext ctx, Object evt) {
+                events.add(evt);
+                latch.countDown();
+            }
+        });
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (latch.getCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            channel.runScheduledPendingTasks();
+        }
+        Assert.assertEquals(events, List.of(IdleStateEvent.FIRST_ALL_IDLE_STATE_EVENT));
+        channel.close();
+    }
+
+    @AfterClass
+    public void tearDown() {
+        eventLoop.shutdownGracefully();
+    }
+}
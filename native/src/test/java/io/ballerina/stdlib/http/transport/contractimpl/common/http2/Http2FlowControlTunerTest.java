@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.http2;
+
+import io.ballerina.stdlib.http.transport.contract.config.Http2SettingsConfig;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http2.DefaultHttp2Connection;
+import io.netty.handler.codec.http2.DefaultHttp2LocalFlowController;
+import io.netty.handler.codec.http2.Http2Connection;
+import io.netty.handler.codec.http2.Http2ConnectionEncoder;
+import io.netty.handler.codec.http2.Http2Exception;
+import io.netty.handler.codec.http2.Http2FrameListener;
+import io.netty.handler.codec.http2.Http2FrameWriter;
+import io.netty.handler.codec.http2.Http2Settings;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * A unit test class for the HTTP/2 flow-control window tuning.
+ */
+public class Http2FlowControlTunerTest {
+
+    private static final int FRAME_SIZE = 16384;
+
+    @Test(description = "Test growing the connection window to the configured size on the first SETTINGS frame")
+    public void testInitialConnectionWindow() throws Http2Exception {
+        Http2SettingsConfig settingsConfig = new Http2SettingsConfig();
+        settingsConfig.setConnectionWindowSize(1024 * 1024);
+        Http2FrameListener listener = mock(Http2FrameListener.class);
+        ChannelHandlerContext ctx = createContext();
+        Http2Connection connection = createConnection(ctx);
+        Http2FlowControlTuner tuner = new Http2FlowControlTuner(listener, connection, settingsConfig);
+
+        tuner.onSettingsRead(ctx, new Http2Settings());
+        tuner.onSettingsRead(ctx, new Http2Settings());
+
+        Assert.assertEquals(getConnectionWindowSize(connection), 1024 * 1024);
+        Assert.assertEquals(getStreamWindowSize(connection), Http2SettingsConfig.DEFAULT_WINDOW_SIZE);
+        verify(listener, times(2)).onSettingsRead(eq(ctx), any(Http2Settings.class));
+    }
+
+    @Test(description = "Test growing the windows from the bandwidth-delay product measured with a PING")
+    public void testWindowAutoTuning() throws Http2Exception {
+        Http2SettingsConfig settingsConfig = new Http2SettingsConfig();
+        settingsConfig.setWindowAutoTuning(true);
+        Http2FrameListener listener = mock(Http2FrameListener.class);
+        Http2ConnectionEncoder encoder = mock(Http2ConnectionEncoder.class);
+        ChannelHandlerContext ctx = createContext();
+        Http2Connection connection = createConnection(ctx);
+        Http2FlowControlTuner tuner = new Http2FlowControlTuner(listener, connection, settingsConfig);
+        tuner.setEncoder(encoder);
+
+        readData(tuner, ctx, 3);
+        verify(encoder, times(1)).writePing(eq(ctx), eq(false), eq(Http2FlowControlTuner.BDP_PING_DATA),
+                                            any(ChannelPromise.class));
+        tuner.onPingAckRead(ctx, Http2FlowControlTuner.BDP_PING_DATA);
+
+        Assert.assertEquals(getConnectionWindowSize(connection), 6 * FRAME_SIZE);
+        Assert.assertEquals(getStreamWindowSize(connection), 6 * FRAME_SIZE);
+        verify(encoder, times(1)).writeSettings(eq(ctx), any(Http2Settings.class), any(ChannelPromise.class));
+        verify(listener, never()).onPingAckRead(any(ChannelHandlerContext.class), anyLong());
+
+        tuner.onPingAckRead(ctx, 1L);
+        verify(listener, times(1)).onPingAckRead(ctx, 1L);
+    }
+
+    @Test(description = "Test capping the auto-tuned windows at the maximum window size")
+    public void testMaxWindowSize() throws Http2Exception {
+        Http2SettingsConfig settingsConfig = new Http2SettingsConfig();
+        settingsConfig.setWindowAutoTuning(true);
+        settingsConfig.setMaxWindowSize(5 * FRAME_SIZE);
+        ChannelHandlerContext ctx = createContext();
+        Http2Connection connection = createConnection(ctx);
+        Http2FlowControlTuner tuner = new Http2FlowControlTuner(mock(Http2FrameListener.class), connection,
+                                                                settingsConfig);
+        tuner.setEncoder(mock(Http2ConnectionEncoder.class));
+
+        readData(tuner, ctx, 8);
+        tuner.onPingAckRead(ctx, Http2FlowControlTuner.BDP_PING_DATA);
+
+        Assert.assertEquals(getConnectionWindowSize(connection), 5 * FRAME_SIZE);
+        Assert.assertEquals(getStreamWindowSize(connection), 5 * FRAME_SIZE);
+    }
+
+    @Test(description = "Test that no PING frames are sent when auto-tuning is disabled")
+    public void testAutoTuningDisabled() throws Http2Exception {
+        Http2ConnectionEncoder encoder = mock(Http2ConnectionEncoder.class);
+        ChannelHandlerContext ctx = createContext();
+        Http2Connection connection = createConnection(ctx);
+        Http2FlowControlTuner tuner = new Http2FlowControlTuner(mock(Http2FrameListener.class), connection,
+                                                                new Http2SettingsConfig());
+        tuner.setEncoder(encoder);
+
+        readData(tuner, ctx, 3);
+
+        verify(encoder, never()).writePing(any(ChannelHandlerContext.class), eq(false), anyLong(),
+                                           any(ChannelPromise.class));
+        Assert.assertEquals(getConnectionWindowSize(connection), Http2SettingsConfig.DEFAULT_WINDOW_SIZE);
+    }
+
+    private static void readData(Http2FlowControlTuner tuner, ChannelHandlerContext ctx, int frames)
+            throws Http2Exception {
+        for (int i = 0; i < frames; i++) {
+            ByteBuf data = Unpooled.wrappedBuffer(new byte[FRAME_SIZE]);
+            tuner.onDataRead(ctx, 3, data, 0, false);
+            data.release();
+        }
+    }
+
+    private static int getConnectionWindowSize(Http2Connection connection) {
+        return connection.local().flowController().initialWindowSize(connection.connectionStream());
+    }
+
+    private static int getStreamWindowSize(Http2Connection connection) {
+        return connection.local().flowController().initialWindowSize();
+    }
+
+    private static ChannelHandlerContext createContext() {
+        EmbeddedChannel channel = new EmbeddedChannel(new ChannelInboundHandlerAdapter());
+        return channel.pipeline().firstContext();
+    }
+
+    private static Http2Connection createConnection(ChannelHandlerContext ctx) throws Http2Exception {
+        Http2Connection connection = new DefaultHttp2Connection(true);
+        DefaultHttp2LocalFlowController flowController = new DefaultHttp2LocalFlowController(connection);
+        flowController.frameWriter(mock(Http2FrameWriter.class));
+        flowController.channelHandlerContext(ctx);
+        connection.local().flowController(flowController);
+        return connection;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.jfr;
+
+import io.ballerina.stdlib.http.transport.contractimpl.common.Util;
+import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http2.Http2Error;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A unit test class for Transport module TransportEvents class functions.
+ */
+public class TransportEventsTest {
+
+    @Test
+    public void testEventsAreDisabledByDefault() {
+        Assert.assertNull(TransportEvents.beginPoolBorrow());
+        Assert.assertNull(TransportEvents.beginEntityBodyWait());
+        HttpCarbonMessage request = newRequest();
+        Assert.assertNull(request.getInboundRequestEvent());
+        TransportEvents.resourceMatched(request, "/hello");
+        TransportEvents.requestCompleted(request, 200, true);
+    }
+
+    @Test
+    public void testRecordedEvents() throws IOException {
+        Path dump = Files.createTempFile("transport-events", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(InboundRequestEvent.class);
+            recording.enable(ConnectionPoolBorrowEvent.class);
+            recording.enable(Http2GoAwayEvent.class);
+            recording.start();
+
+            ConnectionPoolBorrowEvent borrowEvent = TransportEvents.beginPoolBorrow();
+            Assert.assertNotNull(borrowEvent);
+            TransportEvents.endPoolBorrow(borrowEvent, "http://localhost:9090", true);
+
+            TransportEvents.http2GoAway(TransportEvents.LISTENER, true, 3, Http2Error.NO_ERROR.code());
+
+            HttpCarbonMessage request = newRequest();
+            Assert.assertNotNull(request.getInboundRequestEvent());
+            TransportEvents.resourceMatched(request, "/hello/[string name]");
+            HttpCarbonMessage response = new HttpCarbonMessage(
+                    new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK));
+            response.setHttpStatusCode(HttpResponseStatus.OK.code());
+            Util.completeOnResponseWrite(request, response, new EmbeddedChannel().newSucceededFuture());
+            Assert.assertNull(request.getInboundRequestEvent());
+
+            recording.stop();
+            recording.dump(dump);
+            List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+
+            RecordedEvent borrow = getEvent(events, "ballerina.http.ConnectionPoolBorrow");
+            Assert.assertEquals(borrow.getString("route"), "http://localhost:9090");
+            Assert.assertTrue(borrow.getBoolean("success"));
+
+            RecordedEvent goAway = getEvent(events, "ballerina.http.Http2GoAway");
+            Assert.assertEquals(goAway.getString("side"), TransportEvents.LISTENER);
+            Assert.assertEquals(goAway.getInt("lastStreamId"), 3);
+            Assert.assertEquals(goAway.getString("errorCode"), Http2Error.NO_ERROR.name());
+
+            RecordedEvent inbound = getEvent(events, "ballerina.http.InboundRequest");
+            Assert.assertEquals(inbound.getString("method"), "GET");
+            Assert.assertEquals(inbound.getString("pathTemplate"), "/hello/[string name]");
+            Assert.assertEquals(inbound.getInt("status"), 200);
+            Assert.assertTrue(inbound.getBoolean("success"));
+        } finally {
+            Files.deleteIfExists(dump);
+        }
+    }
+
+    private static RecordedEvent getEvent(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matched = events.stream().filter(event -> event.getEventType().getName().equals(name))
+                .collect(Collectors.toList());
+        Assert.assertEquals(matched.size(), 1, name);
+        return matched.get(0);
+    }
+
+    private static HttpCarbonMessage newRequest() {
+        HttpCarbonMessage request =
+                new HttpCarbonMessage(new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/hello/world"));
+        request.setHttpMethod(HttpMethod.GET.name());
+        Util.startRequestTimeline(request, null);
+        return request;
+    }
+}
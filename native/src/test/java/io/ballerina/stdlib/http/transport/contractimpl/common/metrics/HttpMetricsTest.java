@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.metrics;
+
+import io.ballerina.stdlib.http.transport.contractimpl.common.Util;
+import io.ballerina.stdlib.http.transport.internal.RequestPhase;
+import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A unit test class for Transport module LatencyHistogram, RequestMetrics and HttpMetricsRegistry class functions.
+ */
+public class HttpMetricsTest {
+
+    @Test
+    public void testBucketBoundsCoverValues() {
+        long[] values = {0, 1, 15, 16, 17, 18, 31, 32, 100, 1000, 123456, 1L << 30};
+        for (long value : values) {
+            int index = LatencyHistogram.bucketIndex(value);
+            Assert.assertTrue(value < LatencyHistogram.bucketUpperBound(index), "value " + value);
+            if (index > 0) {
+                Assert.assertTrue(value >= LatencyHistogram.bucketUpperBound(index - 1), "value " + value);
+            }
+        }
+        Assert.assertEquals(LatencyHistogram.bucketIndex(Long.MAX_VALUE), LatencyHistogram.BUCKET_COUNT - 1);
+    }
+
+    @Test
+    public void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Assert.assertEquals(histogram.getValueAtPercentile(99), 0);
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(i));
+        }
+        Assert.assertEquals(histogram.getCount(), 1000);
+        Assert.assertEquals(histogram.getMax(), 1000);
+        Assert.assertEquals(histogram.getMean(), 500.5, 0.001);
+        assertWithinError(histogram.getValueAtPercentile(50), 500);
+        assertWithinError(histogram.getValueAtPercentile(99), 990);
+        Assert.assertEquals(histogram.getValueAtPercentile(100), 1000);
+    }
+
+    @Test
+    public void testCumulativeCounts() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(i));
+        }
+        long[] cumulativeCounts = histogram.getCumulativeCounts(new long[]{0, 15, 500, 1000, 5000});
+        Assert.assertEquals(cumulativeCounts.length, 6);
+        Assert.assertEquals(cumulativeCounts[0], 0);
+        Assert.assertEquals(cumulativeCounts[1], 15);
+        // A bound which splits a bucket leaves out the values of that bucket
+        Assert.assertTrue(cumulativeCounts[2] <= 500 && cumulativeCounts[2] >= 500 * 7 / 8, "" + cumulativeCounts[2]);
+        Assert.assertTrue(cumulativeCounts[3] <= 1000 && cumulativeCounts[3] >= 1000 * 7 / 8, "" + cumulativeCounts[3]);
+        Assert.assertEquals(cumulativeCounts[4], 1000);
+        Assert.assertEquals(cumulativeCounts[5], 1000);
+    }
+
+    @Test
+    public void testRequestLifecycle() {
+        HttpMetrics listenerMetrics = HttpMetricsRegistry.getInstance().getListenerMetrics("0.0.0.0:19001");
+        HttpMetrics resourceMetrics = HttpMetricsRegistry.getInstance().getResourceMetrics("0.0.0.0:19001",
+                                                                                            "GET /hello");
+        Assert.assertSame(HttpMetricsRegistry.getInstance().getListenerMetrics("0.0.0.0:19001"), listenerMetrics);
+
+        HttpCarbonMessage request = newRequest();
+        RequestMetrics.requestReceived(request, listenerMetrics);
+        Assert.assertEquals(listenerMetrics.getInFlightRequests(), 1);
+        request.getRequestMetrics().onContentReceived(10);
+        Util.recordRequestPhase(request, RequestPhase.DISPATCHED);
+        Util.recordRequestPhase(request, RequestPhase.RESOURCE_INVOKED);
+        RequestMetrics.resourceInvoked(request, resourceMetrics);
+        Util.recordRequestPhase(request, RequestPhase.RESPONSE_STARTED);
+        RequestMetrics.bytesSent(request, 20);
+
+        EmbeddedChannel channel = new EmbeddedChannel();
+        Util.completeOnResponseWrite(request, newResponse(HttpResponseStatus.OK), channel.newSucceededFuture());
+        RequestMetrics.requestAborted(request);
+
+        for (HttpMetrics metrics : new HttpMetrics[]{listenerMetrics, resourceMetrics}) {
+            Assert.assertEquals(metrics.getRequestCount(), 1);
+            Assert.assertEquals(metrics.getErrorCount(), 0);
+            Assert.assertEquals(metrics.getInFlightRequests(), 0);
+            Assert.assertEquals(metrics.getBytesReceived(), 10);
+            Assert.assertEquals(metrics.getBytesSent(), 20);
+            Assert.assertEquals(metrics.getTotalLatency().getCount(), 1);
+        }
+        Assert.assertEquals(resourceMetrics.getExecutionLatency().getCount(), 1);
+        Assert.assertEquals(resourceMetrics.getResponseWriteLatency().getCount(), 1);
+        Assert.assertTrue(request.getRequestTimeline().getElapsedNanos(RequestPhase.HEADERS_DECODED,
+                                                                       RequestPhase.LAST_BYTE_FLUSHED) >= 0);
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testFailedRequests() {
+        HttpMetrics listenerMetrics = HttpMetricsRegistry.getInstance().getListenerMetrics("0.0.0.0:19002");
+
+        HttpCarbonMessage serverError = newRequest();
+        RequestMetrics.requestReceived(serverError, listenerMetrics);
+        EmbeddedChannel channel = new EmbeddedChannel();
+        Util.completeOnResponseWrite(serverError, newResponse(HttpResponseStatus.INTERNAL_SERVER_ERROR),
+                                     channel.newSucceededFuture());
+
+        HttpCarbonMessage aborted = newRequest();
+        RequestMetrics.requestReceived(aborted, listenerMetrics);
+        RequestMetrics.requestAborted(aborted);
+
+        Assert.assertEquals(listenerMetrics.getRequestCount(), 2);
+        Assert.assertEquals(listenerMetrics.getErrorCount(), 2);
+        Assert.assertEquals(listenerMetrics.getInFlightRequests(), 0);
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testRequestsWithoutMetricsAreIgnored() {
+        HttpCarbonMessage request = newRequest();
+        RequestMetrics.requestReceived(request, null);
+        Util.recordRequestPhase(request, RequestPhase.DISPATCHED);
+        RequestMetrics.bytesSent(request, 10);
+        RequestMetrics.requestAborted(request);
+        Assert.assertNull(request.getRequestMetrics());
+    }
+
+    @Test
+    public void testPrometheusText() {
+        HttpMetrics resourceMetrics = HttpMetricsRegistry.getInstance().getResourceMetrics("0.0.0.0:19003",
+                                                                                            "GET /\"quoted\"");
+        ClientPoolMetrics poolMetrics = HttpMetricsRegistry.getInstance().getClientPoolMetrics("http:localhost:19004");
+        poolMetrics.connectionCreated();
+        poolMetrics.borrowed(TimeUnit.MILLISECONDS.toNanos(2));
+        Assert.assertEquals(poolMetrics.getLeasedConnections(), 1);
+        poolMetrics.released();
+        Assert.assertEquals(poolMetrics.getLeasedConnections(), 0);
+        Assert.assertNotNull(resourceMetrics);
+
+        String text = HttpMetricsRegistry.getInstance().toPrometheusText();
+        Assert.assertTrue(text.contains("# TYPE ballerina_http_resource_requests_total counter\n"));
+        Assert.assertTrue(text.contains("ballerina_http_resource_requests_total{listener=\"0.0.0.0:19003\","
+                                                + "resource=\"GET /\\\"quoted\\\"\"} 0\n"));
+        Assert.assertTrue(text.contains(
+                "ballerina_http_client_pool_borrows_total{route=\"http:localhost:19004\"} 1\n"));
+        Assert.assertTrue(text.contains("# TYPE ballerina_http_client_pool_borrow_wait_seconds histogram\n"));
+        Assert.assertTrue(text.contains("ballerina_http_client_pool_borrow_wait_seconds_bucket"
+                                                + "{route=\"http:localhost:19004\",le=\"0.001\"} 0\n"));
+        Assert.assertTrue(text.contains("ballerina_http_client_pool_borrow_wait_seconds_bucket"
+                                                + "{route=\"http:localhost:19004\",le=\"0.0025\"} 1\n"));
+        Assert.assertTrue(text.contains("ballerina_http_client_pool_borrow_wait_seconds_bucket"
+                                                + "{route=\"http:localhost:19004\",le=\"+Inf\"} 1\n"));
+        Assert.assertTrue(text.contains(
+                "ballerina_http_client_pool_borrow_wait_seconds_count{route=\"http:localhost:19004\"} 1\n"));
+    }
+
+    @Test
+    public void testEscape() {
+        Assert.assertEquals(HttpMetricsRegistry.escape("plain"), "plain");
+        Assert.assertEquals(HttpMetricsRegistry.escape("a\"b\\c\nd"), "a\\\"b\\\\c\\nd");
+    }
+
+    private static void assertWithinError(long actual, long expected) {
+        Assert.assertTrue(Math.abs(actual - expected) <= expected / 8, "expected ~" + expected + " but was " + actual);
+    }
+
+    private static HttpCarbonMessage newRequest() {
+        HttpCarbonMessage request =
+                new HttpCarbonMessage(new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/hello"));
+        Util.startRequestTimeline(request, null);
+        return request;
+    }
+
+    private static HttpCarbonMessage newResponse(HttpResponseStatus status) {
+        HttpCarbonMessage response = new HttpCarbonMessage(new DefaultHttpResponse(HttpVersion.HTTP_1_1, status));
+        response.setHttpStatusCode(status.code());
+        return response;
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.listener;
+
+import io.ballerina.stdlib.http.transport.contract.config.ConcurrencyLimitConfig;
+import io.ballerina.stdlib.http.transport.internal.RequestPhase;
+import io.ballerina.stdlib.http.transport.internal.RequestTimeline;
+import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A unit test class for Transport module ConcurrencyLimiter class functions.
+ */
+public class ConcurrencyLimiterTest {
+
+    private static final long LATENCY = TimeUnit.MILLISECONDS.toNanos(10);
+
+    @Test
+    public void testRequestsBeyondLimitAreRejected() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter("0.0.0.0:9090", newConfig(2));
+        HttpCarbonMessage first = newRequest(limiter);
+        HttpCarbonMessage second = newRequest(limiter);
+        HttpCarbonMessage third = newRequest(limiter);
+
+        Assert.assertTrue(ConcurrencyLimiter.admit(first));
+        Assert.assertTrue(ConcurrencyLimiter.admit(first));
+        Assert.assertTrue(ConcurrencyLimiter.admit(second));
+        Assert.assertFalse(ConcurrencyLimiter.admit(third));
+        Assert.assertEquals(limiter.getInFlightRequests(), 2);
+        Assert.assertEquals(limiter.getRejectedRequests(), 1);
+
+        ConcurrencyLimiter.release(first, false);
+        ConcurrencyLimiter.release(first, false);
+        Assert.assertEquals(limiter.getInFlightRequests(), 1);
+        Assert.assertTrue(ConcurrencyLimiter.admit(third));
+        Assert.assertEquals(limiter.getLimit(), 2);
+    }
+
+    @Test
+    public void testRequestsWithoutLimiterAreAdmitted() {
+        HttpCarbonMessage request = newRequest(null);
+        Assert.assertTrue(ConcurrencyLimiter.admit(request));
+        ConcurrencyLimiter.release(request, true);
+    }
+
+    @Test
+    public void testLimitGrowsWhileLatencyIsStable() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter("0.0.0.0:9091", newConfig(10));
+        for (int i = 0; i < 50; i++) {
+            saturate(limiter, LATENCY);
+        }
+        Assert.assertTrue(limiter.getLimit() > 10, "limit " + limiter.getLimit());
+        Assert.assertTrue(limiter.getLimit() <= 100, "limit " + limiter.getLimit());
+    }
+
+    @Test
+    public void testLimitShrinksWhenLatencyIncreases() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter("0.0.0.0:9092", newConfig(50));
+        while (limiter.tryAcquire()) {
+            // Saturate the limit
+        }
+        for (int i = 0; i < 600; i++) {
+            limiter.release(LATENCY);
+            limiter.tryAcquire();
+        }
+        int limit = limiter.getLimit();
+        for (int i = 0; i < 50; i++) {
+            limiter.release(LATENCY * 5);
+            limiter.tryAcquire();
+        }
+        Assert.assertTrue(limiter.getLimit() < limit, "limit " + limiter.getLimit() + " was " + limit);
+        Assert.assertTrue(limiter.getLimit() >= 1);
+    }
+
+    @Test
+    public void testAppLimitedLatencyDoesNotGrowLimit() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter("0.0.0.0:9093", newConfig(20));
+        for (int i = 0; i < 100; i++) {
+            Assert.assertTrue(limiter.tryAcquire());
+            limiter.release(LATENCY);
+        }
+        Assert.assertEquals(limiter.getLimit(), 20);
+    }
+
+    private static void saturate(ConcurrencyLimiter limiter, long latency) {
+        int acquired = 0;
+        while (limiter.tryAcquire()) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            limiter.release(latency);
+        }
+    }
+
+    private static ConcurrencyLimitConfig newConfig(int initialLimit) {
+        ConcurrencyLimitConfig config = new ConcurrencyLimitConfig();
+        config.setInitialLimit(initialLimit);
+        config.setMaxLimit(100);
+        return config;
+    }
+
+    private static HttpCarbonMessage newRequest(ConcurrencyLimiter limiter) {
+        HttpCarbonMessage request =
+                new HttpCarbonMessage(new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/hello"));
+        RequestTimeline timeline = new RequestTimeline();
+        timeline.record(RequestPhase.DISPATCHED, 1L);
+        timeline.record(RequestPhase.LAST_BYTE_FLUSHED, 1L + LATENCY);
+        request.setRequestTimeline(timeline);
+        request.setConcurrencyLimiter(limiter);
+        return request;
+    }
+}
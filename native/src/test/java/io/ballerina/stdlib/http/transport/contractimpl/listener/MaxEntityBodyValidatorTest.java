@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.listener;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.TooLongFrameException;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * A unit test class for Transport module MaxEntityBodyValidator class functions.
+ */
+public class MaxEntityBodyValidatorTest {
+
+    private static final int MAX_ENTITY_BODY_SIZE = 10;
+
+    @Test
+    public void testRequestIsDispatchedBeforeBodyArrives() {
+        EmbeddedChannel channel = newChannel();
+        channel.writeInbound(newChunkedRequest());
+        Assert.assertTrue(channel.readInbound() instanceof HttpRequest);
+
+        channel.writeInbound(newContent(6));
+        HttpContent content = channel.readInbound();
+        Assert.assertEquals(content.content().readableBytes(), 6);
+        content.release();
+
+        channel.writeInbound(new DefaultLastHttpContent(Unpooled.wrappedBuffer(new byte[4])));
+        LastHttpContent lastContent = channel.readInbound();
+        Assert.assertTrue(lastContent.decoderResult().isSuccess());
+        lastContent.release();
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testOversizedBodyIsTerminatedWhileStreaming() {
+        EmbeddedChannel channel = newChannel();
+        channel.writeInbound(newChunkedRequest());
+        Assert.assertTrue(channel.readInbound() instanceof HttpRequest);
+
+        channel.writeInbound(newContent(6));
+        ((HttpContent) channel.readInbound()).release();
+        channel.writeInbound(newContent(6));
+        LastHttpContent failedContent = channel.readInbound();
+        Assert.assertTrue(failedContent.decoderResult().cause() instanceof TooLongFrameException);
+
+        HttpContent discarded = newContent(6);
+        channel.writeInbound(discarded);
+        Assert.assertNull(channel.readInbound());
+        Assert.assertEquals(discarded.refCnt(), 0);
+
+        channel.writeInbound(newChunkedRequest());
+        Assert.assertTrue(channel.readInbound() instanceof HttpRequest);
+        channel.writeInbound(newContent(MAX_ENTITY_BODY_SIZE));
+        HttpContent content = channel.readInbound();
+        Assert.assertTrue(content.decoderResult().isSuccess());
+        content.release();
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testOversizedContentLengthIsRejectedBeforeDispatch() {
+        EmbeddedChannel channel = newChannel();
+        HttpRequest request = new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/");
+        HttpUtil.setContentLength(request, MAX_ENTITY_BODY_SIZE + 1);
+        channel.writeInbound(request);
+        Assert.assertNull(channel.readInbound());
+
+        HttpResponse response = channel.readOutbound();
+        Assert.assertEquals(response.status(), HttpResponseStatus.REQUEST_ENTITY_TOO_LARGE);
+        Assert.assertEquals(response.headers().get(HttpHeaderNames.SERVER), "test-server");
+        Assert.assertFalse(channel.isOpen());
+        channel.finishAndReleaseAll();
+    }
+
+    private static EmbeddedChannel newChannel() {
+        return new EmbeddedChannel(new MaxEntityBodyValidator("test-server", MAX_ENTITY_BODY_SIZE));
+    }
+
+    private static HttpRequest newChunkedRequest() {
+        HttpRequest request = new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/");
+        HttpUtil.setTransferEncodingChunked(request, true);
+        return request;
+    }
+
+    private static HttpContent newContent(int size) {
+        return new DefaultHttpContent(Unpooled.wrappedBuffer(new byte[size]));
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.listener.states;
+
+import io.ballerina.stdlib.http.transport.contract.Constants;
+import io.ballerina.stdlib.http.transport.contract.HttpResponseFuture;
+import io.ballerina.stdlib.http.transport.contractimpl.HttpOutboundRespListener;
+import io.ballerina.stdlib.http.transport.contractimpl.listener.CustomHttpContentCompressor;
+import io.ballerina.stdlib.http.transport.contractimpl.listener.RequestDataHolder;
+import io.ballerina.stdlib.http.transport.contractimpl.listener.SourceHandler;
+import io.ballerina.stdlib.http.transport.message.FileContent;
+import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.ballerina.stdlib.http.transport.message.HttpCarbonRequest;
+import io.ballerina.stdlib.http.transport.message.HttpCarbonResponse;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.FileRegion;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpContentDecompressor;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseDecoder;
+import io.netty.handler.codec.http.HttpResponseEncoder;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.util.CharsetUtil;
+import io.netty.util.ReferenceCountUtil;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A unit test class for writing file regions as the response body of the listener.
+ */
+public class SendingEntityBodyTest {
+
+    private static final String SOURCE_HANDLER = "source";
+    private static final byte[] PAYLOAD = "Ballerina serves the file region as it is. ".repeat(500)
+            .getBytes(CharsetUtil.UTF_8);
+
+    private Path file;
+
+    @BeforeMethod
+    public void createFile() throws IOException {
+        file = Files.createTempFile("http-file-response", ".txt");
+        Files.write(file, PAYLOAD);
+    }
+
+    @AfterMethod
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void testPlaintextResponseWritesFileRegion() throws IOException {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        channel.pipeline().addLast(new HttpResponseEncoder());
+        channel.pipeline().addLast(SOURCE_HANDLER, new ChannelInboundHandlerAdapter());
+        FileChannel fileChannel = openFile();
+        writeFileResponse(channel, newRequest(HttpMethod.GET), fileChannel, false);
+
+        Assert.assertTrue(channel.outboundMessages().stream().anyMatch(FileRegion.class::isInstance));
+        byte[] output = readOutbound(channel);
+        Assert.assertFalse(fileChannel.isOpen());
+        FullHttpResponse response = decode(output);
+        Assert.assertEquals(response.headers().get(HttpHeaderNames.CONTENT_LENGTH), String.valueOf(PAYLOAD.length));
+        Assert.assertEquals(ByteBufUtil.getBytes(response.content()), PAYLOAD);
+        response.release();
+        Assert.assertTrue(channel.isOpen());
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testCompressedResponseWritesChunkedFile() throws IOException {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        channel.pipeline().addLast(new HttpResponseEncoder());
+        channel.pipeline().addLast(new CustomHttpContentCompressor());
+        channel.pipeline().addLast(SOURCE_HANDLER, new ChannelInboundHandlerAdapter());
+        DefaultHttpRequest nettyRequest = new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/");
+        nettyRequest.headers().set(HttpHeaderNames.ACCEPT_ENCODING, HttpHeaderValues.GZIP);
+        channel.writeInbound(nettyRequest);
+        FileChannel fileChannel = openFile();
+        writeFileResponse(channel, newRequest(HttpMethod.GET), fileChannel, false);
+
+        Assert.assertNotNull(channel.pipeline().get(Constants.HTTP_CHUNK_WRITER));
+        Assert.assertFalse(channel.outboundMessages().stream().anyMatch(FileRegion.class::isInstance));
+        byte[] output = readOutbound(channel);
+        Assert.assertFalse(fileChannel.isOpen());
+        String rawHeaders = new String(output, 0, indexOfHeaderEnd(output), CharsetUtil.US_ASCII);
+        Assert.assertTrue(rawHeaders.contains("content-encoding: gzip"));
+        Assert.assertTrue(rawHeaders.contains("transfer-encoding: chunked"));
+        Assert.assertFalse(rawHeaders.contains("content-length"));
+        FullHttpResponse response = decode(output);
+        Assert.assertEquals(ByteBufUtil.getBytes(response.content()), PAYLOAD);
+        response.release();
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testHeadResponseClosesFileWithoutBody() throws IOException {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        channel.pipeline().addLast(new HttpResponseEncoder());
+        channel.pipeline().addLast(SOURCE_HANDLER, new ChannelInboundHandlerAdapter());
+        FileChannel fileChannel = openFile();
+        writeFileResponse(channel, newRequest(HttpMethod.HEAD), fileChannel, false);
+
+        Assert.assertFalse(fileChannel.isOpen());
+        Assert.assertFalse(channel.outboundMessages().stream().anyMatch(FileRegion.class::isInstance));
+        byte[] output = readOutbound(channel);
+        Assert.assertEquals(indexOfHeaderEnd(output), output.length);
+        String rawHeaders = new String(output, CharsetUtil.US_ASCII);
+        Assert.assertTrue(rawHeaders.startsWith("HTTP/1.1 200 OK"));
+        Assert.assertTrue(rawHeaders.contains("content-length: " + PAYLOAD.length));
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testKeepAliveChunkedResponseEndsWithFile() throws IOException {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        channel.pipeline().addLast(new HttpResponseEncoder());
+        channel.pipeline().addLast(SOURCE_HANDLER, new ChannelInboundHandlerAdapter());
+        HttpResponse chunkedHeaders = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
+        chunkedHeaders.headers().set(HttpHeaderNames.TRANSFER_ENCODING, HttpHeaderValues.CHUNKED);
+        channel.pipeline().context(SOURCE_HANDLER).write(chunkedHeaders);
+        FileChannel fileChannel = openFile();
+        writeFileResponse(channel, newRequest(HttpMethod.GET), fileChannel, true);
+
+        Assert.assertFalse(channel.outboundMessages().stream().anyMatch(FileRegion.class::isInstance));
+        byte[] output = readOutbound(channel);
+        Assert.assertFalse(fileChannel.isOpen());
+        FullHttpResponse response = decode(output);
+        Assert.assertNotNull(response);
+        Assert.assertEquals(ByteBufUtil.getBytes(response.content()), PAYLOAD);
+        response.release();
+        Assert.assertTrue(channel.isOpen());
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testFileRegionIsClosedOnWriteFailure() throws IOException {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        channel.pipeline().addLast(new FailingContentWriteHandler());
+        channel.pipeline().addLast(SOURCE_HANDLER, new ChannelInboundHandlerAdapter());
+        FileChannel fileChannel = openFile();
+        HttpResponseFuture responseFuture = writeFileResponse(channel, newRequest(HttpMethod.GET), fileChannel,
+                                                              false);
+
+        Assert.assertFalse(fileChannel.isOpen());
+        Mockito.verify(responseFuture).notifyHttpListener(Mockito.any(IOException.class));
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testChunkedFileIsClosedOnWriteFailure() throws IOException {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        channel.pipeline().addLast(new FailingContentWriteHandler());
+        channel.pipeline().addLast(SOURCE_HANDLER, new ChannelInboundHandlerAdapter());
+        FileChannel fileChannel = openFile();
+        HttpResponseFuture responseFuture = writeFileResponse(channel, newRequest(HttpMethod.GET), fileChannel,
+                                                              true);
+
+        Assert.assertFalse(fileChannel.isOpen());
+        Mockito.verify(responseFuture).notifyHttpListener(Mockito.any(IOException.class));
+        channel.finishAndReleaseAll();
+    }
+
+    private FileChannel openFile() throws IOException {
+        return FileChannel.open(file, StandardOpenOption.READ);
+    }
+
+    private static HttpResponseFuture writeFileResponse(EmbeddedChannel channel, HttpCarbonMessage request,
+                                                        FileChannel fileChannel, boolean headersWritten) {
+        HttpResponseFuture responseFuture = Mockito.mock(HttpResponseFuture.class);
+        HttpOutboundRespListener outboundRespListener = mockListener(channel, request);
+        SendingEntityBody sendingEntityBody = new SendingEntityBody(outboundRespListener,
+                                                                    new ListenerReqRespStateManager(),
+                                                                    responseFuture, headersWritten);
+        HttpCarbonMessage response = new HttpCarbonResponse(
+                new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK));
+        response.setHttpStatusCode(HttpResponseStatus.OK.code());
+        response.setHeader(HttpHeaderNames.CONTENT_TYPE.toString(), HttpHeaderValues.TEXT_PLAIN.toString());
+        response.setFileContent(new FileContent(fileChannel, 0, PAYLOAD.length));
+        sendingEntityBody.writeOutboundResponseBody(outboundRespListener, response, new DefaultLastHttpContent());
+        channel.runPendingTasks();
+        return responseFuture;
+    }
+
+    private static HttpOutboundRespListener mockListener(EmbeddedChannel channel, HttpCarbonMessage request) {
+        HttpOutboundRespListener outboundRespListener = Mockito.mock(HttpOutboundRespListener.class);
+        Mockito.when(outboundRespListener.getInboundRequestMsg()).thenReturn(request);
+        Mockito.when(outboundRespListener.getRequestDataHolder()).thenReturn(new RequestDataHolder(request));
+        Mockito.when(outboundRespListener.getSourceContext()).thenReturn(channel.pipeline().context(SOURCE_HANDLER));
+        Mockito.when(outboundRespListener.getSourceHandler())
+                .thenReturn(Mockito.mock(SourceHandler.class, Mockito.RETURNS_DEEP_STUBS));
+        Mockito.when(outboundRespListener.getServerName()).thenReturn("ballerina");
+        Mockito.when(outboundRespListener.isKeepAlive()).thenReturn(true);
+        return outboundRespListener;
+    }
+
+    private static HttpCarbonMessage newRequest(HttpMethod method) {
+        HttpCarbonMessage request = new HttpCarbonRequest(new DefaultHttpRequest(HttpVersion.HTTP_1_1, method, "/"));
+        request.setHttpMethod(method.name());
+        request.setHttpVersion(Constants.HTTP_1_1_VERSION);
+        request.addHttpContent(new DefaultLastHttpContent());
+        return request;
+    }
+
+    private static byte[] readOutbound(EmbeddedChannel channel) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        WritableByteChannel target = Channels.newChannel(output);
+        Object msg;
+        while ((msg = channel.readOutbound()) != null) {
+            if (msg instanceof FileRegion region) {
+                while (region.transferred() < region.count()) {
+                    region.transferTo(target, region.transferred());
+                }
+            } else {
+                ByteBuf content = (ByteBuf) msg;
+                content.readBytes(output, content.readableBytes());
+            }
+            ReferenceCountUtil.release(msg);
+        }
+        return output.toByteArray();
+    }
+
+    private static FullHttpResponse decode(byte[] output) {
+        EmbeddedChannel client = new EmbeddedChannel(new HttpResponseDecoder(), new HttpContentDecompressor(),
+                                                     new HttpObjectAggregator(PAYLOAD.length * 2));
+        client.writeInbound(Unpooled.wrappedBuffer(output));
+        FullHttpResponse response = client.readInbound();
+        client.finishAndReleaseAll();
+        return response;
+    }
+
+    private static int indexOfHeaderEnd(byte[] output) {
+        String text = new String(output, CharsetUtil.US_ASCII);
+        return text.indexOf("\r\n\r\n") + 4;
+    }
+
+    /**
+     * Fails the writes of the response body while letting the response headers through.
+     */
+    private static class FailingContentWriteHandler extends ChannelOutboundHandlerAdapter {
+
+        @Override
+        public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+            if (msg instanceof HttpResponse) {
+                ctx.write(msg, promise);
+                return;
+            }
+            ReferenceCountUtil.release(msg);
+            promise.setFailure(new IOException("write failed"));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.listener.states;
+
+import io.ballerina.stdlib.http.transport.contract.exceptions.ServerConnectorException;
+import io.ballerina.stdlib.http.transport.contractimpl.HttpOutboundRespListener;
+import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.ballerina.stdlib.http.transport.message.HttpCarbonRequest;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.DecoderException;
+import io.netty.handler.codec.DecoderResult;
+import io.netty.handler.codec.TooLongFrameException;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * A unit test class for the handling of inbound request content by the listener states which send the response.
+ */
+public class SendingHeadersTest {
+
+    @Test
+    public void testContentAfterResponseStartedIsReleased() throws ServerConnectorException {
+        EmbeddedChannel channel = new EmbeddedChannel(new ChannelInboundHandlerAdapter());
+        SendingHeaders sendingHeaders = new SendingHeaders(new ListenerReqRespStateManager(),
+                                                           mockListener(channel, newRequest()));
+        HttpContent content = new DefaultHttpContent(Unpooled.wrappedBuffer(new byte[8]));
+        sendingHeaders.readInboundRequestBody(content);
+
+        Assert.assertEquals(content.refCnt(), 0);
+        Assert.assertTrue(channel.isOpen());
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testOversizedBodyAfterResponseStartedClosesConnection() throws ServerConnectorException {
+        EmbeddedChannel channel = new EmbeddedChannel(new ChannelInboundHandlerAdapter());
+        HttpCarbonMessage request = newRequest();
+        SendingHeaders sendingHeaders = new SendingHeaders(new ListenerReqRespStateManager(),
+                                                           mockListener(channel, request));
+        LastHttpContent failedContent = new DefaultLastHttpContent();
+        failedContent.setDecoderResult(DecoderResult.failure(new TooLongFrameException("too large")));
+        sendingHeaders.readInboundRequestBody(failedContent);
+
+        Assert.assertFalse(channel.isOpen());
+        HttpContent lastContent = request.getHttpContent();
+        Assert.assertTrue(lastContent.decoderResult().cause() instanceof DecoderException);
+        channel.finishAndReleaseAll();
+    }
+
+    private static HttpOutboundRespListener mockListener(EmbeddedChannel channel, HttpCarbonMessage request) {
+        HttpOutboundRespListener outboundRespListener = Mockito.mock(HttpOutboundRespListener.class);
+        Mockito.when(outboundRespListener.getInboundRequestMsg()).thenReturn(request);
+        Mockito.when(outboundRespListener.getSourceContext()).thenReturn(channel.pipeline().firstContext());
+        return outboundRespListener;
+    }
+
+    private static HttpCarbonMessage newRequest() {
+        return new HttpCarbonRequest(new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/"));
+    }
+}
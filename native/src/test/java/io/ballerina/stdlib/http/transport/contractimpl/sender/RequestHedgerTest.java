@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.sender;
+
+import io.ballerina.stdlib.http.transport.contract.Constants;
+import io.ballerina.stdlib.http.transport.contract.config.HedgingConfig;
+import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.ballerina.stdlib.http.transport.message.HttpCarbonRequest;
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoopGroup;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * A unit test class for Transport module RequestHedger class functions.
+ */
+public class RequestHedgerTest {
+
+    @Test
+    public void testHedgeableRequests() {
+        RequestHedger requestHedger = new RequestHedger(null, null, new HedgingConfig());
+        Assert.assertTrue(requestHedger.isHedgeable(createRequest(HttpMethod.GET)));
+        Assert.assertTrue(requestHedger.isHedgeable(createRequest(HttpMethod.HEAD)));
+        Assert.assertFalse(requestHedger.isHedgeable(createRequest(HttpMethod.POST)));
+
+        HttpCarbonMessage requestWithPayload = createRequest(HttpMethod.GET);
+        requestWithPayload.setHeader(HttpHeaderNames.CONTENT_LENGTH.toString(), "10");
+        Assert.assertFalse(requestHedger.isHedgeable(requestWithPayload));
+
+        HttpCarbonMessage emptyRequest = createRequest(HttpMethod.GET);
+        emptyRequest.setHeader(HttpHeaderNames.CONTENT_LENGTH.toString(), "0");
+        Assert.assertTrue(requestHedger.isHedgeable(emptyRequest));
+
+        HttpCarbonMessage submittedRequest = createRequest(HttpMethod.GET);
+        submittedRequest.setProperty(Constants.RESPONSE_HANDLE_REQUESTED, true);
+        Assert.assertFalse(requestHedger.isHedgeable(submittedRequest));
+    }
+
+    @Test
+    public void testHedgeBudget() {
+        HedgingConfig hedgingConfig = new HedgingConfig();
+        hedgingConfig.setBudgetRatio(0.5);
+        RequestHedger requestHedger = new RequestHedger(null, null, hedgingConfig);
+        Assert.assertFalse(requestHedger.tryAcquireHedge());
+        requestHedger.depositToBudget();
+        Assert.assertFalse(requestHedger.tryAcquireHedge());
+        requestHedger.depositToBudget();
+        Assert.assertTrue(requestHedger.tryAcquireHedge());
+        Assert.assertFalse(requestHedger.tryAcquireHedge());
+    }
+
+    @Test
+    public void testPercentileDelay() {
+        HedgingConfig hedgingConfig = new HedgingConfig();
+        hedgingConfig.setDelay(20);
+        hedgingConfig.setLatencyPercentile(90);
+        RequestHedger requestHedger = new RequestHedger(null, null, hedgingConfig);
+        for (int i = 1; i < 64; i++) {
+            requestHedger.recordLatency(TimeUnit.MILLISECONDS.toNanos(i));
+        }
+        Assert.assertEquals(requestHedger.getDelayNanos(), TimeUnit.MILLISECONDS.toNanos(20));
+        requestHedger.recordLatency(TimeUnit.MILLISECONDS.toNanos(64));
+        Assert.assertEquals(requestHedger.getDelayNanos(), TimeUnit.MILLISECONDS.toNanos(58));
+    }
+
+    @Test
+    public void testHedgeSentOnHedgingThread() throws InterruptedException, ExecutionException, TimeoutException {
+        HedgingConfig hedgingConfig = new HedgingConfig();
+        hedgingConfig.setDelay(10);
+        EventLoopGroup eventLoopGroup = new DefaultEventLoopGroup(1);
+        try {
+            RequestHedger requestHedger = new RequestHedger(null, eventLoopGroup, hedgingConfig);
+            CompletableFuture<String> hedgeThread = new CompletableFuture<>();
+            requestHedger.scheduleHedge(() -> hedgeThread.complete(Thread.currentThread().getName()));
+            Assert.assertTrue(hedgeThread.get(5, TimeUnit.SECONDS).startsWith("http-client-hedge"));
+        } finally {
+            eventLoopGroup.shutdownGracefully();
+        }
+    }
+
+    private static HttpCarbonMessage createRequest(HttpMethod method) {
+        HttpCarbonMessage request = new HttpCarbonRequest(new DefaultHttpRequest(HttpVersion.HTTP_1_1, method, "/"));
+        request.setHttpMethod(method.name());
+        return request;
+    }
+}
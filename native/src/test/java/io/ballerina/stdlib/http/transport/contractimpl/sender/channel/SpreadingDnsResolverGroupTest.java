@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.sender.channel;
+
+import io.ballerina.stdlib.http.transport.contract.config.DnsResolverConfig;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.DatagramChannel;
+import io.netty.channel.socket.nio.NioDatagramChannel;
+import io.netty.handler.codec.dns.DatagramDnsQuery;
+import io.netty.handler.codec.dns.DatagramDnsQueryDecoder;
+import io.netty.handler.codec.dns.DatagramDnsResponse;
+import io.netty.handler.codec.dns.DatagramDnsResponseEncoder;
+import io.netty.handler.codec.dns.DefaultDnsRawRecord;
+import io.netty.handler.codec.dns.DnsQuestion;
+import io.netty.handler.codec.dns.DnsRecordType;
+import io.netty.handler.codec.dns.DnsSection;
+import io.netty.util.concurrent.Future;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A unit test class for the asynchronous DNS resolution of outbound connections, which uses a local stand-in DNS
+ * server.
+ */
+public class SpreadingDnsResolverGroupTest {
+
+    private static final byte[] ADDRESS_1 = {127, 0, 0, 1};
+    private static final byte[] ADDRESS_2 = {127, 0, 0, 2};
+    private static final byte[] ADDRESS_3 = {127, 0, 0, 3};
+
+    private EventLoopGroup eventLoopGroup;
+    private Channel dnsServerChannel;
+    private StandInDnsServer dnsServer;
+
+    @BeforeClass
+    public void startDnsServer() throws InterruptedException {
+        eventLoopGroup = new NioEventLoopGroup(1);
+        dnsServer = new StandInDnsServer();
+        dnsServerChannel = new Bootstrap().group(eventLoopGroup).channel(NioDatagramChannel.class)
+                .handler(new ChannelInitializer<DatagramChannel>() {
+                    @Override
+                    protected void initChannel(DatagramChannel channel) {
+                        channel.pipeline().addLast(new DatagramDnsQueryDecoder(), new DatagramDnsResponseEncoder(),
+                                                   dnsServer);
+                    }
+                }).bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0)).sync().channel();
+    }
+
+    @AfterClass
+    public void stopDnsServer() {
+        dnsServerChannel.close().syncUninterruptibly();
+        eventLoopGroup.shutdownGracefully(0, 1, TimeUnit.SECONDS).syncUninterruptibly();
+    }
+
+    @Test
+    public void testConnectionsSpreadAcrossAddresses() throws Exception {
+        dnsServer.addresses = List.of(ADDRESS_1, ADDRESS_2);
+        SpreadingDnsResolverGroup resolverGroup = new SpreadingDnsResolverGroup(createConfig(60000, 60));
+        try {
+            InetSocketAddress first = resolve(resolverGroup, "spread.backend.test");
+            InetSocketAddress second = resolve(resolverGroup, "spread.backend.test");
+            Assert.assertNotEquals(first.getAddress(), second.getAddress());
+            Assert.assertEquals(resolve(resolverGroup, "spread.backend.test").getAddress(), first.getAddress());
+            Assert.assertEquals(first.getPort(), 9090);
+            Assert.assertEquals(first.getHostString(), "spread.backend.test");
+        } finally {
+            resolverGroup.close();
+        }
+    }
+
+    @Test
+    public void testAddressesReResolvedInBackground() throws Exception {
+        dnsServer.addresses = List.of(ADDRESS_1);
+        SpreadingDnsResolverGroup resolverGroup = new SpreadingDnsResolverGroup(createConfig(0, 60));
+        try {
+            InetAddress scaledOut = InetAddress.getByAddress(ADDRESS_3);
+            Assert.assertEquals(resolve(resolverGroup, "refresh.backend.test").getAddress(),
+                                InetAddress.getByAddress(ADDRESS_1));
+            dnsServer.addresses = List.of(ADDRESS_3);
+            boolean reResolved = false;
+            for (int i = 0; i < 100 && !reResolved; i++) {
+                reResolved = resolve(resolverGroup, "refresh.backend.test").getAddress().equals(scaledOut);
+                Thread.sleep(20);
+            }
+            Assert.assertTrue(reResolved, "The host is not re-resolved");
+        } finally {
+            resolverGroup.close();
+        }
+    }
+
+    @Test
+    public void testMaxTtlCapsRefreshInterval() throws Exception {
+        dnsServer.addresses = List.of(ADDRESS_1);
+        SpreadingDnsResolverGroup resolverGroup = new SpreadingDnsResolverGroup(createConfig(60000, 0));
+        try {
+            InetAddress scaledOut = InetAddress.getByAddress(ADDRESS_3);
+            resolve(resolverGroup, "ttl.backend.test");
+            dnsServer.addresses = List.of(ADDRESS_3);
+            boolean reResolved = false;
+            for (int i = 0; i < 100 && !reResolved; i++) {
+                reResolved = resolve(resolverGroup, "ttl.backend.test").getAddress().equals(scaledOut);
+                Thread.sleep(20);
+            }
+            Assert.assertTrue(reResolved, "The host is not re-resolved within the maximum TTL");
+        } finally {
+            resolverGroup.close();
+        }
+    }
+
+    @Test
+    public void testHostDroppedWhenRefreshFails() throws Exception {
+        dnsServer.addresses = List.of(ADDRESS_1);
+        SpreadingDnsResolverGroup resolverGroup = new SpreadingDnsResolverGroup(createConfig(0, 60));
+        try {
+            resolve(resolverGroup, "gone.backend.test");
+            dnsServer.addresses = List.of();
+            boolean dropped = false;
+            for (int i = 0; i < 100 && !dropped; i++) {
+                dropped = !resolverGroup.getResolver(eventLoopGroup.next())
+                        .resolve(InetSocketAddress.createUnresolved("gone.backend.test", 9090))
+                        .awaitUninterruptibly().isSuccess();
+                Thread.sleep(20);
+            }
+            Assert.assertTrue(dropped, "The host is still served from the cache after its refresh failed");
+        } finally {
+            resolverGroup.close();
+        }
+    }
+
+    @Test
+    public void testUnknownHost() {
+        dnsServer.addresses = List.of();
+        SpreadingDnsResolverGroup resolverGroup = new SpreadingDnsResolverGroup(createConfig(60000, 60));
+        try {
+            Future<InetSocketAddress> resolution = resolverGroup.getResolver(eventLoopGroup.next())
+                    .resolve(InetSocketAddress.createUnresolved("unknown.backend.test", 9090));
+            Assert.assertTrue(resolution.awaitUninterruptibly(10, TimeUnit.SECONDS));
+            Assert.assertFalse(resolution.isSuccess());
+            Assert.assertTrue(resolution.cause() instanceof UnknownHostException);
+        } finally {
+            resolverGroup.close();
+        }
+    }
+
+    private DnsResolverConfig createConfig(long refreshInterval, int maxTtl) {
+        DnsResolverConfig config = new DnsResolverConfig();
+        config.setMaxTtl(maxTtl);
+        config.setRefreshInterval(refreshInterval);
+        config.setQueryTimeout(2000);
+        config.setNameServers(List.of((InetSocketAddress) dnsServerChannel.localAddress()));
+        return config;
+    }
+
+    private InetSocketAddress resolve(SpreadingDnsResolverGroup resolverGroup, String host) throws Exception {
+        return resolverGroup.getResolver(eventLoopGroup.next())
+                .resolve(InetSocketAddress.createUnresolved(host, 9090)).get(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Answers every A query with the configured addresses.
+     */
+    @ChannelHandler.Sharable
+    private static class StandInDnsServer extends SimpleChannelInboundHandler<DatagramDnsQuery> {
+
+        private volatile List<byte[]> addresses = List.of();
+
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, DatagramDnsQuery query) {
+            DnsQuestion question = query.recordAt(DnsSection.QUESTION);
+            DatagramDnsResponse response = new DatagramDnsResponse(query.recipient(), query.sender(), query.id());
+            response.addRecord(DnsSection.QUESTION, question);
+            if (question.type() == DnsRecordType.A) {
+                for (byte[] address : addresses) {
+                    response.addRecord(DnsSection.ANSWER, new DefaultDnsRawRecord(
+                            question.name(), DnsRecordType.A, 0, Unpooled.wrappedBuffer(address)));
+                }
+            }
+            ctx.writeAndFlush(response);
+        }
+    }
+}
@@ -19,12 +19,18 @@
 package io.ballerina.stdlib.http.transport.internal;
 
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -170,6 +176,66 @@ public class HandlerExecutorTest {
         handlerExecutor.executeAtTargetConnectionTermination("metadata");
     }
 
+    @Test
+    public void testExecuteAtRequestPhase() {
+        HandlerExecutor handlerExecutor = new HandlerExecutor();
+        MessagingHandler messagingHandler = mock(MessagingHandler.class);
+        when(messagingHandler.handlerName()).thenReturn("newHandler");
+        handlerExecutor.addHandler(messagingHandler);
+        HttpCarbonMessage carbonMessage = mock(HttpCarbonMessage.class);
+        RequestTimeline connectionTimeline = new RequestTimeline();
+        connectionTimeline.record(RequestPhase.CONNECTION_ACCEPTED, 1L);
+        RequestTimeline timeline = new RequestTimeline(connectionTimeline);
+        when(carbonMessage.getRequestTimeline()).thenReturn(timeline);
+
+        handlerExecutor.executeAtRequestPhase(carbonMessage, RequestPhase.HEADERS_DECODED);
+        long headersDecoded = timeline.getNanoTime(RequestPhase.HEADERS_DECODED);
+        handlerExecutor.executeAtRequestPhase(carbonMessage, RequestPhase.HEADERS_DECODED);
+
+        Assert.assertEquals(timeline.getNanoTime(RequestPhase.CONNECTION_ACCEPTED), 1L);
+        Assert.assertEquals(timeline.getNanoTime(RequestPhase.HEADERS_DECODED), headersDecoded);
+        Assert.assertEquals(timeline.getElapsedNanos(RequestPhase.HEADERS_DECODED, RequestPhase.DISPATCHED), -1);
+        verify(messagingHandler, times(1)).invokeAtRequestPhase(carbonMessage, RequestPhase.HEADERS_DECODED,
+                                                                headersDecoded);
+
+        handlerExecutor.removeHandler(messagingHandler);
+        handlerExecutor.executeAtRequestPhase(carbonMessage, RequestPhase.DISPATCHED);
+        verify(messagingHandler, never()).invokeAtRequestPhase(any(), eq(RequestPhase.DISPATCHED), anyLong());
+        Assert.assertTrue(timeline.getElapsedNanos(RequestPhase.HEADERS_DECODED, RequestPhase.DISPATCHED) >= 0);
+    }
+
+    @Test
+    public void testExecuteAtConnectionPhases() {
+        HandlerExecutor handlerExecutor = new HandlerExecutor();
+        MessagingHandler messagingHandler = mock(MessagingHandler.class);
+        when(messagingHandler.handlerName()).thenReturn("newHandler");
+        handlerExecutor.addHandler(messagingHandler);
+        HttpCarbonMessage carbonMessage = mock(HttpCarbonMessage.class);
+        RequestTimeline connectionTimeline = new RequestTimeline();
+        connectionTimeline.record(RequestPhase.CONNECTION_ACCEPTED, 1L);
+        when(carbonMessage.getRequestTimeline()).thenReturn(new RequestTimeline(connectionTimeline));
+
+        Assert.assertTrue(connectionTimeline.markConnectionPhasesNotified());
+        Assert.assertFalse(connectionTimeline.markConnectionPhasesNotified());
+        handlerExecutor.executeAtConnectionPhases(carbonMessage);
+
+        verify(messagingHandler, times(1)).invokeAtRequestPhase(carbonMessage, RequestPhase.CONNECTION_ACCEPTED, 1L);
+        verify(messagingHandler, never()).invokeAtRequestPhase(any(), eq(RequestPhase.TLS_HANDSHAKE_COMPLETED),
+                                                               anyLong());
+    }
+
+    @Test
+    public void testExecuteAtRequestPhaseWithRuntimeException() {
+        HandlerExecutor handlerExecutor = new HandlerExecutor();
+        MessagingHandler messagingHandler = mock(MessagingHandler.class);
+        when(messagingHandler.handlerName()).thenReturn("newHandler");
+        doThrow(new RuntimeException()).when(messagingHandler).invokeAtRequestPhase(any(), any(), anyLong());
+        handlerExecutor.addHandler(messagingHandler);
+        HttpCarbonMessage carbonMessage = mock(HttpCarbonMessage.class);
+        when(carbonMessage.getRequestTimeline()).thenReturn(new RequestTimeline());
+        handlerExecutor.executeAtRequestPhase(carbonMessage, RequestPhase.BODY_RECEIVED);
+    }
+
     @Test
     public void testAddAndRemoveHandler() {
         HandlerExecutor handlerExecutor = new HandlerExecutor();
@@ -18,19 +18,32 @@
 
 package io.ballerina.stdlib.http.transport.unitfunction;
 
+import io.ballerina.stdlib.http.transport.contract.config.RequestSpillConfig;
+import io.ballerina.stdlib.http.transport.message.EntityMemoryBudget;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.ballerina.stdlib.http.transport.message.Listener;
 import io.ballerina.stdlib.http.transport.util.TestUtil;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.DefaultHttpContent;
 import io.netty.handler.codec.http.DefaultHttpRequest;
 import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.io.File;
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A unit test class for BlockingEntityCollector class functions.
@@ -73,4 +86,143 @@ public class BlockingEntityCollectorTestCase {
         Assert.assertEquals(count, 0);
         Assert.assertEquals(exceptionMessage, "poll timeout expired");
     }
+
+    @Test(description = "Test content beyond the spill threshold is read back in order")
+    public void testContentSpilledBeyondThreshold() throws IOException, InterruptedException {
+        Path directory = Files.createTempDirectory("spill-test");
+        EntityMemoryBudget memoryBudget = newMemoryBudget(4, 100, directory);
+        HttpCarbonMessage msg = new HttpCarbonMessage(
+                new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, ""));
+        msg.setEntityMemoryBudget(memoryBudget);
+        msg.addHttpContent(newContent("abc"));
+        msg.addHttpContent(newContent("def"));
+        msg.addHttpContent(newContent("ghi"));
+        LastHttpContent lastContent = new DefaultLastHttpContent(
+                Unpooled.wrappedBuffer("jk".getBytes(StandardCharsets.UTF_8)));
+        lastContent.trailingHeaders().set("checksum", "abcd");
+        msg.addHttpContent(lastContent);
+
+        Assert.assertEquals(memoryBudget.getAvailableBytes(), 97);
+        Assert.assertEquals(msg.getBlockingEntityCollector().countMessageLengthTill(100), 11);
+        Assert.assertTrue(awaitFileCount(directory, 1));
+
+        StringBuilder body = new StringBuilder();
+        LastHttpContent lastReadContent = readContent(msg, body);
+        Assert.assertEquals(body.toString(), "abcdefghijk");
+        Assert.assertEquals(lastReadContent.trailingHeaders().get("checksum"), "abcd");
+        Assert.assertEquals(memoryBudget.getAvailableBytes(), 100);
+        Assert.assertEquals(countFiles(directory), 0);
+    }
+
+    @Test(description = "Test content is spilled once the shared memory budget is used up")
+    public void testContentSpilledBeyondMemoryBudget() throws IOException, InterruptedException {
+        Path directory = Files.createTempDirectory("spill-test");
+        EntityMemoryBudget memoryBudget = newMemoryBudget(100, 4, directory);
+        HttpCarbonMessage first = new HttpCarbonMessage(
+                new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, ""));
+        HttpCarbonMessage second = new HttpCarbonMessage(
+                new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, ""));
+        first.setEntityMemoryBudget(memoryBudget);
+        second.setEntityMemoryBudget(memoryBudget);
+        first.addHttpContent(newContent("abc"));
+        second.addHttpContent(newContent("def"));
+
+        Assert.assertEquals(memoryBudget.getAvailableBytes(), 1);
+        Assert.assertTrue(awaitFileCount(directory, 1));
+
+        first.addHttpContent(new DefaultLastHttpContent());
+        second.addHttpContent(new DefaultLastHttpContent());
+        first.waitAndReleaseAllEntities();
+        second.waitAndReleaseAllEntities();
+        Assert.assertEquals(memoryBudget.getAvailableBytes(), 4);
+        Assert.assertTrue(awaitFileCount(directory, 0));
+    }
+
+    @Test(description = "Test reading the content is paused while it is being spilled off the calling thread")
+    public void testContentReadingPausedWhileSpilling() throws IOException, InterruptedException {
+        Path directory = Files.createTempDirectory("spill-test");
+        SpillRecordingListener listener = new SpillRecordingListener();
+        HttpCarbonMessage msg = new HttpCarbonMessage(
+                new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, ""), listener);
+        msg.setEntityMemoryBudget(newMemoryBudget(2, 100, directory));
+        msg.addHttpContent(newContent("abc"));
+
+        Assert.assertEquals(listener.pauseCount.get(), 1);
+        Assert.assertTrue(listener.resumed.await(5, TimeUnit.SECONDS));
+        Assert.assertNotEquals(listener.resumingThread, Thread.currentThread().getName());
+        Assert.assertTrue(listener.resumingThread.startsWith("http-entity-spill"));
+
+        msg.addHttpContent(new DefaultLastHttpContent());
+        StringBuilder body = new StringBuilder();
+        readContent(msg, body);
+        Assert.assertEquals(body.toString(), "abc");
+        Assert.assertTrue(awaitFileCount(directory, 0));
+    }
+
+    private static LastHttpContent readContent(HttpCarbonMessage msg, StringBuilder body) {
+        HttpContent httpContent;
+        do {
+            httpContent = msg.getHttpContent();
+            body.append(httpContent.content().toString(StandardCharsets.UTF_8));
+            httpContent.release();
+        } while (!(httpContent instanceof LastHttpContent));
+        return (LastHttpContent) httpContent;
+    }
+
+    private static boolean awaitFileCount(Path directory, int count) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            if (countFiles(directory) == count) {
+                return true;
+            }
+            Thread.sleep(50);
+        }
+        return false;
+    }
+
+    private static EntityMemoryBudget newMemoryBudget(long threshold, long budget, Path directory) {
+        RequestSpillConfig requestSpillConfig = new RequestSpillConfig();
+        requestSpillConfig.setThreshold(threshold);
+        requestSpillConfig.setMemoryBudget(budget);
+        requestSpillConfig.setDirectory(directory.toString());
+        return new EntityMemoryBudget(requestSpillConfig);
+    }
+
+    private static HttpContent newContent(String content) {
+        return new DefaultHttpContent(Unpooled.wrappedBuffer(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static int countFiles(Path directory) {
+        File[] files = directory.toFile().listFiles();
+        return files == null ? 0 : files.length;
+    }
+
+    private static class SpillRecordingListener implements Listener {
+
+        private final AtomicInteger pauseCount = new AtomicInteger();
+        private final CountDownLatch resumed = new CountDownLatch(1);
+        private volatile String resumingThread;
+
+        @Override
+        public void onAdd(HttpContent httpContent) {
+        }
+
+        @Override
+        public void onRemove(HttpContent httpContent) {
+        }
+
+        @Override
+        public void resumeReadInterest() {
+        }
+
+        @Override
+        public void pauseContentReading() {
+            pauseCount.incrementAndGet();
+        }
+
+        @Override
+        public void resumeContentReading() {
+            resumingThread = Thread.currentThread().getName();
+            resumed.countDown();
+        }
+    }
 }
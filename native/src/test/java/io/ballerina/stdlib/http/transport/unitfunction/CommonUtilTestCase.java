@@ -40,6 +40,7 @@ import io.netty.util.Attribute;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -86,6 +87,36 @@ public class CommonUtilTestCase {
         Assert.assertEquals(outboundNettyResponse.headers().getAll("aaa").get(1), "xyz");
     }
 
+    @Test(description = "Test finalising the headers and status of an Http response")
+    public void testCreateHttpResponseHeaders() {
+        HttpCarbonMessage outboundResponseMsg = new HttpCarbonMessage(
+                new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK));
+        outboundResponseMsg.setHttpStatusCode(404);
+        HttpResponse outboundNettyResponse = Util.createHttpResponse(outboundResponseMsg, "1.0", "test-server", true);
+
+        Assert.assertSame(outboundNettyResponse.protocolVersion(), HttpVersion.HTTP_1_0);
+        Assert.assertSame(outboundNettyResponse.status(), HttpResponseStatus.NOT_FOUND);
+        Assert.assertEquals(outboundNettyResponse.headers().get(HttpHeaderNames.SERVER), "test-server");
+        Assert.assertEquals(outboundNettyResponse.headers().get(HttpHeaderNames.CONNECTION),
+                            Constants.CONNECTION_KEEP_ALIVE);
+        Assert.assertNotNull(DateTimeFormatter.RFC_1123_DATE_TIME.parse(
+                outboundNettyResponse.headers().get(HttpHeaderNames.DATE)));
+
+        // The headers are handed over to the netty response, and the carbon message only reads them from then on
+        Assert.assertEquals(outboundResponseMsg.getHeader(HttpHeaderNames.SERVER.toString()), "test-server");
+        outboundResponseMsg.removeHeader(HttpHeaderNames.SERVER.toString());
+        Assert.assertNotSame(outboundNettyResponse.headers(), outboundResponseMsg.getHeaders());
+        Assert.assertNull(outboundResponseMsg.getHeader(HttpHeaderNames.SERVER.toString()));
+        Assert.assertEquals(outboundNettyResponse.headers().get(HttpHeaderNames.SERVER), "test-server");
+        Assert.assertEquals(outboundResponseMsg.getHeader(HttpHeaderNames.CONNECTION.toString()),
+                            Constants.CONNECTION_KEEP_ALIVE);
+
+        outboundResponseMsg.setProperty(Constants.HTTP_REASON_PHRASE, "Gone Fishing");
+        HttpResponseStatus status = Util.getHttpResponseStatus(outboundResponseMsg);
+        Assert.assertEquals(status.code(), 404);
+        Assert.assertEquals(status.reasonPhrase(), "Gone Fishing");
+    }
+
     @Test(description = "Test setting content length header to non entity body request")
     public void testCheckContentLengthHeaderAllowanceForGetRequest() {
         HttpHeaders headers = new DefaultHttpHeaders();
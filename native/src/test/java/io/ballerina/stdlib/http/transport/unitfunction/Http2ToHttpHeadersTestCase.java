@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.unitfunction;
+
+import io.ballerina.stdlib.http.transport.contractimpl.common.Util;
+import io.ballerina.stdlib.http.transport.message.Http2ToHttpHeaders;
+import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http2.DefaultHttp2Headers;
+import io.netty.handler.codec.http2.Http2Exception;
+import io.netty.handler.codec.http2.Http2Headers;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * A unit test class for carrying HTTP/2 headers in HTTP/1.x messages.
+ */
+public class Http2ToHttpHeadersTestCase {
+
+    @Test(description = "Test looking up headers without translating the HTTP/2 headers")
+    public void testDirectLookup() {
+        Http2ToHttpHeaders headers = new Http2ToHttpHeaders(createRequestHeaders(), 3, true);
+
+        Assert.assertEquals(headers.get("Content-Type"), "text/plain");
+        Assert.assertTrue(headers.contains(HttpHeaderNames.ACCEPT));
+        Assert.assertNull(headers.get("x-missing"));
+        Assert.assertFalse(headers.isTranslated());
+    }
+
+    @Test(description = "Test translating HTTP/2 headers to HTTP/1.x headers")
+    public void testTranslation() {
+        Http2ToHttpHeaders headers = new Http2ToHttpHeaders(createRequestHeaders(), 3, true);
+
+        Assert.assertEquals(headers.get(HttpHeaderNames.HOST), "localhost:9090");
+        Assert.assertEquals(headers.get(HttpHeaderNames.COOKIE), "a=1; b=2");
+        Assert.assertTrue(headers.isTranslated());
+        Assert.assertEquals(headers.size(), 6);
+        Assert.assertFalse(headers.names().contains(":path"));
+        Assert.assertFalse(headers.names().contains("x-http2-path"));
+
+        headers.set("x-id", "1");
+        Assert.assertEquals(headers.get("x-id"), "1");
+        Assert.assertFalse(headers.getHttp2Headers().contains("x-id"));
+    }
+
+    @Test(description = "Test the extension headers derived from the HTTP/2 stream")
+    public void testExtensionHeaders() {
+        Http2ToHttpHeaders headers = new Http2ToHttpHeaders(createRequestHeaders(), 3, true);
+
+        Assert.assertEquals(headers.get("x-http2-stream-id"), "3");
+        Assert.assertTrue(headers.contains("x-http2-stream-id"));
+        Assert.assertFalse(headers.isTranslated());
+        Assert.assertEquals(headers.get("x-http2-scheme"), "http");
+        Assert.assertEquals(headers.getInt("x-http2-stream-id"), Integer.valueOf(3));
+
+        Http2Headers responseHeaders = new DefaultHttp2Headers().status("200").path("/pushed");
+        Http2ToHttpHeaders pushResponseHeaders = new Http2ToHttpHeaders(responseHeaders, 4, false);
+        Assert.assertEquals(pushResponseHeaders.get("x-http2-path"), "/pushed");
+        Assert.assertEquals(pushResponseHeaders.get("x-http2-stream-id"), "4");
+        Assert.assertFalse(pushResponseHeaders.names().contains(":status"));
+    }
+
+    @Test(description = "Test creating a request from HTTP/2 headers")
+    public void testCreateHttpRequestFromHttp2Headers() throws Http2Exception {
+        Http2Headers http2Headers = createRequestHeaders();
+        HttpRequest request = Util.createHttpRequestFromHttp2Headers(http2Headers, 3);
+        HttpCarbonMessage carbonMessage = new HttpCarbonMessage(request);
+
+        Assert.assertEquals(request.method(), HttpMethod.POST);
+        Assert.assertEquals(request.uri(), "/hello?a=b");
+        Assert.assertSame(request.protocolVersion(), Util.HTTP_2_0);
+        Assert.assertSame(carbonMessage.getHttp2Headers(), http2Headers);
+        Assert.assertEquals(carbonMessage.getHeader("accept"), "*/*");
+    }
+
+    @Test(description = "Test rejecting a request with a header which cannot be translated when it is received",
+          expectedExceptions = Http2Exception.class)
+    public void testInvalidHeaderRejectedOnReceipt() throws Http2Exception {
+        Http2Headers http2Headers = new DefaultHttp2Headers(false)
+                .method("GET")
+                .path("/hello")
+                .add(":unknown", "value");
+        Util.createHttpRequestFromHttp2Headers(http2Headers, 3);
+    }
+
+    @Test(description = "Test rejecting a header name which is not a valid token",
+          expectedExceptions = Http2Exception.class)
+    public void testInvalidHeaderName() throws Http2Exception {
+        Http2ToHttpHeaders.validate(new DefaultHttp2Headers(false).add("bad name", "value"), 3);
+    }
+
+    private static Http2Headers createRequestHeaders() {
+        return new DefaultHttp2Headers()
+                .method("POST")
+                .path("/hello?a=b")
+                .scheme("http")
+                .authority("localhost:9090")
+                .add("content-type", "text/plain")
+                .add("accept", "*/*")
+                .add("cookie", "a=1")
+                .add("cookie", "b=2");
+    }
+}
@@ -18,11 +18,81 @@
 
 package io.ballerina.stdlib.http.transport.unitfunction;
 
+import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+
 /**
  * A unit test class for message/HttpCarbonMessage functions.
  */
 public class HttpCarbonMessageTestCase {
 
+    @Test(description = "Test the retained entity body is replayed on each attempt")
+    public void testReplayRetainedContent() {
+        HttpCarbonMessage message = createMessage();
+        message.addHttpContent(new DefaultHttpContent(Unpooled.copiedBuffer("replay", StandardCharsets.UTF_8)));
+        message.addHttpContent(new DefaultLastHttpContent(Unpooled.copiedBuffer("able", StandardCharsets.UTF_8)));
+
+        Assert.assertTrue(message.retainReplayableContent(10));
+        Assert.assertTrue(message.hasReplayableContent());
+        for (int i = 0; i < 2; i++) {
+            message.replayHttpContent();
+            Assert.assertEquals(readContent(message), "replayable");
+        }
+        message.releaseReplayableContent();
+        Assert.assertFalse(message.hasReplayableContent());
+    }
+
+    @Test(description = "Test the entity body is left intact when it is larger than the maximum replay size")
+    public void testContentLargerThanMaxReplaySize() {
+        HttpCarbonMessage message = createMessage();
+        message.addHttpContent(new DefaultHttpContent(Unpooled.copiedBuffer("too ", StandardCharsets.UTF_8)));
+        message.addHttpContent(new DefaultHttpContent(Unpooled.copiedBuffer("large ", StandardCharsets.UTF_8)));
+        message.addHttpContent(new DefaultLastHttpContent(Unpooled.copiedBuffer("body", StandardCharsets.UTF_8)));
+
+        Assert.assertFalse(message.retainReplayableContent(8));
+        Assert.assertFalse(message.hasReplayableContent());
+        Assert.assertEquals(readContent(message), "too large body");
+    }
+
+    @Test(description = "Test the content already read is put back when the entity body is not received in time")
+    public void testContentRestoredOnTimeout() {
+        HttpCarbonMessage message = new HttpCarbonMessage(
+                new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/"), 100, null);
+        message.addHttpContent(new DefaultHttpContent(Unpooled.copiedBuffer("partial ", StandardCharsets.UTF_8)));
+
+        Assert.assertThrows(IllegalStateException.class, () -> message.retainReplayableContent(100));
+        Assert.assertFalse(message.hasReplayableContent());
+        message.addHttpContent(new DefaultLastHttpContent(Unpooled.copiedBuffer("body", StandardCharsets.UTF_8)));
+        Assert.assertEquals(readContent(message), "partial body");
+        Assert.assertEquals(message.getContentSize(), 12);
+    }
+
+    private static HttpCarbonMessage createMessage() {
+        return new HttpCarbonMessage(new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/"));
+    }
+
+    private static String readContent(HttpCarbonMessage message) {
+        StringBuilder content = new StringBuilder();
+        HttpContent httpContent;
+        do {
+            httpContent = message.getHttpContent();
+            content.append(httpContent.content().toString(StandardCharsets.UTF_8));
+            httpContent.release();
+        } while (!(httpContent instanceof LastHttpContent));
+        return content.toString();
+    }
+
     // TODO: Will remove this completely later. For now it is there as a reference.
 //    @Test(description = "Test cloneCarbonMessageWithData to Http request with duplicate header keys")
 //    public void cloneCarbonMessageWithData() {